@@ -0,0 +1,129 @@
+package unicash.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import unicash.model.UniCash;
+import unicash.model.category.Category;
+import unicash.model.category.UniqueCategoryList;
+import unicash.model.commons.Amount;
+import unicash.model.transaction.DateTime;
+import unicash.model.transaction.Location;
+import unicash.model.transaction.Name;
+import unicash.model.transaction.Transaction;
+import unicash.model.transaction.Type;
+
+/**
+ * Generates synthetic ledgers for the benchmarks.
+ *
+ * <p>Transactions are drawn from pools of names, locations and categories, as in a typical ledger
+ * where the same payees recur, one every 37 minutes from the start of 2020. The same seed always
+ * generates the same ledger, so that runs can be compared.</p>
+ */
+public final class BenchmarkData {
+
+    public static final long SEED = 2103;
+
+    private static final int NAME_POOL_SIZE = 500;
+    private static final int LOCATION_POOL_SIZE = 50;
+    private static final int CATEGORY_POOL_SIZE = 20;
+
+    private static final LocalDateTime START = LocalDateTime.of(2020, 1, 1, 0, 0);
+    private static final Type EXPENSE = new Type("expense");
+    private static final Type INCOME = new Type("income");
+
+    private final Random random;
+    private final Name[] names = new Name[NAME_POOL_SIZE];
+    private final Location[] locations = new Location[LOCATION_POOL_SIZE];
+    private final Category[] categories = new Category[CATEGORY_POOL_SIZE];
+    private int row = 0;
+
+    /**
+     * Constructs a generator whose transactions are determined by {@code seed}.
+     */
+    public BenchmarkData(long seed) {
+        random = new Random(seed);
+        for (int i = 0; i < NAME_POOL_SIZE; i++) {
+            names[i] = new Name("Payee " + i);
+        }
+        for (int i = 0; i < LOCATION_POOL_SIZE; i++) {
+            locations[i] = new Location("Location " + i);
+        }
+        for (int i = 0; i < CATEGORY_POOL_SIZE; i++) {
+            categories[i] = new Category("category" + i);
+        }
+    }
+
+    /**
+     * Returns {@code count} transactions generated from {@link #SEED}.
+     */
+    public static List<Transaction> generateTransactions(int count) {
+        return new BenchmarkData(SEED).nextTransactions(count);
+    }
+
+    /**
+     * Returns a {@code UniCash} holding {@code count} transactions generated from {@link #SEED}.
+     */
+    public static UniCash generateUniCash(int count) {
+        UniCash uniCash = new UniCash();
+        uniCash.addTransactions(generateTransactions(count));
+        return uniCash;
+    }
+
+    /**
+     * Returns the next {@code count} transactions of this generator.
+     */
+    public List<Transaction> nextTransactions(int count) {
+        List<Transaction> transactions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            transactions.add(nextTransaction());
+        }
+        return transactions;
+    }
+
+    /**
+     * Returns the next transaction of this generator, dated after all those generated before it.
+     */
+    public Transaction nextTransaction() {
+        List<Category> transactionCategories = new ArrayList<>();
+        int categoryCount = random.nextInt(3);
+        for (int i = 0; i < categoryCount; i++) {
+            Category category = categories[random.nextInt(CATEGORY_POOL_SIZE)];
+            if (!transactionCategories.contains(category)) {
+                transactionCategories.add(category);
+            }
+        }
+
+        LocalDateTime dateTime = START.plusMinutes(row++ * 37L);
+        return new Transaction(
+                names[random.nextInt(NAME_POOL_SIZE)],
+                random.nextInt(4) == 0 ? INCOME : EXPENSE,
+                new Amount(random.nextInt(100_000) / 100.0),
+                DateTime.ofEpochMinute(DateTime.toEpochMinute(dateTime)),
+                locations[random.nextInt(LOCATION_POOL_SIZE)],
+                new UniqueCategoryList(transactionCategories));
+    }
+
+    /**
+     * Returns one of the names that generated transactions use, as a user might search for.
+     */
+    public String nextNameKeyword() {
+        return names[random.nextInt(NAME_POOL_SIZE)].fullName;
+    }
+
+    /**
+     * Returns one of the locations that generated transactions use, as a user might search for.
+     */
+    public String nextLocationKeyword() {
+        return locations[random.nextInt(LOCATION_POOL_SIZE)].location;
+    }
+
+    /**
+     * Returns one of the categories that generated transactions use, as a user might search for.
+     */
+    public String nextCategoryKeyword() {
+        return categories[random.nextInt(CATEGORY_POOL_SIZE)].category;
+    }
+}
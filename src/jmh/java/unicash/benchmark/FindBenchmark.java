@@ -0,0 +1,100 @@
+package unicash.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import unicash.model.transaction.Transaction;
+import unicash.model.transaction.TransactionList;
+import unicash.model.transaction.predicates.TransactionContainsAllKeywordsPredicate;
+
+/**
+ * Measures testing every transaction of a ledger against the predicate built by {@code find},
+ * as filtering the displayed list does, both searching each transaction and looking names and
+ * locations and categories up in the indexes of the list as {@code find} does.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class FindBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private List<Transaction> transactions;
+    private TransactionList transactionList;
+    private TransactionContainsAllKeywordsPredicate namePredicate;
+    private TransactionContainsAllKeywordsPredicate allFieldsPredicate;
+
+    /**
+     * Generates the ledger, and predicates on keywords that its transactions use.
+     */
+    @Setup
+    public void setUp() {
+        BenchmarkData data = new BenchmarkData(BenchmarkData.SEED);
+        transactions = new ArrayList<>(data.nextTransactions(size));
+        transactionList = new TransactionList();
+        transactionList.setTransactions(transactions);
+
+        namePredicate = new TransactionContainsAllKeywordsPredicate();
+        namePredicate.addNameKeyword(data.nextNameKeyword());
+
+        allFieldsPredicate = new TransactionContainsAllKeywordsPredicate();
+        allFieldsPredicate.addNameKeyword("payee");
+        allFieldsPredicate.addLocationKeyword(data.nextLocationKeyword());
+        allFieldsPredicate.addCategoryKeyword(data.nextCategoryKeyword());
+    }
+
+    @Benchmark
+    public int testName() {
+        return countMatches(namePredicate);
+    }
+
+    @Benchmark
+    public int testAllFields() {
+        return countMatches(allFieldsPredicate);
+    }
+
+    @Benchmark
+    public int testNameWithIndex() {
+        return countMatchesWithIndex(namePredicate);
+    }
+
+    @Benchmark
+    public int testAllFieldsWithIndex() {
+        return countMatchesWithIndex(allFieldsPredicate);
+    }
+
+    /**
+     * Counts the matches of {@code predicate} once its matchers are looked up, as each {@code find} does.
+     */
+    private int countMatchesWithIndex(TransactionContainsAllKeywordsPredicate predicate) {
+        return countMatches(predicate.withMatchers(transactionList::getNameMatcher,
+                transactionList::getLocationMatcher, transactionList::getCategoryMatcher));
+    }
+
+    private int countMatches(TransactionContainsAllKeywordsPredicate predicate) {
+        int matches = 0;
+        for (Transaction transaction : transactions) {
+            if (predicate.test(transaction)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
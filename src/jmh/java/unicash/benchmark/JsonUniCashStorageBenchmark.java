@@ -0,0 +1,77 @@
+package unicash.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import unicash.commons.exceptions.DataLoadingException;
+import unicash.model.ReadOnlyUniCash;
+import unicash.model.UniCash;
+import unicash.storage.JsonUniCashStorage;
+
+/**
+ * Measures reading and saving a ledger in the JSON data file.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class JsonUniCashStorageBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private Path folder;
+    private JsonUniCashStorage readStorage;
+    private JsonUniCashStorage saveStorage;
+    private UniCash uniCash;
+
+    /**
+     * Writes the generated ledger to a data file for {@link #readUniCash()} to read.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("unicash-benchmark");
+        readStorage = new JsonUniCashStorage(folder.resolve("read.json"));
+        saveStorage = new JsonUniCashStorage(folder.resolve("save.json"));
+        uniCash = BenchmarkData.generateUniCash(size);
+        readStorage.saveUniCash(uniCash);
+    }
+
+    /**
+     * Deletes the data files.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(readStorage.getUniCashFilePath());
+        Files.deleteIfExists(saveStorage.getUniCashFilePath());
+        Files.deleteIfExists(folder);
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyUniCash> readUniCash() throws DataLoadingException {
+        return readStorage.readUniCash();
+    }
+
+    @Benchmark
+    public void saveUniCash() throws IOException {
+        saveStorage.saveUniCash(uniCash);
+    }
+}
@@ -0,0 +1,123 @@
+package unicash.benchmark;
+
+import static unicash.logic.parser.CliSyntax.PREFIX_AMOUNT;
+import static unicash.logic.parser.CliSyntax.PREFIX_CATEGORY;
+import static unicash.logic.parser.CliSyntax.PREFIX_DATETIME;
+import static unicash.logic.parser.CliSyntax.PREFIX_LOCATION;
+import static unicash.logic.parser.CliSyntax.PREFIX_NAME;
+import static unicash.logic.parser.CliSyntax.PREFIX_TYPE;
+
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import unicash.commons.enums.CommandType;
+import unicash.logic.commands.Command;
+import unicash.logic.parser.ArgumentMultimap;
+import unicash.logic.parser.ArgumentTokenizer;
+import unicash.logic.parser.UniCashParser;
+import unicash.logic.parser.exceptions.ParseException;
+import unicash.model.transaction.DateTime;
+import unicash.model.transaction.Transaction;
+
+/**
+ * Measures parsing user input.
+ *
+ * <p>Parsing does not depend on the size of the ledger, so unlike the other benchmarks this one is not
+ * parameterized by it. The input is drawn in turn from a pool of commands built from generated
+ * transactions, so that successive invocations do not parse the same string.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ParserBenchmark {
+
+    private static final int POOL_SIZE = 1024;
+    private static final DateTimeFormatter INPUT_FORMATTER =
+            DateTimeFormatter.ofPattern(DateTime.DATETIME_PATTERN_ONE);
+
+    private final String[] addArguments = new String[POOL_SIZE];
+    private final String[] commands = new String[POOL_SIZE];
+    private final UniCashParser parser = new UniCashParser();
+    private int next = 0;
+
+    /**
+     * Builds the pools of arguments and commands.
+     * A quarter each of the commands are {@code add}, {@code edit}, {@code find} and {@code delete}.
+     */
+    @Setup
+    public void setUp() {
+        BenchmarkData data = new BenchmarkData(BenchmarkData.SEED);
+        for (int i = 0; i < POOL_SIZE; i++) {
+            addArguments[i] = toArguments(data.nextTransaction());
+        }
+
+        for (int i = 0; i < POOL_SIZE; i++) {
+            int index = i + 1;
+            switch (i % 4) {
+            case 0:
+                commands[i] = CommandType.ADD_TRANSACTION.getMainCommandWord() + addArguments[i];
+                break;
+            case 1:
+                commands[i] = CommandType.EDIT_TRANSACTION.getMainCommandWord() + " " + index
+                        + " " + PREFIX_AMOUNT + index + ".50 " + PREFIX_LOCATION + data.nextLocationKeyword();
+                break;
+            case 2:
+                commands[i] = CommandType.FIND.getMainCommandWord() + " " + PREFIX_NAME + data.nextNameKeyword()
+                        + " " + PREFIX_CATEGORY + data.nextCategoryKeyword();
+                break;
+            default:
+                commands[i] = CommandType.DELETE_TRANSACTION.getMainCommandWord() + " " + index;
+                break;
+            }
+        }
+    }
+
+    /**
+     * Returns the arguments of an {@code add} command for {@code transaction}, with a leading space
+     * as the parser passes them.
+     */
+    private static String toArguments(Transaction transaction) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(" ").append(PREFIX_NAME).append(transaction.getName().fullName);
+        sb.append(" ").append(PREFIX_TYPE).append(transaction.getTypeString());
+        sb.append(" ").append(PREFIX_AMOUNT).append(transaction.getAmount().amountString());
+        sb.append(" ").append(PREFIX_DATETIME).append(transaction.getDateTime().getDateTime().format(INPUT_FORMATTER));
+        sb.append(" ").append(PREFIX_LOCATION).append(transaction.getLocation().location);
+        transaction.getCategories().forEach(category -> sb.append(" ").append(PREFIX_CATEGORY)
+                .append(category.category));
+        return sb.toString();
+    }
+
+    /**
+     * Splits the arguments of an {@code add} command by its prefixes, without parsing the values.
+     */
+    @Benchmark
+    public ArgumentMultimap tokenize() {
+        return ArgumentTokenizer.tokenize(addArguments[nextIndex()],
+                PREFIX_NAME, PREFIX_TYPE, PREFIX_AMOUNT, PREFIX_DATETIME, PREFIX_LOCATION, PREFIX_CATEGORY);
+    }
+
+    @Benchmark
+    public Command parseCommand() throws ParseException {
+        return parser.parseCommand(commands[nextIndex()]);
+    }
+
+    private int nextIndex() {
+        next = (next + 1) % POOL_SIZE;
+        return next;
+    }
+}
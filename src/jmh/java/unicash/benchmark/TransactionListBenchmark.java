@@ -0,0 +1,97 @@
+package unicash.benchmark;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import unicash.model.transaction.Transaction;
+import unicash.model.transaction.TransactionList;
+
+/**
+ * Measures adding, replacing, removing and finding single transactions in a {@code TransactionList}.
+ *
+ * <p>Each operation leaves the list at its original size, so that every invocation measures a list of
+ * {@link #size} transactions. Transactions to replace or remove are picked at random positions.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class TransactionListBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private TransactionList transactionList;
+    private List<Transaction> transactions;
+    private Transaction extraTransaction;
+    private Random random;
+
+    /**
+     * Fills the list with {@link #size} generated transactions.
+     */
+    @Setup
+    public void setUp() {
+        BenchmarkData data = new BenchmarkData(BenchmarkData.SEED);
+        transactionList = new TransactionList();
+        transactionList.setTransactions(data.nextTransactions(size));
+        transactions = transactionList.asUnmodifiableObservableList();
+        extraTransaction = data.nextTransaction();
+        random = new Random(BenchmarkData.SEED);
+    }
+
+    /**
+     * Appends a new transaction, then removes it again.
+     */
+    @Benchmark
+    public void addThenRemove() {
+        transactionList.add(extraTransaction);
+        transactionList.remove(extraTransaction);
+    }
+
+    /**
+     * Removes the transaction at a random position, then appends it again.
+     */
+    @Benchmark
+    public void removeThenAdd() {
+        Transaction target = transactions.get(random.nextInt(size));
+        transactionList.remove(target);
+        transactionList.add(target);
+    }
+
+    @Benchmark
+    public void setTransaction() {
+        Transaction target = transactions.get(random.nextInt(size));
+        transactionList.setTransaction(target, target);
+    }
+
+    /**
+     * Checks for a copy of the transaction at a random position, which the list contains.
+     */
+    @Benchmark
+    public boolean containsPresent() {
+        return transactionList.contains(transactions.get(random.nextInt(size)));
+    }
+
+    /**
+     * Checks for a transaction that the list does not contain.
+     */
+    @Benchmark
+    public boolean containsAbsent() {
+        return transactionList.contains(extraTransaction);
+    }
+}
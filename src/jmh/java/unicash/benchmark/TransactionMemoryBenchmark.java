@@ -0,0 +1,39 @@
+package unicash.benchmark;
+
+import unicash.model.transaction.TransactionList;
+
+/**
+ * Measures the heap retained per transaction held in a {@code TransactionList}.
+ *
+ * <p>Heap usage is not something JMH measures, so this is a plain program. Run it with the benchmark
+ * classpath and a fixed heap, e.g. {@code java -Xmx4g -cp <jmh runtime classpath>
+ * unicash.benchmark.TransactionMemoryBenchmark [rows]}.</p>
+ */
+public class TransactionMemoryBenchmark {
+
+    private static final int DEFAULT_ROWS = 1_000_000;
+
+    public static void main(String[] args) {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ROWS;
+
+        BenchmarkData data = new BenchmarkData(BenchmarkData.SEED);
+        long before = usedHeap();
+        TransactionList transactionList = new TransactionList();
+        for (int i = 0; i < rows; i++) {
+            transactionList.add(data.nextTransaction());
+        }
+        long after = usedHeap();
+
+        System.out.printf("%,d rows: %.1f bytes/row%n", rows, (after - before) / (double) rows);
+        // Keeps the list reachable until after the measurement
+        System.out.println(transactionList.iterator().hasNext() ? "" : "empty");
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
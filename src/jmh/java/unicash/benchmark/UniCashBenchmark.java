@@ -0,0 +1,45 @@
+package unicash.benchmark;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import unicash.model.UniCash;
+
+/**
+ * Measures the summaries that {@code UniCash} computes over all of its transactions.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class UniCashBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private UniCash uniCash;
+
+    @Setup
+    public void setUp() {
+        uniCash = BenchmarkData.generateUniCash(size);
+    }
+
+    @Benchmark
+    public HashMap<String, Double> getSumOfExpensePerCategory() {
+        return uniCash.getSumOfExpensePerCategory();
+    }
+}
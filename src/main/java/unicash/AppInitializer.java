@@ -0,0 +1,190 @@
+package unicash;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import unicash.commons.core.Config;
+import unicash.commons.core.LogsCenter;
+import unicash.commons.exceptions.DataLoadingException;
+import unicash.commons.util.ConfigUtil;
+import unicash.commons.util.StringUtil;
+import unicash.logic.Logic;
+import unicash.logic.LogicManager;
+import unicash.model.Model;
+import unicash.model.ModelManager;
+import unicash.model.ReadOnlyUniCash;
+import unicash.model.ReadOnlyUserPrefs;
+import unicash.model.UniCash;
+import unicash.model.UserPrefs;
+import unicash.model.util.SampleDataUtil;
+import unicash.storage.BinaryUniCashStorage;
+import unicash.storage.JournaledUniCashStorage;
+import unicash.storage.JsonUniCashStorage;
+import unicash.storage.JsonUserPrefsStorage;
+import unicash.storage.SnapshotStorage;
+import unicash.storage.Storage;
+import unicash.storage.StorageManager;
+import unicash.storage.UniCashStorage;
+import unicash.storage.UserPrefsStorage;
+import unicash.storage.WriteBehindStorageManager;
+
+/**
+ * Initializes the components of the application that do not depend on its UI, which are its config,
+ * logging, preferences, storage, model and logic.
+ *
+ * <p>Used by both {@link MainApp} and {@link HeadlessApp}, so it loads no JavaFX UI classes.</p>
+ */
+public class AppInitializer {
+
+    private static final Logger logger = LogsCenter.getLogger(AppInitializer.class);
+
+    private final Config config;
+    private final Storage storage;
+    private final Model model;
+    private final Logic logic;
+
+    /**
+     * Initializes the components from the config file at {@code configFilePath}, or the default config file if
+     * it is null, keeping the UniCash data at {@code customStoragePath} instead of the path in the preferences
+     * if it is not null.
+     */
+    public AppInitializer(Path configFilePath, Path customStoragePath) {
+        config = initConfig(configFilePath);
+        initLogging(config);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = initPrefs(userPrefsStorage);
+        if (customStoragePath != null) {
+            userPrefs.setUniCashFilePath(customStoragePath);
+        }
+        Path uniCashFilePath = userPrefs.getUniCashFilePath();
+        SnapshotStorage snapshotStorage = BinaryUniCashStorage.isLedgerFile(uniCashFilePath)
+                ? new BinaryUniCashStorage(uniCashFilePath)
+                : new JsonUniCashStorage(uniCashFilePath);
+        UniCashStorage uniCashStorage = new JournaledUniCashStorage(snapshotStorage);
+        storage = new WriteBehindStorageManager(new StorageManager(uniCashStorage, userPrefsStorage));
+
+        model = initModelManager(storage, userPrefs);
+
+        logic = new LogicManager(model, storage);
+    }
+
+    public Config getConfig() {
+        return config;
+    }
+
+    public Storage getStorage() {
+        return storage;
+    }
+
+    public Model getModel() {
+        return model;
+    }
+
+    public Logic getLogic() {
+        return logic;
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s UniCash and {@code userPrefs}. <br>
+     * The data from the sample UniCash will be used instead if {@code storage}'s UniCash is not found,
+     * or an empty UniCash will be used instead if errors occur when reading {@code storage}'s UniCash.
+     */
+    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        logger.info("Using data file : " + storage.getUniCashFilePath());
+
+        Optional<ReadOnlyUniCash> uniCashOptional;
+        ReadOnlyUniCash initialData;
+        try {
+            uniCashOptional = storage.readUniCash();
+            if (uniCashOptional.isEmpty()) {
+                logger.info("Creating a new data file " + storage.getUniCashFilePath()
+                        + " populated with a sample UniCash.");
+            }
+            initialData = uniCashOptional.orElseGet(SampleDataUtil::getSampleUniCash);
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getUniCashFilePath() + " could not be loaded."
+                    + " Will be starting with an empty UniCash.");
+            initialData = new UniCash();
+        }
+
+        return new ModelManager(initialData, userPrefs);
+    }
+
+    private void initLogging(Config config) {
+        LogsCenter.init(config);
+    }
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    private Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            if (configOptional.isEmpty()) {
+                logger.info("Creating new config file " + configFilePathUsed);
+            }
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataLoadingException e) {
+            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
+                    + " Using default config properties.");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    private UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using preference file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            if (prefsOptional.isEmpty()) {
+                logger.info("Creating new preference file " + prefsFilePath);
+            }
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataLoadingException e) {
+            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
+                    + " Using default preferences.");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+}
@@ -0,0 +1,193 @@
+package unicash;
+
+import static java.util.Objects.requireNonNull;
+import static unicash.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import unicash.commons.core.LogsCenter;
+import unicash.commons.util.StringUtil;
+import unicash.logic.Logic;
+import unicash.logic.commands.CommandResult;
+import unicash.logic.commands.exceptions.CommandException;
+import unicash.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs UniCash commands without a UI, reading them from a script file or standard input and printing the
+ * feedback of each one to standard output, so that UniCash can be driven from scripts.
+ *
+ * <p>Each line of the script is a command, except blank lines and lines starting with {@code #}, which are
+ * skipped. Commands are executed without saving the data they change. The data is instead saved after every
+ * {@code --checkpoint} commands, if given, and once the script ends. A command that fails does not stop the
+ * script: its error is printed to standard error with its line number, and the script exits with status 1.
+ * The script also ends at a command that exits UniCash.</p>
+ *
+ * <p>Usage: {@code java -jar unicash.jar --batch [--config=CONFIG] [--checkpoint=N] [SCRIPT]}</p>
+ *
+ * <p>No JavaFX UI classes are loaded, so commands can be run without a display.</p>
+ */
+public class HeadlessApp {
+
+    public static final String BATCH_FLAG = "--batch";
+    public static final String MESSAGE_USAGE = "Usage: java -jar unicash.jar " + BATCH_FLAG
+            + " [--config=CONFIG] [--checkpoint=N] [SCRIPT]\n"
+            + "Runs the commands in SCRIPT, or standard input if it is not given, one per line.";
+    public static final String MESSAGE_COMMAND_FAILED = "Line %d: %s";
+    public static final String MESSAGE_SAVE_FAILED = "Could not save data: %s";
+
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_COMMAND_FAILED = 1;
+    public static final int EXIT_USAGE = 2;
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+    private static final String COMMENT_PREFIX = "#";
+    private static final String CONFIG_PARAMETER = "config";
+    private static final String CHECKPOINT_PARAMETER = "checkpoint";
+
+    private final Logic logic;
+    private final int checkpointInterval;
+
+    /**
+     * Creates a {@code HeadlessApp} that executes commands with {@code logic}, saving the data after every
+     * {@code checkpointInterval} commands, or only once the script ends if it is 0.
+     */
+    public HeadlessApp(Logic logic, int checkpointInterval) {
+        requireNonNull(logic);
+        checkArgument(checkpointInterval >= 0, "Checkpoint interval cannot be negative");
+        this.logic = logic;
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    /**
+     * Executes the commands read from {@code script}, printing the feedback of each one to {@code out} and
+     * the errors to {@code err}, and then saves the data.
+     *
+     * @return the number of commands that failed, counting a failure to save the data as one.
+     * @throws IOException if the script could not be read.
+     */
+    public int run(BufferedReader script, PrintWriter out, PrintWriter err) throws IOException {
+        requireNonNull(script);
+        requireNonNull(out);
+        requireNonNull(err);
+
+        int failureCount = 0;
+        int commandCount = 0;
+        int lineNumber = 0;
+        String line;
+        while ((line = script.readLine()) != null) {
+            lineNumber++;
+            String commandText = line.trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+
+            commandCount++;
+            try {
+                CommandResult commandResult = logic.executeWithoutSaving(commandText);
+                out.println(commandResult.getFeedbackToUser());
+                if (commandResult.isExit()) {
+                    break;
+                }
+            } catch (CommandException | ParseException e) {
+                err.println(String.format(MESSAGE_COMMAND_FAILED, lineNumber, e.getMessage()));
+                failureCount++;
+            }
+
+            if (checkpointInterval > 0 && commandCount % checkpointInterval == 0) {
+                failureCount += save(err);
+                out.flush();
+            }
+        }
+
+        failureCount += save(err);
+        out.flush();
+        err.flush();
+        logger.info("Ran " + commandCount + " commands, of which " + failureCount + " failed");
+        return failureCount;
+    }
+
+    /**
+     * Saves the data if it has changed, and returns the number of failures to save it.
+     */
+    private int save(PrintWriter err) {
+        try {
+            logic.save();
+            return 0;
+        } catch (CommandException e) {
+            err.println(String.format(MESSAGE_SAVE_FAILED, e.getMessage()));
+            return 1;
+        }
+    }
+
+    /**
+     * Runs the script given by {@code args}, which are the command-line arguments after {@link #BATCH_FLAG},
+     * and exits with {@link #EXIT_SUCCESS} if every command succeeded.
+     */
+    public static void main(String[] args) {
+        System.exit(runScript(args));
+    }
+
+    /**
+     * Runs the script given by {@code args}, and returns the exit status.
+     */
+    static int runScript(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        String scriptPath = null;
+        for (String arg : args) {
+            int separatorIndex = arg.indexOf('=');
+            String name = separatorIndex > 2 ? arg.substring(2, separatorIndex) : "";
+            if (arg.startsWith("--") && (name.equals(CONFIG_PARAMETER) || name.equals(CHECKPOINT_PARAMETER))) {
+                namedParameters.put(name, arg.substring(separatorIndex + 1));
+            } else if (scriptPath == null && !arg.startsWith("--")) {
+                scriptPath = arg;
+            } else {
+                System.err.println(MESSAGE_USAGE);
+                return EXIT_USAGE;
+            }
+        }
+
+        String checkpointParameter = namedParameters.getOrDefault(CHECKPOINT_PARAMETER, "0");
+        if (!StringUtil.isNonZeroUnsignedInteger(checkpointParameter) && !checkpointParameter.equals("0")) {
+            System.err.println(MESSAGE_USAGE);
+            return EXIT_USAGE;
+        }
+
+        logger.info("=============================[ Running UniCa$h script ]=========================");
+        AppParameters appParameters = AppParameters.parse(namedParameters);
+        AppInitializer initializer = new AppInitializer(appParameters.getConfigPath(), null);
+        HeadlessApp app = new HeadlessApp(initializer.getLogic(), Integer.parseInt(checkpointParameter));
+
+        PrintWriter out = new PrintWriter(new BufferedWriter(
+                new OutputStreamWriter(System.out, StandardCharsets.UTF_8)));
+        PrintWriter err = new PrintWriter(new OutputStreamWriter(System.err, StandardCharsets.UTF_8), true);
+        int failureCount;
+        try (BufferedReader script = scriptPath == null
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(Paths.get(scriptPath), StandardCharsets.UTF_8)) {
+            failureCount = app.run(script, out, err);
+        } catch (IOException e) {
+            err.println("Could not read script: " + e.getMessage());
+            return EXIT_USAGE;
+        }
+
+        try {
+            // The data was saved once the script ended, but may still be being written
+            initializer.getStorage().flush();
+        } catch (IOException e) {
+            err.println(String.format(MESSAGE_SAVE_FAILED, e.getMessage()));
+            failureCount++;
+        }
+        return failureCount == 0 ? EXIT_SUCCESS : EXIT_COMMAND_FAILED;
+    }
+}
@@ -1,5 +1,6 @@
 package unicash;
 
+import java.util.Arrays;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
@@ -20,11 +21,19 @@ import unicash.commons.core.LogsCenter;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * Given {@code --batch} as its first argument, it runs a script of commands
+ * with {@link HeadlessApp} instead, without starting JavaFX.
  */
 public class Main {
     private static Logger logger = LogsCenter.getLogger(Main.class);
 
     public static void main(String[] args) {
+        // Scripts are run without the UI, so that JavaFX is not started
+        if (args.length > 0 && args[0].equals(HeadlessApp.BATCH_FLAG)) {
+            HeadlessApp.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
 
         // As per https://github.com/openjdk/jfx/blob/master/doc-files/release-notes-16.md
         // JavaFX 16 (or later) runtime logs a warning at startup if JavaFX classes are loaded from
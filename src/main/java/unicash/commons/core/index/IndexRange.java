@@ -0,0 +1,86 @@
+package unicash.commons.core.index;
+
+import static java.util.Objects.requireNonNull;
+import static unicash.commons.util.AppUtil.checkArgument;
+
+import java.util.List;
+import java.util.Objects;
+
+import unicash.commons.util.ToStringBuilder;
+
+/**
+ * Represents a range of consecutive indexes of a list, from a first {@code Index} to a last {@code Index}
+ * (both inclusive), or to the end of the list.
+ */
+public class IndexRange {
+    private final Index first;
+    // Null if the range runs to the end of the list
+    private final Index last;
+
+    private IndexRange(Index first, Index last) {
+        this.first = first;
+        this.last = last;
+    }
+
+    /**
+     * Creates an {@code IndexRange} from {@code first} to {@code last}, which must not be before {@code first}.
+     */
+    public static IndexRange between(Index first, Index last) {
+        requireNonNull(first);
+        requireNonNull(last);
+        checkArgument(first.getZeroBased() <= last.getZeroBased(), "The last index must not be before the first.");
+        return new IndexRange(first, last);
+    }
+
+    /**
+     * Creates an {@code IndexRange} of every index of a list.
+     */
+    public static IndexRange all() {
+        return new IndexRange(Index.fromZeroBased(0), null);
+    }
+
+    /**
+     * Returns true if every index in this range is an index of a list of {@code size} elements.
+     * A range that runs to the end of the list only requires the list to hold its first index.
+     */
+    public boolean isWithin(int size) {
+        return first.getZeroBased() < size && (last == null || last.getZeroBased() < size);
+    }
+
+    /**
+     * Returns a view of the elements of {@code list} in this range.
+     *
+     * @throws IndexOutOfBoundsException if this range is not within {@code list}.
+     */
+    public <T> List<T> subListOf(List<T> list) {
+        requireNonNull(list);
+        if (!isWithin(list.size())) {
+            throw new IndexOutOfBoundsException();
+        }
+        return list.subList(first.getZeroBased(), last == null ? list.size() : last.getZeroBased() + 1);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof IndexRange)) {
+            return false;
+        }
+
+        IndexRange otherRange = (IndexRange) other;
+        return first.equals(otherRange.first)
+                && Objects.equals(last, otherRange.last);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("first", first)
+                .add("last", last)
+                .toString();
+    }
+}
@@ -3,10 +3,12 @@ package unicash.commons.enums;
 import static unicash.logic.parser.CliSyntax.PREFIX_AMOUNT;
 import static unicash.logic.parser.CliSyntax.PREFIX_CATEGORY;
 import static unicash.logic.parser.CliSyntax.PREFIX_DATETIME;
+import static unicash.logic.parser.CliSyntax.PREFIX_FORMAT;
 import static unicash.logic.parser.CliSyntax.PREFIX_INTERVAL;
 import static unicash.logic.parser.CliSyntax.PREFIX_LOCATION;
 import static unicash.logic.parser.CliSyntax.PREFIX_MONTH;
 import static unicash.logic.parser.CliSyntax.PREFIX_NAME;
+import static unicash.logic.parser.CliSyntax.PREFIX_SCOPE;
 import static unicash.logic.parser.CliSyntax.PREFIX_TYPE;
 import static unicash.logic.parser.CliSyntax.PREFIX_YEAR;
 
@@ -146,6 +148,27 @@ public enum CommandType {
             return "Deleted Transaction:\n\n%1$s";
         }
     },
+    DELETE_TRANSACTIONS("delete_transactions", "delete_many") {
+        @Override
+        public String getMessageUsage() {
+            return new CommandUsage.Builder()
+                    .setCommandWord(getCommandWords())
+                    .setDescription(
+                            "Deletes the transactions identified by a range of index numbers used in the "
+                                    + "displayed transaction list, or all displayed transactions. "
+                                    + "Use find first to delete the transactions matching its keywords."
+                    )
+                    .setArgument("Index range (START-END, with positive integers), or all")
+                    .setExample(ExampleGenerator.generate(getMainCommandWord(), "1-5"))
+                    .build()
+                    .toString();
+        }
+
+        @Override
+        public String getMessageSuccess() {
+            return "Deleted %1$d transactions.";
+        }
+    },
     EDIT_TRANSACTION("edit", "edit_transaction", "et") {
         @Override
         public String getMessageUsage() {
@@ -188,6 +211,39 @@ public enum CommandType {
             return "At least one field to edit must be provided.";
         }
     },
+    EDIT_TRANSACTIONS("edit_transactions", "edit_many") {
+        @Override
+        public String getMessageUsage() {
+            return new CommandUsage.Builder()
+                    .setCommandWord(getCommandWords())
+                    .setDescription(
+                            "Edits the details of the transactions identified by a range of index numbers "
+                                    + "used in the displayed transaction list, or of all displayed transactions, "
+                                    + "in the same way. Use find first to edit the transactions matching its "
+                                    + "keywords."
+                    )
+                    .setArgument("Index range (START-END, with positive integers), or all")
+                    .addParameter(PREFIX_NAME, "Name", true, false)
+                    .addParameter(PREFIX_TYPE, "Type", true, false)
+                    .addParameter(PREFIX_AMOUNT, "Amount", true, false)
+                    .addParameter(PREFIX_DATETIME, "DateTime", true, false)
+                    .addParameter(PREFIX_LOCATION, "Location", true, false)
+                    .addParameter(PREFIX_CATEGORY, "Category", true, true)
+                    .setExample(ExampleGenerator.generate(getMainCommandWord(), "all", PREFIX_CATEGORY))
+                    .build()
+                    .toString();
+        }
+
+        @Override
+        public String getMessageSuccess() {
+            return "Edited %1$d transactions.";
+        }
+
+        @Override
+        public String getMessageFailure() {
+            return "At least one field to edit must be provided.";
+        }
+    },
     EXIT("exit", "quit", "bye") {
         @Override
         public String getMessageUsage() {
@@ -204,6 +260,30 @@ public enum CommandType {
             return "Exiting UniCa$h as requested ...";
         }
     },
+    EXPORT("export", "export_transactions") {
+        @Override
+        public String getMessageUsage() {
+            return new CommandUsage.Builder()
+                    .setCommandWord(getCommandWords())
+                    .setDescription(
+                            "Exports the transactions shown in the transaction list, or all transactions, "
+                                    + "to a file as CSV, or as NDJSON with one transaction per line. "
+                                    + "The format is csv or ndjson, and is taken from the file extension "
+                                    + "if it is not given. The scope is shown (default) or all."
+                    )
+                    .setArgument("File path to export to")
+                    .addParameter(PREFIX_FORMAT, "Format", true, false)
+                    .addParameter(PREFIX_SCOPE, "Scope", true, false)
+                    .setExample(getMainCommandWord() + " transactions.ndjson " + PREFIX_SCOPE + "all")
+                    .build()
+                    .toString();
+        }
+
+        @Override
+        public String getMessageSuccess() {
+            return "Exported %1$d transactions to %2$s in %3$d ms (%4$d transactions per second).";
+        }
+    },
     FIND("find", "search", "f") {
         @Override
         public String getMessageUsage() {
@@ -292,6 +372,36 @@ public enum CommandType {
             return "Showing help page ...";
         }
     },
+    IMPORT("import", "import_transactions") {
+        @Override
+        public String getMessageUsage() {
+            return new CommandUsage.Builder()
+                    .setCommandWord(getCommandWords())
+                    .setDescription(
+                            "Imports the transactions in a CSV file whose first row names its columns. "
+                                    + "By default, the columns named name, type, amount, datetime, location "
+                                    + "and category are read, with categories separated by spaces. "
+                                    + "Other column names can be given for each field. Rows that are invalid, "
+                                    + "or equal to an existing transaction, are skipped."
+                    )
+                    .setArgument("File path of the CSV file")
+                    .addParameter(PREFIX_NAME, "Name column", true, false)
+                    .addParameter(PREFIX_TYPE, "Type column", true, false)
+                    .addParameter(PREFIX_AMOUNT, "Amount column", true, false)
+                    .addParameter(PREFIX_DATETIME, "DateTime column", true, false)
+                    .addParameter(PREFIX_LOCATION, "Location column", true, false)
+                    .addParameter(PREFIX_CATEGORY, "Category column", true, false)
+                    .setExample(getMainCommandWord() + " bank.csv " + PREFIX_NAME + "Description "
+                            + PREFIX_DATETIME + "Date")
+                    .build()
+                    .toString();
+        }
+
+        @Override
+        public String getMessageSuccess() {
+            return "Imported %1$d transactions from %2$s, skipping %3$d duplicates.";
+        }
+    },
     LIST("list", "list_transactions", "ls") {
         @Override
         public String getMessageUsage() {
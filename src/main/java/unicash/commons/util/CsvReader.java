@@ -0,0 +1,162 @@
+package unicash.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the records of comma-separated values (CSV) one at a time, so a file of any size can be read
+ * without holding more than one record in memory.
+ *
+ * <p>Fields are separated by commas and records by line breaks ({@code \n}, {@code \r\n} or {@code \r}).
+ * A field enclosed in double quotes may contain commas, line breaks and doubled double quotes, which stand
+ * for a single double quote. A byte order mark at the start of the input is ignored.</p>
+ */
+public class CsvReader implements Closeable {
+
+    public static final String MESSAGE_UNTERMINATED_QUOTE = "Quoted field starting on line %1$d is not closed";
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int bufferLength;
+    private int bufferPosition;
+
+    private boolean isStarted;
+    private int lineNumber = 1;
+    private int recordLineNumber;
+
+    /** Creates a CsvReader that reads records from {@code reader}. */
+    public CsvReader(Reader reader) {
+        requireNonNull(reader);
+        this.reader = reader;
+    }
+
+    /**
+     * Returns the fields of the next record, or null if there are no more records.
+     * An empty line is read as a record with a single empty field.
+     *
+     * @throws IOException if the input could not be read, or ends inside a quoted field.
+     */
+    public List<String> readRecord() throws IOException {
+        int c = read();
+        if (!isStarted) {
+            isStarted = true;
+            if (c == BYTE_ORDER_MARK) {
+                c = read();
+            }
+        }
+        if (c == -1) {
+            return null;
+        }
+
+        recordLineNumber = lineNumber;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean isFieldStarted = false;
+        while (true) {
+            switch (c) {
+            case -1:
+                fields.add(field.toString());
+                return fields;
+            case ',':
+                fields.add(field.toString());
+                field.setLength(0);
+                isFieldStarted = false;
+                break;
+            case '\r':
+            case '\n':
+                fields.add(field.toString());
+                endLine(c);
+                return fields;
+            case '"':
+                if (!isFieldStarted) {
+                    readQuotedField(field);
+                    isFieldStarted = true;
+                    break;
+                }
+                field.append('"');
+                break;
+            default:
+                field.append((char) c);
+                isFieldStarted = true;
+            }
+            c = read();
+        }
+    }
+
+    /**
+     * Returns the line on which the record last read starts, counting from 1.
+     */
+    public int getRecordLineNumber() {
+        return recordLineNumber;
+    }
+
+    /**
+     * Appends the contents of a quoted field to {@code field}, reading up to and including its closing quote.
+     */
+    private void readQuotedField(StringBuilder field) throws IOException {
+        while (true) {
+            int c = read();
+            switch (c) {
+            case -1:
+                throw new IOException(String.format(MESSAGE_UNTERMINATED_QUOTE, recordLineNumber));
+            case '"':
+                if (peek() != '"') {
+                    return;
+                }
+                read();
+                field.append('"');
+                break;
+            case '\r':
+            case '\n':
+                endLine(c);
+                field.append('\n');
+                break;
+            default:
+                field.append((char) c);
+            }
+        }
+    }
+
+    /**
+     * Consumes the rest of the line break that starts with {@code c}.
+     */
+    private void endLine(int c) throws IOException {
+        if (c == '\r' && peek() == '\n') {
+            read();
+        }
+        lineNumber++;
+    }
+
+    private int read() throws IOException {
+        int c = peek();
+        if (c != -1) {
+            bufferPosition++;
+        }
+        return c;
+    }
+
+    private int peek() throws IOException {
+        if (bufferPosition == bufferLength) {
+            bufferLength = reader.read(buffer, 0, BUFFER_SIZE);
+            bufferPosition = 0;
+            if (bufferLength <= 0) {
+                bufferLength = 0;
+                return -1;
+            }
+        }
+        return buffer[bufferPosition];
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -13,6 +13,9 @@ import java.util.Arrays;
  */
 public class StringUtil {
 
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
     private StringUtil() {
 
     }
@@ -124,4 +127,20 @@ public class StringUtil {
 
         return builder.toString();
     }
+
+    /**
+     * Returns a 64-bit hash of {@code s}, for use where the 32-bit {@code String#hashCode} would
+     * make equal hashes of different strings too likely. Strings that are equal have the same fingerprint.
+     *
+     * @throws NullPointerException if {@code s} is null.
+     */
+    public static long fingerprintOf(String s) {
+        requireNonNull(s);
+        // 64-bit FNV-1a, over each character
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < s.length(); i++) {
+            hash = (hash ^ s.charAt(i)) * FNV_PRIME;
+        }
+        return hash;
+    }
 }
@@ -1,8 +1,10 @@
 package unicash.logic;
 
 import java.nio.file.Path;
+import java.time.Duration;
 import java.time.YearMonth;
 import java.util.HashMap;
+import java.util.Optional;
 
 import javafx.collections.ObservableList;
 import unicash.commons.core.GuiSettings;
@@ -25,11 +27,40 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the command without saving the data it changes, and returns the result.
+     * The changes are saved by the next call to {@link #execute(String)} or {@link #save()}.
+     *
+     * @param commandText The command as entered by the user.
+     * @return the result of the command execution.
+     * @throws CommandException If an error occurs during command execution.
+     * @throws ParseException   If an error occurs during parsing.
+     */
+    CommandResult executeWithoutSaving(String commandText) throws CommandException, ParseException;
+
+    /**
+     * Saves the UniCash data if it has changed since it was last saved.
+     *
+     * @throws CommandException If the data, or an earlier save of it, could not be saved.
+     */
+    void save() throws CommandException;
+
     /**
      * Returns the user prefs' UniCash file path.
      */
     Path getUniCashFilePath();
 
+    /**
+     * Returns true if the UniCash data has changed since it was last saved.
+     */
+    boolean hasUnsavedChanges();
+
+    /**
+     * Returns how long the last save of the UniCash data held up its command,
+     * or an empty {@code Optional} if the data has not been saved yet.
+     */
+    Optional<Duration> getLastSaveDuration();
+
     /**
      * Returns the user prefs' GUI settings.
      */
@@ -3,8 +3,10 @@ package unicash.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.time.YearMonth;
 import java.util.HashMap;
+import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -34,32 +36,84 @@ public class LogicManager implements Logic {
     private final Storage storage;
     private final UniCashParser uniCashParser;
 
+    // Version of the data last handed to the storage, and the version known to be written by it
+    private long queuedVersion;
+    private long savedVersion;
+    private Duration lastSaveDuration;
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * The data in {@code model} is taken to be saved in {@code storage} already.
      */
     public LogicManager(Model model, Storage storage) {
         this.model = model;
         this.storage = storage;
         uniCashParser = new UniCashParser();
+        savedVersion = model.getUniCashVersion();
+        queuedVersion = savedVersion;
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
+        CommandResult commandResult = executeWithoutSaving(commandText);
+        save();
+
+        return commandResult;
+    }
+
+    @Override
+    public CommandResult executeWithoutSaving(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
         Command command = uniCashParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        return command.execute(model);
+    }
 
+    /**
+     * Saves the UniCash data if it has changed since it was last saved, so that commands which only read
+     * the data do not rewrite it. Otherwise, reports an earlier save that the storage could not write.
+     */
+    @Override
+    public void save() throws CommandException {
+        long version = model.getUniCashVersion();
         try {
-            storage.saveUniCash(model.getUniCash());
+            if (version == queuedVersion) {
+                storage.checkWriteFailure();
+            } else {
+                long start = System.nanoTime();
+                storage.saveUniCash(model.getUniCash());
+                lastSaveDuration = Duration.ofNanos(System.nanoTime() - start);
+                queuedVersion = version;
+            }
         } catch (AccessDeniedException e) {
+            // The data is saved again by the next command, as it is not known to be written
+            queuedVersion = savedVersion;
             throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
+            queuedVersion = savedVersion;
             throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
         }
+        updateSavedVersion();
+    }
 
-        return commandResult;
+    @Override
+    public boolean hasUnsavedChanges() {
+        updateSavedVersion();
+        return model.getUniCashVersion() != savedVersion;
+    }
+
+    /**
+     * Takes the data last handed to the storage to be saved once the storage has written it.
+     */
+    private void updateSavedVersion() {
+        if (!storage.hasPendingWrites()) {
+            savedVersion = queuedVersion;
+        }
+    }
+
+    @Override
+    public Optional<Duration> getLastSaveDuration() {
+        return Optional.ofNullable(lastSaveDuration);
     }
 
     @Override
@@ -19,6 +19,8 @@ public class UniCashMessages {
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format! \n\n%1$s";
     public static final String MESSAGE_INVALID_TRANSACTION_DISPLAYED_INDEX =
             "The transaction index provided is invalid";
+    public static final String MESSAGE_NO_TRANSACTIONS_DISPLAYED =
+            "There are no transactions in the displayed transaction list";
     public static final String MESSAGE_TRANSACTIONS_LISTED_OVERVIEW = "%1$d transactions listed!";
     public static final String MESSAGE_DUPLICATE_FIELDS =
             "Multiple values specified for the following single-valued field(s): ";
@@ -37,6 +39,10 @@ public class UniCashMessages {
             + "\n"
             + CommandType.EDIT_TRANSACTION.getMainCommandWord()
             + "\n"
+            + CommandType.DELETE_TRANSACTIONS.getMainCommandWord()
+            + "\n"
+            + CommandType.EDIT_TRANSACTIONS.getMainCommandWord()
+            + "\n"
             + CommandType.LIST.getMainCommandWord()
             + "\n"
             + CommandType.FIND.getMainCommandWord()
@@ -45,6 +51,10 @@ public class UniCashMessages {
             + "\n"
             + CommandType.GET_TOTAL_EXPENDITURE.getMainCommandWord()
             + "\n"
+            + CommandType.IMPORT.getMainCommandWord()
+            + "\n"
+            + CommandType.EXPORT.getMainCommandWord()
+            + "\n"
             + CommandType.SUMMARY.getMainCommandWord()
             + "\n"
             + CommandType.SET_BUDGET.getMainCommandWord()
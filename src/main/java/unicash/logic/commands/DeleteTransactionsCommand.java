@@ -0,0 +1,79 @@
+package unicash.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import unicash.commons.core.index.IndexRange;
+import unicash.commons.enums.CommandType;
+import unicash.commons.util.ToStringBuilder;
+import unicash.logic.UniCashMessages;
+import unicash.logic.commands.exceptions.CommandException;
+import unicash.model.Model;
+import unicash.model.transaction.Transaction;
+
+/**
+ * Deletes a range of the transactions in the displayed transaction list, or all of them, at once.
+ *
+ * <p>The transactions are removed from the transaction list in a single pass, as a single change,
+ * so the data is saved once however many transactions are deleted.</p>
+ */
+public class DeleteTransactionsCommand extends Command {
+
+    public static final String COMMAND_WORD = CommandType.DELETE_TRANSACTIONS.getCommandWords();
+
+    public static final String MESSAGE_USAGE = CommandType.DELETE_TRANSACTIONS.getMessageUsage();
+
+    public static final String MESSAGE_DELETE_TRANSACTIONS_SUCCESS =
+            CommandType.DELETE_TRANSACTIONS.getMessageSuccess();
+
+    private final IndexRange targetRange;
+
+    /**
+     * @param targetRange of the transactions in the filtered transaction list to delete
+     */
+    public DeleteTransactionsCommand(IndexRange targetRange) {
+        requireNonNull(targetRange);
+        this.targetRange = targetRange;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Transaction> lastShownList = model.getFilteredTransactionList();
+
+        if (lastShownList.isEmpty()) {
+            throw new CommandException(UniCashMessages.MESSAGE_NO_TRANSACTIONS_DISPLAYED);
+        }
+        if (!targetRange.isWithin(lastShownList.size())) {
+            throw new CommandException(UniCashMessages.MESSAGE_INVALID_TRANSACTION_DISPLAYED_INDEX);
+        }
+
+        List<Transaction> transactionsToDelete = new ArrayList<>(targetRange.subListOf(lastShownList));
+        model.deleteTransactions(transactionsToDelete);
+        return new CommandResult(String.format(MESSAGE_DELETE_TRANSACTIONS_SUCCESS, transactionsToDelete.size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof DeleteTransactionsCommand)) {
+            return false;
+        }
+
+        DeleteTransactionsCommand otherDeleteCommand = (DeleteTransactionsCommand) other;
+        return targetRange.equals(otherDeleteCommand.targetRange);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("targetRange", targetRange)
+                .toString();
+    }
+}
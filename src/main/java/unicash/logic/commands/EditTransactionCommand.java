@@ -14,6 +14,7 @@ import unicash.commons.util.ToStringBuilder;
 import unicash.logic.UniCashMessages;
 import unicash.logic.commands.exceptions.CommandException;
 import unicash.model.Model;
+import unicash.model.category.CategorySet;
 import unicash.model.category.UniqueCategoryList;
 import unicash.model.commons.Amount;
 import unicash.model.transaction.DateTime;
@@ -73,7 +74,7 @@ public class EditTransactionCommand extends Command {
      * Creates and returns a {@code Transaction} with the details of {@code transactionToEdit}
      * edited with {@code editTransactionDescriptor}.
      */
-    private static Transaction createEditedTransaction(
+    static Transaction createEditedTransaction(
             Transaction transactionToEdit,
             EditTransactionDescriptor editTransactionDescriptor
     ) {
@@ -84,10 +85,11 @@ public class EditTransactionCommand extends Command {
         DateTime updatedDateTime = editTransactionDescriptor.getDateTime().orElse(transactionToEdit.getDateTime());
         Location updatedLocation = editTransactionDescriptor.getLocation().orElse(transactionToEdit.getLocation());
         Type updatedType = editTransactionDescriptor.getType().orElse(transactionToEdit.getType());
-        UniqueCategoryList updatedCategories = editTransactionDescriptor.getCategories()
+        CategorySet updatedCategories = editTransactionDescriptor.getCategories()
+                .map(CategorySet::of)
                 .orElse(transactionToEdit.getCategories());
 
-        return new Transaction(updatedName, updatedType, updatedAmount, updatedDateTime,
+        return new Transaction(transactionToEdit.getId(), updatedName, updatedType, updatedAmount, updatedDateTime,
                 updatedLocation, updatedCategories);
     }
 
@@ -0,0 +1,94 @@
+package unicash.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import unicash.commons.core.index.IndexRange;
+import unicash.commons.enums.CommandType;
+import unicash.commons.util.ToStringBuilder;
+import unicash.logic.UniCashMessages;
+import unicash.logic.commands.EditTransactionCommand.EditTransactionDescriptor;
+import unicash.logic.commands.exceptions.CommandException;
+import unicash.model.Model;
+import unicash.model.transaction.Transaction;
+
+/**
+ * Edits the details of a range of the transactions in the displayed transaction list, or of all of them,
+ * in the same way at once.
+ *
+ * <p>The transactions are replaced in the transaction list as a single change, so the data is saved once
+ * however many transactions are edited.</p>
+ */
+public class EditTransactionsCommand extends Command {
+
+    public static final String COMMAND_WORD = CommandType.EDIT_TRANSACTIONS.getCommandWords();
+
+    public static final String MESSAGE_USAGE = CommandType.EDIT_TRANSACTIONS.getMessageUsage();
+
+    public static final String MESSAGE_EDIT_TRANSACTIONS_SUCCESS = CommandType.EDIT_TRANSACTIONS.getMessageSuccess();
+    public static final String MESSAGE_NOT_EDITED = CommandType.EDIT_TRANSACTIONS.getMessageFailure();
+
+    private final IndexRange targetRange;
+    private final EditTransactionDescriptor editTransactionDescriptor;
+
+    /**
+     * @param targetRange               of the transactions in the filtered transaction list to edit
+     * @param editTransactionDescriptor details to edit each transaction with
+     */
+    public EditTransactionsCommand(IndexRange targetRange, EditTransactionDescriptor editTransactionDescriptor) {
+        requireNonNull(targetRange);
+        requireNonNull(editTransactionDescriptor);
+
+        this.targetRange = targetRange;
+        this.editTransactionDescriptor = new EditTransactionDescriptor(editTransactionDescriptor);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Transaction> lastShownList = model.getFilteredTransactionList();
+
+        if (lastShownList.isEmpty()) {
+            throw new CommandException(UniCashMessages.MESSAGE_NO_TRANSACTIONS_DISPLAYED);
+        }
+        if (!targetRange.isWithin(lastShownList.size())) {
+            throw new CommandException(UniCashMessages.MESSAGE_INVALID_TRANSACTION_DISPLAYED_INDEX);
+        }
+
+        List<Transaction> transactionsToEdit = new ArrayList<>(targetRange.subListOf(lastShownList));
+        List<Transaction> editedTransactions = new ArrayList<>(transactionsToEdit.size());
+        for (Transaction transactionToEdit : transactionsToEdit) {
+            editedTransactions.add(
+                    EditTransactionCommand.createEditedTransaction(transactionToEdit, editTransactionDescriptor));
+        }
+
+        model.replaceTransactions(transactionsToEdit, editedTransactions);
+        return new CommandResult(String.format(MESSAGE_EDIT_TRANSACTIONS_SUCCESS, editedTransactions.size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof EditTransactionsCommand)) {
+            return false;
+        }
+
+        EditTransactionsCommand otherEditTransactionsCommand = (EditTransactionsCommand) other;
+        return targetRange.equals(otherEditTransactionsCommand.targetRange)
+                && editTransactionDescriptor.equals(otherEditTransactionsCommand.editTransactionDescriptor);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("targetRange", targetRange)
+                .add("editTransactionDescriptor", editTransactionDescriptor)
+                .toString();
+    }
+}
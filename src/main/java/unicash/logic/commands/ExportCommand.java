@@ -0,0 +1,149 @@
+package unicash.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static unicash.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import unicash.commons.core.LogsCenter;
+import unicash.commons.enums.CommandType;
+import unicash.commons.util.ToStringBuilder;
+import unicash.logic.commands.exceptions.CommandException;
+import unicash.model.Model;
+import unicash.model.transaction.Transaction;
+import unicash.storage.TransactionExporter;
+
+/**
+ * Exports the transactions shown in the transaction list, or all transactions, to a file.
+ *
+ * <p>Transactions are written to the file one at a time as they are read from the model, so exporting
+ * takes the same memory however many transactions there are.</p>
+ */
+public class ExportCommand extends Command {
+    public static final String COMMAND_WORD = CommandType.EXPORT.getCommandWords();
+
+    public static final String MESSAGE_USAGE = CommandType.EXPORT.getMessageUsage();
+
+    public static final String MESSAGE_SUCCESS = CommandType.EXPORT.getMessageSuccess();
+
+    public static final String MESSAGE_FILE_NOT_WRITTEN = "Could not write %1$s: %2$s";
+
+    private static final Logger logger = LogsCenter.getLogger(ExportCommand.class);
+
+    /**
+     * The formats that transactions can be exported in.
+     */
+    public enum Format {
+        CSV("csv"),
+        NDJSON("ndjson", "jsonl");
+
+        private final String[] names;
+
+        Format(String... names) {
+            this.names = names;
+        }
+
+        /**
+         * Returns the format called {@code name}, ignoring case, if there is one.
+         */
+        public static Optional<Format> fromName(String name) {
+            requireNonNull(name);
+            String lowerCaseName = name.toLowerCase(Locale.ROOT);
+            return Arrays.stream(values())
+                    .filter(format -> Arrays.asList(format.names).contains(lowerCaseName))
+                    .findFirst();
+        }
+
+        /**
+         * Returns the format named by the extension of the file at {@code filePath}, or {@link #CSV}
+         * if the extension does not name a format.
+         */
+        public static Format ofFile(Path filePath) {
+            requireNonNull(filePath);
+            String fileName = filePath.getFileName().toString();
+            int extensionIndex = fileName.lastIndexOf('.');
+            return extensionIndex == -1
+                    ? CSV
+                    : fromName(fileName.substring(extensionIndex + 1)).orElse(CSV);
+        }
+
+        @Override
+        public String toString() {
+            return names[0];
+        }
+    }
+
+    private final Path filePath;
+    private final Format format;
+    private final boolean isAllTransactions;
+
+    /**
+     * Creates an ExportCommand to export transactions to the file at {@code filePath} in {@code format}.
+     * All transactions are exported if {@code isAllTransactions} is true, and only those shown in the
+     * transaction list otherwise.
+     */
+    public ExportCommand(Path filePath, Format format, boolean isAllTransactions) {
+        requireAllNonNull(filePath, format);
+        this.filePath = filePath;
+        this.format = format;
+        this.isAllTransactions = isAllTransactions;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Iterable<Transaction> transactions = isAllTransactions
+                ? model.getUniCash().getTransactionList()
+                : model.getFilteredTransactionList();
+
+        long startTime = System.nanoTime();
+        int exportedCount;
+        try {
+            exportedCount = format == Format.CSV
+                    ? TransactionExporter.exportCsv(transactions, filePath)
+                    : TransactionExporter.exportNdjson(transactions, filePath);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_WRITTEN, filePath, e.getMessage()), e);
+        }
+        long elapsedNanos = Math.max(System.nanoTime() - startTime, 1);
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        long rowsPerSecond = exportedCount * TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+        logger.info("Exported " + exportedCount + " transactions to " + filePath + " as " + format + " in "
+                + elapsedMillis + " ms");
+        return new CommandResult(String.format(MESSAGE_SUCCESS, exportedCount, filePath, elapsedMillis,
+                rowsPerSecond));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportCommand)) {
+            return false;
+        }
+
+        ExportCommand otherCommand = (ExportCommand) other;
+        return filePath.equals(otherCommand.filePath)
+                && format == otherCommand.format
+                && isAllTransactions == otherCommand.isAllTransactions;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .add("format", format)
+                .add("isAllTransactions", isAllTransactions)
+                .toString();
+    }
+}
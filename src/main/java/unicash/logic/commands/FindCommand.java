@@ -43,7 +43,10 @@ public class FindCommand extends Command {
         requireNonNull(model);
         assert predicate != null : "predicate cannot be null";
 
-        model.updateFilteredTransactionList(predicate);
+        /* Names, locations and categories are looked up in the indexes of the model, rather than
+         * searched for the keywords in every transaction */
+        model.updateFilteredTransactionList(predicate.withMatchers(model::getTransactionNameMatcher,
+                model::getTransactionLocationMatcher, model::getTransactionCategoryMatcher));
 
         logger.log(Level.INFO, String.format(
                 "Transaction List successfully updated with the predicate %s", predicate));
@@ -2,15 +2,16 @@ package unicash.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.temporal.WeekFields;
-import java.util.function.Function;
+import java.time.temporal.TemporalAdjusters;
 
 import unicash.commons.enums.BudgetInterval;
 import unicash.commons.enums.CommandType;
-import unicash.commons.enums.TransactionType;
 import unicash.logic.commands.exceptions.CommandException;
 import unicash.model.Model;
+import unicash.model.transaction.ExpenseSummary;
 
 /**
  * Calculates the total expenditure used relative to the assigned budget for a given interval.
@@ -62,18 +63,15 @@ public class GetBudgetCommand extends Command {
         }
 
         var interval = budget.getInterval().interval;
-        Function<LocalDateTime, Integer> filter = getIntervalFilter(interval);
+        LocalDateTime intervalStart = getIntervalStart(interval);
         String intervalString = getIntervalString(interval);
-        assert filter != null;
+        assert intervalStart != null;
         assert intervalString != null;
 
-        double calculatedRemainder = model
-                .getFilteredTransactionList()
-                .stream()
-                .filter(t -> t.getType().type.equals(TransactionType.EXPENSE))
-                .filter(t -> filter.apply(t.getDateTime().getDateTime()).equals(filter.apply(from)))
-                .map(t -> -1 * t.getAmount().amount)
-                .reduce(budget.getAmount().amount, Double::sum, Double::sum);
+        long expensesInCents = ExpenseSummary.sumOfExpensesInCents(
+                model.getTransactionsBetween(intervalStart, getIntervalEnd(interval, intervalStart)));
+        // Summed in exact cents, and converted to dollars only for display
+        double calculatedRemainder = (budget.getAmount().getCents() - expensesInCents) / 100.0;
 
         if (calculatedRemainder < 0) {
             return new CommandResult(String.format(
@@ -103,17 +101,34 @@ public class GetBudgetCommand extends Command {
     }
 
     /**
-     * Maps a filter function to a given {@code BudgetInterval}. The filter function is used to compare
-     * 2 {@code LocalDateTime} to determine if they are within the same interval.
+     * Returns the start of the {@code BudgetInterval} containing {@code from}.
+     * Weeks start on Monday.
      */
-    private Function<LocalDateTime, Integer> getIntervalFilter(BudgetInterval interval) {
+    private LocalDateTime getIntervalStart(BudgetInterval interval) {
+        LocalDate date = from.toLocalDate();
         switch (interval) {
         case DAY:
-            return LocalDateTime::getDayOfYear;
+            return date.atStartOfDay();
         case WEEK:
-            return d -> d.get(WeekFields.ISO.weekOfYear());
+            return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).atStartOfDay();
         case MONTH:
-            return LocalDateTime::getMonthValue;
+            return date.withDayOfMonth(1).atStartOfDay();
+        default:
+            return null;
+        }
+    }
+
+    /**
+     * Returns the end (exclusive) of the {@code BudgetInterval} starting at {@code intervalStart}.
+     */
+    private LocalDateTime getIntervalEnd(BudgetInterval interval, LocalDateTime intervalStart) {
+        switch (interval) {
+        case DAY:
+            return intervalStart.plusDays(1);
+        case WEEK:
+            return intervalStart.plusWeeks(1);
+        case MONTH:
+            return intervalStart.plusMonths(1);
         default:
             return null;
         }
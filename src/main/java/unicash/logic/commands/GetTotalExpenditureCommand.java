@@ -2,7 +2,14 @@ package unicash.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDateTime;
 import java.time.Month;
+import java.time.Year;
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import unicash.commons.enums.CommandType;
 import unicash.commons.enums.TransactionType;
@@ -12,6 +19,7 @@ import unicash.logic.UniCashMessages;
 import unicash.logic.commands.exceptions.CommandException;
 import unicash.model.Model;
 import unicash.model.category.Category;
+import unicash.model.transaction.ExpenseSummary;
 import unicash.model.transaction.Transaction;
 
 /**
@@ -51,12 +59,17 @@ public class GetTotalExpenditureCommand extends Command {
             throw new CommandException(UniCashMessages.MESSAGE_INVALID_YEAR);
         }
 
-        model.updateFilteredTransactionList(this::isMatchingTransaction);
-        var filteredList = model.getFilteredTransactionList();
+        List<Transaction> matchingTransactions = getMatchingTransactions(model);
 
-        double totalExpenditure = filteredList
+        // Matched by ID so that the filter does not re-check every transaction in UniCash
+        Set<Long> matchingIds = matchingTransactions
                 .stream()
-                .reduce(0.0, (acc, cur) -> acc + cur.getAmount().amount, Double::sum);
+                .map(Transaction::getId)
+                .collect(Collectors.toSet());
+        model.updateFilteredTransactionList(transaction -> matchingIds.contains(transaction.getId()));
+
+        // Summed in exact cents, and converted to dollars only for display
+        double totalExpenditure = ExpenseSummary.sumOfExpensesInCents(matchingTransactions) / 100.0;
 
         String monthString = StringUtil.capitalizeString(Month.of(month).name());
 
@@ -75,29 +88,29 @@ public class GetTotalExpenditureCommand extends Command {
         );
     }
 
-    private boolean isMatchingTransaction(Transaction transaction) {
-        boolean isExpense = transaction.getType().type.equals(TransactionType.EXPENSE);
-
-        var dateTime = transaction.getDateTime().getDateTime();
-        boolean isSameMonth = dateTime.getMonthValue() == month;
-        boolean isSameYear = dateTime.getYear() == year;
-        boolean isSameDateFields = isSameMonth && isSameYear;
-
-        if (categoryFilter == null) {
-            // No category filter so just get all expenses of the month
-            return isExpense && isSameDateFields;
+    /**
+     * Returns the expenses in the given month and year that match the category filter, if any.
+     * Only the transactions dated within the month, and in the category if there is a filter,
+     * are examined.
+     */
+    private List<Transaction> getMatchingTransactions(Model model) {
+        if (year >= Year.MAX_VALUE) {
+            // No transaction can be dated in or after the last supported year
+            return Collections.emptyList();
         }
 
-        // If category filter exists and expense contains no category, it will not have the category
-        // Note: If the stream is empty then false is returned and the predicate is not evaluated.
+        LocalDateTime startOfMonth = YearMonth.of(year, month).atDay(1).atStartOfDay();
+        LocalDateTime startOfNextMonth = startOfMonth.plusMonths(1);
+
         // Case insensitivity is handled by the creation of Category objects
-        boolean hasCategory = transaction
-                .getCategories()
-                .asUnmodifiableObservableList()
-                .stream()
-                .anyMatch(cat -> cat.equals(categoryFilter));
+        List<Transaction> transactionsInMonth = categoryFilter == null
+                ? model.getTransactionsBetween(startOfMonth, startOfNextMonth)
+                : model.getTransactionsBetween(categoryFilter, startOfMonth, startOfNextMonth);
 
-        return isExpense && isSameDateFields && hasCategory;
+        return transactionsInMonth
+                .stream()
+                .filter(transaction -> transaction.getType().type == TransactionType.EXPENSE)
+                .collect(Collectors.toList());
     }
 
     @Override
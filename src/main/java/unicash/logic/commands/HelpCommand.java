@@ -52,9 +52,21 @@ public class HelpCommand extends Command {
         case DELETE_TRANSACTION:
             return new CommandResult(DeleteTransactionCommand.MESSAGE_USAGE);
 
+        case EDIT_TRANSACTIONS:
+            return new CommandResult(EditTransactionsCommand.MESSAGE_USAGE);
+
+        case DELETE_TRANSACTIONS:
+            return new CommandResult(DeleteTransactionsCommand.MESSAGE_USAGE);
+
         case GET_TOTAL_EXPENDITURE:
             return new CommandResult(GetTotalExpenditureCommand.MESSAGE_USAGE);
 
+        case IMPORT:
+            return new CommandResult(ImportCommand.MESSAGE_USAGE);
+
+        case EXPORT:
+            return new CommandResult(ExportCommand.MESSAGE_USAGE);
+
         case CLEAR_TRANSACTIONS:
             return new CommandResult(ClearTransactionsCommand.MESSAGE_USAGE);
 
@@ -0,0 +1,263 @@
+package unicash.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static unicash.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import unicash.commons.core.LogsCenter;
+import unicash.commons.enums.CommandType;
+import unicash.commons.util.CsvReader;
+import unicash.commons.util.ToStringBuilder;
+import unicash.logic.commands.exceptions.CommandException;
+import unicash.logic.parser.ParserUtil;
+import unicash.logic.parser.exceptions.ParseException;
+import unicash.model.Model;
+import unicash.model.category.UniqueCategoryList;
+import unicash.model.commons.Amount;
+import unicash.model.transaction.DateTime;
+import unicash.model.transaction.Location;
+import unicash.model.transaction.Name;
+import unicash.model.transaction.Transaction;
+import unicash.model.transaction.TransactionList;
+import unicash.model.transaction.Type;
+import unicash.model.transaction.exceptions.MaxTransactionException;
+
+/**
+ * Imports the transactions in a CSV file into UniCash.
+ *
+ * <p>The file is read one row at a time, and each row is validated as the fields of an
+ * {@link AddTransactionCommand} would be. Rows that are invalid are reported with their line numbers, and rows
+ * equal to an existing transaction, or to an earlier row, are skipped. The remaining rows are then added
+ * together as a single change to the transaction list, so the list is only updated, and the data only saved,
+ * once however many rows are imported.</p>
+ */
+public class ImportCommand extends Command {
+    public static final String COMMAND_WORD = CommandType.IMPORT.getCommandWords();
+
+    public static final String MESSAGE_USAGE = CommandType.IMPORT.getMessageUsage();
+
+    public static final String MESSAGE_SUCCESS = CommandType.IMPORT.getMessageSuccess();
+
+    public static final String MESSAGE_FILE_NOT_READ = "Could not read %1$s: %2$s";
+    public static final String MESSAGE_NO_HEADER = "%1$s is empty. Its first row must name its columns.";
+    public static final String MESSAGE_MISSING_COLUMN = "%1$s has no column named \"%2$s\".";
+    public static final String MESSAGE_ROWS_NOT_IMPORTED = "%1$d rows could not be imported:";
+    public static final String MESSAGE_ROW_ERROR = "Line %1$d: %2$s";
+    public static final String MESSAGE_MORE_ROW_ERRORS = "... and %1$d more.";
+    public static final String MESSAGE_MISSING_FIELD = "Row has no field for column \"%1$s\".";
+
+    /** The greatest number of invalid rows whose errors are listed in the feedback. */
+    public static final int MAX_REPORTED_ROW_ERRORS = 20;
+
+    private static final Logger logger = LogsCenter.getLogger(ImportCommand.class);
+
+    /**
+     * The fields of a transaction that are read from the columns of the file.
+     */
+    public enum Column {
+        NAME("name", true),
+        TYPE("type", true),
+        AMOUNT("amount", true),
+        DATETIME("datetime", false),
+        LOCATION("location", false),
+        CATEGORY("category", false);
+
+        private final String defaultHeader;
+        private final boolean isRequired;
+
+        Column(String defaultHeader, boolean isRequired) {
+            this.defaultHeader = defaultHeader;
+            this.isRequired = isRequired;
+        }
+
+        public String getDefaultHeader() {
+            return defaultHeader;
+        }
+    }
+
+    private final Path filePath;
+    private final Map<Column, String> columnHeaders;
+
+    /**
+     * Creates an ImportCommand to import the transactions in the file at {@code filePath}, reading each field
+     * from the column named in {@code columnHeaders}, or from the column with its default name if it is not
+     * named there.
+     */
+    public ImportCommand(Path filePath, Map<Column, String> columnHeaders) {
+        requireAllNonNull(filePath, columnHeaders);
+        this.filePath = filePath;
+        this.columnHeaders = columnHeaders.isEmpty()
+                ? Collections.emptyMap()
+                : Collections.unmodifiableMap(new EnumMap<>(columnHeaders));
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        List<Transaction> toAdd = new ArrayList<>();
+        Set<Transaction> rowsRead = new HashSet<>();
+        List<String> rowErrors = new ArrayList<>();
+        int rowErrorCount = 0;
+        int duplicateCount = 0;
+
+        try (CsvReader csvReader = new CsvReader(Files.newBufferedReader(filePath, StandardCharsets.UTF_8))) {
+            List<String> header = csvReader.readRecord();
+            if (header == null) {
+                throw new CommandException(String.format(MESSAGE_NO_HEADER, filePath));
+            }
+            int[] columnIndexes = findColumns(header);
+
+            List<String> row;
+            while ((row = csvReader.readRecord()) != null) {
+                if (isBlank(row)) {
+                    continue;
+                }
+
+                try {
+                    Transaction transaction = parseTransaction(row, columnIndexes);
+                    if (model.hasTransaction(transaction) || !rowsRead.add(transaction)) {
+                        duplicateCount++;
+                    } else {
+                        toAdd.add(transaction);
+                    }
+                } catch (ParseException e) {
+                    rowErrorCount++;
+                    if (rowErrors.size() < MAX_REPORTED_ROW_ERRORS) {
+                        rowErrors.add(String.format(MESSAGE_ROW_ERROR, csvReader.getRecordLineNumber(),
+                                e.getMessage()));
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_READ, filePath, e.getMessage()), e);
+        }
+
+        if (!toAdd.isEmpty()) {
+            try {
+                model.addTransactions(toAdd);
+            } catch (MaxTransactionException e) {
+                throw new CommandException(TransactionList.MESSAGE_SIZE_CONSTRAINTS);
+            }
+        }
+        logger.info("Imported " + toAdd.size() + " transactions from " + filePath + ", skipping "
+                + duplicateCount + " duplicates and " + rowErrorCount + " invalid rows");
+
+        StringBuilder feedback = new StringBuilder(
+                String.format(MESSAGE_SUCCESS, toAdd.size(), filePath, duplicateCount));
+        if (rowErrorCount > 0) {
+            feedback.append("\n\n").append(String.format(MESSAGE_ROWS_NOT_IMPORTED, rowErrorCount));
+            rowErrors.forEach(rowError -> feedback.append('\n').append(rowError));
+            if (rowErrorCount > rowErrors.size()) {
+                feedback.append('\n').append(String.format(MESSAGE_MORE_ROW_ERRORS,
+                        rowErrorCount - rowErrors.size()));
+            }
+        }
+        return new CommandResult(feedback.toString());
+    }
+
+    /**
+     * Returns the position in {@code header} of the column of each field, in the order of {@link Column},
+     * or -1 for an optional field whose column is absent. Column names are matched ignoring case.
+     *
+     * @throws CommandException if a required column, or a column that was named explicitly, is absent.
+     */
+    private int[] findColumns(List<String> header) throws CommandException {
+        int[] columnIndexes = new int[Column.values().length];
+        for (Column column : Column.values()) {
+            String columnHeader = columnHeaders.getOrDefault(column, column.defaultHeader);
+            int columnIndex = -1;
+            for (int i = 0; i < header.size(); i++) {
+                if (header.get(i).trim().equalsIgnoreCase(columnHeader)) {
+                    columnIndex = i;
+                    break;
+                }
+            }
+
+            if (columnIndex == -1 && (column.isRequired || columnHeaders.containsKey(column))) {
+                throw new CommandException(String.format(MESSAGE_MISSING_COLUMN, filePath, columnHeader));
+            }
+            columnIndexes[column.ordinal()] = columnIndex;
+        }
+        return columnIndexes;
+    }
+
+    /**
+     * Parses {@code row} into a {@code Transaction}, reading each field from its column.
+     *
+     * @throws ParseException if a field is missing or invalid.
+     */
+    private Transaction parseTransaction(List<String> row, int[] columnIndexes) throws ParseException {
+        Name name = ParserUtil.parseTransactionName(getField(row, columnIndexes, Column.NAME));
+        Type type = ParserUtil.parseType(getField(row, columnIndexes, Column.TYPE));
+        Amount amount = ParserUtil.parseAmount(getField(row, columnIndexes, Column.AMOUNT));
+        DateTime dateTime = ParserUtil.parseDateTime(getField(row, columnIndexes, Column.DATETIME));
+        Location location = ParserUtil.parseLocation(getField(row, columnIndexes, Column.LOCATION));
+
+        String categories = getField(row, columnIndexes, Column.CATEGORY).trim();
+        UniqueCategoryList categoryList = ParserUtil.parseCategories(categories.isEmpty()
+                ? Collections.emptyList()
+                : Arrays.asList(categories.split("\\s+")));
+
+        return new Transaction(name, type, amount, dateTime, location, categoryList);
+    }
+
+    /**
+     * Returns the field of {@code row} in the column of {@code column}, or an empty string if its column
+     * is absent from the file.
+     *
+     * @throws ParseException if the row is too short to have a field in that column.
+     */
+    private String getField(List<String> row, int[] columnIndexes, Column column) throws ParseException {
+        int columnIndex = columnIndexes[column.ordinal()];
+        if (columnIndex == -1) {
+            return "";
+        }
+        if (columnIndex >= row.size()) {
+            throw new ParseException(String.format(MESSAGE_MISSING_FIELD,
+                    columnHeaders.getOrDefault(column, column.defaultHeader)));
+        }
+        return row.get(columnIndex);
+    }
+
+    private static boolean isBlank(List<String> row) {
+        return row.stream().allMatch(String::isBlank);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherCommand = (ImportCommand) other;
+        return filePath.equals(otherCommand.filePath)
+                && columnHeaders.equals(otherCommand.columnHeaders);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .add("columnHeaders", columnHeaders)
+                .toString();
+    }
+}
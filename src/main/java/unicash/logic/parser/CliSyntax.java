@@ -15,4 +15,6 @@ public class CliSyntax {
     public static final Prefix PREFIX_MONTH = new Prefix("month/");
     public static final Prefix PREFIX_YEAR = new Prefix("year/");
     public static final Prefix PREFIX_INTERVAL = new Prefix("interval/");
+    public static final Prefix PREFIX_FORMAT = new Prefix("format/");
+    public static final Prefix PREFIX_SCOPE = new Prefix("scope/");
 }
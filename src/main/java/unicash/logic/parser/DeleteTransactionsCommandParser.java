@@ -0,0 +1,29 @@
+package unicash.logic.parser;
+
+import static unicash.logic.UniCashMessages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import unicash.commons.core.index.IndexRange;
+import unicash.logic.commands.DeleteTransactionsCommand;
+import unicash.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new DeleteTransactionsCommand object
+ */
+public class DeleteTransactionsCommandParser implements Parser<DeleteTransactionsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the
+     * DeleteTransactionsCommand and returns a DeleteTransactionsCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public DeleteTransactionsCommand parse(String args) throws ParseException {
+        try {
+            IndexRange indexRange = ParserUtil.parseIndexRange(args);
+            return new DeleteTransactionsCommand(indexRange);
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteTransactionsCommand.MESSAGE_USAGE), pe);
+        }
+    }
+}
@@ -44,6 +44,23 @@ public class EditTransactionCommandParser implements Parser<EditTransactionComma
                     EditTransactionCommand.MESSAGE_USAGE), pe);
         }
 
+        EditTransactionCommand.EditTransactionDescriptor editTransactionDescriptor =
+                parseEditTransactionDescriptor(argMultimap);
+        if (!editTransactionDescriptor.isAnyFieldEdited()) {
+            throw new ParseException(EditTransactionCommand.MESSAGE_NOT_EDITED);
+        }
+
+        return new EditTransactionCommand(index, editTransactionDescriptor);
+    }
+
+    /**
+     * Parses the fields to edit in {@code argMultimap}, tokenized with the prefixes of every field, into an
+     * {@code EditTransactionDescriptor}, which may have no field edited.
+     *
+     * @throws ParseException if a field is given more than once, or is invalid.
+     */
+    static EditTransactionCommand.EditTransactionDescriptor parseEditTransactionDescriptor(
+            ArgumentMultimap argMultimap) throws ParseException {
         argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_TYPE, PREFIX_AMOUNT, PREFIX_DATETIME,
                 PREFIX_LOCATION);
 
@@ -79,11 +96,7 @@ public class EditTransactionCommandParser implements Parser<EditTransactionComma
         parseCategoriesForEdit(argMultimap.getAllValues(PREFIX_CATEGORY))
                 .ifPresent(editTransactionDescriptor::setCategories);
 
-        if (!editTransactionDescriptor.isAnyFieldEdited()) {
-            throw new ParseException(EditTransactionCommand.MESSAGE_NOT_EDITED);
-        }
-
-        return new EditTransactionCommand(index, editTransactionDescriptor);
+        return editTransactionDescriptor;
     }
 
     /**
@@ -91,7 +104,8 @@ public class EditTransactionCommandParser implements Parser<EditTransactionComma
      * If {@code categories} contain only one element which is an empty string, it will be parsed into a
      * {@code Set<Category>} containing zero categories.
      */
-    private Optional<UniqueCategoryList> parseCategoriesForEdit(Collection<String> categories) throws ParseException {
+    private static Optional<UniqueCategoryList> parseCategoriesForEdit(Collection<String> categories)
+            throws ParseException {
         requireNonNull(categories);
 
         if (categories.isEmpty()) {
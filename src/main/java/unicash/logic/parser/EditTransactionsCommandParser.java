@@ -0,0 +1,51 @@
+package unicash.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static unicash.logic.UniCashMessages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static unicash.logic.parser.CliSyntax.PREFIX_AMOUNT;
+import static unicash.logic.parser.CliSyntax.PREFIX_CATEGORY;
+import static unicash.logic.parser.CliSyntax.PREFIX_DATETIME;
+import static unicash.logic.parser.CliSyntax.PREFIX_LOCATION;
+import static unicash.logic.parser.CliSyntax.PREFIX_NAME;
+import static unicash.logic.parser.CliSyntax.PREFIX_TYPE;
+
+import unicash.commons.core.index.IndexRange;
+import unicash.logic.commands.EditTransactionCommand.EditTransactionDescriptor;
+import unicash.logic.commands.EditTransactionsCommand;
+import unicash.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new EditTransactionsCommand object
+ */
+public class EditTransactionsCommandParser implements Parser<EditTransactionsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the EditTransactionsCommand
+     * and returns an EditTransactionsCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public EditTransactionsCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_TYPE, PREFIX_AMOUNT, PREFIX_DATETIME,
+                        PREFIX_CATEGORY, PREFIX_LOCATION);
+
+        IndexRange indexRange;
+
+        try {
+            indexRange = ParserUtil.parseIndexRange(argMultimap.getPreamble());
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    EditTransactionsCommand.MESSAGE_USAGE), pe);
+        }
+
+        EditTransactionDescriptor editTransactionDescriptor =
+                EditTransactionCommandParser.parseEditTransactionDescriptor(argMultimap);
+        if (!editTransactionDescriptor.isAnyFieldEdited()) {
+            throw new ParseException(EditTransactionsCommand.MESSAGE_NOT_EDITED);
+        }
+
+        return new EditTransactionsCommand(indexRange, editTransactionDescriptor);
+    }
+}
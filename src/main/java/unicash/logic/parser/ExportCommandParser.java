@@ -0,0 +1,64 @@
+package unicash.logic.parser;
+
+import static unicash.logic.UniCashMessages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static unicash.logic.parser.CliSyntax.PREFIX_FORMAT;
+import static unicash.logic.parser.CliSyntax.PREFIX_SCOPE;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import unicash.logic.commands.ExportCommand;
+import unicash.logic.commands.ExportCommand.Format;
+import unicash.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ExportCommand object
+ */
+public class ExportCommandParser implements Parser<ExportCommand> {
+
+    public static final String SCOPE_SHOWN = "shown";
+    public static final String SCOPE_ALL = "all";
+
+    public static final String MESSAGE_INVALID_FILE_PATH = "File path is invalid: %1$s";
+    public static final String MESSAGE_INVALID_FORMAT = "Format should be csv or ndjson.";
+    public static final String MESSAGE_INVALID_SCOPE =
+            "Scope should be " + SCOPE_SHOWN + " or " + SCOPE_ALL + ".";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportCommand
+     * and returns an ExportCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ExportCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FORMAT, PREFIX_SCOPE);
+
+        String filePathString = argMultimap.getPreamble();
+        if (filePathString.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FORMAT, PREFIX_SCOPE);
+
+        Path filePath;
+        try {
+            filePath = Paths.get(filePathString);
+        } catch (InvalidPathException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_FILE_PATH, filePathString), e);
+        }
+
+        Optional<String> formatName = argMultimap.getValue(PREFIX_FORMAT);
+        Format format = formatName.isPresent()
+                ? Format.fromName(formatName.get()).orElseThrow(() -> new ParseException(MESSAGE_INVALID_FORMAT))
+                : Format.ofFile(filePath);
+
+        String scope = argMultimap.getValue(PREFIX_SCOPE).orElse(SCOPE_SHOWN);
+        if (!scope.equalsIgnoreCase(SCOPE_SHOWN) && !scope.equalsIgnoreCase(SCOPE_ALL)) {
+            throw new ParseException(MESSAGE_INVALID_SCOPE);
+        }
+
+        return new ExportCommand(filePath, format, scope.equalsIgnoreCase(SCOPE_ALL));
+    }
+}
@@ -0,0 +1,81 @@
+package unicash.logic.parser;
+
+import static unicash.logic.UniCashMessages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static unicash.logic.parser.CliSyntax.PREFIX_AMOUNT;
+import static unicash.logic.parser.CliSyntax.PREFIX_CATEGORY;
+import static unicash.logic.parser.CliSyntax.PREFIX_DATETIME;
+import static unicash.logic.parser.CliSyntax.PREFIX_LOCATION;
+import static unicash.logic.parser.CliSyntax.PREFIX_NAME;
+import static unicash.logic.parser.CliSyntax.PREFIX_TYPE;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+
+import unicash.logic.commands.ImportCommand;
+import unicash.logic.commands.ImportCommand.Column;
+import unicash.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ImportCommand object
+ */
+public class ImportCommandParser implements Parser<ImportCommand> {
+
+    public static final String MESSAGE_INVALID_FILE_PATH = "File path is invalid: %1$s";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ImportCommand
+     * and returns an ImportCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ImportCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap =
+                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_TYPE, PREFIX_AMOUNT, PREFIX_DATETIME,
+                        PREFIX_LOCATION, PREFIX_CATEGORY);
+
+        String filePathString = argMultimap.getPreamble();
+        if (filePathString.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_TYPE, PREFIX_AMOUNT, PREFIX_DATETIME,
+                PREFIX_LOCATION, PREFIX_CATEGORY);
+
+        Path filePath;
+        try {
+            filePath = Paths.get(filePathString);
+        } catch (InvalidPathException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_FILE_PATH, filePathString), e);
+        }
+
+        Map<Column, String> columnHeaders = new EnumMap<>(Column.class);
+        putColumnHeader(columnHeaders, Column.NAME, argMultimap.getValue(PREFIX_NAME));
+        putColumnHeader(columnHeaders, Column.TYPE, argMultimap.getValue(PREFIX_TYPE));
+        putColumnHeader(columnHeaders, Column.AMOUNT, argMultimap.getValue(PREFIX_AMOUNT));
+        putColumnHeader(columnHeaders, Column.DATETIME, argMultimap.getValue(PREFIX_DATETIME));
+        putColumnHeader(columnHeaders, Column.LOCATION, argMultimap.getValue(PREFIX_LOCATION));
+        putColumnHeader(columnHeaders, Column.CATEGORY, argMultimap.getValue(PREFIX_CATEGORY));
+
+        return new ImportCommand(filePath, columnHeaders);
+    }
+
+    /**
+     * Puts the column name given for {@code column}, if any, into {@code columnHeaders}.
+     *
+     * @throws ParseException if the column name given is empty.
+     */
+    private static void putColumnHeader(Map<Column, String> columnHeaders, Column column,
+            Optional<String> columnHeader) throws ParseException {
+        if (columnHeader.isEmpty()) {
+            return;
+        }
+        if (columnHeader.get().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+        }
+        columnHeaders.put(column, columnHeader.get());
+    }
+}
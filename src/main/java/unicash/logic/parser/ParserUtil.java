@@ -7,6 +7,7 @@ import java.util.Collection;
 import java.util.List;
 
 import unicash.commons.core.index.Index;
+import unicash.commons.core.index.IndexRange;
 import unicash.commons.util.StringUtil;
 import unicash.logic.parser.exceptions.ParseException;
 import unicash.model.budget.Interval;
@@ -24,6 +25,10 @@ import unicash.model.transaction.Type;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String INDEX_RANGE_ALL = "all";
+    public static final String MESSAGE_INVALID_INDEX_RANGE =
+            "Index range should be an index, two indexes START-END with END not before START, or "
+                    + INDEX_RANGE_ALL + ".";
 
     private ParserUtil() {
 
@@ -43,6 +48,34 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses {@code indexRange} into an {@code IndexRange} and returns it. The range is either a single one-based
+     * index, two one-based indexes separated by a hyphen, or {@link #INDEX_RANGE_ALL} (case-insensitive) for
+     * every index. Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the specified index range is invalid.
+     */
+    public static IndexRange parseIndexRange(String indexRange) throws ParseException {
+        requireNonNull(indexRange);
+        String trimmedIndexRange = indexRange.trim();
+        if (trimmedIndexRange.equalsIgnoreCase(INDEX_RANGE_ALL)) {
+            return IndexRange.all();
+        }
+
+        int separatorIndex = trimmedIndexRange.indexOf('-');
+        if (separatorIndex == -1) {
+            Index index = parseIndex(trimmedIndexRange);
+            return IndexRange.between(index, index);
+        }
+
+        Index first = parseIndex(trimmedIndexRange.substring(0, separatorIndex));
+        Index last = parseIndex(trimmedIndexRange.substring(separatorIndex + 1));
+        if (last.getZeroBased() < first.getZeroBased()) {
+            throw new ParseException(MESSAGE_INVALID_INDEX_RANGE);
+        }
+        return IndexRange.between(first, last);
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
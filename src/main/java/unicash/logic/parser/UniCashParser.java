@@ -66,9 +66,21 @@ public class UniCashParser {
         case DELETE_TRANSACTION:
             return new DeleteTransactionCommandParser().parse(arguments);
 
+        case EDIT_TRANSACTIONS:
+            return new EditTransactionsCommandParser().parse(arguments);
+
+        case DELETE_TRANSACTIONS:
+            return new DeleteTransactionsCommandParser().parse(arguments);
+
         case GET_TOTAL_EXPENDITURE:
             return new GetTotalExpenditureCommandParser().parse(arguments);
 
+        case IMPORT:
+            return new ImportCommandParser().parse(arguments);
+
+        case EXPORT:
+            return new ExportCommandParser().parse(arguments);
+
         case CLEAR_TRANSACTIONS:
             return new ClearTransactionsCommandParser().parse(arguments);
 
@@ -1,13 +1,16 @@
 package unicash.model;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.util.HashMap;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import unicash.commons.core.GuiSettings;
 import unicash.model.budget.Budget;
+import unicash.model.category.Category;
 import unicash.model.transaction.Transaction;
 
 /**
@@ -51,6 +54,13 @@ public interface Model {
      */
     void setTransaction(Transaction target, Transaction editedTransaction);
 
+    /**
+     * Replaces each of the given transactions {@code targets} with the transaction at the same position of
+     * {@code editedTransactions}, as a single change to the transaction list.
+     * Every target must exist in the transaction list, or none of them are replaced.
+     */
+    void replaceTransactions(List<Transaction> targets, List<Transaction> editedTransactions);
+
     /**
      * Returns the user prefs' UniCash file path.
      */
@@ -71,17 +81,36 @@ public interface Model {
      */
     ReadOnlyUniCash getUniCash();
 
+    /**
+     * Returns the version of the UniCash data, which increases whenever the data is changed.
+     */
+    long getUniCashVersion();
+
     /**
      * Deletes the given transaction.
      * The transaction must exist in UniCash.
      */
     void deleteTransaction(Transaction target);
 
+    /**
+     * Deletes all of the given transactions, as a single change to the transaction list.
+     * Every transaction must exist in UniCash, or none of them are deleted.
+     */
+    void deleteTransactions(List<Transaction> targets);
+
     /**
      * Adds the given transaction.
      */
     void addTransaction(Transaction transaction);
 
+    /**
+     * Adds all of the given transactions, as a single change to the transaction list.
+     * Either all of them are added, or none if there is no room for them all.
+     *
+     * @throws unicash.model.transaction.exceptions.MaxTransactionException if there is no room for them all.
+     */
+    void addTransactions(List<Transaction> transactions);
+
     /**
      * Returns true if UniCash has reached its full transaction capacity.
      */
@@ -97,6 +126,36 @@ public interface Model {
      */
     ObservableList<Transaction> getFilteredTransactionList();
 
+    /**
+     * Returns the transactions in UniCash, regardless of the current filter, dated from {@code start}
+     * (inclusive) to {@code end} (exclusive), in chronological order.
+     */
+    List<Transaction> getTransactionsBetween(LocalDateTime start, LocalDateTime end);
+
+    /**
+     * Returns the transactions in UniCash, regardless of the current filter, in {@code category} and dated
+     * from {@code start} (inclusive) to {@code end} (exclusive), in chronological order.
+     */
+    List<Transaction> getTransactionsBetween(Category category, LocalDateTime start, LocalDateTime end);
+
+    /**
+     * Returns a test of whether a transaction name contains {@code keyword}, ignoring case, which is
+     * quicker than searching the name for the names of the transactions in UniCash.
+     */
+    Predicate<String> getTransactionNameMatcher(String keyword);
+
+    /**
+     * Returns a test of whether a transaction location contains {@code keyword}, ignoring case, which is
+     * quicker than searching the location for the locations of the transactions in UniCash.
+     */
+    Predicate<String> getTransactionLocationMatcher(String keyword);
+
+    /**
+     * Returns a test of whether a transaction category contains {@code keyword}, ignoring case, which is
+     * quicker than searching the category for the categories of the transactions in UniCash.
+     */
+    Predicate<Category> getTransactionCategoryMatcher(String keyword);
+
     /**
      * Updates the filter of the filtered UniCash to filter by the given {@code predicate}.
      *
@@ -4,8 +4,10 @@ import static java.util.Objects.requireNonNull;
 import static unicash.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.util.HashMap;
+import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -14,7 +16,9 @@ import javafx.collections.transformation.FilteredList;
 import unicash.commons.core.GuiSettings;
 import unicash.commons.core.LogsCenter;
 import unicash.model.budget.Budget;
+import unicash.model.category.Category;
 import unicash.model.transaction.Transaction;
+import unicash.model.transaction.TransactionList;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -43,6 +47,16 @@ public class ModelManager implements Model {
         this(new UniCash(), new UserPrefs());
     }
 
+    /**
+     * Initializes an empty ModelManager that holds up to {@code maxTransactions} transactions, so that
+     * the limit can be exercised without filling it to {@link TransactionList#MAX_TRANSACTIONS}.
+     */
+    ModelManager(int maxTransactions) {
+        userPrefs = new UserPrefs();
+        uniCash = new UniCash(maxTransactions);
+        filteredTransactions = new FilteredList<>(uniCash.getTransactionList());
+    }
+
     //=========== UserPrefs ==================================================================================
 
     @Override
@@ -90,11 +104,22 @@ public class ModelManager implements Model {
         uniCash.setTransaction(target, editedTransaction);
     }
 
+    @Override
+    public void replaceTransactions(List<Transaction> targets, List<Transaction> editedTransactions) {
+        requireAllNonNull(targets, editedTransactions);
+        uniCash.replaceTransactions(targets, editedTransactions);
+    }
+
     @Override
     public ReadOnlyUniCash getUniCash() {
         return uniCash;
     }
 
+    @Override
+    public long getUniCashVersion() {
+        return uniCash.getVersion();
+    }
+
     @Override
     public boolean hasTransaction(Transaction transaction) {
         requireNonNull(transaction);
@@ -106,12 +131,25 @@ public class ModelManager implements Model {
         uniCash.removeTransaction(target);
     }
 
+    @Override
+    public void deleteTransactions(List<Transaction> targets) {
+        requireNonNull(targets);
+        uniCash.removeTransactions(targets);
+    }
+
     @Override
     public void addTransaction(Transaction transaction) {
         uniCash.addTransaction(transaction);
         updateFilteredTransactionList(PREDICATE_SHOW_ALL_TRANSACTIONS);
     }
 
+    @Override
+    public void addTransactions(List<Transaction> transactions) {
+        requireNonNull(transactions);
+        uniCash.addTransactions(transactions);
+        updateFilteredTransactionList(PREDICATE_SHOW_ALL_TRANSACTIONS);
+    }
+
     @Override
     public boolean isFull() {
         return uniCash.isFull();
@@ -143,6 +181,36 @@ public class ModelManager implements Model {
         return filteredTransactions;
     }
 
+    @Override
+    public List<Transaction> getTransactionsBetween(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        return uniCash.getTransactionsBetween(start, end);
+    }
+
+    @Override
+    public List<Transaction> getTransactionsBetween(Category category, LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(category, start, end);
+        return uniCash.getTransactionsBetween(category, start, end);
+    }
+
+    @Override
+    public Predicate<String> getTransactionNameMatcher(String keyword) {
+        requireNonNull(keyword);
+        return uniCash.getTransactionNameMatcher(keyword);
+    }
+
+    @Override
+    public Predicate<String> getTransactionLocationMatcher(String keyword) {
+        requireNonNull(keyword);
+        return uniCash.getTransactionLocationMatcher(keyword);
+    }
+
+    @Override
+    public Predicate<Category> getTransactionCategoryMatcher(String keyword) {
+        requireNonNull(keyword);
+        return uniCash.getTransactionCategoryMatcher(keyword);
+    }
+
     @Override
     public void updateFilteredTransactionList(Predicate<Transaction> predicate) {
         requireNonNull(predicate);
@@ -1,5 +1,8 @@
 package unicash.model;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 import javafx.collections.ObservableList;
 import unicash.model.budget.Budget;
 import unicash.model.transaction.Transaction;
@@ -14,6 +17,12 @@ public interface ReadOnlyUniCash {
      */
     ObservableList<Transaction> getTransactionList();
 
+    /**
+     * Returns the transactions dated from {@code start} (inclusive) to {@code end} (exclusive),
+     * in chronological order.
+     */
+    List<Transaction> getTransactionsBetween(LocalDateTime start, LocalDateTime end);
+
     /**
      * Returns an unmodifiable view of the budget.
      */
@@ -2,17 +2,18 @@ package unicash.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
-import unicash.commons.enums.TransactionType;
 import unicash.commons.util.ToStringBuilder;
 import unicash.model.budget.Budget;
 import unicash.model.category.Category;
+import unicash.model.transaction.ExpenseSummary;
 import unicash.model.transaction.Transaction;
 import unicash.model.transaction.TransactionList;
 
@@ -22,13 +23,24 @@ import unicash.model.transaction.TransactionList;
 public class UniCash implements ReadOnlyUniCash {
 
     private final TransactionList transactions;
+    private final ExpenseSummary expenseSummary;
     private Budget budget;
+    private long version = 0;
 
     /**
      * Creates UniCash instance with starting values of {@code TransactionList} and {@code Budget}.
      */
     public UniCash() {
-        transactions = new TransactionList();
+        this(TransactionList.MAX_TRANSACTIONS);
+    }
+
+    /**
+     * Creates UniCash instance that holds up to {@code maxTransactions} transactions, so that the limit
+     * can be exercised without filling it to {@link TransactionList#MAX_TRANSACTIONS}.
+     */
+    UniCash(int maxTransactions) {
+        transactions = new TransactionList(maxTransactions);
+        expenseSummary = new ExpenseSummary(transactions.asUnmodifiableObservableList());
         // Null budget is equivalent to having no budget
         budget = null;
     }
@@ -51,6 +63,7 @@ public class UniCash implements ReadOnlyUniCash {
      */
     public void setTransactions(List<Transaction> transactions) {
         this.transactions.setTransactions(transactions);
+        version++;
     }
 
     /**
@@ -75,11 +88,27 @@ public class UniCash implements ReadOnlyUniCash {
         return transactions.contains(transaction);
     }
 
+    /**
+     * Returns true if a Transaction with the given {@code id} exists in UniCash.
+     */
+    public boolean hasTransactionWithId(long id) {
+        return transactions.hasTransactionWithId(id);
+    }
+
     /**
      * Adds a transaction to UniCash
      */
     public void addTransaction(Transaction p) {
         transactions.add(p);
+        version++;
+    }
+
+    /**
+     * Adds all of {@code transactions} to UniCash, as a single change to the transaction list.
+     */
+    public void addTransactions(List<Transaction> transactions) {
+        this.transactions.addAll(transactions);
+        version++;
     }
 
     /**
@@ -95,6 +124,16 @@ public class UniCash implements ReadOnlyUniCash {
     public void setTransaction(Transaction target, Transaction editedTransaction) {
         requireNonNull(editedTransaction);
         transactions.setTransaction(target, editedTransaction);
+        version++;
+    }
+
+    /**
+     * Replaces each Transaction in {@code targets} with the Transaction at the same position of
+     * {@code editedTransactions}, as a single change to the transaction list.
+     */
+    public void replaceTransactions(List<Transaction> targets, List<Transaction> editedTransactions) {
+        transactions.replaceTransactions(targets, editedTransactions);
+        version++;
     }
 
     /**
@@ -103,20 +142,23 @@ public class UniCash implements ReadOnlyUniCash {
      */
     public void removeTransaction(Transaction key) {
         transactions.remove(key);
+        version++;
     }
 
-    private List<Transaction> getAllExpenses() {
-        return getTransactionList()
-                .stream()
-                .filter(t -> t.getType().toString().equals(TransactionType.EXPENSE.getOriginalString()))
-                .collect(Collectors.toUnmodifiableList());
+    /**
+     * Removes all of {@code keys} from this {@code UniCash}, as a single change to the transaction list.
+     * Each of {@code keys} must exist in UniCash.
+     */
+    public void removeTransactions(List<Transaction> keys) {
+        transactions.removeAll(keys);
+        version++;
     }
 
     /**
      * Returns true if there are transactions of type "expense", and false otherwise
      */
     public boolean hasExpenses() {
-        return !getAllExpenses().isEmpty();
+        return expenseSummary.hasExpenses();
     }
 
     /**
@@ -124,19 +166,7 @@ public class UniCash implements ReadOnlyUniCash {
      * Note: This function ignores all 'income' transactions
      */
     public HashMap<YearMonth, Double> getSumOfExpensePerYearMonth() {
-        HashMap<YearMonth, Double> sumPerMonth = new HashMap<>();
-        List<Transaction> allExpenses = getAllExpenses();
-
-        for (Transaction t : allExpenses) {
-            Double transactionAmount = t.getAmountAsDouble();
-            YearMonth yearMonth = t.getDateTime().getYearMonth();
-            if (!sumPerMonth.containsKey(yearMonth)) {
-                sumPerMonth.put(yearMonth, 0.0);
-            }
-            Double currAmount = sumPerMonth.get(yearMonth);
-            sumPerMonth.put(yearMonth, currAmount + transactionAmount);
-        }
-        return sumPerMonth;
+        return expenseSummary.getSumPerYearMonth();
     }
 
     /**
@@ -147,6 +177,7 @@ public class UniCash implements ReadOnlyUniCash {
     public void setBudget(Budget budget) {
         requireNonNull(budget);
         this.budget = budget;
+        version++;
     }
 
     /**
@@ -157,6 +188,7 @@ public class UniCash implements ReadOnlyUniCash {
      */
     public void clearBudget() {
         budget = null;
+        version++;
     }
 
     /**
@@ -164,54 +196,15 @@ public class UniCash implements ReadOnlyUniCash {
      * Note: This function ignores all 'income' transactions
      */
     public HashMap<String, Double> getSumOfExpensePerCategory() {
-        HashMap<String, Double> sumPerCategory = new HashMap<>();
-        List<Transaction> allExpenses = getAllExpenses();
-        String uncategorizedCategoryName = "Uncategorized";
-
-        for (Transaction t : allExpenses) {
-            Double transactionAmount = t.getAmountAsDouble();
-            boolean hasNoCategory = t.getCategories().asUnmodifiableObservableList().isEmpty();
-
-            if (hasNoCategory) {
-                handleNoCategoryTransaction(
-                        sumPerCategory,
-                        uncategorizedCategoryName,
-                        transactionAmount
-                );
-            } else {
-                handleCategoryTransaction(
-                        t.getCategories().asUnmodifiableObservableList(),
-                        sumPerCategory,
-                        transactionAmount
-                );
-            }
-        }
-
-        return sumPerCategory;
-    }
-
-    private void handleNoCategoryTransaction(
-            HashMap<String, Double> sumPerCategory,
-            String uncategorizedCategoryName,
-            Double transactionAmount) {
-        if (!sumPerCategory.containsKey(uncategorizedCategoryName)) {
-            sumPerCategory.put(uncategorizedCategoryName, (double) 0);
-        }
-        Double currAmount = sumPerCategory.get(uncategorizedCategoryName);
-        sumPerCategory.put(uncategorizedCategoryName, currAmount + transactionAmount);
+        return expenseSummary.getSumPerCategory();
     }
 
-    private void handleCategoryTransaction(
-            ObservableList<Category> categories,
-            HashMap<String, Double> sumPerCategory,
-            Double transactionAmount) {
-        for (Category transactionCategory : categories) {
-            if (!sumPerCategory.containsKey(transactionCategory.category)) {
-                sumPerCategory.put(transactionCategory.category, (double) 0);
-            }
-            Double currAmount = sumPerCategory.get(transactionCategory.category);
-            sumPerCategory.put(transactionCategory.category, currAmount + transactionAmount);
-        }
+    /**
+     * Returns the version of the data, which increases with every change to the transactions or budget.
+     * Data saved at an earlier version is out of date.
+     */
+    public long getVersion() {
+        return version;
     }
 
     //// util methods
@@ -226,6 +219,40 @@ public class UniCash implements ReadOnlyUniCash {
         return transactions.asUnmodifiableObservableList();
     }
 
+    @Override
+    public List<Transaction> getTransactionsBetween(LocalDateTime start, LocalDateTime end) {
+        return transactions.getTransactionsBetween(start, end);
+    }
+
+    /**
+     * Returns the transactions in {@code category} dated from {@code start} (inclusive) to {@code end}
+     * (exclusive), in chronological order.
+     */
+    public List<Transaction> getTransactionsBetween(Category category, LocalDateTime start, LocalDateTime end) {
+        return transactions.getTransactionsBetween(category, start, end);
+    }
+
+    /**
+     * Returns a test of whether a transaction name contains {@code keyword}, ignoring case.
+     */
+    public Predicate<String> getTransactionNameMatcher(String keyword) {
+        return transactions.getNameMatcher(keyword);
+    }
+
+    /**
+     * Returns a test of whether a transaction location contains {@code keyword}, ignoring case.
+     */
+    public Predicate<String> getTransactionLocationMatcher(String keyword) {
+        return transactions.getLocationMatcher(keyword);
+    }
+
+    /**
+     * Returns a test of whether a transaction category contains {@code keyword}, ignoring case.
+     */
+    public Predicate<Category> getTransactionCategoryMatcher(String keyword) {
+        return transactions.getCategoryMatcher(keyword);
+    }
+
     /**
      * Returns an unmodifiable view of the budget.
      *
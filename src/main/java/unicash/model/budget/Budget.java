@@ -34,7 +34,7 @@ public class Budget {
      */
     public Budget(Budget other) {
         requireNonNull(other);
-        amount = new Amount(other.getAmount().amount);
+        amount = Amount.ofCents(other.getAmount().getCents());
         interval = new Interval(other.getInterval().interval.getOriginalString());
     }
 
@@ -0,0 +1,144 @@
+package unicash.model.category;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+import unicash.commons.util.StringUtil;
+import unicash.model.category.exceptions.DuplicateCategoryException;
+import unicash.model.category.exceptions.MaxCategoryException;
+
+/**
+ * An immutable set of the categories of a transaction, held in the order they were given.
+ * Guarantees: immutable; no nulls; no duplicates; at most {@link UniqueCategoryList#MAX_CATEGORIES} categories.
+ *
+ * <p>Unlike {@link UniqueCategoryList}, which is used while categories are being parsed or edited, a set is
+ * backed by a plain array and observes nothing, so each transaction holds only the array and a copy of it
+ * sorted by name. Two sets are equal if they hold the same categories in any order, which is checked by
+ * comparing the sorted copies element by element. The hash code and a 64-bit fingerprint are computed once,
+ * on construction.</p>
+ */
+public class CategorySet implements Iterable<Category> {
+
+    public static final CategorySet EMPTY = new CategorySet(new Category[0]);
+
+    private static final Comparator<Category> BY_NAME = Comparator.comparing(category -> category.category);
+
+    private final Category[] categories;
+    private final Category[] sortedCategories;
+    private final int hashCode;
+    private final long fingerprint;
+
+    private CategorySet(Category[] categories) {
+        this.categories = categories;
+        if (categories.length < 2) {
+            sortedCategories = categories;
+        } else {
+            sortedCategories = categories.clone();
+            Arrays.sort(sortedCategories, BY_NAME);
+        }
+        hashCode = Arrays.hashCode(sortedCategories);
+
+        long categoriesFingerprint = sortedCategories.length;
+        for (Category category : sortedCategories) {
+            categoriesFingerprint = categoriesFingerprint * 31 + StringUtil.fingerprintOf(category.category);
+        }
+        fingerprint = categoriesFingerprint;
+    }
+
+    /**
+     * Returns a set of {@code categories}, in the order they are iterated.
+     *
+     * @throws DuplicateCategoryException if a category appears more than once.
+     * @throws MaxCategoryException if there are more than {@link UniqueCategoryList#MAX_CATEGORIES} categories.
+     */
+    public static CategorySet of(Iterable<Category> categories) {
+        requireNonNull(categories);
+        List<Category> categoryList = new ArrayList<>();
+        for (Category category : categories) {
+            categoryList.add(requireNonNull(category));
+        }
+        if (categoryList.isEmpty()) {
+            return EMPTY;
+        }
+
+        if (!UniqueCategoryList.categoriesAreUnique(categoryList)) {
+            throw new DuplicateCategoryException();
+        }
+
+        if (UniqueCategoryList.isMoreThanMax(categoryList)) {
+            throw new MaxCategoryException();
+        }
+        return new CategorySet(categoryList.toArray(new Category[0]));
+    }
+
+    /**
+     * Returns {@code true} if the set contains an equivalent category as the given argument.
+     */
+    public boolean contains(Category toCheck) {
+        requireNonNull(toCheck);
+        for (Category category : categories) {
+            if (category.equals(toCheck)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean isEmpty() {
+        return categories.length == 0;
+    }
+
+    public int getSize() {
+        return categories.length;
+    }
+
+    /**
+     * Returns a 64-bit hash of the categories in this set, in any order. Equal sets have the same fingerprint.
+     */
+    public long getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Returns the categories as an unmodifiable {@code List}, in the order they were given.
+     */
+    public List<Category> asUnmodifiableList() {
+        return Collections.unmodifiableList(Arrays.asList(categories));
+    }
+
+    @Override
+    public Iterator<Category> iterator() {
+        return asUnmodifiableList().iterator();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof CategorySet)) {
+            return false;
+        }
+
+        CategorySet otherSet = (CategorySet) other;
+        return hashCode == otherSet.hashCode && Arrays.equals(sortedCategories, otherSet.sortedCategories);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(categories);
+    }
+}
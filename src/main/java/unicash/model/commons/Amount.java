@@ -5,7 +5,9 @@ import static unicash.commons.util.AppUtil.checkArgument;
 /**
  * Represents a transaction or budget's amount.
  *
- * <p>Amounts are stored as a double and are rounded to the nearest 2 decimal places.</p>
+ * <p>Amounts are rounded to the nearest 2 decimal places and stored as a whole number of cents,
+ * so that amounts can be added and compared exactly. The amount in dollars is also available as
+ * a double, for display and for callers that work in doubles.</p>
  *
  * <p>Amounts must be positive and cannot exceed the value of {@code Integer.MAX_VALUE}.</p>
  */
@@ -17,8 +19,13 @@ public class Amount {
     // Indicates the currency currently being used, set to dollar by default.
     public static final String CURRENCY_INDICATOR = "$";
 
+    private static final long CENTS_PER_DOLLAR = 100;
+    private static final long MAX_CENTS = Integer.MAX_VALUE * CENTS_PER_DOLLAR;
+
     public final double amount;
 
+    private final long cents;
+
     /**
      * Constructs an {@code Amount}.
      *
@@ -28,7 +35,13 @@ public class Amount {
         checkArgument(isValidAmount(amount), MESSAGE_CONSTRAINTS);
 
         /* A strict rounding of input amounts is enforced to avoid calculation discrepancies */
-        this.amount = round(amount);
+        this.cents = toCents(amount);
+        this.amount = toDollars(cents);
+    }
+
+    private Amount(long cents) {
+        this.cents = cents;
+        this.amount = toDollars(cents);
     }
 
     /**
@@ -45,7 +58,25 @@ public class Amount {
         double parsedAmount = Double.parseDouble(trimmedAmount.substring(starting));
 
         /* A strict rounding of input amounts is enforced to avoid calculation discrepancies */
-        this.amount = round(parsedAmount);
+        this.cents = toCents(parsedAmount);
+        this.amount = toDollars(cents);
+    }
+
+    /**
+     * Returns an {@code Amount} of {@code cents} cents.
+     *
+     * @param cents A valid number of cents, as declared in {@link #isValidCents(long)}.
+     */
+    public static Amount ofCents(long cents) {
+        checkArgument(isValidCents(cents), MESSAGE_CONSTRAINTS);
+        return new Amount(cents);
+    }
+
+    /**
+     * Returns true if a given number of cents is a valid amount.
+     */
+    public static boolean isValidCents(long cents) {
+        return cents >= 0 && cents <= MAX_CENTS;
     }
 
     /**
@@ -79,7 +110,24 @@ public class Amount {
      * Returns a rounded two-decimal precision String version of an {@code Amount}.
      */
     public static String amountToDecimalString(Amount amt) {
-        return String.format("%.2f", amt.amount);
+        return centsToDecimalString(amt.cents);
+    }
+
+    /**
+     * Returns {@code cents} as a two-decimal precision String in dollars, such as {@code 12.05}
+     * for 1205 cents, without rounding through a double.
+     */
+    public static String centsToDecimalString(long cents) {
+        long absoluteCents = Math.abs(cents);
+        long remainder = absoluteCents % CENTS_PER_DOLLAR;
+        return (cents < 0 ? "-" : "") + absoluteCents / CENTS_PER_DOLLAR + (remainder < 10 ? ".0" : ".") + remainder;
+    }
+
+    /**
+     * Returns the amount as a whole number of cents.
+     */
+    public long getCents() {
+        return cents;
     }
 
 
@@ -93,13 +141,17 @@ public class Amount {
         return Double.toString(amount);
     }
 
-    private static double round(double amount) {
-        return Math.round(amount * 100.0) / 100.0;
+    private static long toCents(double amount) {
+        return Math.round(amount * CENTS_PER_DOLLAR);
+    }
+
+    private static double toDollars(long cents) {
+        return (double) cents / CENTS_PER_DOLLAR;
     }
 
     @Override
     public int hashCode() {
-        return Double.hashCode(amount);
+        return Long.hashCode(cents);
     }
 
     @Override
@@ -112,12 +164,12 @@ public class Amount {
             return false;
         }
 
-        return amount == ((Amount) other).amount;
+        return cents == ((Amount) other).cents;
     }
 
     @Override
     public String toString() {
-        return String.format("%s%.2f", CURRENCY_INDICATOR, amount);
+        return CURRENCY_INDICATOR + centsToDecimalString(cents);
     }
 }
 
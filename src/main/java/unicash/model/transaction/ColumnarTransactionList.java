@@ -0,0 +1,566 @@
+package unicash.model.transaction;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+import javafx.collections.ModifiableObservableListBase;
+import unicash.commons.enums.TransactionType;
+import unicash.model.category.Category;
+import unicash.model.category.CategorySet;
+import unicash.model.commons.Amount;
+
+/**
+ * An observable list of Transactions that stores each field of its transactions in a column of primitives
+ * rather than holding the transactions themselves.
+ *
+ * <p>Amounts are stored in cents, dates and times in epoch minutes, and types as their ordinal. Names,
+ * locations and sets of categories repeat across transactions, so each distinct value is held once in a
+ * {@link ValueDictionary} and stored as its code. A {@code Transaction} is materialized from its row each
+ * time it is read, sharing the held names, locations and categories, so reading the same position twice
+ * returns equal but distinct transactions with the same ID. Sets of categories are held by the order of their
+ * categories, as sets that are equal in a different order must still be read back in their own order.</p>
+ *
+ * <p>Rows are kept in blocks of at most {@link #BLOCK_CAPACITY} rows, located through the position of the
+ * first row of each block. Inserting or removing a row only moves the rows after it within its block, and
+ * a full block is split in two, so each insertion or removal costs time proportional to the block capacity
+ * and the number of blocks rather than to the number of rows.</p>
+ *
+ * <p>The block and offset of each row are kept in a {@link TransactionIdIndex} by its ID, and updated as rows
+ * are moved, so the position of a transaction with a given ID, or the absence of one, is found without a scan
+ * of the rows.</p>
+ *
+ * <p>Values stay in the dictionaries until the list is emptied, even once no row refers to them.</p>
+ */
+class ColumnarTransactionList extends ModifiableObservableListBase<Transaction> {
+
+    static final int BLOCK_CAPACITY = 4096;
+
+    private static final int INITIAL_BLOCK_CAPACITY = 16;
+
+    private static final Type[] TYPES = Arrays.stream(TransactionType.values())
+            .map(type -> new Type(type.getOriginalString()))
+            .toArray(Type[]::new);
+
+    private final ValueDictionary<Name> names = new ValueDictionary<>();
+    private final ValueDictionary<Location> locations = new ValueDictionary<>();
+    private final ValueDictionary<OrderedCategorySet> categorySets = new ValueDictionary<>();
+
+    private final TransactionIdIndex<Block> idIndex = new TransactionIdIndex<>();
+
+    private final ArrayList<Block> blocks = new ArrayList<>();
+    // Position of the first row of each block, for the blocks in use
+    private int[] blockStarts = new int[0];
+    private int size = 0;
+
+    @Override
+    public Transaction get(int index) {
+        checkIndex(index);
+        int blockIndex = blockIndexOf(index);
+        return blocks.get(blockIndex).materialize(index - blockStarts[blockIndex]);
+    }
+
+    /**
+     * Returns the ID of the transaction at {@code index} without materializing it.
+     */
+    long getId(int index) {
+        checkIndex(index);
+        int blockIndex = blockIndexOf(index);
+        return blocks.get(blockIndex).ids[index - blockStarts[blockIndex]];
+    }
+
+    /**
+     * Returns the date and time, in epoch minutes, of the transaction at {@code index} without materializing it.
+     */
+    long getEpochMinute(int index) {
+        checkIndex(index);
+        int blockIndex = blockIndexOf(index);
+        return blocks.get(blockIndex).epochMinutes[index - blockStarts[blockIndex]];
+    }
+
+    /**
+     * Copies the date and time, in epoch minutes, and the ID of each transaction, in order,
+     * into {@code epochMinutes} and {@code ids}, which must have room for every transaction.
+     */
+    void copyEpochMinutesAndIds(long[] epochMinutes, long[] ids) {
+        for (int blockIndex = 0; blockIndex < blocks.size(); blockIndex++) {
+            Block block = blocks.get(blockIndex);
+            System.arraycopy(block.epochMinutes, 0, epochMinutes, blockStarts[blockIndex], block.size);
+            System.arraycopy(block.ids, 0, ids, blockStarts[blockIndex], block.size);
+        }
+    }
+
+    /**
+     * Returns the position of a transaction with the given {@code id}, or -1 if there is none.
+     */
+    int indexOfId(long id) {
+        Block block = idIndex.getBlock(id);
+        if (block != null) {
+            return blockStarts[block.index] + idIndex.getOffset(id);
+        }
+        if (idIndex.countOf(id) == 0) {
+            return -1;
+        }
+
+        // The located row was removed, but another row, such as a copy of the same transaction, has the ID
+        for (int blockIndex = 0; blockIndex < blocks.size(); blockIndex++) {
+            block = blocks.get(blockIndex);
+            for (int offset = 0; offset < block.size; offset++) {
+                if (block.ids[offset] == id) {
+                    idIndex.setLocation(id, block, offset);
+                    return blockStarts[blockIndex] + offset;
+                }
+            }
+        }
+        throw new IllegalStateException("ID index refers to a transaction that is not in the list");
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    protected void doAdd(int index, Transaction element) {
+        requireNonNull(element);
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        int blockIndex = blockIndexForInsert(index);
+        Block block = blocks.get(blockIndex);
+        int offset = index - blockStarts[blockIndex];
+        if (block.size == BLOCK_CAPACITY) {
+            if (offset == BLOCK_CAPACITY) {
+                // Appending after a full block starts a new block rather than leaving two half-full blocks
+                block = new Block();
+                blockIndex++;
+                offset = 0;
+                blocks.add(blockIndex, block);
+            } else {
+                splitBlock(blockIndex);
+                if (offset > block.size) {
+                    offset -= block.size;
+                    blockIndex++;
+                    block = blocks.get(blockIndex);
+                }
+            }
+            rebuildBlockStarts();
+        }
+
+        block.insertRow(offset, element);
+        size++;
+        shiftBlockStarts(blockIndex + 1, 1);
+    }
+
+    @Override
+    protected Transaction doSet(int index, Transaction element) {
+        requireNonNull(element);
+        checkIndex(index);
+        int blockIndex = blockIndexOf(index);
+        Block block = blocks.get(blockIndex);
+        int offset = index - blockStarts[blockIndex];
+
+        Transaction replaced = block.materialize(offset);
+        idIndex.remove(block.ids[offset], block, offset);
+        block.writeRow(offset, element);
+        return replaced;
+    }
+
+    @Override
+    protected Transaction doRemove(int index) {
+        checkIndex(index);
+        int blockIndex = blockIndexOf(index);
+        Block block = blocks.get(blockIndex);
+        int offset = index - blockStarts[blockIndex];
+
+        Transaction removed = block.materialize(offset);
+        block.removeRows(offset, offset + 1);
+        size--;
+        if (block.size == 0) {
+            blocks.remove(blockIndex);
+            rebuildBlockStarts();
+        } else {
+            shiftBlockStarts(blockIndex + 1, -1);
+        }
+
+        if (size == 0) {
+            clearDictionaries();
+        }
+        return removed;
+    }
+
+    /**
+     * Removes the transactions from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive)
+     * as a single change, moving the rows in each affected block once.
+     */
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Range: [" + fromIndex + ", " + toIndex + "), Size: " + size);
+        }
+        if (fromIndex == toIndex) {
+            return;
+        }
+
+        List<Transaction> removed = new ArrayList<>(toIndex - fromIndex);
+        for (int i = fromIndex; i < toIndex; i++) {
+            removed.add(get(i));
+        }
+
+        beginChange();
+        try {
+            removeRows(fromIndex, toIndex);
+            if (size == 0) {
+                clearDictionaries();
+            }
+            nextRemove(fromIndex, removed);
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Removes the transactions at the positions set in {@code positions} as a single change, moving the rows
+     * in each block at most once however many of its rows are removed.
+     *
+     * @return the removed transactions, in the order they were in the list.
+     */
+    List<Transaction> removePositions(BitSet positions) {
+        requireNonNull(positions);
+        if (positions.length() > size) {
+            throw new IndexOutOfBoundsException("Index: " + (positions.length() - 1) + ", Size: " + size);
+        }
+        if (positions.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Transaction> removed = new ArrayList<>(positions.cardinality());
+        for (int i = positions.nextSetBit(0); i >= 0; i = positions.nextSetBit(i + 1)) {
+            removed.add(get(i));
+        }
+
+        beginChange();
+        try {
+            removeRows(positions);
+            if (size == 0) {
+                clearDictionaries();
+            }
+
+            // Each run of removed rows is reported at its position once the runs before it have been removed
+            int removedCount = 0;
+            int from = positions.nextSetBit(0);
+            while (from >= 0) {
+                int to = positions.nextClearBit(from);
+                nextRemove(from - removedCount, removed.subList(removedCount, removedCount + to - from));
+                removedCount += to - from;
+                from = positions.nextSetBit(to);
+            }
+        } finally {
+            endChange();
+        }
+        return removed;
+    }
+
+    /**
+     * Replaces the transaction at each of {@code positions}, which must be in increasing order, with the
+     * transaction at the same position of {@code elements}, as a single change.
+     *
+     * @return the replaced transactions, in the order of {@code positions}.
+     */
+    List<Transaction> setPositions(int[] positions, List<Transaction> elements) {
+        requireNonNull(positions);
+        requireNonNull(elements);
+        if (positions.length != elements.size()) {
+            throw new IllegalArgumentException("Each position must have one transaction to replace it with");
+        }
+
+        List<Transaction> replaced = new ArrayList<>(positions.length);
+        beginChange();
+        try {
+            for (int i = 0; i < positions.length; i++) {
+                Transaction replacedTransaction = doSet(positions[i], elements.get(i));
+                replaced.add(replacedTransaction);
+                nextSet(positions[i], replacedTransaction);
+            }
+        } finally {
+            endChange();
+        }
+        return replaced;
+    }
+
+    private void removeRows(int fromIndex, int toIndex) {
+        if (fromIndex == 0 && toIndex == size) {
+            blocks.clear();
+            idIndex.clear();
+            size = 0;
+            return;
+        }
+
+        int blockIndex = blockIndexOf(fromIndex);
+        int remaining = toIndex - fromIndex;
+        int offset = fromIndex - blockStarts[blockIndex];
+        while (remaining > 0) {
+            Block block = blocks.get(blockIndex);
+            int count = Math.min(remaining, block.size - offset);
+            block.removeRows(offset, offset + count);
+            remaining -= count;
+            if (block.size == 0) {
+                blocks.remove(blockIndex);
+            } else {
+                blockIndex++;
+            }
+            offset = 0;
+        }
+
+        size -= toIndex - fromIndex;
+        rebuildBlockStarts();
+    }
+
+    private void removeRows(BitSet positions) {
+        int blockIndex = 0;
+        while (blockIndex < blocks.size()) {
+            Block block = blocks.get(blockIndex);
+            block.removeRows(positions, blockStarts[blockIndex]);
+            if (block.size == 0) {
+                // Later blocks keep their starts until they are rebuilt, so the positions still refer to them
+                blocks.remove(blockIndex);
+                System.arraycopy(blockStarts, blockIndex + 1, blockStarts, blockIndex, blocks.size() - blockIndex);
+            } else {
+                blockIndex++;
+            }
+        }
+
+        size -= positions.cardinality();
+        rebuildBlockStarts();
+    }
+
+    /**
+     * Returns the index of the block holding the row at {@code index}, which must be a valid position.
+     */
+    private int blockIndexOf(int index) {
+        int searchResult = Arrays.binarySearch(blockStarts, 0, blocks.size(), index);
+        return searchResult >= 0 ? searchResult : -searchResult - 2;
+    }
+
+    /**
+     * Returns the index of the block a row inserted at {@code index} goes into, creating the first block if needed.
+     */
+    private int blockIndexForInsert(int index) {
+        if (blocks.isEmpty()) {
+            blocks.add(new Block());
+            rebuildBlockStarts();
+        }
+        return index == size ? blocks.size() - 1 : blockIndexOf(index);
+    }
+
+    /**
+     * Moves the upper half of the full block at {@code blockIndex} into a new block after it.
+     */
+    private void splitBlock(int blockIndex) {
+        Block block = blocks.get(blockIndex);
+        Block upperHalf = new Block();
+        int half = block.size / 2;
+        upperHalf.appendRows(block, half, block.size);
+        // The moved rows are located in the upper half, so they are dropped from the block without removing their IDs
+        block.size = half;
+        blocks.add(blockIndex + 1, upperHalf);
+    }
+
+    private void shiftBlockStarts(int fromBlockIndex, int delta) {
+        for (int i = fromBlockIndex; i < blocks.size(); i++) {
+            blockStarts[i] += delta;
+        }
+    }
+
+    private void rebuildBlockStarts() {
+        if (blockStarts.length < blocks.size()) {
+            blockStarts = new int[Math.max(blocks.size(), blockStarts.length * 2)];
+        }
+        int start = 0;
+        for (int i = 0; i < blocks.size(); i++) {
+            Block block = blocks.get(i);
+            block.index = i;
+            blockStarts[i] = start;
+            start += block.size;
+        }
+    }
+
+    private void clearDictionaries() {
+        names.clear();
+        locations.clear();
+        categorySets.clear();
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    /**
+     * A block of consecutive rows, with one array per column. Arrays grow as rows are added,
+     * up to {@link #BLOCK_CAPACITY}.
+     */
+    private class Block {
+
+        private long[] ids = new long[INITIAL_BLOCK_CAPACITY];
+        private long[] amountsInCents = new long[INITIAL_BLOCK_CAPACITY];
+        private long[] epochMinutes = new long[INITIAL_BLOCK_CAPACITY];
+        private byte[] types = new byte[INITIAL_BLOCK_CAPACITY];
+        private int[] nameCodes = new int[INITIAL_BLOCK_CAPACITY];
+        private int[] locationCodes = new int[INITIAL_BLOCK_CAPACITY];
+        private int[] categorySetCodes = new int[INITIAL_BLOCK_CAPACITY];
+        private int size = 0;
+        // Position of this block in the blocks, updated with the block starts
+        private int index;
+
+        private Transaction materialize(int offset) {
+            return new Transaction(
+                    ids[offset],
+                    names.decode(nameCodes[offset]),
+                    TYPES[types[offset]],
+                    Amount.ofCents(amountsInCents[offset]),
+                    DateTime.ofEpochMinute(epochMinutes[offset]),
+                    locations.decode(locationCodes[offset]),
+                    categorySets.decode(categorySetCodes[offset]).categorySet);
+        }
+
+        private void insertRow(int offset, Transaction transaction) {
+            ensureCapacity(size + 1);
+            moveRows(offset, offset + 1, size - offset);
+            size++;
+            writeRow(offset, transaction);
+        }
+
+        private void writeRow(int offset, Transaction transaction) {
+            ids[offset] = transaction.getId();
+            idIndex.add(transaction.getId(), this, offset);
+            amountsInCents[offset] = transaction.getAmount().getCents();
+            epochMinutes[offset] = transaction.getDateTime().getEpochMinute();
+            types[offset] = (byte) transaction.getType().type.ordinal();
+            nameCodes[offset] = names.encode(transaction.getName());
+            locationCodes[offset] = locations.encode(transaction.getLocation());
+            categorySetCodes[offset] = categorySets.encode(new OrderedCategorySet(transaction.getCategories()));
+        }
+
+        private void removeRows(int fromOffset, int toOffset) {
+            for (int offset = fromOffset; offset < toOffset; offset++) {
+                idIndex.remove(ids[offset], this, offset);
+            }
+            moveRows(toOffset, fromOffset, size - toOffset);
+            size -= toOffset - fromOffset;
+        }
+
+        /**
+         * Removes the rows whose positions, counted from {@code blockStart}, are set in {@code positions},
+         * moving each remaining row at most once.
+         */
+        private void removeRows(BitSet positions, int blockStart) {
+            int from = positions.nextSetBit(blockStart) - blockStart;
+            if (from < 0 || from >= size) {
+                return;
+            }
+
+            for (int i = positions.nextSetBit(blockStart + from); i >= 0 && i < blockStart + size;
+                    i = positions.nextSetBit(i + 1)) {
+                idIndex.remove(ids[i - blockStart], this, i - blockStart);
+            }
+
+            int kept = from;
+            int keptFrom = positions.nextClearBit(blockStart + from) - blockStart;
+            while (keptFrom < size) {
+                int nextRemoved = positions.nextSetBit(blockStart + keptFrom);
+                int keptTo = nextRemoved < 0 ? size : Math.min(nextRemoved - blockStart, size);
+                moveRows(keptFrom, kept, keptTo - keptFrom);
+                kept += keptTo - keptFrom;
+                keptFrom = keptTo == size ? size : positions.nextClearBit(blockStart + keptTo) - blockStart;
+            }
+            size = kept;
+        }
+
+        /**
+         * Appends the rows of {@code source} from {@code fromOffset} (inclusive) to {@code toOffset} (exclusive).
+         */
+        private void appendRows(Block source, int fromOffset, int toOffset) {
+            int count = toOffset - fromOffset;
+            ensureCapacity(size + count);
+            System.arraycopy(source.ids, fromOffset, ids, size, count);
+            System.arraycopy(source.amountsInCents, fromOffset, amountsInCents, size, count);
+            System.arraycopy(source.epochMinutes, fromOffset, epochMinutes, size, count);
+            System.arraycopy(source.types, fromOffset, types, size, count);
+            System.arraycopy(source.nameCodes, fromOffset, nameCodes, size, count);
+            System.arraycopy(source.locationCodes, fromOffset, locationCodes, size, count);
+            System.arraycopy(source.categorySetCodes, fromOffset, categorySetCodes, size, count);
+            for (int offset = size; offset < size + count; offset++) {
+                idIndex.setLocation(ids[offset], this, offset);
+            }
+            size += count;
+        }
+
+        private void moveRows(int from, int to, int count) {
+            System.arraycopy(ids, from, ids, to, count);
+            System.arraycopy(amountsInCents, from, amountsInCents, to, count);
+            System.arraycopy(epochMinutes, from, epochMinutes, to, count);
+            System.arraycopy(types, from, types, to, count);
+            System.arraycopy(nameCodes, from, nameCodes, to, count);
+            System.arraycopy(locationCodes, from, locationCodes, to, count);
+            System.arraycopy(categorySetCodes, from, categorySetCodes, to, count);
+            for (int offset = to; offset < to + count; offset++) {
+                idIndex.setLocation(ids[offset], this, offset);
+            }
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity <= ids.length) {
+                return;
+            }
+
+            int newCapacity = Math.min(BLOCK_CAPACITY, Math.max(capacity, ids.length * 2));
+            ids = Arrays.copyOf(ids, newCapacity);
+            amountsInCents = Arrays.copyOf(amountsInCents, newCapacity);
+            epochMinutes = Arrays.copyOf(epochMinutes, newCapacity);
+            types = Arrays.copyOf(types, newCapacity);
+            nameCodes = Arrays.copyOf(nameCodes, newCapacity);
+            locationCodes = Arrays.copyOf(locationCodes, newCapacity);
+            categorySetCodes = Arrays.copyOf(categorySetCodes, newCapacity);
+        }
+    }
+
+    /**
+     * A {@code CategorySet} that is only equal to a set of the same categories in the same order.
+     */
+    private static class OrderedCategorySet {
+
+        private final CategorySet categorySet;
+        private final List<Category> categories;
+
+        private OrderedCategorySet(CategorySet categorySet) {
+            this.categorySet = categorySet;
+            categories = categorySet.asUnmodifiableList();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof OrderedCategorySet)) {
+                return false;
+            }
+
+            return categories.equals(((OrderedCategorySet) other).categories);
+        }
+
+        @Override
+        public int hashCode() {
+            return categories.hashCode();
+        }
+    }
+}
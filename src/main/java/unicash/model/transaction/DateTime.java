@@ -4,17 +4,25 @@ import static unicash.commons.util.AppUtil.checkArgument;
 import static unicash.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.Clock;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
 import java.time.YearMonth;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
 import java.time.format.DateTimeParseException;
 import java.time.format.ResolverStyle;
 import java.time.temporal.ChronoUnit;
-import java.util.Objects;
+
 /**
  * Represents a Transaction's dateTime.
  * Guarantees: immutable;
+ *
+ * <p>The dateTime is held as the number of whole minutes from the epoch, treating it as UTC. Inputs in
+ * the accepted formats are read by a hand-written parser that checks the date and time as it reads them;
+ * the formatters are only used for inputs that parser does not recognise.</p>
  */
 public class DateTime {
     public static final String DATETIME_PATTERN_ONE = "dd-MM-uuuu HH:mm";
@@ -26,16 +34,32 @@ public class DateTime {
                     + "2. " + DATETIME_PATTERN_TWO + "\n"
                     + "3. " + DATETIME_STORAGE_PATTERN + "\n";
     //accept date in multiple formats
-    private static final DateTimeFormatterBuilder DATETIME_FORMATTER_BUILDER =
+    private static final DateTimeFormatter DATETIME_FORMATTER =
             new DateTimeFormatterBuilder()
                     .appendOptional(DateTimeFormatter.ofPattern(DATETIME_PATTERN_ONE))
                     .appendOptional(DateTimeFormatter.ofPattern(DATETIME_PATTERN_TWO))
-                    .appendOptional(DateTimeFormatter.ofPattern(DATETIME_STORAGE_PATTERN));
+                    .appendOptional(DateTimeFormatter.ofPattern(DATETIME_STORAGE_PATTERN))
+                    .toFormatter()
+                    .withResolverStyle(ResolverStyle.STRICT);
+    private static final DateTimeFormatter STORAGE_FORMATTER = DateTimeFormatter.ofPattern(DATETIME_STORAGE_PATTERN);
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    // Returned by the parser for an input that it does not accept, as no dateTime is this far from the epoch
+    private static final long NOT_PARSED = Long.MIN_VALUE;
 
-    private static final DateTimeFormatter DATETIME_FORMATTER = DATETIME_FORMATTER_BUILDER.toFormatter();
+    // Short month names as written by DATETIME_STORAGE_PATTERN, indexed from January
+    private static final String[] MONTH_NAMES = new String[12];
+
+    static {
+        DateTimeFormatter monthFormatter = DateTimeFormatter.ofPattern("MMM");
+        for (Month month : Month.values()) {
+            MONTH_NAMES[month.ordinal()] = monthFormatter.format(month);
+        }
+    }
 
-    private String originalDateTime;
-    private LocalDateTime dateTime;
+    private final long epochMinute;
+    // Null if the dateTime was not constructed from an input string, in which case it is formatted as needed
+    private final String originalDateTime;
 
     /**
      * Constructs a {@code DateTime}.
@@ -44,8 +68,7 @@ public class DateTime {
      * @param dateTime A valid date time.
      */
     public DateTime(String dateTime) {
-        requireAllNonNull(dateTime);
-        init(dateTime, Clock.systemDefaultZone());
+        this(dateTime, Clock.systemDefaultZone());
     }
 
     /**
@@ -58,30 +81,27 @@ public class DateTime {
      */
     public DateTime(String dateTime, Clock clock) {
         requireAllNonNull(dateTime, clock);
-        init(dateTime, clock);
-    }
-
-    /**
-     * Initialises the DateTime object when called by constructors.
-     * Sets the dateTime based on given {@code dateTime} and {@code clock}.
-     *
-     * @param dateTime the dateTime string to be set.
-     * @param clock the clock object of the system.
-     */
-    private void init(String dateTime, Clock clock) {
         if (dateTime.isBlank()) {
-            LocalDateTime now = LocalDateTime.now(clock).truncatedTo(ChronoUnit.MINUTES);
-            this.dateTime = now;
-            originalDateTime = now.format(DateTimeFormatter.ofPattern(DATETIME_STORAGE_PATTERN));
+            epochMinute = toEpochMinute(LocalDateTime.now(clock).truncatedTo(ChronoUnit.MINUTES));
+            originalDateTime = toString();
             return;
         }
-        checkArgument(isValidDateTime(dateTime), MESSAGE_CONSTRAINTS);
-        this.dateTime = LocalDateTime.parse(dateTime, DATETIME_FORMATTER);
+        epochMinute = parseEpochMinute(dateTime);
+        checkArgument(epochMinute != NOT_PARSED, MESSAGE_CONSTRAINTS);
         originalDateTime = dateTime;
     }
 
+    /**
+     * Constructs a {@code DateTime} the given number of minutes from the epoch.
+     * The input string is formatted from it each time it is needed.
+     */
+    private DateTime(long epochMinute) {
+        this.epochMinute = epochMinute;
+        originalDateTime = null;
+    }
+
     public LocalDateTime getDateTime() {
-        return dateTime;
+        return LocalDateTime.ofEpochSecond(epochMinute * 60, 0, ZoneOffset.UTC);
     }
 
     /**
@@ -90,14 +110,36 @@ public class DateTime {
      * @return text string of the LocalDateTime object
      */
     public String inputString() {
-        return originalDateTime;
+        return originalDateTime != null ? originalDateTime : toString();
     }
 
     /**
      * Returns the YearMonth corresponding to dateTime.
      */
     public YearMonth getYearMonth() {
-        return YearMonth.from(dateTime);
+        LocalDate date = LocalDate.ofEpochDay(Math.floorDiv(epochMinute, MINUTES_PER_DAY));
+        return YearMonth.of(date.getYear(), date.getMonthValue());
+    }
+
+    /**
+     * Returns the number of whole minutes from the epoch to dateTime, treating dateTime as UTC.
+     */
+    public long getEpochMinute() {
+        return epochMinute;
+    }
+
+    /**
+     * Returns a {@code DateTime} the given number of minutes from the epoch, treating it as UTC.
+     */
+    public static DateTime ofEpochMinute(long epochMinute) {
+        return new DateTime(epochMinute);
+    }
+
+    /**
+     * Returns the number of whole minutes from the epoch to {@code dateTime}, treating it as UTC.
+     */
+    public static long toEpochMinute(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), 60);
     }
 
 
@@ -105,17 +147,128 @@ public class DateTime {
      * Returns true if a given string is a valid dateTime.
      */
     public static boolean isValidDateTime(String dateString) {
+        return parseEpochMinute(dateString) != NOT_PARSED;
+    }
+
+    /**
+     * Returns the number of minutes from the epoch to the dateTime in {@code dateString},
+     * or {@code NOT_PARSED} if it is not a valid dateTime in one of the accepted formats.
+     */
+    private static long parseEpochMinute(String dateString) {
+        long epochMinute = parseAcceptedPattern(dateString);
+        if (epochMinute != NOT_PARSED) {
+            return epochMinute;
+        }
+
+        // Inputs that the accepted patterns allow but the fast path does not read, such as years
+        // with more than four digits, are left to the formatter
         try {
-            LocalDateTime.parse(dateString, DATETIME_FORMATTER.withResolverStyle(ResolverStyle.STRICT));
+            return toEpochMinute(LocalDateTime.parse(dateString, DATETIME_FORMATTER));
         } catch (DateTimeParseException e) {
-            return false;
+            return NOT_PARSED;
+        }
+    }
+
+    /**
+     * Reads {@code dateString} as a dateTime with a four-digit year in one of the accepted patterns,
+     * checking that the date and time exist, and returns its number of minutes from the epoch.
+     * Returns {@code NOT_PARSED} for any other input.
+     */
+    private static long parseAcceptedPattern(String dateString) {
+        int length = dateString.length();
+        if (length < 16) {
+            return NOT_PARSED;
+        }
+
+        // Every accepted pattern ends with " HH:mm"
+        int timeStart = length - 5;
+        if (dateString.charAt(timeStart - 1) != ' ' || dateString.charAt(timeStart + 2) != ':') {
+            return NOT_PARSED;
+        }
+        int hour = parseDigits(dateString, timeStart, 2);
+        int minute = parseDigits(dateString, timeStart + 3, 2);
+
+        int year;
+        int month;
+        int day;
+        if (length == 16 && dateString.charAt(2) == '-' && dateString.charAt(5) == '-') {
+            // dd-MM-uuuu
+            day = parseDigits(dateString, 0, 2);
+            month = parseDigits(dateString, 3, 2);
+            year = parseDigits(dateString, 6, 4);
+        } else if (length == 16 && dateString.charAt(4) == '-' && dateString.charAt(7) == '-') {
+            // uuuu-MM-dd
+            year = parseDigits(dateString, 0, 4);
+            month = parseDigits(dateString, 5, 2);
+            day = parseDigits(dateString, 8, 2);
+        } else if (dateString.charAt(2) == ' ' && dateString.charAt(timeStart - 6) == ' ') {
+            // dd MMM uuuu
+            day = parseDigits(dateString, 0, 2);
+            month = parseMonthName(dateString.substring(3, timeStart - 6));
+            year = parseDigits(dateString, timeStart - 5, 4);
+        } else {
+            return NOT_PARSED;
+        }
+
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > Month.of(month).length(Year.isLeap(year))
+                || hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+            return NOT_PARSED;
         }
-        return true;
+        return LocalDate.of(year, month, day).toEpochDay() * MINUTES_PER_DAY + hour * 60 + minute;
+    }
+
+    /**
+     * Returns the number written by the {@code count} ASCII digits of {@code text} from {@code start},
+     * or -1 if any of them is not a digit.
+     */
+    private static int parseDigits(String text, int start, int count) {
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    /**
+     * Returns the number of the month with the short name {@code monthName}, or -1 if there is none.
+     */
+    private static int parseMonthName(String monthName) {
+        for (int i = 0; i < MONTH_NAMES.length; i++) {
+            if (MONTH_NAMES[i].equals(monthName)) {
+                return i + 1;
+            }
+        }
+        return -1;
     }
 
     @Override
     public String toString() {
-        return dateTime.format(DateTimeFormatter.ofPattern(DATETIME_STORAGE_PATTERN));
+        long epochDay = Math.floorDiv(epochMinute, MINUTES_PER_DAY);
+        int minuteOfDay = Math.floorMod(epochMinute, MINUTES_PER_DAY);
+        LocalDate date = LocalDate.ofEpochDay(epochDay);
+        if (date.getYear() < 0 || date.getYear() > 9999) {
+            // The pattern writes the sign of years outside four digits
+            return getDateTime().format(STORAGE_FORMATTER);
+        }
+
+        StringBuilder builder = new StringBuilder(17);
+        appendTwoDigits(builder, date.getDayOfMonth());
+        builder.append(' ').append(MONTH_NAMES[date.getMonthValue() - 1]).append(' ');
+        appendTwoDigits(builder, date.getYear() / 100);
+        appendTwoDigits(builder, date.getYear() % 100);
+        builder.append(' ');
+        appendTwoDigits(builder, minuteOfDay / 60);
+        builder.append(':');
+        appendTwoDigits(builder, minuteOfDay % 60);
+        return builder.toString();
+    }
+
+    private static void appendTwoDigits(StringBuilder builder, int value) {
+        builder.append((char) ('0' + value / 10)).append((char) ('0' + value % 10));
     }
 
     @Override
@@ -130,11 +283,11 @@ public class DateTime {
         }
 
         DateTime otherDateTime = (DateTime) other;
-        return Objects.equals(this.dateTime, otherDateTime.dateTime);
+        return epochMinute == otherDateTime.epochMinute;
     }
 
     @Override
     public int hashCode() {
-        return this.dateTime.hashCode();
+        return Long.hashCode(epochMinute);
     }
 }
@@ -0,0 +1,143 @@
+package unicash.model.transaction;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.Map;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import unicash.commons.enums.TransactionType;
+import unicash.model.category.Category;
+
+/**
+ * Running totals of expenses per category and per year-month over an observed list of transactions.
+ *
+ * <p>Totals are updated from the changes reported by the list, so each added, replaced or
+ * removed transaction costs time proportional to its number of categories, and reading a
+ * summary costs time proportional to the size of the summary rather than the list.</p>
+ *
+ * <p>Totals are kept in cents so that adding and removing amounts never drifts.</p>
+ */
+public class ExpenseSummary {
+
+    public static final String UNCATEGORIZED_CATEGORY_NAME = "Uncategorized";
+
+    private final HashMap<String, RunningTotal> totalPerCategory = new HashMap<>();
+    private final HashMap<YearMonth, RunningTotal> totalPerYearMonth = new HashMap<>();
+    private int expenseCount = 0;
+
+    /**
+     * Constructs an {@code ExpenseSummary} of {@code transactions} that is kept up to date
+     * with subsequent changes to the list.
+     */
+    public ExpenseSummary(ObservableList<Transaction> transactions) {
+        requireNonNull(transactions);
+        transactions.forEach(this::include);
+        transactions.addListener(this::onTransactionsChanged);
+    }
+
+    private void onTransactionsChanged(ListChangeListener.Change<? extends Transaction> change) {
+        while (change.next()) {
+            // Reordering or updating a list of immutable transactions leaves the totals unchanged
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::exclude);
+            change.getAddedSubList().forEach(this::include);
+        }
+    }
+
+    private void include(Transaction transaction) {
+        update(transaction, 1);
+    }
+
+    private void exclude(Transaction transaction) {
+        update(transaction, -1);
+    }
+
+    /**
+     * Adds ({@code sign} of 1) or subtracts ({@code sign} of -1) {@code transaction} from the totals
+     * if it is an expense.
+     */
+    private void update(Transaction transaction, int sign) {
+        if (transaction.getType().type != TransactionType.EXPENSE) {
+            return;
+        }
+
+        long cents = transaction.getAmount().getCents();
+        expenseCount += sign;
+        updateTotal(totalPerYearMonth, transaction.getDateTime().getYearMonth(), cents, sign);
+
+        if (transaction.getCategories().isEmpty()) {
+            updateTotal(totalPerCategory, UNCATEGORIZED_CATEGORY_NAME, cents, sign);
+            return;
+        }
+        for (Category category : transaction.getCategories()) {
+            updateTotal(totalPerCategory, category.category, cents, sign);
+        }
+    }
+
+    private static <K> void updateTotal(HashMap<K, RunningTotal> totals, K key, long cents, int sign) {
+        RunningTotal total = totals.computeIfAbsent(key, unused -> new RunningTotal());
+        total.cents += sign * cents;
+        total.count += sign;
+        if (total.count == 0) {
+            totals.remove(key);
+        }
+    }
+
+    /**
+     * Returns the total amount of the expenses among {@code transactions}, in cents.
+     * The total is summed exactly, without boxing each amount.
+     */
+    public static long sumOfExpensesInCents(Iterable<Transaction> transactions) {
+        requireNonNull(transactions);
+        long totalCents = 0;
+        for (Transaction transaction : transactions) {
+            if (transaction.getType().type == TransactionType.EXPENSE) {
+                totalCents += transaction.getAmount().getCents();
+            }
+        }
+        return totalCents;
+    }
+
+    /**
+     * Returns true if there is at least one expense in the observed list.
+     */
+    public boolean hasExpenses() {
+        return expenseCount > 0;
+    }
+
+    /**
+     * Returns the total expense amount per category. Expenses without a category
+     * are totalled under {@link #UNCATEGORIZED_CATEGORY_NAME}.
+     */
+    public HashMap<String, Double> getSumPerCategory() {
+        return toAmounts(totalPerCategory);
+    }
+
+    /**
+     * Returns the total expense amount per year-month.
+     */
+    public HashMap<YearMonth, Double> getSumPerYearMonth() {
+        return toAmounts(totalPerYearMonth);
+    }
+
+    private static <K> HashMap<K, Double> toAmounts(HashMap<K, RunningTotal> totals) {
+        HashMap<K, Double> amounts = new HashMap<>();
+        for (Map.Entry<K, RunningTotal> entry : totals.entrySet()) {
+            amounts.put(entry.getKey(), entry.getValue().cents / 100.0);
+        }
+        return amounts;
+    }
+
+    /**
+     * Total amount and number of the expenses counted under a single key.
+     */
+    private static class RunningTotal {
+        private long cents;
+        private int count;
+    }
+}
@@ -0,0 +1,70 @@
+package unicash.model.transaction;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.beans.property.ReadOnlyLongProperty;
+import javafx.beans.property.ReadOnlyLongWrapper;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import unicash.commons.enums.TransactionType;
+
+/**
+ * The balance of an observed list of transactions, which is its total income less its total expenses.
+ *
+ * <p>The balance is updated from the changes reported by the list, so each added or removed transaction
+ * costs constant time. It is kept in cents so that adding and removing amounts never drifts.</p>
+ */
+public class RunningBalance {
+
+    private final ReadOnlyLongWrapper balanceInCents = new ReadOnlyLongWrapper();
+
+    /**
+     * Constructs a {@code RunningBalance} of {@code transactions} that is kept up to date
+     * with subsequent changes to the list.
+     */
+    public RunningBalance(ObservableList<Transaction> transactions) {
+        requireNonNull(transactions);
+        long initialBalance = 0;
+        for (Transaction transaction : transactions) {
+            initialBalance += toSignedCents(transaction);
+        }
+        balanceInCents.set(initialBalance);
+        transactions.addListener(this::onTransactionsChanged);
+    }
+
+    private void onTransactionsChanged(ListChangeListener.Change<? extends Transaction> change) {
+        long delta = 0;
+        while (change.next()) {
+            // Reordering or updating a list of immutable transactions leaves the balance unchanged
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            for (Transaction removed : change.getRemoved()) {
+                delta -= toSignedCents(removed);
+            }
+            for (Transaction added : change.getAddedSubList()) {
+                delta += toSignedCents(added);
+            }
+        }
+        balanceInCents.set(balanceInCents.get() + delta);
+    }
+
+    /**
+     * Returns the amount of {@code transaction} in cents, negated if it is an expense.
+     */
+    private static long toSignedCents(Transaction transaction) {
+        long cents = transaction.getAmount().getCents();
+        return transaction.getType().type == TransactionType.EXPENSE ? -cents : cents;
+    }
+
+    public long getBalanceInCents() {
+        return balanceInCents.get();
+    }
+
+    /**
+     * Returns the balance in cents, which can be observed for changes.
+     */
+    public ReadOnlyLongProperty balanceInCentsProperty() {
+        return balanceInCents.getReadOnlyProperty();
+    }
+}
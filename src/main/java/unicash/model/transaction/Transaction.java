@@ -1,28 +1,45 @@
 package unicash.model.transaction;
 
+import static unicash.commons.util.AppUtil.checkArgument;
 import static unicash.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
 
+import unicash.commons.util.StringUtil;
 import unicash.commons.util.ToStringBuilder;
+import unicash.model.category.CategorySet;
 import unicash.model.category.UniqueCategoryList;
 import unicash.model.commons.Amount;
 
 /**
  * Represents a Transaction in UniCash.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ * The fingerprint is computed when first needed, and can be read from any thread.
  */
 public class Transaction {
+    public static final String MESSAGE_ID_CONSTRAINTS = "Transaction IDs must be non-negative.";
+
+    // Source of IDs for newly created transactions, kept ahead of every ID seen so far
+    private static final AtomicLong idSequence = new AtomicLong();
+    // Fingerprint stored in place of one that is 0, which marks the fingerprint as not computed yet
+    private static final long ZERO_FINGERPRINT = 1;
+
+    private final long id;
     private final Name name;
     private final Amount amount;
     private final DateTime dateTime;
     private final Location location;
     private final Type type;
-    private final UniqueCategoryList categories = new UniqueCategoryList();
+    private final CategorySet categories;
+
+    // Computed when first needed, as transactions are often read without it. A single volatile field, so
+    // another thread sees either no fingerprint or the whole of it
+    private volatile long fingerprint;
 
 
     /**
-     * Constructs a Transaction with all fields populated.
+     * Constructs a Transaction with all fields populated and a newly assigned ID.
      * Guarantees: details are present and not null, field values are validated, immutable.
      */
     public Transaction(
@@ -32,14 +49,70 @@ public class Transaction {
         DateTime dateTime,
         Location location,
         UniqueCategoryList categories
+    ) {
+        this(idSequence.getAndIncrement(), name, type, amount, dateTime, location, categories);
+    }
+
+    /**
+     * Constructs a Transaction with the given {@code id}, such as one restored from storage
+     * or carried over from the transaction being edited.
+     * Guarantees: details are present and not null, field values are validated, immutable.
+     */
+    public Transaction(
+        long id,
+        Name name,
+        Type type,
+        Amount amount,
+        DateTime dateTime,
+        Location location,
+        UniqueCategoryList categories
+    ) {
+        this(id, name, type, amount, dateTime, location, CategorySet.of(categories));
+    }
+
+    /**
+     * Constructs a Transaction with the given {@code id} and set of categories, which can be shared
+     * with other transactions as it is immutable.
+     * Guarantees: details are present and not null, field values are validated, immutable.
+     */
+    public Transaction(
+        long id,
+        Name name,
+        Type type,
+        Amount amount,
+        DateTime dateTime,
+        Location location,
+        CategorySet categories
     ) {
         requireAllNonNull(name, type, amount, categories, dateTime, location);
+        checkArgument(isValidId(id), MESSAGE_ID_CONSTRAINTS);
+        this.id = id;
         this.name = name;
         this.type = type;
         this.amount = amount;
         this.dateTime = dateTime;
         this.location = location;
-        this.categories.setCategories(categories);
+        this.categories = categories;
+
+        // Later transactions must never be handed an ID that is already in use
+        idSequence.accumulateAndGet(id + 1, Math::max);
+    }
+
+    /**
+     * Returns true if a given value is a valid transaction ID.
+     */
+    public static boolean isValidId(long id) {
+        return id >= 0;
+    }
+
+    /**
+     * Returns the stable ID of this transaction.
+     *
+     * <p>IDs are assigned in increasing order of creation and persisted with the transaction,
+     * and are not part of the equality of two transactions.</p>
+     */
+    public long getId() {
+        return id;
     }
 
     public Name getName() {
@@ -75,22 +148,46 @@ public class Transaction {
         return type.type.getOriginalString();
     }
 
-    public UniqueCategoryList getCategories() {
+    public CategorySet getCategories() {
         return categories;
     }
 
-    @Override
-    public int hashCode() {
-        return Objects.hash(name, amount, dateTime, location, type, categories);
+    /**
+     * Returns a 64-bit hash of the data fields of this transaction, which are the fields compared by
+     * {@link #equals(Object)}. Equal transactions have the same fingerprint, and transactions with different
+     * fingerprints are not equal.
+     */
+    public long getFingerprint() {
+        long result = fingerprint;
+        if (result == 0) {
+            long hash = StringUtil.fingerprintOf(name.fullName);
+            hash = hash * 31 + type.type.ordinal();
+            hash = hash * 31 + amount.getCents();
+            hash = hash * 31 + dateTime.getEpochMinute();
+            hash = hash * 31 + StringUtil.fingerprintOf(location.location);
+            hash = hash * 31 + categories.getFingerprint();
+            result = mix(hash);
+            if (result == 0) {
+                result = ZERO_FINGERPRINT;
+            }
+            fingerprint = result;
+        }
+        return result;
     }
 
     /**
-     * Returns the original hashcode of this object.
-     *
-     * @return the original hashcode.
+     * Returns {@code hash} with its bits mixed so that each bit of the result depends on every bit of
+     * {@code hash}, as in the finalizer of SplitMix64.
      */
-    public int originalHashCode() {
-        return super.hashCode();
+    private static long mix(long hash) {
+        hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+        return hash ^ (hash >>> 31);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, amount, dateTime, location, type, categories);
     }
 
     /**
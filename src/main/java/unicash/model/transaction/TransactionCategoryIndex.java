@@ -0,0 +1,124 @@
+package unicash.model.transaction;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import unicash.commons.util.StringUtil;
+import unicash.model.category.Category;
+
+/**
+ * An index of transaction IDs by category, holding a posting list of the transactions in each category.
+ *
+ * <p>Each distinct category is interned in a {@link ValueDictionary}, which assigns it a small integer ID,
+ * and the posting list of the category is the {@link TransactionTimeIndex} at that ID. The transactions of
+ * a category are thus ordered by date and time and then by ID, so those within a period are found without
+ * reading the transactions in other categories or periods.</p>
+ *
+ * <p>Categories keep their ID for the life of the index, even once no transaction is in them, so a category
+ * with an ID at or above the number of categories seen at some point was first seen after that point.</p>
+ */
+class TransactionCategoryIndex {
+
+    private final ValueDictionary<Category> categoryIds = new ValueDictionary<>();
+    private final ArrayList<TransactionTimeIndex> postings = new ArrayList<>();
+
+    /**
+     * Adds {@code transaction} to the posting list of each of its categories.
+     */
+    void add(Transaction transaction) {
+        long epochMinute = transaction.getDateTime().getEpochMinute();
+        for (Category category : transaction.getCategories()) {
+            int categoryId = categoryIds.encode(category);
+            if (categoryId == postings.size()) {
+                postings.add(new TransactionTimeIndex());
+            }
+            postings.get(categoryId).add(epochMinute, transaction.getId());
+        }
+    }
+
+    /**
+     * Removes {@code transaction} from the posting list of each of its categories.
+     * The transaction must have been added.
+     */
+    void remove(Transaction transaction) {
+        long epochMinute = transaction.getDateTime().getEpochMinute();
+        for (Category category : transaction.getCategories()) {
+            int categoryId = categoryIds.codeOf(category);
+            boolean isRemoved = categoryId >= 0 && postings.get(categoryId).remove(epochMinute, transaction.getId());
+            assert isRemoved : "Category index does not hold the transaction";
+        }
+    }
+
+    /**
+     * Removes every transaction, keeping the IDs of the categories.
+     */
+    void clear() {
+        postings.forEach(TransactionTimeIndex::clear);
+    }
+
+    /**
+     * Replaces the transactions of the index with {@code transactions}.
+     */
+    void rebuild(Iterable<Transaction> transactions) {
+        clear();
+        transactions.forEach(this::add);
+    }
+
+    /**
+     * Passes each transaction in {@code category} dated from {@code startMinute} (inclusive) to
+     * {@code endMinute} (exclusive) to {@code consumer}, in chronological order.
+     */
+    void forEachBetween(Category category, long startMinute, long endMinute,
+            TransactionTimeIndex.EntryConsumer consumer) {
+        requireNonNull(category);
+        int categoryId = categoryIds.codeOf(category);
+        if (categoryId >= 0) {
+            postings.get(categoryId).forEachBetween(startMinute, endMinute, consumer);
+        }
+    }
+
+    /**
+     * Returns the number of transactions in {@code category}.
+     */
+    int countOf(Category category) {
+        int categoryId = categoryIds.codeOf(category);
+        return categoryId < 0 ? 0 : postings.get(categoryId).size();
+    }
+
+    /**
+     * Returns a test of whether a category contains {@code keyword}, ignoring case and the whitespace around
+     * the keyword. The categories seen so far that contain the keyword are found once, so testing one of them
+     * takes constant time. Categories first seen afterwards are searched for the keyword.
+     *
+     * @param keyword cannot be empty once trimmed, for the returned test to be used
+     */
+    Predicate<Category> getMatcher(String keyword) {
+        requireNonNull(keyword);
+        if (keyword.isBlank()) {
+            // An empty keyword is only rejected once a category is tested, as it is by a plain search
+            return category -> StringUtil.containsSubstringIgnoreCase(category.category, keyword);
+        }
+
+        String lowerCaseKeyword = keyword.trim().toLowerCase();
+        Set<Category> matches = new HashSet<>();
+        int categoriesSeen = categoryIds.size();
+        for (int categoryId = 0; categoryId < categoriesSeen; categoryId++) {
+            Category category = categoryIds.decode(categoryId);
+            if (category.category.contains(lowerCaseKeyword)) {
+                matches.add(category);
+            }
+        }
+
+        return category -> matches.contains(category)
+                || (isSeenAfter(category, categoriesSeen) && category.category.contains(lowerCaseKeyword));
+    }
+
+    private boolean isSeenAfter(Category category, int categoriesSeen) {
+        int categoryId = categoryIds.codeOf(category);
+        return categoryId < 0 || categoryId >= categoriesSeen;
+    }
+}
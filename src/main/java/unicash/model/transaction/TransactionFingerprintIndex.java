@@ -0,0 +1,232 @@
+package unicash.model.transaction;
+
+/**
+ * An index of the fingerprints of the transactions in a list, so that whether the list could hold a transaction
+ * equal to a given transaction is found without a scan of the whole list.
+ *
+ * <p>Each distinct fingerprint is held once in an open-addressing hash table of primitives, with the number of
+ * transactions that have it and the ID of one of them, its representative, through which one of those
+ * transactions can be read back. Equal transactions can be added any number of times at the cost of one entry.
+ * When the representative of a fingerprint is removed while other transactions still have the fingerprint,
+ * the representative becomes {@link #UNKNOWN} until one of those transactions is found and set as the new
+ * representative. Removed entries are marked rather than emptied, so that later entries in the same run of
+ * slots stay reachable, and are dropped when the table is next resized.</p>
+ *
+ * <p>Once the table has {@link #FILTER_MIN_CAPACITY} slots, lookups first check a Bloom filter of the
+ * fingerprints, which is a sixteenth of the size of the table, so most lookups of a fingerprint that is not
+ * in the index, such as while importing many new transactions, do not have to reach into the table.
+ * Fingerprints stay in the filter until the table is next resized, which only lets more lookups through.</p>
+ */
+class TransactionFingerprintIndex {
+
+    /** Returned by {@link #getRepresentative(long)} for a fingerprint that no transaction in the index has. */
+    static final long NOT_FOUND = -1;
+    /** Returned by {@link #getRepresentative(long)} for a fingerprint whose representative has been removed. */
+    static final long UNKNOWN = -2;
+
+    static final int FILTER_MIN_CAPACITY = 1 << 16;
+
+    private static final int INITIAL_CAPACITY = 16;
+    // Counts of the slots without a fingerprint
+    private static final int EMPTY = 0;
+    private static final int REMOVED = -1;
+
+    private long[] fingerprints;
+    private long[] representatives;
+    private int[] counts;
+    private int size;
+    private int removedCount;
+    // Bloom filter of the fingerprints in the table, or null while the table is too small to need one
+    private long[] filter;
+
+    /**
+     * Constructs an empty {@code TransactionFingerprintIndex}.
+     */
+    TransactionFingerprintIndex() {
+        clear();
+    }
+
+    /**
+     * Adds the transaction with the given {@code id} and {@code fingerprint}.
+     */
+    void add(long fingerprint, long id) {
+        assert id >= 0;
+        int slot = slotOf(fingerprint);
+        if (slot >= 0) {
+            counts[slot]++;
+            if (representatives[slot] == UNKNOWN) {
+                representatives[slot] = id;
+            }
+            return;
+        }
+
+        if ((size + removedCount + 1) * 4L > counts.length * 3L) {
+            resize(size + 1);
+        }
+        insert(fingerprint, id, 1);
+        size++;
+    }
+
+    /**
+     * Removes the transaction with the given {@code id} and {@code fingerprint}, which must have been added.
+     */
+    void remove(long fingerprint, long id) {
+        int slot = slotOf(fingerprint);
+        assert slot >= 0 : "Fingerprint is not in the index";
+
+        counts[slot]--;
+        if (counts[slot] == 0) {
+            counts[slot] = REMOVED;
+            size--;
+            removedCount++;
+        } else if (representatives[slot] == id) {
+            // Other transactions with the fingerprint may have a different ID
+            representatives[slot] = UNKNOWN;
+        }
+    }
+
+    /**
+     * Returns the ID of a transaction with the given {@code fingerprint}, {@link #UNKNOWN} if there are such
+     * transactions but their IDs are not known, or {@link #NOT_FOUND} if there are none.
+     */
+    long getRepresentative(long fingerprint) {
+        if (filter != null && !mightContain(fingerprint)) {
+            return NOT_FOUND;
+        }
+
+        int slot = slotOf(fingerprint);
+        return slot >= 0 ? representatives[slot] : NOT_FOUND;
+    }
+
+    /**
+     * Sets the transaction with the given {@code id} as the representative of {@code fingerprint},
+     * which must be in the index.
+     */
+    void setRepresentative(long fingerprint, long id) {
+        int slot = slotOf(fingerprint);
+        assert slot >= 0 : "Fingerprint is not in the index";
+        representatives[slot] = id;
+    }
+
+    /**
+     * Returns the number of transactions with the given {@code fingerprint}.
+     */
+    int countOf(long fingerprint) {
+        int slot = slotOf(fingerprint);
+        return slot >= 0 ? counts[slot] : 0;
+    }
+
+    /**
+     * Removes all entries.
+     */
+    void clear() {
+        fingerprints = new long[INITIAL_CAPACITY];
+        representatives = new long[INITIAL_CAPACITY];
+        counts = new int[INITIAL_CAPACITY];
+        size = 0;
+        removedCount = 0;
+        filter = null;
+    }
+
+    /**
+     * Replaces the entries of this index with a copy of the entries of {@code other}.
+     */
+    void setAll(TransactionFingerprintIndex other) {
+        fingerprints = other.fingerprints.clone();
+        representatives = other.representatives.clone();
+        counts = other.counts.clone();
+        size = other.size;
+        removedCount = other.removedCount;
+        filter = other.filter == null ? null : other.filter.clone();
+    }
+
+    /**
+     * Returns the number of distinct fingerprints in the index.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the slot that holds {@code fingerprint}, or -1 if it is not in the table.
+     */
+    private int slotOf(long fingerprint) {
+        int mask = counts.length - 1;
+        for (int slot = (int) fingerprint & mask; counts[slot] != EMPTY; slot = (slot + 1) & mask) {
+            if (counts[slot] > 0 && fingerprints[slot] == fingerprint) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Moves the entries into a table with room for at least {@code minSize} entries at under half full,
+     * dropping the removed entries.
+     */
+    private void resize(int minSize) {
+        int capacity = INITIAL_CAPACITY;
+        while (capacity < minSize * 2L) {
+            capacity *= 2;
+        }
+
+        long[] oldFingerprints = fingerprints;
+        long[] oldRepresentatives = representatives;
+        int[] oldCounts = counts;
+        fingerprints = new long[capacity];
+        representatives = new long[capacity];
+        counts = new int[capacity];
+        removedCount = 0;
+        filter = capacity >= FILTER_MIN_CAPACITY ? new long[capacity / 16] : null;
+        for (int slot = 0; slot < oldCounts.length; slot++) {
+            if (oldCounts[slot] > 0) {
+                insert(oldFingerprints[slot], oldRepresentatives[slot], oldCounts[slot]);
+            }
+        }
+    }
+
+    /**
+     * Puts an entry for {@code fingerprint}, which is not in the table, in the first slot without an entry
+     * from its slot. The table must have such a slot.
+     */
+    private void insert(long fingerprint, long representative, int count) {
+        int mask = counts.length - 1;
+        int slot = (int) fingerprint & mask;
+        while (counts[slot] > 0) {
+            slot = (slot + 1) & mask;
+        }
+        if (counts[slot] == REMOVED) {
+            removedCount--;
+        }
+        fingerprints[slot] = fingerprint;
+        representatives[slot] = representative;
+        counts[slot] = count;
+
+        if (filter != null) {
+            filter[filterWordOf(fingerprint)] |= filterBitsOf(fingerprint);
+        }
+    }
+
+    private boolean mightContain(long fingerprint) {
+        long bits = filterBitsOf(fingerprint);
+        return (filter[filterWordOf(fingerprint)] & bits) == bits;
+    }
+
+    /**
+     * Returns the word of the filter that holds the bits of {@code fingerprint}. The word is chosen by the
+     * high bits of the fingerprint, as its low bits choose its slot in the table.
+     */
+    private int filterWordOf(long fingerprint) {
+        return (int) (fingerprint >>> 32) & (filter.length - 1);
+    }
+
+    /**
+     * Returns the bits within a word of the filter that are set for {@code fingerprint}, which are up to four.
+     */
+    private static long filterBitsOf(long fingerprint) {
+        // Multiplying spreads every bit of the fingerprint into the high bits, so that the choice of bits
+        // does not follow the choice of word
+        long hash = fingerprint * 0x9e3779b97f4a7c15L;
+        return (1L << (hash >>> 58)) | (1L << (hash >>> 52)) | (1L << (hash >>> 46)) | (1L << (hash >>> 40));
+    }
+}
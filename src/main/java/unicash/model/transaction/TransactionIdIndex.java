@@ -0,0 +1,206 @@
+package unicash.model.transaction;
+
+/**
+ * An index of the IDs of the rows in a list, so that the row of a transaction with a given ID is found
+ * without a scan of the whole list.
+ *
+ * <p>Each distinct ID is held once in an open-addressing hash table of primitives, with the number of rows
+ * that have it and the location of one of them, given as a block of rows and an offset within that block.
+ * The list must update the location of each row it moves. When the located row is removed while other rows
+ * still have the ID, such as copies of the same transaction, its location becomes unknown until one of those
+ * rows is found and located again. Removed entries are emptied by moving later entries of the same run of
+ * slots back into them, so the table never fills with removed entries.</p>
+ *
+ * @param <B> the type of the blocks that hold the rows.
+ */
+class TransactionIdIndex<B> {
+
+    private static final int INITIAL_CAPACITY = 16;
+    // Count of a slot without an ID
+    private static final int EMPTY = 0;
+
+    private long[] ids;
+    private Object[] blocks;
+    private int[] offsets;
+    private int[] counts;
+    private int size;
+
+    /**
+     * Constructs an empty {@code TransactionIdIndex}.
+     */
+    TransactionIdIndex() {
+        clear();
+    }
+
+    /**
+     * Adds a row with the given {@code id} at {@code offset} within {@code block}.
+     */
+    void add(long id, B block, int offset) {
+        int slot = slotOf(id);
+        if (slot >= 0) {
+            counts[slot]++;
+            blocks[slot] = block;
+            offsets[slot] = offset;
+            return;
+        }
+
+        if ((size + 1) * 4L > counts.length * 3L) {
+            resize(counts.length * 2);
+        }
+        insert(id, block, offset, 1);
+        size++;
+    }
+
+    /**
+     * Records that a row with the given {@code id}, which must be in the index, is at {@code offset}
+     * within {@code block}.
+     */
+    void setLocation(long id, B block, int offset) {
+        int slot = slotOf(id);
+        assert slot >= 0 : "ID is not in the index";
+        blocks[slot] = block;
+        offsets[slot] = offset;
+    }
+
+    /**
+     * Removes the row with the given {@code id} at {@code offset} within {@code block}, which must have been
+     * added.
+     */
+    void remove(long id, B block, int offset) {
+        int slot = slotOf(id);
+        assert slot >= 0 : "ID is not in the index";
+
+        counts[slot]--;
+        if (counts[slot] == 0) {
+            removeSlot(slot);
+            size--;
+        } else if (blocks[slot] == block && offsets[slot] == offset) {
+            // Other rows with the ID may be anywhere in the list
+            blocks[slot] = null;
+        }
+    }
+
+    /**
+     * Returns the block holding a row with the given {@code id}, or null if there are no such rows or their
+     * location is not known.
+     */
+    @SuppressWarnings("unchecked")
+    B getBlock(long id) {
+        int slot = slotOf(id);
+        return slot >= 0 ? (B) blocks[slot] : null;
+    }
+
+    /**
+     * Returns the offset, within the block returned by {@link #getBlock(long)}, of a row with the given
+     * {@code id}, which must be located.
+     */
+    int getOffset(long id) {
+        int slot = slotOf(id);
+        assert slot >= 0 && blocks[slot] != null : "ID is not located";
+        return offsets[slot];
+    }
+
+    /**
+     * Returns the number of rows with the given {@code id}.
+     */
+    int countOf(long id) {
+        int slot = slotOf(id);
+        return slot >= 0 ? counts[slot] : 0;
+    }
+
+    /**
+     * Removes all entries.
+     */
+    void clear() {
+        ids = new long[INITIAL_CAPACITY];
+        blocks = new Object[INITIAL_CAPACITY];
+        offsets = new int[INITIAL_CAPACITY];
+        counts = new int[INITIAL_CAPACITY];
+        size = 0;
+    }
+
+    /**
+     * Returns the number of distinct IDs in the index.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the slot that holds {@code id}, or -1 if it is not in the table.
+     */
+    private int slotOf(long id) {
+        int mask = counts.length - 1;
+        for (int slot = homeSlotOf(id, mask); counts[slot] != EMPTY; slot = (slot + 1) & mask) {
+            if (ids[slot] == id) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Empties {@code slot}, moving back each later entry of the same run of slots that can no longer be
+     * reached from its home slot past the emptied slot.
+     */
+    private void removeSlot(int slot) {
+        int mask = counts.length - 1;
+        int emptied = slot;
+        for (int next = (emptied + 1) & mask; counts[next] != EMPTY; next = (next + 1) & mask) {
+            int home = homeSlotOf(ids[next], mask);
+            if (((next - home) & mask) >= ((next - emptied) & mask)) {
+                ids[emptied] = ids[next];
+                blocks[emptied] = blocks[next];
+                offsets[emptied] = offsets[next];
+                counts[emptied] = counts[next];
+                emptied = next;
+            }
+        }
+        blocks[emptied] = null;
+        counts[emptied] = EMPTY;
+    }
+
+    /**
+     * Moves the entries into a table with {@code capacity} slots.
+     */
+    private void resize(int capacity) {
+        long[] oldIds = ids;
+        Object[] oldBlocks = blocks;
+        int[] oldOffsets = offsets;
+        int[] oldCounts = counts;
+        ids = new long[capacity];
+        blocks = new Object[capacity];
+        offsets = new int[capacity];
+        counts = new int[capacity];
+        for (int slot = 0; slot < oldCounts.length; slot++) {
+            if (oldCounts[slot] != EMPTY) {
+                insert(oldIds[slot], oldBlocks[slot], oldOffsets[slot], oldCounts[slot]);
+            }
+        }
+    }
+
+    /**
+     * Puts an entry for {@code id}, which is not in the table, in the first empty slot from its home slot.
+     * The table must have an empty slot.
+     */
+    private void insert(long id, Object block, int offset, int count) {
+        int mask = counts.length - 1;
+        int slot = homeSlotOf(id, mask);
+        while (counts[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        ids[slot] = id;
+        blocks[slot] = block;
+        offsets[slot] = offset;
+        counts[slot] = count;
+    }
+
+    /**
+     * Returns the slot an entry for {@code id} is put in if that slot is empty.
+     */
+    private static int homeSlotOf(long id, int mask) {
+        // IDs are mostly consecutive, so they are spread by multiplying before the low bits are taken
+        long hash = id * 0x9e3779b97f4a7c15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
@@ -1,40 +1,111 @@
 package unicash.model.transaction;
 
 import static java.util.Objects.requireNonNull;
+import static unicash.commons.util.AppUtil.checkArgument;
 import static unicash.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.TreeMap;
+import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import unicash.model.category.Category;
 import unicash.model.transaction.exceptions.MaxTransactionException;
 import unicash.model.transaction.exceptions.TransactionNotFoundException;
 
 /**
  * A list of Transactions that does not allow nulls.
  * Supports a minimal set of list operations.
+ *
+ * <p>Transactions are indexed by their ID, by their date and time, by their names and locations in
+ * {@link TransactionTextIndex}es, by their categories in a {@link TransactionCategoryIndex} and by their
+ * fingerprints in a {@link TransactionFingerprintIndex}, so that lookups by any of these do not require
+ * a scan of the whole list.</p>
+ *
+ * <p>Both the list and the index of dates and times are kept in blocks of bounded size, so adding,
+ * replacing and removing a transaction costs time proportional to the block size rather than to
+ * the number of transactions, up to {@link #MAX_TRANSACTIONS}.</p>
+ *
+ * <p>Transactions are stored field by field in a {@link ColumnarTransactionList} and materialized
+ * when read, so the transactions read from this list are equal to, but not the same objects as,
+ * the transactions added to it.</p>
  */
 public class TransactionList implements Iterable<Transaction> {
-    public static final int MAX_TRANSACTIONS = 100000;
+    public static final int MAX_TRANSACTIONS = 10_000_000;
     public static final String MESSAGE_SIZE_CONSTRAINTS =
-            "UniCa$h supports up to a maximum of 100,000 transactions.";
+            "UniCa$h supports up to a maximum of 10,000,000 transactions.";
 
     private static final Logger logger = Logger.getLogger("TransactionListLogger");
     private static final String TRANSACTION_NOT_FOUND_LOG = "Transaction not found in TransactionList!";
 
-    private final ObservableList<Transaction> internalList = FXCollections.observableArrayList();
+    private final ColumnarTransactionList internalList = new ColumnarTransactionList();
     private final ObservableList<Transaction> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    private final TransactionTimeIndex timeIndex = new TransactionTimeIndex();
+    private final TransactionTextIndex nameIndex = new TransactionTextIndex();
+    private final TransactionTextIndex locationIndex = new TransactionTextIndex();
+    private final TransactionCategoryIndex categoryIndex = new TransactionCategoryIndex();
+    private final TransactionFingerprintIndex fingerprintIndex = new TransactionFingerprintIndex();
+    private final int maxTransactions;
+
+    /**
+     * Constructs an empty {@code TransactionList} that holds up to {@link #MAX_TRANSACTIONS} transactions.
+     */
+    public TransactionList() {
+        this(MAX_TRANSACTIONS);
+    }
+
+    /**
+     * Constructs an empty {@code TransactionList} that holds up to {@code maxTransactions} transactions,
+     * so that the limit can be exercised without filling a list to {@link #MAX_TRANSACTIONS}.
+     */
+    public TransactionList(int maxTransactions) {
+        checkArgument(maxTransactions > 0, "The maximum number of transactions must be positive.");
+        this.maxTransactions = maxTransactions;
+    }
+
     /**
      * Returns true if the list contains an equivalent Transaction as the given argument.
      */
     public boolean contains(Transaction toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        long fingerprint = toCheck.getFingerprint();
+        long representative = fingerprintIndex.getRepresentative(fingerprint);
+        if (representative == TransactionFingerprintIndex.NOT_FOUND) {
+            return false;
+        }
+        if (representative != TransactionFingerprintIndex.UNKNOWN
+                && internalList.get(indexOf(representative)).equals(toCheck)) {
+            return true;
+        }
+
+        // The representative has been removed, or is another copy of a transaction with its ID that has since
+        // been edited, or the fingerprints of different transactions collided
+        for (int i = 0; i < internalList.size(); i++) {
+            Transaction transaction = internalList.get(i);
+            if (transaction.getFingerprint() == fingerprint && transaction.equals(toCheck)) {
+                fingerprintIndex.setRepresentative(fingerprint, transaction.getId());
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if the list contains a Transaction with the given {@code id}.
+     */
+    public boolean hasTransactionWithId(long id) {
+        return indexOf(id) != -1;
     }
 
     /**
@@ -46,6 +117,21 @@ public class TransactionList implements Iterable<Transaction> {
             throw new MaxTransactionException();
         }
         internalList.add(toAdd);
+        addToIndexes(toAdd);
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the end of the list, as a single change.
+     * Either all of them are added, or none if there is no room for them all.
+     */
+    public void addAll(List<Transaction> toAdd) {
+        requireAllNonNull(toAdd);
+        if (internalList.size() + toAdd.size() > maxTransactions) {
+            throw new MaxTransactionException();
+        }
+
+        internalList.addAll(toAdd);
+        toAdd.forEach(this::addToIndexes);
     }
 
 
@@ -56,56 +142,268 @@ public class TransactionList implements Iterable<Transaction> {
     public void setTransaction(Transaction target, Transaction editedTransaction) {
         requireAllNonNull(target, editedTransaction);
 
-        int targetHashCode = target.originalHashCode();
-        int targetIndex = -1;
-
-        for (int i = 0; i < internalList.size(); i++) {
-            if (internalList.get(i).originalHashCode() == targetHashCode) {
-                targetIndex = i;
-                break;
-            }
+        int targetIndex = indexOf(target);
+        if (targetIndex == -1) {
+            logger.log(Level.INFO, TRANSACTION_NOT_FOUND_LOG);
+            throw new TransactionNotFoundException();
         }
 
+        Transaction replaced = internalList.set(targetIndex, editedTransaction);
+        replaceInIndexes(replaced, editedTransaction);
+    }
 
+    /**
+     * Removes the Transaction with the same ID as {@code toRemove} from the list.
+     * The Transaction must exist in the list.
+     */
+    public void remove(Transaction toRemove) {
+        requireNonNull(toRemove);
+
+        int targetIndex = indexOf(toRemove);
         if (targetIndex == -1) {
             logger.log(Level.INFO, TRANSACTION_NOT_FOUND_LOG);
             throw new TransactionNotFoundException();
         }
 
-        internalList.set(targetIndex, editedTransaction);
+        Transaction removed = internalList.remove(targetIndex);
+        removeFromIndexes(removed);
+    }
+
+    /**
+     * Replaces each Transaction in {@code targets} with the Transaction at the same position of
+     * {@code editedTransactions}, as a single change. Every target must exist in the list, or nothing is replaced.
+     */
+    public void replaceTransactions(List<Transaction> targets, List<Transaction> editedTransactions) {
+        requireAllNonNull(targets);
+        requireAllNonNull(editedTransactions);
+        checkArgument(targets.size() == editedTransactions.size(),
+                "Each target must have one transaction to replace it with.");
+
+        // Replacements are made in the order of their positions, so each position is located once
+        TreeMap<Integer, Transaction> replacementsByPosition = new TreeMap<>();
+        for (int i = 0; i < targets.size(); i++) {
+            replacementsByPosition.put(indexOfExisting(targets.get(i)), editedTransactions.get(i));
+        }
+
+        int[] positions = replacementsByPosition.keySet().stream().mapToInt(Integer::intValue).toArray();
+        List<Transaction> replacements = new ArrayList<>(replacementsByPosition.values());
+        List<Transaction> replaced = internalList.setPositions(positions, replacements);
+        for (int i = 0; i < positions.length; i++) {
+            replaceInIndexes(replaced.get(i), replacements.get(i));
+        }
+    }
+
+    /**
+     * Removes the Transactions with the same IDs as {@code toRemove} from the list in a single pass, as a single
+     * change. Every Transaction must exist in the list, or nothing is removed.
+     */
+    public void removeAll(List<Transaction> toRemove) {
+        requireAllNonNull(toRemove);
 
+        BitSet positions = new BitSet(internalList.size());
+        for (Transaction transaction : toRemove) {
+            positions.set(indexOfExisting(transaction));
+        }
+
+        internalList.removePositions(positions).forEach(this::removeFromIndexes);
     }
 
     /**
-     * Removes the equivalent Transaction from the list.
-     * The Transaction must exist in the list.
+     * Returns the transactions dated from {@code start} (inclusive) to {@code end} (exclusive),
+     * in chronological order.
      */
-    public void remove(Transaction toRemove) {
-        requireNonNull(toRemove);
+    public List<Transaction> getTransactionsBetween(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
 
-        int targetHashCode = toRemove.originalHashCode();
-        int targetIndex = -1;
+        long startMinute = toEpochMinuteRoundedUp(start);
+        long endMinute = toEpochMinuteRoundedUp(end);
+        if (startMinute >= endMinute) {
+            return Collections.emptyList();
+        }
+
+        List<Transaction> transactionsBetween = new ArrayList<>();
+        timeIndex.forEachBetween(startMinute, endMinute, (minute, id) ->
+                transactionsBetween.add(internalList.get(positionOf(id, minute))));
+        return Collections.unmodifiableList(transactionsBetween);
+    }
 
+    /**
+     * Returns the transactions in {@code category} dated from {@code start} (inclusive) to {@code end}
+     * (exclusive), in chronological order. Only the transactions in the category are read.
+     */
+    public List<Transaction> getTransactionsBetween(Category category, LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(category, start, end);
+
+        long startMinute = toEpochMinuteRoundedUp(start);
+        long endMinute = toEpochMinuteRoundedUp(end);
+        if (startMinute >= endMinute) {
+            return Collections.emptyList();
+        }
+
+        List<Transaction> transactionsBetween = new ArrayList<>();
+        categoryIndex.forEachBetween(category, startMinute, endMinute, (minute, id) ->
+                transactionsBetween.add(internalList.get(positionOf(id, minute))));
+        return Collections.unmodifiableList(transactionsBetween);
+    }
+
+    /**
+     * Returns a test of whether a category contains {@code keyword}, ignoring case,
+     * which looks up the categories of the transactions in this list in an index.
+     */
+    public Predicate<Category> getCategoryMatcher(String keyword) {
+        return categoryIndex.getMatcher(keyword);
+    }
+
+    /**
+     * Returns a test of whether a transaction name contains {@code keyword}, ignoring case,
+     * which looks up the names of the transactions in this list in an index.
+     *
+     * @see TransactionTextIndex#getMatcher(String)
+     */
+    public Predicate<String> getNameMatcher(String keyword) {
+        return nameIndex.getMatcher(keyword);
+    }
+
+    /**
+     * Returns a test of whether a transaction location contains {@code keyword}, ignoring case,
+     * which looks up the locations of the transactions in this list in an index.
+     *
+     * @see TransactionTextIndex#getMatcher(String)
+     */
+    public Predicate<String> getLocationMatcher(String keyword) {
+        return locationIndex.getMatcher(keyword);
+    }
+
+    /**
+     * Returns the position of the transaction with the given {@code id} at {@code epochMinute}.
+     * The transaction must exist in the list.
+     */
+    private int positionOf(long id, long epochMinute) {
+        int position = indexOf(id);
+        if (internalList.getEpochMinute(position) == epochMinute) {
+            return position;
+        }
+
+        // Another copy of the same transaction has since been edited to a different time
         for (int i = 0; i < internalList.size(); i++) {
-            if (internalList.get(i).originalHashCode() == targetHashCode) {
-                targetIndex = i;
-                break;
+            if (internalList.getId(i) == id && internalList.getEpochMinute(i) == epochMinute) {
+                return i;
             }
         }
+        throw new IllegalStateException("Time index refers to a transaction that is not in the list");
+    }
 
-        if (targetIndex == -1) {
+    /**
+     * Returns the position of the transaction with the same ID as {@code target}, which must exist in the list.
+     */
+    private int indexOfExisting(Transaction target) {
+        int index = indexOf(target);
+        if (index == -1) {
             logger.log(Level.INFO, TRANSACTION_NOT_FOUND_LOG);
             throw new TransactionNotFoundException();
         }
+        return index;
+    }
 
-        internalList.remove(targetIndex);
+    /**
+     * Returns the position of the transaction with the same ID as {@code target},
+     * or -1 if there is no such transaction in the list.
+     */
+    private int indexOf(Transaction target) {
+        return indexOf(target.getId());
+    }
+
+    /**
+     * Returns the position of the transaction with the given {@code targetId},
+     * or -1 if there is no such transaction in the list.
+     */
+    private int indexOf(long targetId) {
+        return internalList.indexOfId(targetId);
+    }
+
+    /**
+     * Returns the first epoch minute at or after {@code dateTime}. Transactions are dated to the minute,
+     * so no transaction lies between {@code dateTime} and that minute.
+     */
+    private static long toEpochMinuteRoundedUp(LocalDateTime dateTime) {
+        LocalDateTime truncated = dateTime.truncatedTo(ChronoUnit.MINUTES);
+        long minute = DateTime.toEpochMinute(truncated);
+        return truncated.equals(dateTime) ? minute : minute + 1;
+    }
+
+    private void rebuildTimeIndex() {
+        int size = internalList.size();
+        long[] epochMinutes = new long[size];
+        long[] ids = new long[size];
+        internalList.copyEpochMinutesAndIds(epochMinutes, ids);
+        timeIndex.rebuild(epochMinutes, ids, size);
+    }
+
+    private void rebuildValueIndexes(List<Transaction> transactions) {
+        nameIndex.clear();
+        locationIndex.clear();
+        fingerprintIndex.clear();
+        for (Transaction transaction : transactions) {
+            nameIndex.add(transaction.getName().fullName);
+            locationIndex.add(transaction.getLocation().location);
+            fingerprintIndex.add(transaction.getFingerprint(), transaction.getId());
+        }
+        categoryIndex.rebuild(transactions);
+    }
+
+    private void addToIndexes(Transaction transaction) {
+        timeIndex.add(transaction.getDateTime().getEpochMinute(), transaction.getId());
+        nameIndex.add(transaction.getName().fullName);
+        locationIndex.add(transaction.getLocation().location);
+        categoryIndex.add(transaction);
+        fingerprintIndex.add(transaction.getFingerprint(), transaction.getId());
+    }
+
+    private void removeFromIndexes(Transaction transaction) {
+        timeIndex.remove(transaction.getDateTime().getEpochMinute(), transaction.getId());
+        nameIndex.remove(transaction.getName().fullName);
+        locationIndex.remove(transaction.getLocation().location);
+        categoryIndex.remove(transaction);
+        fingerprintIndex.remove(transaction.getFingerprint(), transaction.getId());
+    }
+
+    /**
+     * Updates the indexes for {@code replaced} being replaced by {@code replacement}, leaving alone the entries
+     * of the fields that the replacement does not change.
+     */
+    private void replaceInIndexes(Transaction replaced, Transaction replacement) {
+        boolean isSameId = replaced.getId() == replacement.getId();
+        long replacedMinute = replaced.getDateTime().getEpochMinute();
+        long replacementMinute = replacement.getDateTime().getEpochMinute();
+        boolean isSameTimeKey = isSameId && replacedMinute == replacementMinute;
+
+        if (!isSameTimeKey) {
+            timeIndex.remove(replacedMinute, replaced.getId());
+            timeIndex.add(replacementMinute, replacement.getId());
+        }
+        if (!replaced.getName().fullName.equals(replacement.getName().fullName)) {
+            nameIndex.remove(replaced.getName().fullName);
+            nameIndex.add(replacement.getName().fullName);
+        }
+        if (!replaced.getLocation().location.equals(replacement.getLocation().location)) {
+            locationIndex.remove(replaced.getLocation().location);
+            locationIndex.add(replacement.getLocation().location);
+        }
+        if (!isSameTimeKey || !replaced.getCategories().equals(replacement.getCategories())) {
+            categoryIndex.remove(replaced);
+            categoryIndex.add(replacement);
+        }
+        if (!isSameId || replaced.getFingerprint() != replacement.getFingerprint()) {
+            fingerprintIndex.remove(replaced.getFingerprint(), replaced.getId());
+            fingerprintIndex.add(replacement.getFingerprint(), replacement.getId());
+        }
     }
 
     /**
      * Returns true if the storage is full, false otherwise.
      */
     public boolean isFull() {
-        return internalList.size() == MAX_TRANSACTIONS;
+        return internalList.size() >= maxTransactions;
     }
 
     /**
@@ -114,7 +412,16 @@ public class TransactionList implements Iterable<Transaction> {
      */
     public void setTransactions(TransactionList replacement) {
         requireNonNull(replacement);
+        if (replacement.internalList.size() > maxTransactions) {
+            throw new MaxTransactionException();
+        }
+
         internalList.setAll(replacement.internalList);
+        rebuildTimeIndex();
+        nameIndex.setAll(replacement.nameIndex);
+        locationIndex.setAll(replacement.locationIndex);
+        categoryIndex.rebuild(replacement.internalList);
+        fingerprintIndex.setAll(replacement.fingerprintIndex);
     }
 
     /**
@@ -123,11 +430,13 @@ public class TransactionList implements Iterable<Transaction> {
      */
     public void setTransactions(List<Transaction> transactions) {
         requireAllNonNull(transactions);
-        if (isMoreThanMax(transactions)) {
+        if (transactions.size() > maxTransactions) {
             throw new MaxTransactionException();
         }
 
         internalList.setAll(transactions);
+        rebuildTimeIndex();
+        rebuildValueIndexes(transactions);
     }
 
     /**
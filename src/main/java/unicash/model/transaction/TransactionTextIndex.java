@@ -0,0 +1,209 @@
+package unicash.model.transaction;
+
+import static java.util.Objects.requireNonNull;
+import static unicash.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import unicash.commons.util.StringUtil;
+
+/**
+ * An index of the distinct text values of a field of the transactions in a list, such as their names,
+ * for finding the values that contain a keyword regardless of case.
+ *
+ * <p>Each value is lowercased once, when it is first added, and listed under each trigram (run of three
+ * characters) of its lowercased form. A keyword of three or more characters can only be contained in the
+ * values listed under every one of its trigrams, so only those values are checked. Shorter keywords are
+ * checked against every value.</p>
+ *
+ * <p>Values are counted, so a value stays in the index until each transaction added with it is removed.
+ * The index holds each distinct value once, however many transactions share it.</p>
+ */
+public class TransactionTextIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    // Lowercased form, number of occurrences and time of first addition of each value
+    private final HashMap<String, Entry> entries = new HashMap<>();
+    // Values whose lowercased form contains each trigram, keyed by the packed characters of the trigram
+    private final HashMap<Long, Set<String>> postings = new HashMap<>();
+    // Number of values added so far, used to tell which values a matcher has not seen
+    private long additions = 0;
+
+    /**
+     * Adds an occurrence of {@code value}.
+     */
+    public void add(String value) {
+        requireNonNull(value);
+        Entry entry = entries.get(value);
+        if (entry == null) {
+            entry = new Entry(value.toLowerCase(), additions++);
+            entries.put(value, entry);
+            for (long gram : gramsOf(entry.lowerCase)) {
+                postings.computeIfAbsent(gram, unused -> new HashSet<>()).add(value);
+            }
+        }
+        entry.count++;
+    }
+
+    /**
+     * Removes an occurrence of {@code value}, which must have been added.
+     */
+    public void remove(String value) {
+        requireNonNull(value);
+        Entry entry = entries.get(value);
+        checkArgument(entry != null, "Value is not in the index");
+
+        entry.count--;
+        if (entry.count > 0) {
+            return;
+        }
+
+        entries.remove(value);
+        for (long gram : gramsOf(entry.lowerCase)) {
+            Set<String> values = postings.get(gram);
+            values.remove(value);
+            if (values.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Removes all values. Values added afterwards count as new to the matchers already returned.
+     */
+    public void clear() {
+        entries.clear();
+        postings.clear();
+    }
+
+    /**
+     * Replaces the contents of this index with a copy of {@code other}.
+     */
+    public void setAll(TransactionTextIndex other) {
+        requireNonNull(other);
+        clear();
+        other.entries.forEach((value, entry) -> entries.put(value, new Entry(entry, additions++)));
+        other.postings.forEach((gram, values) -> postings.put(gram, new HashSet<>(values)));
+    }
+
+    /**
+     * Returns the values that contain {@code keyword}, ignoring case and the whitespace around the keyword.
+     *
+     * @param keyword cannot be empty once trimmed
+     */
+    public Set<String> getValuesContaining(String keyword) {
+        requireNonNull(keyword);
+        String lowerCaseKeyword = keyword.trim().toLowerCase();
+        checkArgument(!lowerCaseKeyword.isEmpty(), "Keyword cannot be empty");
+
+        Set<String> matches = new HashSet<>();
+        for (String candidate : getCandidates(lowerCaseKeyword)) {
+            if (entries.get(candidate).lowerCase.contains(lowerCaseKeyword)) {
+                matches.add(candidate);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns a test of whether a value contains {@code keyword}, ignoring case and the whitespace around the
+     * keyword. The values in the index that contain the keyword are found once, so testing a value that was in
+     * the index takes constant time. Values added to the index afterwards are searched for the keyword.
+     *
+     * @param keyword cannot be empty once trimmed, for the returned test to be used
+     */
+    public Predicate<String> getMatcher(String keyword) {
+        requireNonNull(keyword);
+        if (keyword.isBlank()) {
+            // An empty keyword is only rejected once a value is tested, as it is by a plain search
+            return value -> StringUtil.containsSubstringIgnoreCase(value, keyword);
+        }
+
+        Set<String> matches = getValuesContaining(keyword);
+        String lowerCaseKeyword = keyword.trim().toLowerCase();
+        long additionsSeen = additions;
+        return value -> {
+            if (matches.contains(value)) {
+                return true;
+            }
+            Entry entry = entries.get(value);
+            if (entry == null) {
+                return value.toLowerCase().contains(lowerCaseKeyword);
+            }
+            return entry.addedAt >= additionsSeen && entry.lowerCase.contains(lowerCaseKeyword);
+        };
+    }
+
+    /**
+     * Returns the values that could contain {@code lowerCaseKeyword}, which are the values listed under
+     * every trigram of the keyword, or every value if the keyword is too short to have a trigram.
+     */
+    private Set<String> getCandidates(String lowerCaseKeyword) {
+        if (lowerCaseKeyword.length() < GRAM_LENGTH) {
+            return entries.keySet();
+        }
+
+        List<Set<String>> gramPostings = new ArrayList<>();
+        for (long gram : gramsOf(lowerCaseKeyword)) {
+            Set<String> values = postings.get(gram);
+            if (values == null) {
+                return Collections.emptySet();
+            }
+            gramPostings.add(values);
+        }
+
+        // Only the values in the shortest posting list can be in all of them
+        gramPostings.sort((first, second) -> Integer.compare(first.size(), second.size()));
+        Set<String> candidates = new HashSet<>(gramPostings.get(0));
+        for (int i = 1; i < gramPostings.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(gramPostings.get(i));
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the distinct trigrams of {@code text}, each packed into a {@code long}.
+     */
+    private static Set<Long> gramsOf(String text) {
+        Set<Long> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            grams.add(((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2));
+        }
+        return grams;
+    }
+
+    /**
+     * Returns the number of distinct values in the index.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * The lowercased form of a value, the number of transactions with the value, and the number of
+     * values added to the index before it.
+     */
+    private static class Entry {
+        private final String lowerCase;
+        private final long addedAt;
+        private int count;
+
+        private Entry(String lowerCase, long addedAt) {
+            this.lowerCase = lowerCase;
+            this.addedAt = addedAt;
+        }
+
+        private Entry(Entry toCopy, long addedAt) {
+            this.lowerCase = toCopy.lowerCase;
+            this.addedAt = addedAt;
+            this.count = toCopy.count;
+        }
+    }
+}
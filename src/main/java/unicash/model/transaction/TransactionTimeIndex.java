@@ -0,0 +1,287 @@
+package unicash.model.transaction;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * An index of transaction IDs ordered by the date and time of their transaction, in epoch minutes,
+ * and then by ID.
+ *
+ * <p>Entries are kept as pairs of primitives in sorted blocks of at most {@link #BLOCK_CAPACITY}
+ * entries, so adding or removing an entry costs time proportional to the block capacity and the
+ * logarithm of the number of blocks, and each entry costs two longs rather than boxed objects.</p>
+ */
+class TransactionTimeIndex {
+
+    static final int BLOCK_CAPACITY = 4096;
+
+    private static final int INITIAL_BLOCK_CAPACITY = 16;
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+
+    private final ArrayList<Block> blocks = new ArrayList<>();
+    private int size = 0;
+
+    /**
+     * Consumes the entries of the index.
+     */
+    @FunctionalInterface
+    interface EntryConsumer {
+        void accept(long epochMinute, long id);
+    }
+
+    /**
+     * Returns the number of entries in the index.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Adds an entry for the transaction with the given {@code id} at {@code epochMinute}.
+     */
+    void add(long epochMinute, long id) {
+        if (blocks.isEmpty()) {
+            blocks.add(new Block());
+        }
+
+        int blockIndex = blockIndexFor(epochMinute, id);
+        Block block = blocks.get(blockIndex);
+        int offset = block.insertionPoint(epochMinute, id);
+        if (block.size == BLOCK_CAPACITY) {
+            Block upperHalf = block.splitUpperHalf();
+            blocks.add(blockIndex + 1, upperHalf);
+            if (offset > block.size) {
+                offset -= block.size;
+                block = upperHalf;
+            }
+        }
+
+        block.insert(offset, epochMinute, id);
+        size++;
+    }
+
+    /**
+     * Removes one entry for the transaction with the given {@code id} at {@code epochMinute}.
+     *
+     * @return true if there was such an entry.
+     */
+    boolean remove(long epochMinute, long id) {
+        if (blocks.isEmpty()) {
+            return false;
+        }
+
+        int blockIndex = blockIndexFor(epochMinute, id);
+        Block block = blocks.get(blockIndex);
+        int offset = block.insertionPoint(epochMinute, id) - 1;
+        if (offset < 0 || block.epochMinutes[offset] != epochMinute || block.ids[offset] != id) {
+            return false;
+        }
+
+        block.remove(offset);
+        size--;
+        if (block.size == 0) {
+            blocks.remove(blockIndex);
+        }
+        return true;
+    }
+
+    /**
+     * Passes each entry from {@code startMinute} (inclusive) to {@code endMinute} (exclusive)
+     * to {@code consumer}, in order.
+     */
+    void forEachBetween(long startMinute, long endMinute, EntryConsumer consumer) {
+        if (blocks.isEmpty() || startMinute >= endMinute) {
+            return;
+        }
+
+        // Entries at startMinute come after the pair (startMinute - 1, Long.MAX_VALUE) and no other entry does
+        int blockIndex = blockIndexFor(startMinute - 1, Long.MAX_VALUE);
+        int offset = blocks.get(blockIndex).insertionPoint(startMinute - 1, Long.MAX_VALUE);
+        for (; blockIndex < blocks.size(); blockIndex++, offset = 0) {
+            Block block = blocks.get(blockIndex);
+            for (; offset < block.size; offset++) {
+                if (block.epochMinutes[offset] >= endMinute) {
+                    return;
+                }
+                consumer.accept(block.epochMinutes[offset], block.ids[offset]);
+            }
+        }
+    }
+
+    /**
+     * Replaces the entries of the index with the first {@code count} pairs of {@code epochMinutes}
+     * and {@code ids}. Both arrays are reordered by this method.
+     */
+    void rebuild(long[] epochMinutes, long[] ids, int count) {
+        if (!isSorted(epochMinutes, ids, count)) {
+            sort(epochMinutes, ids, 0, count - 1);
+        }
+
+        blocks.clear();
+        for (int from = 0; from < count; from += BLOCK_CAPACITY) {
+            Block block = new Block();
+            block.append(epochMinutes, ids, from, Math.min(count, from + BLOCK_CAPACITY));
+            blocks.add(block);
+        }
+        size = count;
+    }
+
+    /**
+     * Removes all entries.
+     */
+    void clear() {
+        blocks.clear();
+        size = 0;
+    }
+
+    /**
+     * Returns the index of the block that holds, or would hold, the pair ({@code epochMinute}, {@code id}):
+     * the last block whose first entry does not come after it, or the first block if there is none.
+     */
+    private int blockIndexFor(long epochMinute, long id) {
+        int low = 1;
+        int high = blocks.size() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            Block block = blocks.get(middle);
+            if (compare(block.epochMinutes[0], block.ids[0], epochMinute, id) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low - 1;
+    }
+
+    private static int compare(long firstMinute, long firstId, long secondMinute, long secondId) {
+        int result = Long.compare(firstMinute, secondMinute);
+        return result != 0 ? result : Long.compare(firstId, secondId);
+    }
+
+    private static boolean isSorted(long[] epochMinutes, long[] ids, int count) {
+        for (int i = 1; i < count; i++) {
+            if (compare(epochMinutes[i - 1], ids[i - 1], epochMinutes[i], ids[i]) > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Sorts the pairs from {@code low} to {@code high} (both inclusive) in place.
+     */
+    private static void sort(long[] epochMinutes, long[] ids, int low, int high) {
+        while (high - low >= INSERTION_SORT_THRESHOLD) {
+            int middle = (low + high) >>> 1;
+            long pivotMinute = epochMinutes[middle];
+            long pivotId = ids[middle];
+            int i = low;
+            int j = high;
+            while (i <= j) {
+                while (compare(epochMinutes[i], ids[i], pivotMinute, pivotId) < 0) {
+                    i++;
+                }
+                while (compare(epochMinutes[j], ids[j], pivotMinute, pivotId) > 0) {
+                    j--;
+                }
+                if (i <= j) {
+                    swap(epochMinutes, ids, i++, j--);
+                }
+            }
+
+            // Recursing into the smaller part only bounds the depth of recursion
+            if (j - low < high - i) {
+                sort(epochMinutes, ids, low, j);
+                low = i;
+            } else {
+                sort(epochMinutes, ids, i, high);
+                high = j;
+            }
+        }
+
+        for (int i = low + 1; i <= high; i++) {
+            for (int j = i; j > low && compare(epochMinutes[j - 1], ids[j - 1], epochMinutes[j], ids[j]) > 0; j--) {
+                swap(epochMinutes, ids, j - 1, j);
+            }
+        }
+    }
+
+    private static void swap(long[] epochMinutes, long[] ids, int first, int second) {
+        long minute = epochMinutes[first];
+        epochMinutes[first] = epochMinutes[second];
+        epochMinutes[second] = minute;
+        long id = ids[first];
+        ids[first] = ids[second];
+        ids[second] = id;
+    }
+
+    /**
+     * A block of entries in sorted order. Arrays grow as entries are added, up to {@link #BLOCK_CAPACITY}.
+     */
+    private static class Block {
+
+        private long[] epochMinutes = new long[INITIAL_BLOCK_CAPACITY];
+        private long[] ids = new long[INITIAL_BLOCK_CAPACITY];
+        private int size = 0;
+
+        /**
+         * Returns the offset after the last entry that does not come after ({@code epochMinute}, {@code id}).
+         */
+        private int insertionPoint(long epochMinute, long id) {
+            int low = 0;
+            int high = size - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                if (compare(epochMinutes[middle], ids[middle], epochMinute, id) <= 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle - 1;
+                }
+            }
+            return low;
+        }
+
+        private void insert(int offset, long epochMinute, long id) {
+            ensureCapacity(size + 1);
+            System.arraycopy(epochMinutes, offset, epochMinutes, offset + 1, size - offset);
+            System.arraycopy(ids, offset, ids, offset + 1, size - offset);
+            epochMinutes[offset] = epochMinute;
+            ids[offset] = id;
+            size++;
+        }
+
+        private void remove(int offset) {
+            System.arraycopy(epochMinutes, offset + 1, epochMinutes, offset, size - offset - 1);
+            System.arraycopy(ids, offset + 1, ids, offset, size - offset - 1);
+            size--;
+        }
+
+        private void append(long[] sourceMinutes, long[] sourceIds, int from, int to) {
+            ensureCapacity(size + to - from);
+            System.arraycopy(sourceMinutes, from, epochMinutes, size, to - from);
+            System.arraycopy(sourceIds, from, ids, size, to - from);
+            size += to - from;
+        }
+
+        /**
+         * Moves the upper half of the entries of this block into a new block, which is returned.
+         */
+        private Block splitUpperHalf() {
+            int half = size / 2;
+            Block upperHalf = new Block();
+            upperHalf.append(epochMinutes, ids, half, size);
+            size = half;
+            return upperHalf;
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity <= epochMinutes.length) {
+                return;
+            }
+
+            int newCapacity = Math.min(BLOCK_CAPACITY, Math.max(capacity, epochMinutes.length * 2));
+            epochMinutes = Arrays.copyOf(epochMinutes, newCapacity);
+            ids = Arrays.copyOf(ids, newCapacity);
+        }
+    }
+}
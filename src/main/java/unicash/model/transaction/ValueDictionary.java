@@ -0,0 +1,63 @@
+package unicash.model.transaction;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/**
+ * Assigns a small integer code to each distinct value, so that a column of repeated values
+ * can be stored as a column of codes. Each distinct value is held once.
+ *
+ * @param <T> the type of the encoded values, which must be immutable.
+ */
+class ValueDictionary<T> {
+
+    private final HashMap<T, Integer> codes = new HashMap<>();
+    private final ArrayList<T> values = new ArrayList<>();
+
+    /**
+     * Returns the code of {@code value}, assigning it the next unused code if it has not been seen before.
+     */
+    int encode(T value) {
+        requireNonNull(value);
+        Integer code = codes.get(value);
+        if (code != null) {
+            return code;
+        }
+
+        codes.put(value, values.size());
+        values.add(value);
+        return values.size() - 1;
+    }
+
+    /**
+     * Returns the code of {@code value}, or -1 if it has not been seen.
+     */
+    int codeOf(T value) {
+        Integer code = codes.get(value);
+        return code == null ? -1 : code;
+    }
+
+    /**
+     * Returns the number of distinct values seen, which is also the code the next new value is assigned.
+     */
+    int size() {
+        return values.size();
+    }
+
+    /**
+     * Returns the value with the given {@code code}.
+     */
+    T decode(int code) {
+        return values.get(code);
+    }
+
+    /**
+     * Forgets all values, so that codes are assigned from zero again.
+     */
+    void clear() {
+        codes.clear();
+        values.clear();
+    }
+}
@@ -1,14 +1,17 @@
 package unicash.model.transaction.predicates;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import unicash.commons.util.StringUtil;
 import unicash.commons.util.ToStringBuilder;
+import unicash.model.category.Category;
 import unicash.model.transaction.Transaction;
 
 /**
- * Tests that a {@code Transactions}'s {@code UniqueCategoryList} matches any of
+ * Tests that a {@code Transactions}'s {@code CategorySet} matches any of
  * the keywords given.
  */
 public class TransactionCategoryContainsKeywordsPredicate
@@ -16,6 +19,10 @@ public class TransactionCategoryContainsKeywordsPredicate
 
     private final List<String> keywords;
 
+    /* A test of whether a category contains each keyword, which looks the category up in an index,
+     * or null if the category is to be searched for each keyword instead */
+    private final List<Predicate<Category>> categoryMatchers;
+
     /**
      * Creates a new {@code TransactionCategoryContainsKeywordsPredicate} object
      * with the given list of string keywords.
@@ -23,27 +30,60 @@ public class TransactionCategoryContainsKeywordsPredicate
      * @param keywords the input list of keywords to be matched
      */
     public TransactionCategoryContainsKeywordsPredicate(List<String> keywords) {
+        this(keywords, null);
+    }
+
+    private TransactionCategoryContainsKeywordsPredicate(List<String> keywords,
+            List<Predicate<Category>> categoryMatchers) {
         this.keywords = keywords;
+        this.categoryMatchers = categoryMatchers;
+    }
+
+    /**
+     * Returns an equal predicate that tests each {@code Category} of a Transaction with the test
+     * returned by {@code matcherFor} for each keyword, rather than searching the {@code Category}
+     * for each keyword.
+     *
+     * @param matcherFor returns a test of whether a category contains a keyword, ignoring case
+     */
+    public TransactionCategoryContainsKeywordsPredicate withCategoryMatchers(
+            Function<String, Predicate<Category>> matcherFor) {
+        List<Predicate<Category>> categoryMatchers = new ArrayList<>();
+        for (String keyword : keywords) {
+            categoryMatchers.add(matcherFor.apply(keyword));
+        }
+        return new TransactionCategoryContainsKeywordsPredicate(keywords, categoryMatchers);
     }
 
     /**
-     * Returns true if any {@code Category} within the {@code UniqueCategoryList}
+     * Returns true if any {@code Category} within the {@code CategorySet}
      * of the Transaction contains any of the keywords in the keywords list
      * as a substring.
      *
      * <p> A nested anyMatch compares each keyword for each category directly in the
-     * {@code UniqueCategoryList}. This removes any dependency on {@code UniqueCategoryList}'s
+     * {@code CategorySet}. This removes any dependency on {@code CategorySet}'s
      * representation of the Categories.
      *
      * @param transaction the input {@code Transaction} object to be tested
      */
     @Override
     public boolean test(Transaction transaction) {
+        if (categoryMatchers != null) {
+            for (Category category : transaction.getCategories()) {
+                for (Predicate<Category> matcher : categoryMatchers) {
+                    if (matcher.test(category)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
         return keywords
                 .stream()
                 .anyMatch(keyword -> transaction
                         .getCategories()
-                        .joinCategoriesAsList()
+                        .asUnmodifiableList()
                         .stream()
                         .anyMatch(category ->
                                     StringUtil.containsSubstringIgnoreCase(
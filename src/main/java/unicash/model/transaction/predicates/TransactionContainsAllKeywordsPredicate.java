@@ -3,9 +3,11 @@ package unicash.model.transaction.predicates;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import unicash.commons.util.ToStringBuilder;
+import unicash.model.category.Category;
 import unicash.model.transaction.Transaction;
 
 
@@ -62,6 +64,36 @@ public class TransactionContainsAllKeywordsPredicate implements Predicate<Transa
     }
 
 
+    /**
+     * Returns an equal predicate whose name, location and category predicates test names, locations and
+     * categories with the tests returned by {@code nameMatcherFor}, {@code locationMatcherFor} and
+     * {@code categoryMatcherFor} for their keywords, which can look the values up in an index rather than
+     * search each of them.
+     *
+     * @param nameMatcherFor returns a test of whether a name contains a keyword, ignoring case
+     * @param locationMatcherFor returns a test of whether a location contains a keyword, ignoring case
+     * @param categoryMatcherFor returns a test of whether a category contains a keyword, ignoring case
+     */
+    public TransactionContainsAllKeywordsPredicate withMatchers(Function<String, Predicate<String>> nameMatcherFor,
+            Function<String, Predicate<String>> locationMatcherFor,
+            Function<String, Predicate<Category>> categoryMatcherFor) {
+        List<Predicate<Transaction>> matcherPredicateList = new ArrayList<>();
+        for (Predicate<Transaction> predicate : predicateList) {
+            if (predicate instanceof TransactionNameContainsKeywordsPredicate) {
+                predicate = ((TransactionNameContainsKeywordsPredicate) predicate).withNameMatchers(nameMatcherFor);
+            } else if (predicate instanceof TransactionLocationContainsKeywordsPredicate) {
+                predicate = ((TransactionLocationContainsKeywordsPredicate) predicate)
+                        .withLocationMatchers(locationMatcherFor);
+            } else if (predicate instanceof TransactionCategoryContainsKeywordsPredicate) {
+                predicate = ((TransactionCategoryContainsKeywordsPredicate) predicate)
+                        .withCategoryMatchers(categoryMatcherFor);
+            }
+            matcherPredicateList.add(predicate);
+        }
+        return new TransactionContainsAllKeywordsPredicate(matcherPredicateList);
+    }
+
+
     /**
      * Creates a new {@code TransactionNameContainsKeywordsPredicate} with the
      * given name as a string and adds this to the encapsulated list of
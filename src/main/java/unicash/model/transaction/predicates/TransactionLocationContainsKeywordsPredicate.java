@@ -1,6 +1,8 @@
 package unicash.model.transaction.predicates;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import unicash.commons.util.StringUtil;
@@ -15,6 +17,10 @@ public class TransactionLocationContainsKeywordsPredicate
 
     private final List<String> keywords;
 
+    /* A test of whether a location contains each keyword, which looks the location up in an index,
+     * or null if the location is to be searched for each keyword instead */
+    private final List<Predicate<String>> locationMatchers;
+
     /**
      * Creates a new {@code TransactionLocationContainsKeywordsPredicate} object
      * with the given list of string keywords.
@@ -22,7 +28,29 @@ public class TransactionLocationContainsKeywordsPredicate
      * @param keywords the input list of keywords to be matched
      */
     public TransactionLocationContainsKeywordsPredicate(List<String> keywords) {
+        this(keywords, null);
+    }
+
+    private TransactionLocationContainsKeywordsPredicate(List<String> keywords,
+            List<Predicate<String>> locationMatchers) {
         this.keywords = keywords;
+        this.locationMatchers = locationMatchers;
+    }
+
+    /**
+     * Returns an equal predicate that tests the {@code Location} of a Transaction with the test
+     * returned by {@code matcherFor} for each keyword, rather than searching the {@code Location}
+     * for each keyword.
+     *
+     * @param matcherFor returns a test of whether a location contains a keyword, ignoring case
+     */
+    public TransactionLocationContainsKeywordsPredicate withLocationMatchers(
+            Function<String, Predicate<String>> matcherFor) {
+        List<Predicate<String>> locationMatchers = new ArrayList<>();
+        for (String keyword : keywords) {
+            locationMatchers.add(matcherFor.apply(keyword));
+        }
+        return new TransactionLocationContainsKeywordsPredicate(keywords, locationMatchers);
     }
 
     /**
@@ -33,6 +61,16 @@ public class TransactionLocationContainsKeywordsPredicate
      */
     @Override
     public boolean test(Transaction transaction) {
+        if (locationMatchers != null) {
+            String location = transaction.getLocation().location;
+            for (Predicate<String> matcher : locationMatchers) {
+                if (matcher.test(location)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
         return keywords.stream()
                 .anyMatch(keyword -> StringUtil.containsSubstringIgnoreCase(
                         transaction.getLocation().toString(), keyword));
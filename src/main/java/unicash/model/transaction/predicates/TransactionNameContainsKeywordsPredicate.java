@@ -1,6 +1,8 @@
 package unicash.model.transaction.predicates;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import unicash.commons.util.StringUtil;
@@ -15,6 +17,10 @@ public class TransactionNameContainsKeywordsPredicate
 
     private final List<String> keywords;
 
+    /* A test of whether a name contains each keyword, which looks the name up in an index,
+     * or null if the name is to be searched for each keyword instead */
+    private final List<Predicate<String>> nameMatchers;
+
     /**
      * Creates a new {@code TransactionNameContainsKeywordsPredicate} object
      * with the given list of string keywords.
@@ -22,7 +28,28 @@ public class TransactionNameContainsKeywordsPredicate
      * @param keywords the input list of keywords to be matched
      */
     public TransactionNameContainsKeywordsPredicate(List<String> keywords) {
+        this(keywords, null);
+    }
+
+    private TransactionNameContainsKeywordsPredicate(List<String> keywords, List<Predicate<String>> nameMatchers) {
         this.keywords = keywords;
+        this.nameMatchers = nameMatchers;
+    }
+
+    /**
+     * Returns an equal predicate that tests the {@code Name} of a Transaction with the test
+     * returned by {@code matcherFor} for each keyword, rather than searching the {@code Name}
+     * for each keyword.
+     *
+     * @param matcherFor returns a test of whether a name contains a keyword, ignoring case
+     */
+    public TransactionNameContainsKeywordsPredicate withNameMatchers(
+            Function<String, Predicate<String>> matcherFor) {
+        List<Predicate<String>> nameMatchers = new ArrayList<>();
+        for (String keyword : keywords) {
+            nameMatchers.add(matcherFor.apply(keyword));
+        }
+        return new TransactionNameContainsKeywordsPredicate(keywords, nameMatchers);
     }
 
     /**
@@ -33,6 +60,16 @@ public class TransactionNameContainsKeywordsPredicate
      */
     @Override
     public boolean test(Transaction transaction) {
+        if (nameMatchers != null) {
+            String name = transaction.getName().fullName;
+            for (Predicate<String> matcher : nameMatchers) {
+                if (matcher.test(name)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
         return keywords.stream()
                 .anyMatch(keyword -> StringUtil.containsSubstringIgnoreCase(
                         transaction.getName().fullName, keyword));
@@ -0,0 +1,526 @@
+package unicash.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.zip.CRC32;
+
+import unicash.commons.enums.TransactionType;
+import unicash.commons.exceptions.IllegalValueException;
+import unicash.commons.util.FileUtil;
+import unicash.model.ReadOnlyUniCash;
+import unicash.model.UniCash;
+import unicash.model.budget.Budget;
+import unicash.model.budget.Interval;
+import unicash.model.category.Category;
+import unicash.model.category.CategorySet;
+import unicash.model.category.exceptions.DuplicateCategoryException;
+import unicash.model.category.exceptions.MaxCategoryException;
+import unicash.model.commons.Amount;
+import unicash.model.transaction.DateTime;
+import unicash.model.transaction.Location;
+import unicash.model.transaction.Name;
+import unicash.model.transaction.Transaction;
+import unicash.model.transaction.Type;
+
+/**
+ * Reads and writes UniCash data in a compact binary format, one transaction at a time.
+ *
+ * <p>A ledger starts with a header of {@link #MAGIC}, the format {@link #VERSION}, the number of
+ * transactions and the checkpoint ID recorded with them, if any, followed by a block holding the budget and
+ * blocks of up to {@link #BLOCK_SIZE} transactions.
+ * Each block is written as its length, its content and a CRC-32 of its content. Within blocks:</p>
+ * <ul>
+ *     <li>amounts are written as a variable-length number of cents;</li>
+ *     <li>IDs and times, as epoch minutes, are written as the variable-length difference from those of
+ *     the previous transaction, which is small as transactions are mostly added in order;</li>
+ *     <li>names, locations and categories are written as a variable-length index into a dictionary of the
+ *     values seen so far, or as the next index followed by the value the first time it is seen.</li>
+ * </ul>
+ *
+ * <p>Each distinct name, location and category is therefore only validated once when read.</p>
+ */
+final class BinaryLedger {
+
+    static final byte[] MAGIC = {'U', 'C', 'L', 'G'};
+    static final int VERSION = 2;
+    // Ledgers of version 1 have no checkpoint ID in their header
+    static final int VERSION_WITHOUT_CHECKPOINT_ID = 1;
+    static final int BLOCK_SIZE = 4096;
+
+    static final String MESSAGE_NOT_LEDGER = "File is not a UniCa$h ledger";
+    static final String MESSAGE_UNSUPPORTED_VERSION = "Ledger version %d is not supported";
+    static final String MESSAGE_CORRUPTED_BLOCK = "Ledger block %d is corrupted";
+    static final String MESSAGE_TRUNCATED = "Ledger ends before its last transaction";
+    static final String MESSAGE_TRAILING_DATA = "Ledger has data after its last transaction";
+
+    private static final Type[] TYPES = Arrays.stream(TransactionType.values())
+            .map(transactionType -> new Type(transactionType.getOriginalString()))
+            .toArray(Type[]::new);
+
+    private BinaryLedger() {
+    }
+
+    /**
+     * Writes {@code uniCash} to the file at {@code filePath}, replacing it once completely written.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    static void write(ReadOnlyUniCash uniCash, Path filePath) throws IOException {
+        write(uniCash, filePath, OptionalLong.empty());
+    }
+
+    /**
+     * Writes {@code uniCash} to the file at {@code filePath} as {@link #write(ReadOnlyUniCash, Path)} does,
+     * recording {@code checkpointId} in the header if it is present.
+     */
+    static void write(ReadOnlyUniCash uniCash, Path filePath, OptionalLong checkpointId) throws IOException {
+        requireNonNull(uniCash);
+        requireNonNull(filePath);
+        requireNonNull(checkpointId);
+        FileUtil.writeToFileAtomically(filePath, out -> {
+            DataOutputStream data = new DataOutputStream(out);
+            List<Transaction> transactions = uniCash.getTransactionList();
+            data.write(MAGIC);
+            data.writeInt(VERSION);
+            data.writeLong(transactions.size());
+            data.writeBoolean(checkpointId.isPresent());
+            if (checkpointId.isPresent()) {
+                data.writeLong(checkpointId.getAsLong());
+            }
+
+            BlockWriter block = new BlockWriter();
+            writeBudget(uniCash.getBudget(), block);
+            block.writeTo(data);
+
+            RowWriter rows = new RowWriter(block);
+            int rowsLeft = transactions.size();
+            int rowsInBlock = 0;
+            for (Transaction transaction : transactions) {
+                if (rowsInBlock == 0) {
+                    rowsInBlock = Math.min(rowsLeft, BLOCK_SIZE);
+                    rowsLeft -= rowsInBlock;
+                    block.writeUnsigned(rowsInBlock);
+                }
+                rows.write(transaction);
+                if (--rowsInBlock == 0) {
+                    block.writeTo(data);
+                }
+            }
+            data.flush();
+        });
+    }
+
+    private static void writeBudget(Budget budget, BlockWriter block) {
+        if (budget == null) {
+            block.writeByte(0);
+            return;
+        }
+
+        block.writeByte(1);
+        block.writeUnsigned(budget.getAmount().getCents());
+        block.writeString(budget.getInterval().interval.getOriginalString());
+    }
+
+    /**
+     * Reads the UniCash data in the ledger at {@code filePath}, which must exist.
+     *
+     * @throws IOException if the file could not be read, or is not a valid ledger.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static UniCash read(Path filePath) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+        try (DataInputStream data = new DataInputStream(FileUtil.newBufferedInputStream(filePath))) {
+            long rowCount = readHeader(data).rowCount;
+
+            BlockReader block = new BlockReader();
+            int blockNumber = 0;
+            block.readFrom(data, blockNumber++);
+            Budget budget = readBudget(block);
+
+            UniCash uniCash = new UniCash();
+            RowReader rows = new RowReader(block);
+            TransactionIdChecker idChecker = new TransactionIdChecker();
+            long rowsLeft = rowCount;
+            while (rowsLeft > 0) {
+                block.readFrom(data, blockNumber);
+                long rowsInBlock = block.readUnsigned();
+                if (rowsInBlock <= 0 || rowsInBlock > Math.min(rowsLeft, BLOCK_SIZE)) {
+                    throw new IOException(String.format(MESSAGE_CORRUPTED_BLOCK, blockNumber));
+                }
+                List<Transaction> transactions = new ArrayList<>((int) rowsInBlock);
+                for (long i = 0; i < rowsInBlock; i++) {
+                    Transaction transaction = rows.read();
+                    idChecker.check(transaction, uniCash, transactions);
+                    transactions.add(transaction);
+                }
+                uniCash.addTransactions(transactions);
+                block.checkFullyRead();
+                blockNumber++;
+                rowsLeft -= rowsInBlock;
+            }
+
+            if (data.read() != -1) {
+                throw new IOException(MESSAGE_TRAILING_DATA);
+            }
+            if (budget != null) {
+                uniCash.setBudget(budget);
+            }
+            return uniCash;
+        } catch (EOFException e) {
+            throw new IOException(MESSAGE_TRUNCATED, e);
+        }
+    }
+
+    /**
+     * Reads the checkpoint ID recorded in the header of the ledger at {@code filePath}, which must exist,
+     * without reading the rest of the ledger.
+     *
+     * @throws IOException if the file could not be read, or is not a ledger.
+     */
+    static OptionalLong readCheckpointId(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        try (DataInputStream data = new DataInputStream(FileUtil.newBufferedInputStream(filePath))) {
+            return readHeader(data).checkpointId;
+        } catch (EOFException e) {
+            throw new IOException(MESSAGE_TRUNCATED, e);
+        }
+    }
+
+    /**
+     * Reads the header of a ledger.
+     */
+    private static Header readHeader(DataInputStream data) throws IOException {
+        byte[] magic = new byte[MAGIC.length];
+        try {
+            data.readFully(magic);
+        } catch (EOFException e) {
+            throw new IOException(MESSAGE_NOT_LEDGER, e);
+        }
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw new IOException(MESSAGE_NOT_LEDGER);
+        }
+
+        int version = data.readInt();
+        if (version != VERSION && version != VERSION_WITHOUT_CHECKPOINT_ID) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        long rowCount = data.readLong();
+        if (rowCount < 0) {
+            throw new IOException(MESSAGE_NOT_LEDGER);
+        }
+        OptionalLong checkpointId = version != VERSION_WITHOUT_CHECKPOINT_ID && data.readBoolean()
+                ? OptionalLong.of(data.readLong())
+                : OptionalLong.empty();
+        return new Header(rowCount, checkpointId);
+    }
+
+    private static Budget readBudget(BlockReader block) throws IOException, IllegalValueException {
+        Budget budget = null;
+        if (block.readByte() != 0) {
+            Amount amount = toAmount(block.readUnsigned());
+            String interval = block.readString();
+            if (!Interval.isValidInterval(interval)) {
+                throw new IllegalValueException(Interval.MESSAGE_CONSTRAINTS);
+            }
+            budget = new Budget(amount, new Interval(interval));
+        }
+        block.checkFullyRead();
+        return budget;
+    }
+
+    private static Amount toAmount(long cents) throws IllegalValueException {
+        if (!Amount.isValidCents(cents)) {
+            throw new IllegalValueException(Amount.MESSAGE_CONSTRAINTS);
+        }
+        return Amount.ofCents(cents);
+    }
+
+    /**
+     * The number of transactions in a ledger, and the checkpoint ID recorded with them.
+     */
+    private static class Header {
+        private final long rowCount;
+        private final OptionalLong checkpointId;
+
+        private Header(long rowCount, OptionalLong checkpointId) {
+            this.rowCount = rowCount;
+            this.checkpointId = checkpointId;
+        }
+    }
+
+    /**
+     * Encodes transactions into blocks, keeping the dictionaries and the previous ID and time across blocks.
+     */
+    private static class RowWriter {
+        private final BlockWriter block;
+        private final Map<String, Integer> names = new HashMap<>();
+        private final Map<String, Integer> locations = new HashMap<>();
+        private final Map<String, Integer> categories = new HashMap<>();
+        private long previousId;
+        private long previousEpochMinute;
+
+        RowWriter(BlockWriter block) {
+            this.block = block;
+        }
+
+        void write(Transaction transaction) {
+            block.writeSigned(transaction.getId() - previousId);
+            previousId = transaction.getId();
+
+            writeReference(transaction.getName().fullName, names);
+            block.writeByte(transaction.getType().type.ordinal());
+            block.writeUnsigned(transaction.getAmount().getCents());
+
+            long epochMinute = transaction.getDateTime().getEpochMinute();
+            block.writeSigned(epochMinute - previousEpochMinute);
+            previousEpochMinute = epochMinute;
+
+            writeReference(transaction.getLocation().location, locations);
+            CategorySet transactionCategories = transaction.getCategories();
+            block.writeUnsigned(transactionCategories.getSize());
+            for (Category category : transactionCategories) {
+                writeReference(category.category, categories);
+            }
+        }
+
+        private void writeReference(String value, Map<String, Integer> dictionary) {
+            Integer index = dictionary.get(value);
+            if (index != null) {
+                block.writeUnsigned(index);
+                return;
+            }
+
+            block.writeUnsigned(dictionary.size());
+            block.writeString(value);
+            dictionary.put(value, dictionary.size());
+        }
+    }
+
+    /**
+     * Decodes transactions from blocks, keeping the dictionaries and the previous ID and time across blocks.
+     */
+    private static class RowReader {
+        private final BlockReader block;
+        private final List<Name> names = new ArrayList<>();
+        private final List<Location> locations = new ArrayList<>();
+        private final List<Category> categories = new ArrayList<>();
+        private long previousId;
+        private long previousEpochMinute;
+
+        RowReader(BlockReader block) {
+            this.block = block;
+        }
+
+        Transaction read() throws IOException, IllegalValueException {
+            long id = previousId + block.readSigned();
+            previousId = id;
+            if (!Transaction.isValidId(id)) {
+                throw new IllegalValueException(Transaction.MESSAGE_ID_CONSTRAINTS);
+            }
+
+            Name name = readReference(names, value -> {
+                if (!Name.isValidName(value)) {
+                    throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+                }
+                return new Name(value);
+            });
+
+            int typeIndex = block.readByte();
+            if (typeIndex >= TYPES.length) {
+                throw new IllegalValueException(Type.MESSAGE_CONSTRAINTS);
+            }
+            Amount amount = toAmount(block.readUnsigned());
+
+            long epochMinute = previousEpochMinute + block.readSigned();
+            previousEpochMinute = epochMinute;
+
+            Location location = readReference(locations, value -> {
+                if (!Location.isValidLocation(value)) {
+                    throw new IllegalValueException(Location.MESSAGE_CONSTRAINTS);
+                }
+                return new Location(value);
+            });
+
+            long categoryCount = block.readUnsigned();
+            List<Category> transactionCategories = new ArrayList<>();
+            for (long i = 0; i < categoryCount; i++) {
+                transactionCategories.add(readReference(categories, value -> {
+                    if (!Category.isValidCategory(value)) {
+                        throw new IllegalValueException(Category.MESSAGE_CONSTRAINTS);
+                    }
+                    return new Category(value);
+                }));
+            }
+
+            try {
+                return new Transaction(id, name, TYPES[typeIndex], amount, DateTime.ofEpochMinute(epochMinute),
+                        location, CategorySet.of(transactionCategories));
+            } catch (DuplicateCategoryException | MaxCategoryException e) {
+                throw new IllegalValueException(e.getMessage());
+            }
+        }
+
+        private <T> T readReference(List<T> dictionary, ValueParser<T> parser)
+                throws IOException, IllegalValueException {
+            long index = block.readUnsigned();
+            if (index < dictionary.size()) {
+                return dictionary.get((int) index);
+            }
+            if (index > dictionary.size()) {
+                throw new IOException(MESSAGE_NOT_LEDGER);
+            }
+
+            T value = parser.parse(block.readString());
+            dictionary.add(value);
+            return value;
+        }
+    }
+
+    /**
+     * Converts a value read from a ledger into its model type.
+     */
+    @FunctionalInterface
+    private interface ValueParser<T> {
+        T parse(String value) throws IllegalValueException;
+    }
+
+    /**
+     * Collects the content of a block, to be written with its length and CRC-32.
+     */
+    private static class BlockWriter {
+        private byte[] bytes = new byte[64 * 1024];
+        private int length;
+
+        void writeByte(int value) {
+            if (length == bytes.length) {
+                bytes = Arrays.copyOf(bytes, bytes.length * 2);
+            }
+            bytes[length++] = (byte) value;
+        }
+
+        void writeUnsigned(long value) {
+            while ((value & ~0x7FL) != 0) {
+                writeByte((int) (value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            writeByte((int) value);
+        }
+
+        /**
+         * Writes {@code value} such that values close to zero, positive or negative, take few bytes.
+         */
+        void writeSigned(long value) {
+            writeUnsigned((value << 1) ^ (value >> 63));
+        }
+
+        void writeString(String value) {
+            byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+            writeUnsigned(encoded.length);
+            if (length + encoded.length > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + encoded.length));
+            }
+            System.arraycopy(encoded, 0, bytes, length, encoded.length);
+            length += encoded.length;
+        }
+
+        /**
+         * Writes the content collected so far as a block, and starts collecting the next block.
+         */
+        void writeTo(DataOutputStream data) throws IOException {
+            CRC32 crc = new CRC32();
+            crc.update(bytes, 0, length);
+            data.writeInt(length);
+            data.write(bytes, 0, length);
+            data.writeInt((int) crc.getValue());
+            length = 0;
+        }
+    }
+
+    /**
+     * Holds the content of a block whose CRC-32 has been checked, to be read from the start.
+     */
+    private static class BlockReader {
+        private final CRC32 crc = new CRC32();
+        private byte[] bytes = new byte[64 * 1024];
+        private int length;
+        private int position;
+        private int blockNumber;
+
+        void readFrom(DataInputStream data, int blockNumber) throws IOException {
+            this.blockNumber = blockNumber;
+            length = data.readInt();
+            if (length < 0) {
+                throw corrupted();
+            }
+            if (length > bytes.length) {
+                bytes = new byte[length];
+            }
+            data.readFully(bytes, 0, length);
+            position = 0;
+
+            crc.reset();
+            crc.update(bytes, 0, length);
+            if (data.readInt() != (int) crc.getValue()) {
+                throw corrupted();
+            }
+        }
+
+        void checkFullyRead() throws IOException {
+            if (position != length) {
+                throw corrupted();
+            }
+        }
+
+        int readByte() throws IOException {
+            if (position == length) {
+                throw corrupted();
+            }
+            return bytes[position++] & 0xFF;
+        }
+
+        long readUnsigned() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < Long.SIZE; shift += 7) {
+                int b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw corrupted();
+        }
+
+        long readSigned() throws IOException {
+            long value = readUnsigned();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        String readString() throws IOException {
+            long encodedLength = readUnsigned();
+            if (encodedLength > length - position) {
+                throw corrupted();
+            }
+            String value = new String(bytes, position, (int) encodedLength, StandardCharsets.UTF_8);
+            position += (int) encodedLength;
+            return value;
+        }
+
+        private IOException corrupted() {
+            return new IOException(String.format(MESSAGE_CORRUPTED_BLOCK, blockNumber));
+        }
+    }
+
+}
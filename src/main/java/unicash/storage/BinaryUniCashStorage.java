@@ -0,0 +1,130 @@
+package unicash.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.logging.Logger;
+
+import unicash.commons.core.LogsCenter;
+import unicash.commons.exceptions.DataLoadingException;
+import unicash.commons.exceptions.IllegalValueException;
+import unicash.commons.util.FileUtil;
+import unicash.model.ReadOnlyUniCash;
+
+/**
+ * A class to access UniCash data stored as a binary ledger on the hard disk.
+ * Ledgers are much smaller and faster to load than json files of the same data.
+ */
+public class BinaryUniCashStorage implements SnapshotStorage {
+
+    public static final String FILE_EXTENSION = ".ledger";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryUniCashStorage.class);
+
+    private final Path filePath;
+
+    public BinaryUniCashStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns true if the data file at {@code filePath} is a ledger, rather than a json file, by its extension.
+     */
+    public static boolean isLedgerFile(Path filePath) {
+        requireNonNull(filePath);
+        return filePath.getFileName().toString().endsWith(FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getUniCashFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyUniCash> readUniCash() throws DataLoadingException {
+        return readUniCash(filePath);
+    }
+
+    /**
+     * Similar to {@link #readUniCash()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyUniCash> readUniCash(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("Ledger file " + filePath + " found.");
+
+        try {
+            return Optional.of(BinaryLedger.read(filePath));
+        } catch (IOException e) {
+            logger.warning("Error reading from ledger file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveUniCash(ReadOnlyUniCash uniCash) throws IOException {
+        saveUniCash(uniCash, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveUniCash(ReadOnlyUniCash)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveUniCash(ReadOnlyUniCash uniCash, Path filePath) throws IOException {
+        requireNonNull(uniCash);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        BinaryLedger.write(uniCash, filePath);
+    }
+
+    @Override
+    public void saveSnapshot(ReadOnlyUniCash uniCash, Path filePath, long checkpointId) throws IOException {
+        requireNonNull(uniCash);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        BinaryLedger.write(uniCash, filePath, OptionalLong.of(checkpointId));
+    }
+
+    @Override
+    public OptionalLong readCheckpointId(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return OptionalLong.empty();
+        }
+
+        try {
+            return BinaryLedger.readCheckpointId(filePath);
+        } catch (IOException e) {
+            logger.warning("Error reading from ledger file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Saves {@code uniCash} as usual, as every save writes a complete copy.
+     */
+    @Override
+    public void checkpointUniCash(ReadOnlyUniCash uniCash) throws IOException {
+        saveUniCash(uniCash);
+    }
+
+}
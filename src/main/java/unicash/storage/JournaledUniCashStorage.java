@@ -0,0 +1,423 @@
+package unicash.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import javafx.collections.ListChangeListener;
+import unicash.commons.core.LogsCenter;
+import unicash.commons.exceptions.DataLoadingException;
+import unicash.commons.exceptions.IllegalValueException;
+import unicash.commons.util.FileUtil;
+import unicash.commons.util.JsonUtil;
+import unicash.model.ReadOnlyUniCash;
+import unicash.model.UniCash;
+import unicash.model.budget.Budget;
+import unicash.model.transaction.Transaction;
+
+/**
+ * A class to access UniCash data stored as a snapshot on the hard disk, in json by default, together with
+ * a journal of the changes made since the snapshot was written.
+ *
+ * <p>Saving a {@code UniCash} appends a single line per change made since the last save to the journal,
+ * next to the snapshot, so a save after a command that changes nothing writes nothing. A complete snapshot
+ * is only written, and the journal emptied, at checkpoints: when the journal grows beyond
+ * {@link #CHECKPOINT_INTERVAL} entries, when the changes cannot be expressed as entries, and when
+ * {@link #checkpointUniCash(ReadOnlyUniCash)} is called on exit. Reading replays the journal on top of the
+ * snapshot.</p>
+ *
+ * <p>Each checkpoint records a new ID with its snapshot, and the journal written after it starts with the
+ * same ID. A journal left behind by a checkpoint interrupted after writing its snapshot starts with the ID
+ * of an earlier checkpoint, so it is not replayed on top of the newer snapshot.</p>
+ *
+ * <p>Changes are observed through the transaction list of the {@code UniCash} that was last checkpointed,
+ * so the first save of any other {@code UniCash} is a checkpoint.</p>
+ *
+ * <p>Saves prepared with {@link #prepareSaveUniCash(ReadOnlyUniCash)} capture the changes on the calling
+ * thread, and leave them to be written by the returned task on any thread. Each task writes everything
+ * captured so far, so tasks that have not run yet may be skipped once a later one has been prepared.</p>
+ */
+public class JournaledUniCashStorage implements UniCashStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final int CHECKPOINT_INTERVAL = 10_000;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledUniCashStorage.class);
+
+    private final SnapshotStorage snapshotStorage;
+    private final ListChangeListener<Transaction> changeRecorder = this::recordChanges;
+
+    // State of the UniCash whose changes are being journaled, as of its last checkpoint or save
+    private ReadOnlyUniCash trackedUniCash;
+    private int trackedSize;
+    private Budget journaledBudget;
+    private int journaledEntryCount;
+
+    private final List<JsonAdaptedJournalEntry> pendingEntries = new ArrayList<>();
+    private boolean isCheckpointRequired = true;
+
+    // Captured by saves, but not yet written
+    private final Object writeLock = new Object();
+    private ReadOnlyUniCash unwrittenSnapshot;
+    private final List<JsonAdaptedJournalEntry> unwrittenEntries = new ArrayList<>();
+    private volatile boolean isWriteFailed;
+    // ID of the last checkpoint written, and whether the journal that follows it has been started
+    private long checkpointId;
+    private boolean isJournalStarted;
+
+    public JournaledUniCashStorage(Path filePath) {
+        this(new JsonUniCashStorage(filePath));
+    }
+
+    /**
+     * Creates a {@code JournaledUniCashStorage} that writes its snapshots with {@code snapshotStorage}.
+     */
+    public JournaledUniCashStorage(SnapshotStorage snapshotStorage) {
+        requireNonNull(snapshotStorage);
+        this.snapshotStorage = snapshotStorage;
+    }
+
+    @Override
+    public Path getUniCashFilePath() {
+        return snapshotStorage.getUniCashFilePath();
+    }
+
+    /**
+     * Returns the path of the journal kept next to the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        requireNonNull(filePath);
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyUniCash> readUniCash() throws DataLoadingException {
+        return readUniCash(getUniCashFilePath());
+    }
+
+    /**
+     * Similar to {@link #readUniCash()}.
+     *
+     * @param filePath location of the snapshot, next to which the journal is kept. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyUniCash> readUniCash(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyUniCash> snapshot = snapshotStorage.readUniCash(filePath);
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (!Files.exists(journalFilePath)) {
+            return snapshot;
+        }
+
+        if (snapshot.isPresent() && !isJournalOf(journalFilePath, snapshotStorage.readCheckpointId(filePath))) {
+            logger.warning("Ignoring journal " + journalFilePath + " left behind by an earlier checkpoint");
+            return snapshot;
+        }
+
+        UniCash uniCash = snapshot.map(UniCash::new).orElseGet(UniCash::new);
+        replayJournal(journalFilePath, uniCash);
+        return Optional.of(uniCash);
+    }
+
+    /**
+     * Returns true if the journal at {@code journalFilePath} follows on from the snapshot of the checkpoint
+     * with ID {@code snapshotCheckpointId}. A journal that does not start with a checkpoint ID is taken to
+     * follow on from any snapshot, as are journals whose first entry cannot be read, which are rejected
+     * when replayed instead.
+     */
+    private static boolean isJournalOf(Path journalFilePath, OptionalLong snapshotCheckpointId)
+            throws DataLoadingException {
+        try (BufferedReader reader = Files.newBufferedReader(journalFilePath, StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            while (line != null && line.isBlank()) {
+                line = reader.readLine();
+            }
+            if (line == null) {
+                return true;
+            }
+
+            OptionalLong journalCheckpointId =
+                    JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class).getCheckpointId();
+            return journalCheckpointId.isEmpty() || journalCheckpointId.equals(snapshotCheckpointId);
+        } catch (JsonProcessingException e) {
+            return true;
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Applies the entries of the journal at {@code journalFilePath} to {@code uniCash}, in order.
+     * An incomplete last entry, left by an interrupted save, is ignored.
+     */
+    private static void replayJournal(Path journalFilePath, UniCash uniCash) throws DataLoadingException {
+        logger.info("Replaying journal " + journalFilePath);
+        try (BufferedReader reader = Files.newBufferedReader(journalFilePath, StandardCharsets.UTF_8)) {
+            int lineNumber = 0;
+            JsonProcessingException unreadableEntry = null;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (unreadableEntry != null) {
+                    throw new DataLoadingException(unreadableEntry);
+                }
+
+                try {
+                    JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class).applyTo(uniCash);
+                } catch (JsonProcessingException e) {
+                    unreadableEntry = e;
+                } catch (IllegalValueException | RuntimeException e) {
+                    logger.info("Illegal journal entry on line " + lineNumber + " of " + journalFilePath
+                            + ": " + e.getMessage());
+                    throw new DataLoadingException(e);
+                }
+            }
+
+            if (unreadableEntry != null) {
+                logger.warning("Ignoring incomplete last entry of journal " + journalFilePath);
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    @Override
+    public void saveUniCash(ReadOnlyUniCash uniCash) throws IOException {
+        saveUniCash(uniCash, getUniCashFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveUniCash(ReadOnlyUniCash)}.
+     * Saving to a location other than {@link #getUniCashFilePath()} writes a complete snapshot there.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveUniCash(ReadOnlyUniCash uniCash, Path filePath) throws IOException {
+        requireNonNull(uniCash);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getUniCashFilePath())) {
+            snapshotStorage.saveUniCash(uniCash, filePath);
+            return;
+        }
+
+        captureSave(uniCash, false);
+        writeCapturedSaves();
+    }
+
+    /**
+     * Captures the changes to {@code uniCash} since the last save, and returns a task that writes them.
+     * Only a checkpoint copies {@code uniCash}.
+     */
+    @Override
+    public SaveTask prepareSaveUniCash(ReadOnlyUniCash uniCash) {
+        requireNonNull(uniCash);
+        captureSave(uniCash, true);
+        return this::writeCapturedSaves;
+    }
+
+    /**
+     * Writes a complete snapshot of {@code uniCash} and empties the journal. Changes to {@code uniCash}
+     * are journaled from then on.
+     */
+    @Override
+    public void checkpointUniCash(ReadOnlyUniCash uniCash) throws IOException {
+        requireNonNull(uniCash);
+        captureCheckpoint(uniCash, false);
+        writeCapturedSaves();
+    }
+
+    /**
+     * Captures the pending entries of the tracked {@code UniCash} to be written, or a checkpoint if they
+     * cannot be written as entries.
+     *
+     * @param isDeferred whether the capture is written later, in which case a checkpoint takes a copy.
+     */
+    private void captureSave(ReadOnlyUniCash uniCash, boolean isDeferred) {
+        if (uniCash != trackedUniCash || isCheckpointRequired || isWriteFailed) {
+            captureCheckpoint(uniCash, isDeferred);
+            return;
+        }
+
+        Budget budget = uniCash.getBudget();
+        if (!Objects.equals(budget, journaledBudget)) {
+            addPendingEntry(JsonAdaptedJournalEntry.budget(budget));
+        }
+        if (isCheckpointRequired) {
+            captureCheckpoint(uniCash, isDeferred);
+            return;
+        }
+
+        synchronized (writeLock) {
+            unwrittenEntries.addAll(pendingEntries);
+        }
+        journaledEntryCount += pendingEntries.size();
+        pendingEntries.clear();
+        journaledBudget = budget;
+    }
+
+    private void captureCheckpoint(ReadOnlyUniCash uniCash, boolean isDeferred) {
+        ReadOnlyUniCash snapshot = isDeferred ? new UniCash(uniCash) : uniCash;
+        synchronized (writeLock) {
+            // The snapshot includes every entry captured before it
+            unwrittenSnapshot = snapshot;
+            unwrittenEntries.clear();
+        }
+        track(uniCash);
+    }
+
+    private void track(ReadOnlyUniCash uniCash) {
+        if (trackedUniCash != uniCash) {
+            if (trackedUniCash != null) {
+                trackedUniCash.getTransactionList().removeListener(changeRecorder);
+            }
+            uniCash.getTransactionList().addListener(changeRecorder);
+            trackedUniCash = uniCash;
+        }
+
+        trackedSize = uniCash.getTransactionList().size();
+        journaledBudget = uniCash.getBudget();
+        journaledEntryCount = 0;
+        pendingEntries.clear();
+        isCheckpointRequired = false;
+    }
+
+    /**
+     * Records the changes to the transactions of the tracked {@code UniCash} as pending journal entries.
+     * Only replacements, removals and appends can be replayed, so any other change requires
+     * a checkpoint instead.
+     */
+    private void recordChanges(ListChangeListener.Change<? extends Transaction> change) {
+        while (change.next() && !isCheckpointRequired) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                requireCheckpoint();
+                return;
+            }
+
+            List<? extends Transaction> removed = change.getRemoved();
+            List<? extends Transaction> added = change.getAddedSubList();
+            if (change.wasReplaced() && removed.size() == added.size()) {
+                for (int i = 0; i < added.size(); i++) {
+                    addPendingEntry(JsonAdaptedJournalEntry.set(removed.get(i), added.get(i)));
+                }
+                continue;
+            }
+
+            if (change.getFrom() == 0 && removed.size() == trackedSize && trackedSize > 0) {
+                addPendingEntry(JsonAdaptedJournalEntry.clear());
+            } else {
+                removed.forEach(transaction -> addPendingEntry(JsonAdaptedJournalEntry.remove(transaction)));
+            }
+            trackedSize -= removed.size();
+
+            if (!added.isEmpty() && change.getFrom() != trackedSize) {
+                requireCheckpoint();
+                return;
+            }
+            added.forEach(transaction -> addPendingEntry(JsonAdaptedJournalEntry.add(transaction)));
+            trackedSize += added.size();
+        }
+    }
+
+    private void addPendingEntry(JsonAdaptedJournalEntry entry) {
+        if (isCheckpointRequired) {
+            return;
+        }
+        if (journaledEntryCount + pendingEntries.size() >= CHECKPOINT_INTERVAL) {
+            // Rewriting the snapshot is cheaper than replaying a long journal
+            requireCheckpoint();
+            return;
+        }
+        pendingEntries.add(entry);
+    }
+
+    private void requireCheckpoint() {
+        isCheckpointRequired = true;
+        pendingEntries.clear();
+    }
+
+    /**
+     * Writes the snapshot and entries captured since the last write. If they cannot all be written,
+     * the journal may be missing entries or end in an incomplete one, so entries are no longer written
+     * until the next save has written a checkpoint.
+     */
+    private void writeCapturedSaves() throws IOException {
+        synchronized (writeLock) {
+            ReadOnlyUniCash snapshot = unwrittenSnapshot;
+            List<JsonAdaptedJournalEntry> entries = new ArrayList<>(unwrittenEntries);
+            unwrittenSnapshot = null;
+            unwrittenEntries.clear();
+
+            try {
+                if (snapshot != null) {
+                    writeCheckpoint(snapshot);
+                } else if (isWriteFailed) {
+                    logger.fine("Leaving " + entries.size() + " journal entries to the next checkpoint");
+                    return;
+                }
+                appendToJournal(entries);
+            } catch (IOException e) {
+                isWriteFailed = true;
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Writes {@code snapshot} with a new checkpoint ID, and deletes the journal of the previous checkpoint.
+     */
+    private void writeCheckpoint(ReadOnlyUniCash snapshot) throws IOException {
+        Path filePath = getUniCashFilePath();
+        logger.fine("Writing a checkpoint of the data to " + filePath);
+        long newCheckpointId = ThreadLocalRandom.current().nextLong();
+        snapshotStorage.saveSnapshot(snapshot, filePath, newCheckpointId);
+        checkpointId = newCheckpointId;
+        isJournalStarted = false;
+        Files.deleteIfExists(getJournalFilePath(filePath));
+        isWriteFailed = false;
+    }
+
+    private void appendToJournal(List<JsonAdaptedJournalEntry> entries) throws IOException {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        Path journalFilePath = getJournalFilePath(getUniCashFilePath());
+        FileUtil.createParentDirsOfFile(journalFilePath);
+        try (BufferedWriter writer = Files.newBufferedWriter(journalFilePath, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            if (!isJournalStarted) {
+                writer.write(JsonUtil.toCompactJsonString(JsonAdaptedJournalEntry.checkpoint(checkpointId)));
+                writer.newLine();
+                isJournalStarted = true;
+            }
+            for (JsonAdaptedJournalEntry entry : entries) {
+                writer.write(JsonUtil.toCompactJsonString(entry));
+                writer.newLine();
+            }
+        }
+    }
+}
@@ -2,8 +2,11 @@ package unicash.storage;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.IOException;
+
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import unicash.commons.exceptions.IllegalValueException;
 import unicash.model.budget.Budget;
@@ -42,6 +45,16 @@ public class JsonAdaptedBudget {
         interval = budget.getInterval().interval.getOriginalString();
     }
 
+    /**
+     * Writes this budget to {@code generator} as a JSON object, in the same format as Jackson serializes it.
+     */
+    void writeTo(JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("amount", amount);
+        generator.writeStringField("interval", interval);
+        generator.writeEndObject();
+    }
+
     /**
      * Converts {@code JsonAdaptedBudget} to {@code Budget} while performing validation.
      *
@@ -0,0 +1,213 @@
+package unicash.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.OptionalLong;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import unicash.commons.exceptions.IllegalValueException;
+import unicash.model.UniCash;
+import unicash.model.budget.Budget;
+import unicash.model.transaction.Transaction;
+
+/**
+ * Jackson-friendly record of a single change to a {@link UniCash}, as written to the journal
+ * of a {@link JournaledUniCashStorage}.
+ *
+ * <p>A journal starts with a {@code checkpoint} entry holding the ID of the checkpoint whose snapshot its
+ * other entries follow on from, and is only replayed on top of that snapshot. Entries that add, replace or
+ * remove a transaction tolerate the transaction being there or not already, but a {@code clear} entry
+ * removes every transaction, so replaying a journal on top of a later snapshot loses data.</p>
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String MESSAGE_UNKNOWN_OPERATION = "Journal entry has an unknown operation: %s";
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal entry's %s field is missing!";
+
+    static final String OPERATION_ADD = "add";
+    static final String OPERATION_SET = "set";
+    static final String OPERATION_REMOVE = "remove";
+    static final String OPERATION_CLEAR = "clear";
+    static final String OPERATION_BUDGET = "budget";
+    static final String OPERATION_CHECKPOINT = "checkpoint";
+
+    private final String operation;
+    private final JsonAdaptedTransaction transaction;
+    private final JsonAdaptedTransaction target;
+    private final JsonAdaptedBudget budget;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long checkpoint;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(
+            @JsonProperty("operation") String operation,
+            @JsonProperty("transaction") JsonAdaptedTransaction transaction,
+            @JsonProperty("target") JsonAdaptedTransaction target,
+            @JsonProperty("budget") JsonAdaptedBudget budget,
+            @JsonProperty("checkpoint") Long checkpoint
+    ) {
+        this.operation = operation;
+        this.transaction = transaction;
+        this.target = target;
+        this.budget = budget;
+        this.checkpoint = checkpoint;
+    }
+
+    private JsonAdaptedJournalEntry(String operation, JsonAdaptedTransaction transaction,
+            JsonAdaptedTransaction target, JsonAdaptedBudget budget) {
+        this(operation, transaction, target, budget, null);
+    }
+
+    /**
+     * Returns an entry that appends {@code transaction} to the transactions.
+     */
+    static JsonAdaptedJournalEntry add(Transaction transaction) {
+        requireNonNull(transaction);
+        return new JsonAdaptedJournalEntry(OPERATION_ADD, new JsonAdaptedTransaction(transaction), null, null);
+    }
+
+    /**
+     * Returns an entry that replaces the transaction with the same ID as {@code target} with {@code transaction}.
+     * The target is only recorded if its ID differs from that of {@code transaction}.
+     */
+    static JsonAdaptedJournalEntry set(Transaction target, Transaction transaction) {
+        requireNonNull(target);
+        requireNonNull(transaction);
+        JsonAdaptedTransaction adaptedTarget = target.getId() == transaction.getId()
+                ? null
+                : new JsonAdaptedTransaction(target);
+        return new JsonAdaptedJournalEntry(OPERATION_SET, new JsonAdaptedTransaction(transaction), adaptedTarget, null);
+    }
+
+    /**
+     * Returns an entry that removes the transaction with the same ID as {@code transaction}.
+     */
+    static JsonAdaptedJournalEntry remove(Transaction transaction) {
+        requireNonNull(transaction);
+        return new JsonAdaptedJournalEntry(OPERATION_REMOVE, new JsonAdaptedTransaction(transaction), null, null);
+    }
+
+    /**
+     * Returns an entry that removes all transactions.
+     */
+    static JsonAdaptedJournalEntry clear() {
+        return new JsonAdaptedJournalEntry(OPERATION_CLEAR, null, null, null);
+    }
+
+    /**
+     * Returns an entry that sets the budget to {@code budget}, or clears it if {@code budget} is null.
+     */
+    static JsonAdaptedJournalEntry budget(Budget budget) {
+        JsonAdaptedBudget adaptedBudget = budget == null ? null : new JsonAdaptedBudget(budget);
+        return new JsonAdaptedJournalEntry(OPERATION_BUDGET, null, null, adaptedBudget);
+    }
+
+    /**
+     * Returns an entry that starts the journal of the checkpoint with ID {@code checkpointId}.
+     */
+    static JsonAdaptedJournalEntry checkpoint(long checkpointId) {
+        return new JsonAdaptedJournalEntry(OPERATION_CHECKPOINT, null, null, null, checkpointId);
+    }
+
+    /**
+     * Returns the checkpoint ID of this entry if it starts the journal of a checkpoint,
+     * or an empty {@code OptionalLong} otherwise.
+     */
+    OptionalLong getCheckpointId() {
+        return OPERATION_CHECKPOINT.equals(operation) && checkpoint != null
+                ? OptionalLong.of(checkpoint)
+                : OptionalLong.empty();
+    }
+
+    /**
+     * Applies this entry to {@code uniCash}. A {@code checkpoint} entry changes nothing.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the entry.
+     */
+    public void applyTo(UniCash uniCash) throws IllegalValueException {
+        requireNonNull(uniCash);
+        if (operation == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "operation"));
+        }
+
+        switch (operation) {
+        case OPERATION_ADD:
+            putTransaction(uniCash, toModelTransaction());
+            break;
+        case OPERATION_SET:
+            setTransaction(uniCash, toModelTransaction());
+            break;
+        case OPERATION_REMOVE:
+            removeTransaction(uniCash, toModelTransaction());
+            break;
+        case OPERATION_CLEAR:
+            uniCash.setTransactions(Collections.emptyList());
+            break;
+        case OPERATION_BUDGET:
+            if (budget == null) {
+                uniCash.clearBudget();
+            } else {
+                uniCash.setBudget(budget.toModelType());
+            }
+            break;
+        case OPERATION_CHECKPOINT:
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_OPERATION, operation));
+        }
+    }
+
+    private Transaction toModelTransaction() throws IllegalValueException {
+        if (transaction == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "transaction"));
+        }
+        return transaction.toModelType();
+    }
+
+    /**
+     * Replaces the target of this entry with {@code transaction}. If the target has already been replaced,
+     * {@code transaction} is put in place as by {@link #putTransaction(UniCash, Transaction)}.
+     */
+    private void setTransaction(UniCash uniCash, Transaction transaction) throws IllegalValueException {
+        if (target == null) {
+            putTransaction(uniCash, transaction);
+            return;
+        }
+
+        Transaction targetTransaction = target.toModelType();
+        if (uniCash.hasTransactionWithId(targetTransaction.getId())) {
+            uniCash.setTransaction(targetTransaction, transaction);
+        } else {
+            putTransaction(uniCash, transaction);
+        }
+    }
+
+    /**
+     * Replaces the transaction with the same ID as {@code transaction}, or appends {@code transaction}
+     * if there is none.
+     */
+    private static void putTransaction(UniCash uniCash, Transaction transaction) {
+        if (uniCash.hasTransactionWithId(transaction.getId())) {
+            uniCash.setTransaction(transaction, transaction);
+        } else {
+            uniCash.addTransaction(transaction);
+        }
+    }
+
+    /**
+     * Removes the transaction with the same ID as {@code transaction}, if there is one.
+     */
+    private static void removeTransaction(UniCash uniCash, Transaction transaction) {
+        // The transaction may have been removed before the snapshot was taken
+        if (uniCash.hasTransactionWithId(transaction.getId())) {
+            uniCash.removeTransaction(transaction);
+        }
+    }
+}
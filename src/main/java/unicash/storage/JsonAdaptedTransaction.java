@@ -1,11 +1,13 @@
 package unicash.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
 
 import unicash.commons.exceptions.IllegalValueException;
 import unicash.model.category.Category;
@@ -24,6 +26,7 @@ public class JsonAdaptedTransaction {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Transaction's %s field is missing!";
 
+    private final Long id;
     private final String name;
     private final double amount;
     private final String dateTime;
@@ -31,11 +34,28 @@ public class JsonAdaptedTransaction {
     private final String type;
     private final List<JsonAdaptedCategory> categories = new ArrayList<>();
 
+    /**
+     * Constructs a {@code JsonAdaptedTransaction} with the given transaction details
+     * and no ID, so that a new ID is assigned when it is converted.
+     */
+    public JsonAdaptedTransaction(
+            String name,
+            double amount,
+            String dateTime,
+            String location,
+            String type,
+            List<JsonAdaptedCategory> categories
+    ) {
+        this(null, name, amount, dateTime, location, type, categories);
+    }
+
     /**
      * Constructs a {@code JsonAdaptedTransaction} with the given transaction details.
+     * Data files written before IDs were introduced have no {@code id}, in which case it is null.
      */
     @JsonCreator
     public JsonAdaptedTransaction(
+            @JsonProperty("id") Long id,
             @JsonProperty("name") String name,
             @JsonProperty("amount") double amount,
             @JsonProperty("dateTime") String dateTime,
@@ -43,6 +63,7 @@ public class JsonAdaptedTransaction {
             @JsonProperty("type") String type,
             @JsonProperty("categories") List<JsonAdaptedCategory> categories
     ) {
+        this.id = id;
         this.name = name;
         this.amount = amount;
         this.dateTime = dateTime;
@@ -57,12 +78,13 @@ public class JsonAdaptedTransaction {
      * Constructs a {@code JsonAdaptedTransaction} with the given transaction details.
      */
     public JsonAdaptedTransaction(Transaction source) {
+        id = source.getId();
         name = source.getName().fullName;
         amount = source.getAmount().amount;
         dateTime = source.getDateTime().inputString();
         location = source.getLocation().location;
         type = source.getType().type.getOriginalString();
-        categories.addAll(source.getCategories().asUnmodifiableObservableList()
+        categories.addAll(source.getCategories().asUnmodifiableList()
                 .stream()
                 .map(JsonAdaptedCategory::new)
                 .collect(Collectors.toList()));
@@ -74,6 +96,10 @@ public class JsonAdaptedTransaction {
      * @throws IllegalValueException if there were any data constraints violated in the adapted format.
      */
     public Transaction toModelType() throws IllegalValueException {
+        if (id != null && !Transaction.isValidId(id)) {
+            throw new IllegalValueException(Transaction.MESSAGE_ID_CONSTRAINTS);
+        }
+
         if (name == null) {
             throw new IllegalValueException(formatMissingFieldMessage(Name.class));
         }
@@ -113,7 +139,35 @@ public class JsonAdaptedTransaction {
             transactionCategories.add(category.toModelType());
         }
         final UniqueCategoryList modelCategories = new UniqueCategoryList(transactionCategories);
-        return new Transaction(modelName, modelType, modelAmount, modelDateTime, modelLocation, modelCategories);
+
+        if (id == null) {
+            return new Transaction(modelName, modelType, modelAmount, modelDateTime, modelLocation, modelCategories);
+        }
+        return new Transaction(id, modelName, modelType, modelAmount, modelDateTime, modelLocation, modelCategories);
+    }
+
+    /**
+     * Writes this transaction to {@code generator} as a JSON object, in the same format as Jackson
+     * serializes it.
+     */
+    void writeTo(JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        if (id == null) {
+            generator.writeNullField("id");
+        } else {
+            generator.writeNumberField("id", id);
+        }
+        generator.writeStringField("name", name);
+        generator.writeNumberField("amount", amount);
+        generator.writeStringField("dateTime", dateTime);
+        generator.writeStringField("location", location);
+        generator.writeStringField("type", type);
+        generator.writeArrayFieldStart("categories");
+        for (JsonAdaptedCategory category : categories) {
+            generator.writeString(category.getCategoryName());
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
     }
 
     /**
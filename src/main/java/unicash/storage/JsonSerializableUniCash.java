@@ -1,7 +1,9 @@
 package unicash.storage;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -19,6 +21,8 @@ import unicash.model.transaction.Transaction;
 @JsonRootName(value = "unicash")
 class JsonSerializableUniCash {
 
+    public static final String MESSAGE_DUPLICATE_ID = "Transactions list contains duplicate transaction ID(s).";
+
     private final List<JsonAdaptedTransaction> transactions = new ArrayList<>();
     private final JsonAdaptedBudget budget;
 
@@ -60,8 +64,12 @@ class JsonSerializableUniCash {
      */
     public UniCash toModelType() throws IllegalValueException {
         UniCash uniCash = new UniCash();
+        Set<Long> seenIds = new HashSet<>();
         for (var jsonAdaptedTransaction : transactions) {
             Transaction transaction = jsonAdaptedTransaction.toModelType();
+            if (!seenIds.add(transaction.getId())) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_ID);
+            }
             uniCash.addTransaction(transaction);
         }
         if (budget != null) {
@@ -3,21 +3,23 @@ package unicash.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.logging.Logger;
 
 import unicash.commons.core.LogsCenter;
 import unicash.commons.exceptions.DataLoadingException;
 import unicash.commons.exceptions.IllegalValueException;
 import unicash.commons.util.FileUtil;
-import unicash.commons.util.JsonUtil;
 import unicash.model.ReadOnlyUniCash;
 
 /**
  * A class to access UniCash data stored as a json file on the hard disk.
+ * The file is read and written one transaction at a time, without holding its content in memory.
  */
-public class JsonUniCashStorage implements UniCashStorage {
+public class JsonUniCashStorage implements SnapshotStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonUniCashStorage.class);
 
@@ -45,13 +47,16 @@ public class JsonUniCashStorage implements UniCashStorage {
     public Optional<ReadOnlyUniCash> readUniCash(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        var jsonUniCash = JsonUtil.readJsonFile(filePath, JsonSerializableUniCash.class);
-        if (jsonUniCash.isEmpty()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
+        logger.info("JSON file " + filePath + " found.");
 
         try {
-            return Optional.of(jsonUniCash.get().toModelType());
+            return Optional.of(JsonUniCashStream.read(filePath));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -73,7 +78,40 @@ public class JsonUniCashStorage implements UniCashStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableUniCash(uniCash), filePath);
+        JsonUniCashStream.write(uniCash, filePath);
+    }
+
+    @Override
+    public void saveSnapshot(ReadOnlyUniCash uniCash, Path filePath, long checkpointId) throws IOException {
+        requireNonNull(uniCash);
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+        JsonUniCashStream.write(uniCash, filePath, OptionalLong.of(checkpointId));
+    }
+
+    @Override
+    public OptionalLong readCheckpointId(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return OptionalLong.empty();
+        }
+
+        try {
+            return JsonUniCashStream.readCheckpointId(filePath);
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Saves {@code uniCash} as usual, as every save writes a complete copy.
+     */
+    @Override
+    public void checkpointUniCash(ReadOnlyUniCash uniCash) throws IOException {
+        saveUniCash(uniCash);
     }
 
 }
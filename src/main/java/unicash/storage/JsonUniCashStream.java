@@ -0,0 +1,153 @@
+package unicash.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.OptionalLong;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import unicash.commons.exceptions.IllegalValueException;
+import unicash.commons.util.FileUtil;
+import unicash.commons.util.JsonUtil;
+import unicash.model.ReadOnlyUniCash;
+import unicash.model.UniCash;
+import unicash.model.budget.Budget;
+import unicash.model.transaction.Transaction;
+
+/**
+ * Reads and writes UniCash data in the JSON format of {@link JsonSerializableUniCash}, one transaction at a time,
+ * so that no copy of the data is held in memory besides the model itself.
+ */
+final class JsonUniCashStream {
+
+    static final String FIELD_CHECKPOINT = "checkpoint";
+    static final String FIELD_TRANSACTIONS = "transactions";
+    static final String FIELD_BUDGET = "budget";
+
+    private JsonUniCashStream() {
+    }
+
+    /**
+     * Reads the UniCash data in the file at {@code filePath}, which must exist.
+     *
+     * @throws IOException if the file could not be read, or is not valid JSON.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static UniCash read(Path filePath) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+        try (InputStream in = FileUtil.newBufferedInputStream(filePath);
+                JsonParser parser = JsonUtil.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected UniCash data to be a JSON object");
+            }
+
+            UniCash uniCash = new UniCash();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (FIELD_TRANSACTIONS.equals(fieldName) && value == JsonToken.START_ARRAY) {
+                    readTransactions(parser, uniCash);
+                } else if (FIELD_BUDGET.equals(fieldName) && value == JsonToken.START_OBJECT) {
+                    uniCash.setBudget(parser.readValueAs(JsonAdaptedBudget.class).toModelType());
+                } else {
+                    parser.skipChildren();
+                }
+            }
+
+            if (parser.getCurrentToken() != JsonToken.END_OBJECT) {
+                throw new JsonParseException(parser, "Unexpected content in UniCash data");
+            }
+            return uniCash;
+        }
+    }
+
+    /**
+     * Reads the checkpoint ID recorded in the file at {@code filePath}, which must exist, without reading
+     * the rest of the data. The ID is only looked for in the first field, where it is written.
+     *
+     * @throws IOException if the file could not be read, or is not valid JSON.
+     */
+    static OptionalLong readCheckpointId(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        try (InputStream in = FileUtil.newBufferedInputStream(filePath);
+                JsonParser parser = JsonUtil.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected UniCash data to be a JSON object");
+            }
+
+            if (parser.nextToken() == JsonToken.FIELD_NAME && FIELD_CHECKPOINT.equals(parser.getCurrentName())
+                    && parser.nextToken() == JsonToken.VALUE_NUMBER_INT) {
+                return OptionalLong.of(parser.getLongValue());
+            }
+            return OptionalLong.empty();
+        }
+    }
+
+    /**
+     * Reads the elements of the transactions array the parser is at into {@code uniCash}, up to the end of
+     * the array.
+     */
+    private static void readTransactions(JsonParser parser, UniCash uniCash)
+            throws IOException, IllegalValueException {
+        TransactionIdChecker idChecker = new TransactionIdChecker();
+
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == null) {
+                throw new JsonParseException(parser, "Unexpected end of transactions");
+            }
+
+            Transaction transaction = parser.readValueAs(JsonAdaptedTransaction.class).toModelType();
+            idChecker.check(transaction, uniCash);
+            uniCash.addTransaction(transaction);
+        }
+    }
+
+    /**
+     * Writes {@code uniCash} to the file at {@code filePath}, replacing it once completely written.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    static void write(ReadOnlyUniCash uniCash, Path filePath) throws IOException {
+        write(uniCash, filePath, OptionalLong.empty());
+    }
+
+    /**
+     * Writes {@code uniCash} to the file at {@code filePath} as {@link #write(ReadOnlyUniCash, Path)} does,
+     * recording {@code checkpointId} in the first field if it is present.
+     */
+    static void write(ReadOnlyUniCash uniCash, Path filePath, OptionalLong checkpointId) throws IOException {
+        requireNonNull(uniCash);
+        requireNonNull(filePath);
+        requireNonNull(checkpointId);
+        FileUtil.writeToFileAtomically(filePath, out -> {
+            try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+                generator.writeStartObject();
+                if (checkpointId.isPresent()) {
+                    generator.writeNumberField(FIELD_CHECKPOINT, checkpointId.getAsLong());
+                }
+                generator.writeArrayFieldStart(FIELD_TRANSACTIONS);
+                for (Transaction transaction : uniCash.getTransactionList()) {
+                    new JsonAdaptedTransaction(transaction).writeTo(generator);
+                }
+                generator.writeEndArray();
+
+                Budget budget = uniCash.getBudget();
+                generator.writeFieldName(FIELD_BUDGET);
+                if (budget == null) {
+                    generator.writeNull();
+                } else {
+                    new JsonAdaptedBudget(budget).writeTo(generator);
+                }
+                generator.writeEndObject();
+            }
+        });
+    }
+
+}
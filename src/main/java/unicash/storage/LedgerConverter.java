@@ -0,0 +1,74 @@
+package unicash.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import unicash.commons.exceptions.DataLoadingException;
+import unicash.model.ReadOnlyUniCash;
+
+/**
+ * Converts a json data file into a binary ledger of the same data, so that UniCa$h can be pointed at the
+ * ledger instead through the data file path in the preferences.
+ *
+ * <p>Usage: {@code java -cp unicash.jar unicash.storage.LedgerConverter JSON_FILE [LEDGER_FILE]}.
+ * The ledger is written next to the json file, with the same name, if no ledger file is given.</p>
+ */
+public class LedgerConverter {
+
+    public static final String MESSAGE_USAGE =
+            "Usage: LedgerConverter JSON_FILE [LEDGER_FILE]";
+    public static final String MESSAGE_MISSING_JSON_FILE = "There is no json data file at %s";
+    public static final String MESSAGE_SUCCESS = "Converted %s into %s";
+
+    private LedgerConverter() {
+    }
+
+    /**
+     * Converts the json data file at {@code jsonFilePath} into a ledger at {@code ledgerFilePath}.
+     *
+     * @throws DataLoadingException if the json data file is missing or could not be loaded.
+     * @throws IOException if there was any problem writing the ledger.
+     */
+    public static void convert(Path jsonFilePath, Path ledgerFilePath) throws DataLoadingException, IOException {
+        requireNonNull(jsonFilePath);
+        requireNonNull(ledgerFilePath);
+
+        ReadOnlyUniCash uniCash = new JsonUniCashStorage(jsonFilePath).readUniCash()
+                .orElseThrow(() -> new DataLoadingException(
+                        new IOException(String.format(MESSAGE_MISSING_JSON_FILE, jsonFilePath))));
+        new BinaryUniCashStorage(ledgerFilePath).saveUniCash(uniCash);
+    }
+
+    /**
+     * Returns the path of the ledger written next to the json data file at {@code jsonFilePath} by default.
+     */
+    public static Path getDefaultLedgerFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return jsonFilePath.resolveSibling(baseName + BinaryUniCashStorage.FILE_EXTENSION);
+    }
+
+    /**
+     * Converts the json data file given as the first argument, as described in {@link LedgerConverter}.
+     */
+    public static void main(String[] args) {
+        if (args.length < 1 || args.length > 2) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+
+        Path jsonFilePath = Paths.get(args[0]);
+        Path ledgerFilePath = args.length == 2 ? Paths.get(args[1]) : getDefaultLedgerFilePath(jsonFilePath);
+        try {
+            convert(jsonFilePath, ledgerFilePath);
+        } catch (DataLoadingException | IOException e) {
+            System.err.println(e.getMessage());
+            System.exit(1);
+        }
+        System.out.println(String.format(MESSAGE_SUCCESS, jsonFilePath, ledgerFilePath));
+    }
+}
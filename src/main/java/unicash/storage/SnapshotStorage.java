@@ -0,0 +1,31 @@
+package unicash.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.OptionalLong;
+
+import unicash.commons.exceptions.DataLoadingException;
+import unicash.model.ReadOnlyUniCash;
+
+/**
+ * Represents a storage for UniCash data whose saves each write a complete copy, and which can record with
+ * a copy the ID of the checkpoint of a {@link JournaledUniCashStorage} that wrote it.
+ */
+public interface SnapshotStorage extends UniCashStorage {
+
+    /**
+     * Saves a complete copy of the given {@link ReadOnlyUniCash} to {@code filePath}, recording
+     * {@code checkpointId} with it.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveSnapshot(ReadOnlyUniCash uniCash, Path filePath, long checkpointId) throws IOException;
+
+    /**
+     * Returns the checkpoint ID recorded with the data at {@code filePath}, or an empty {@code OptionalLong}
+     * if the data was saved without one or the file is not found.
+     *
+     * @throws DataLoadingException if the file could not be read.
+     */
+    OptionalLong readCheckpointId(Path filePath) throws DataLoadingException;
+}
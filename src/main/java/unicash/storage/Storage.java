@@ -29,4 +29,24 @@ public interface Storage extends UniCashStorage, UserPrefsStorage {
     @Override
     void saveUniCash(ReadOnlyUniCash uniCash) throws IOException;
 
+    /**
+     * Throws the failure of a save that could not be written, if it has not been thrown yet.
+     *
+     * @throws IOException if an earlier save could not be written.
+     */
+    void checkWriteFailure() throws IOException;
+
+    /**
+     * Returns true if a save has not been written yet, or could not be written and its failure has not
+     * been thrown yet.
+     */
+    boolean hasPendingWrites();
+
+    /**
+     * Waits for every earlier save to be written.
+     *
+     * @throws IOException if a save could not be written.
+     */
+    void flush() throws IOException;
+
 }
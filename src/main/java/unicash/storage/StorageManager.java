@@ -75,4 +75,35 @@ public class StorageManager implements Storage {
         uniCashStorage.saveUniCash(uniCash, filePath);
     }
 
+    @Override
+    public void checkpointUniCash(ReadOnlyUniCash uniCash) throws IOException {
+        logger.fine("Attempting to write a checkpoint to data file: " + getUniCashFilePath());
+        uniCashStorage.checkpointUniCash(uniCash);
+    }
+
+    @Override
+    public SaveTask prepareSaveUniCash(ReadOnlyUniCash uniCash) {
+        logger.fine("Preparing to write to data file: " + getUniCashFilePath());
+        return uniCashStorage.prepareSaveUniCash(uniCash);
+    }
+
+    /**
+     * Does nothing, as each save is written before it returns.
+     */
+    @Override
+    public void checkWriteFailure() {
+    }
+
+    @Override
+    public boolean hasPendingWrites() {
+        return false;
+    }
+
+    /**
+     * Does nothing, as each save is written before it returns.
+     */
+    @Override
+    public void flush() {
+    }
+
 }
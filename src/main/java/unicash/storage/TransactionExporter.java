@@ -0,0 +1,135 @@
+package unicash.storage;
+
+import static unicash.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.format.DateTimeFormatter;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import unicash.commons.util.FileUtil;
+import unicash.commons.util.JsonUtil;
+import unicash.model.category.Category;
+import unicash.model.commons.Amount;
+import unicash.model.transaction.DateTime;
+import unicash.model.transaction.Transaction;
+
+/**
+ * Exports transactions to files that other programs can read: comma-separated values (CSV), or
+ * newline-delimited JSON (NDJSON) with one transaction per line.
+ *
+ * <p>Each transaction is written to a buffered stream as soon as it is read, so exporting takes the same
+ * memory however many transactions there are. Files are written atomically, so a file that is being
+ * exported over keeps its old content if the export fails.</p>
+ */
+public class TransactionExporter {
+
+    /** Names of the CSV columns, which are those read by default by the {@code import} command. */
+    public static final String CSV_HEADER = "name,type,amount,datetime,location,category";
+
+    private static final DateTimeFormatter CSV_DATETIME_FORMATTER =
+            DateTimeFormatter.ofPattern(DateTime.DATETIME_PATTERN_TWO);
+
+    private TransactionExporter() {
+    }
+
+    /**
+     * Writes {@code transactions} to the file at {@code filePath} as CSV, with a header row naming the columns.
+     * Amounts are written in dollars without a currency symbol, dates as {@code yyyy-MM-dd HH:mm}, and the
+     * categories of a transaction separated by spaces.
+     *
+     * @return the number of transactions written.
+     * @throws IOException if the file could not be written.
+     */
+    public static int exportCsv(Iterable<Transaction> transactions, Path filePath) throws IOException {
+        requireAllNonNull(transactions, filePath);
+        int[] count = {0};
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeToFileAtomically(filePath, out -> {
+            Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+            for (Transaction transaction : transactions) {
+                writeCsvRow(writer, transaction);
+                count[0]++;
+            }
+            writer.flush();
+        });
+        return count[0];
+    }
+
+    /**
+     * Writes {@code transactions} to the file at {@code filePath} as NDJSON, each in the same format as it is
+     * saved in the data file.
+     *
+     * @return the number of transactions written.
+     * @throws IOException if the file could not be written.
+     */
+    public static int exportNdjson(Iterable<Transaction> transactions, Path filePath) throws IOException {
+        requireAllNonNull(transactions, filePath);
+        int[] count = {0};
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeToFileAtomically(filePath, out -> {
+            try (JsonGenerator generator = JsonUtil.createCompactGenerator(out)) {
+                for (Transaction transaction : transactions) {
+                    new JsonAdaptedTransaction(transaction).writeTo(generator);
+                    generator.writeRaw('\n');
+                    count[0]++;
+                }
+            }
+        });
+        return count[0];
+    }
+
+    private static void writeCsvRow(Writer writer, Transaction transaction) throws IOException {
+        writeCsvField(writer, transaction.getName().fullName);
+        writer.write(',');
+        writer.write(transaction.getType().toString());
+        writer.write(',');
+        writer.write(Amount.amountToDecimalString(transaction.getAmount()));
+        writer.write(',');
+        writer.write(CSV_DATETIME_FORMATTER.format(transaction.getDateTime().getDateTime()));
+        writer.write(',');
+        writeCsvField(writer, transaction.getLocation().location);
+        writer.write(',');
+        boolean isFirstCategory = true;
+        for (Category category : transaction.getCategories()) {
+            if (!isFirstCategory) {
+                writer.write(' ');
+            }
+            writer.write(category.category);
+            isFirstCategory = false;
+        }
+        writer.write('\n');
+    }
+
+    /**
+     * Writes {@code value} as a CSV field, enclosing it in double quotes if it contains a comma, a double quote
+     * or a line break.
+     */
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        boolean isQuoted = false;
+        for (int i = 0; i < value.length() && !isQuoted; i++) {
+            char c = value.charAt(i);
+            isQuoted = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!isQuoted) {
+            writer.write(value);
+            return;
+        }
+
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+}
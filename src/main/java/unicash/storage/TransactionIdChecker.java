@@ -0,0 +1,60 @@
+package unicash.storage;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import unicash.commons.exceptions.IllegalValueException;
+import unicash.model.ReadOnlyUniCash;
+import unicash.model.transaction.Transaction;
+
+/**
+ * Checks that the transactions read from a data file, one at a time, have unique IDs.
+ *
+ * <p>Transactions are saved in the order they were added, so their IDs are usually increasing
+ * and only need to be remembered once they are not.</p>
+ */
+class TransactionIdChecker {
+
+    public static final String MESSAGE_DUPLICATE_ID = JsonSerializableUniCash.MESSAGE_DUPLICATE_ID;
+
+    private long lastId = Long.MIN_VALUE;
+    private Set<Long> seenIds;
+
+    /**
+     * Checks that {@code transaction} does not have the ID of any transaction read before it,
+     * which have all been added to {@code readSoFar}.
+     *
+     * @throws IllegalValueException if the ID has been read before.
+     */
+    void check(Transaction transaction, ReadOnlyUniCash readSoFar) throws IllegalValueException {
+        check(transaction, readSoFar, Collections.emptyList());
+    }
+
+    /**
+     * Similar to {@link #check(Transaction, ReadOnlyUniCash)}, for transactions read before {@code transaction}
+     * that have been added to {@code readSoFar}, or are in {@code notYetAdded}.
+     */
+    void check(Transaction transaction, ReadOnlyUniCash readSoFar, List<Transaction> notYetAdded)
+            throws IllegalValueException {
+        long id = transaction.getId();
+        if (seenIds == null && id > lastId) {
+            lastId = id;
+            return;
+        }
+
+        if (seenIds == null) {
+            seenIds = new HashSet<>();
+            for (Transaction seen : readSoFar.getTransactionList()) {
+                seenIds.add(seen.getId());
+            }
+            for (Transaction seen : notYetAdded) {
+                seenIds.add(seen.getId());
+            }
+        }
+        if (!seenIds.add(id)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_ID);
+        }
+    }
+}
@@ -44,4 +44,39 @@ public interface UniCashStorage {
      */
     void saveUniCash(ReadOnlyUniCash uniCash, Path filePath) throws IOException;
 
+    /**
+     * Saves a complete copy of the given {@link ReadOnlyUniCash} to the storage, such as before exiting,
+     * for storages whose saves may only record the changes since an earlier save.
+     *
+     * @param uniCash cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void checkpointUniCash(ReadOnlyUniCash uniCash) throws IOException;
+
+    /**
+     * Captures the given {@link ReadOnlyUniCash} as it is now, and returns a task that saves it to the storage.
+     * The task may be run later on another thread, and running it also saves whatever was captured by tasks
+     * prepared earlier, so those may be skipped if they have not run yet.
+     *
+     * @param uniCash cannot be null.
+     */
+    default SaveTask prepareSaveUniCash(ReadOnlyUniCash uniCash) {
+        ReadOnlyUniCash snapshot = new UniCash(uniCash);
+        return () -> saveUniCash(snapshot);
+    }
+
+    /**
+     * Represents a save prepared by {@link #prepareSaveUniCash(ReadOnlyUniCash)}.
+     */
+    @FunctionalInterface
+    interface SaveTask {
+
+        /**
+         * Writes the captured data to the storage.
+         *
+         * @throws IOException if there was any problem writing to the file.
+         */
+        void run() throws IOException;
+    }
+
 }
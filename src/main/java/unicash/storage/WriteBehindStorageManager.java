@@ -0,0 +1,192 @@
+package unicash.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+import unicash.commons.core.LogsCenter;
+import unicash.commons.exceptions.DataLoadingException;
+import unicash.model.ReadOnlyUniCash;
+import unicash.model.ReadOnlyUserPrefs;
+import unicash.model.UserPrefs;
+
+/**
+ * Decorates a {@code Storage} so that saving UniCash data returns without waiting for it to be written.
+ *
+ * <p>Each save is captured on the calling thread with {@link UniCashStorage#prepareSaveUniCash(ReadOnlyUniCash)}
+ * and written by a single background thread. Saves made while an earlier one is being written are coalesced,
+ * so only the latest of them is written next. A failure to write is thrown by the next save or
+ * {@link #checkWriteFailure()} instead, and {@link #flush()} and {@link #checkpointUniCash(ReadOnlyUniCash)}
+ * wait for every earlier save to be written.</p>
+ */
+public class WriteBehindStorageManager implements Storage {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindStorageManager.class);
+
+    private final Storage storage;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "UniCash storage writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AtomicReference<SaveTask> pendingSave = new AtomicReference<>();
+    // Number of writes scheduled on the writer that have not finished
+    private final AtomicInteger unfinishedWrites = new AtomicInteger();
+    private final AtomicReference<IOException> writeFailure = new AtomicReference<>();
+
+    /**
+     * Creates a {@code WriteBehindStorageManager} that writes saves to the given {@code Storage}.
+     */
+    public WriteBehindStorageManager(Storage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataLoadingException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+
+    // ================ UniCash methods ==============================
+
+    @Override
+    public Path getUniCashFilePath() {
+        return storage.getUniCashFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyUniCash> readUniCash() throws DataLoadingException {
+        return readUniCash(storage.getUniCashFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyUniCash> readUniCash(Path filePath) throws DataLoadingException {
+        awaitWriter();
+        return storage.readUniCash(filePath);
+    }
+
+    /**
+     * Schedules {@code uniCash} to be written in the background.
+     *
+     * @throws IOException if an earlier save could not be written.
+     */
+    @Override
+    public void saveUniCash(ReadOnlyUniCash uniCash) throws IOException {
+        requireNonNull(uniCash);
+        if (pendingSave.getAndSet(storage.prepareSaveUniCash(uniCash)) == null) {
+            unfinishedWrites.incrementAndGet();
+            writer.execute(this::writePendingSave);
+        }
+        throwWriteFailure();
+    }
+
+    /**
+     * Writes {@code uniCash} to {@code filePath} once earlier saves have been written.
+     */
+    @Override
+    public void saveUniCash(ReadOnlyUniCash uniCash, Path filePath) throws IOException {
+        if (filePath.equals(getUniCashFilePath())) {
+            saveUniCash(uniCash);
+            return;
+        }
+
+        flush();
+        storage.saveUniCash(uniCash, filePath);
+    }
+
+    /**
+     * Writes a complete copy of {@code uniCash} once earlier saves have been written.
+     */
+    @Override
+    public void checkpointUniCash(ReadOnlyUniCash uniCash) throws IOException {
+        requireNonNull(uniCash);
+        awaitWriter();
+        writeFailure.set(null);
+        storage.checkpointUniCash(uniCash);
+    }
+
+    @Override
+    public SaveTask prepareSaveUniCash(ReadOnlyUniCash uniCash) {
+        return storage.prepareSaveUniCash(uniCash);
+    }
+
+    /**
+     * Throws the failure of an earlier save that could not be written, without waiting for the saves that
+     * are still being written.
+     */
+    @Override
+    public void checkWriteFailure() throws IOException {
+        throwWriteFailure();
+    }
+
+    @Override
+    public boolean hasPendingWrites() {
+        return unfinishedWrites.get() > 0 || writeFailure.get() != null;
+    }
+
+    /**
+     * Waits for every earlier save to be written.
+     *
+     * @throws IOException if a save could not be written.
+     */
+    @Override
+    public void flush() throws IOException {
+        awaitWriter();
+        throwWriteFailure();
+    }
+
+    private void writePendingSave() {
+        SaveTask save = pendingSave.getAndSet(null);
+        try {
+            if (save != null) {
+                save.run();
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to write data to " + getUniCashFilePath() + ": " + e);
+            writeFailure.set(e);
+        } finally {
+            unfinishedWrites.decrementAndGet();
+        }
+    }
+
+    private void throwWriteFailure() throws IOException {
+        IOException failure = writeFailure.getAndSet(null);
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void awaitWriter() {
+        try {
+            // The writer runs tasks in order, so this runs after every save scheduled so far
+            writer.submit(() -> { }).get();
+        } catch (ExecutionException e) {
+            throw new AssertionError("An empty task cannot fail", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -1,7 +1,10 @@
 package unicash.ui;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
 
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
@@ -9,8 +12,6 @@ import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
 import unicash.logic.Logic;
 import unicash.logic.commands.CommandResult;
-import unicash.logic.commands.exceptions.CommandException;
-import unicash.logic.parser.exceptions.ParseException;
 
 
 /**
@@ -21,10 +22,16 @@ import unicash.logic.parser.exceptions.ParseException;
  * The user can traverse through this history with the standard Keyboard Input
  * {@code UP} and {@code DOWN} arrow keys. The User Input History only persists
  * during the application's runtime, and will be reset once the application is closed.
+ *
+ * </p> Commands are executed one at a time in the background. While a command is being
+ * executed, the command box is styled to show it, and further inputs are queued and
+ * executed in the order they were entered. If a command fails, the inputs queued behind
+ * it are dropped, as they may have depended on it, but they remain in the User Input History.
  */
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
+    public static final String IN_FLIGHT_STYLE_CLASS = "in-flight";
     private static final String FXML = "CommandBox.fxml";
     private static final int DEFAULT_INDEX = -1;
 
@@ -45,6 +52,12 @@ public class CommandBox extends UiPart<Region> {
     // To flag the state of the latest user input capture
     private boolean isLatestInputCaptured = false;
 
+    // To hold the inputs entered while a command is being executed
+    private final Queue<String> pendingCommands = new ArrayDeque<>();
+
+    // To flag whether a command is being executed
+    private boolean isExecuting = false;
+
     /**
      * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
      */
@@ -92,11 +105,13 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Starts executing the command and returns its result, which is completed on the JavaFX
+         * application thread once the command has been executed, or completed exceptionally if
+         * the command fails.
          *
          * @see Logic#execute(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        CompletableFuture<CommandResult> execute(String commandText);
     }
 
     /**
@@ -118,17 +133,58 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
-        try {
-            // Limits user input history to 10 previous entries
-            if (userInputHistory.size() < 10) {
-                addUserInputToHistory(commandText);
-            } else {
-                userInputHistory.remove(0);
-                addUserInputToHistory(commandText);
+        // Limits user input history to 10 previous entries
+        if (userInputHistory.size() < 10) {
+            addUserInputToHistory(commandText);
+        } else {
+            userInputHistory.remove(0);
+            addUserInputToHistory(commandText);
+        }
+        clearCommandTextField();
+
+        if (isExecuting) {
+            pendingCommands.add(commandText);
+        } else {
+            executeCommand(commandText);
+        }
+    }
+
+    /**
+     * Executes the command, and then the next queued input once it succeeds.
+     */
+    private void executeCommand(String commandText) {
+        isExecuting = true;
+        setStyleToIndicateCommandInFlight(true);
+
+        commandExecutor.execute(commandText).whenComplete((commandResult, error) -> {
+            if (error != null) {
+                handleCommandFailure(commandText);
+                return;
+            }
+
+            String nextCommandText = pendingCommands.poll();
+            if (nextCommandText != null) {
+                executeCommand(nextCommandText);
+                return;
             }
-            commandExecutor.execute(commandText);
-            clearCommandTextField();
-        } catch (CommandException | ParseException e) {
+
+            isExecuting = false;
+            setStyleToIndicateCommandInFlight(false);
+        });
+    }
+
+    /**
+     * Drops the queued inputs, and shows the failed command in the command box unless
+     * the user has started entering another one.
+     */
+    private void handleCommandFailure(String commandText) {
+        pendingCommands.clear();
+        isExecuting = false;
+        setStyleToIndicateCommandInFlight(false);
+
+        if (commandTextField.getText().equals("")) {
+            commandTextField.setText(commandText);
+            commandTextField.end();
             setStyleToIndicateCommandFailure();
         }
     }
@@ -153,6 +209,18 @@ public class CommandBox extends UiPart<Region> {
         styleClass.add(ERROR_STYLE_CLASS);
     }
 
+    /**
+     * Sets the command box style to show whether a command is being executed.
+     */
+    private void setStyleToIndicateCommandInFlight(boolean isInFlight) {
+        ObservableList<String> styleClass = commandTextField.getStyleClass();
+        styleClass.remove(IN_FLIGHT_STYLE_CLASS);
+
+        if (isInFlight) {
+            styleClass.add(IN_FLIGHT_STYLE_CLASS);
+        }
+    }
+
     /**
      * Clears the Command Text Field.
      */
@@ -2,8 +2,18 @@ package unicash.ui;
 
 import static unicash.logic.UniCashMessages.MESSAGE_UNICASH_WELCOME;
 
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
+import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -14,14 +24,20 @@ import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import unicash.commons.core.GuiSettings;
 import unicash.commons.core.LogsCenter;
+import unicash.commons.util.StringUtil;
 import unicash.logic.Logic;
 import unicash.logic.commands.CommandResult;
 import unicash.logic.commands.exceptions.CommandException;
 import unicash.logic.parser.exceptions.ParseException;
+import unicash.model.transaction.Transaction;
 
 /**
  * The Main Window. Provides the basic application layout containing
  * a menu bar and space where other JavaFX elements can be placed.
+ *
+ * <p>Commands are executed, and the model is read, on a single model thread, so that the window stays
+ * responsive while a command runs. Their results are shown on the JavaFX application thread with
+ * {@code Platform.runLater}, and the list of transactions is shown through a {@link UiThreadList}.</p>
  */
 public class MainWindow extends UiPart<Stage> {
 
@@ -31,9 +47,17 @@ public class MainWindow extends UiPart<Stage> {
     private Stage primaryStage;
     private Logic logic;
 
+    // Runs every command, and every read of the model for the UI, one at a time and in order
+    private final ExecutorService modelThread = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "UniCash model");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     // Independent Ui parts residing in this Ui container
     private TransactionListPanel transactionListPanel;
     private ResultDisplay resultDisplay;
+    private StatusBarFooter statusBarFooter;
     private HelpWindow helpWindow;
     private SummaryWindow summaryWindow;
 
@@ -116,15 +140,18 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        transactionListPanel = new TransactionListPanel(logic.getFilteredTransactionList());
+        // The list is changed on the model thread, so the UI observes a copy that is changed on this thread
+        ObservableList<Transaction> transactionList = new UiThreadList<>(logic.getFilteredTransactionList());
+
+        transactionListPanel = new TransactionListPanel(transactionList);
         transactionListPanelPlaceholder.getChildren().add(transactionListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
         resultDisplay.setFeedbackToUser(MESSAGE_UNICASH_WELCOME);
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(
-                logic.getUniCashFilePath(), logic.getFilteredTransactionList());
+        statusBarFooter = new StatusBarFooter(
+                logic.getUniCashFilePath(), transactionList);
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
@@ -160,8 +187,23 @@ public class MainWindow extends UiPart<Stage> {
      */
     @FXML
     public void handleSummary() {
+        if (summaryWindow.isShowing()) {
+            summaryWindow.focus();
+            return;
+        }
+
+        modelThread.execute(() -> {
+            HashMap<String, Double> expenseSummary = logic.getExpenseSummaryPerCategory();
+            Platform.runLater(() -> showSummary(expenseSummary));
+        });
+    }
+
+    /**
+     * Opens the summary window with the given expense summary, or focuses on it if it's already opened.
+     */
+    private void showSummary(HashMap<String, Double> expenseSummary) {
         if (!summaryWindow.isShowing()) {
-            summaryWindow.show(logic.getExpenseSummaryPerCategory());
+            summaryWindow.show(expenseSummary);
         } else {
             summaryWindow.focus();
         }
@@ -178,43 +220,97 @@ public class MainWindow extends UiPart<Stage> {
     private void handleExit() {
         GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
                 (int) primaryStage.getX(), (int) primaryStage.getY());
-        logic.setGuiSettings(guiSettings);
+        modelThread.execute(() -> logic.setGuiSettings(guiSettings));
         summaryWindow.hide();
         helpWindow.hide();
         primaryStage.hide();
     }
 
     /**
-     * Executes the command and returns the result.
-     *
-     * @see Logic#execute(String)
+     * Stops the model thread once the command being executed, if any, has been executed.
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
+    void stop() {
+        modelThread.shutdown();
         try {
-            CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
-            summaryWindow.setPieChart(logic.getExpenseSummaryPerCategory());
-            summaryWindow.setLineGraph(logic.getExpenseSummaryPerYearMonth());
-
-            if (commandResult.isShowHelp()) {
-                handleHelp();
-            }
-
-            if (commandResult.isExit()) {
-                handleExit();
-            }
+            modelThread.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
 
-            if (commandResult.isShowSummary()) {
-                handleSummary();
+    /**
+     * Executes the command on the model thread, and returns its result, which is completed on the
+     * JavaFX application thread once the result has been shown.
+     *
+     * @see Logic#execute(String)
+     */
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        CompletableFuture<CommandResult> completion = new CompletableFuture<>();
+        modelThread.execute(() -> {
+            Runnable showOutcome;
+            try {
+                showOutcome = runCommand(commandText, completion);
+            } catch (RuntimeException e) {
+                logger.severe("Command failed unexpectedly: " + commandText + " " + StringUtil.getDetails(e));
+                showOutcome = () -> completion.completeExceptionally(e);
             }
+            Platform.runLater(showOutcome);
+        });
+        return completion;
+    }
 
-            return commandResult;
+    /**
+     * Executes the command, which must be done on the model thread, and returns the task that shows its
+     * outcome on the JavaFX application thread and then completes {@code completion}.
+     */
+    private Runnable runCommand(String commandText, CompletableFuture<CommandResult> completion) {
+        try {
+            CommandResult commandResult = logic.execute(commandText);
+            HashMap<String, Double> expenseSummaryPerCategory = logic.getExpenseSummaryPerCategory();
+            HashMap<YearMonth, Double> expenseSummaryPerYearMonth = logic.getExpenseSummaryPerYearMonth();
+            Runnable showSaveStatus = getSaveStatusUpdate();
+
+            return () -> {
+                logger.info("Result: " + commandResult.getFeedbackToUser());
+                resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+                summaryWindow.setPieChart(expenseSummaryPerCategory);
+                summaryWindow.setLineGraph(expenseSummaryPerYearMonth);
+
+                if (commandResult.isShowHelp()) {
+                    handleHelp();
+                }
+
+                if (commandResult.isExit()) {
+                    handleExit();
+                }
+
+                if (commandResult.isShowSummary()) {
+                    showSummary(expenseSummaryPerCategory);
+                }
+
+                showSaveStatus.run();
+                completion.complete(commandResult);
+            };
         } catch (CommandException | ParseException e) {
-            logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
+            Runnable showSaveStatus = getSaveStatusUpdate();
+
+            return () -> {
+                logger.info("An error occurred while executing command: " + commandText);
+                resultDisplay.setFeedbackToUser(e.getMessage());
+                showSaveStatus.run();
+                completion.completeExceptionally(e);
+            };
         }
     }
 
+    /**
+     * Reads whether the data has been saved, which must be done on the model thread, and returns the task
+     * that shows it in the status bar.
+     */
+    private Runnable getSaveStatusUpdate() {
+        boolean hasUnsavedChanges = logic.hasUnsavedChanges();
+        Optional<Duration> lastSaveDuration = logic.getLastSaveDuration();
+        return () -> statusBarFooter.updateSaveStatus(hasUnsavedChanges, lastSaveDuration);
+    }
+
 }
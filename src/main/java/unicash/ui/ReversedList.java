@@ -0,0 +1,96 @@
+package unicash.ui;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * An unmodifiable view of an {@code ObservableList} in reverse order.
+ *
+ * <p>The view holds no copy of the source list. Each change to the source list is reported as the
+ * equivalent change to the view, so a {@code ListView} showing the view only updates the cells that
+ * the change affects.</p>
+ *
+ * @param <E> the type of the elements in the list.
+ */
+public class ReversedList<E> extends TransformationList<E, E> {
+
+    /**
+     * Creates a {@code ReversedList} of {@code source}.
+     */
+    public ReversedList(ObservableList<? extends E> source) {
+        super(source);
+    }
+
+    @Override
+    public E get(int index) {
+        return getSource().get(getSourceIndex(index));
+    }
+
+    @Override
+    public int size() {
+        return getSource().size();
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return size() - 1 - index;
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return size() - 1 - index;
+    }
+
+    @Override
+    protected void sourceChanged(ListChangeListener.Change<? extends E> change) {
+        // Positions in the view are counted from the end of the source list, so each part of the change
+        // has to be mapped using the size of the source list as it was before that part was applied
+        int sizeBefore = getSource().size();
+        while (change.next()) {
+            sizeBefore += change.getRemovedSize() - change.getAddedSize();
+        }
+        change.reset();
+
+        beginChange();
+        while (change.next()) {
+            int from = change.getFrom();
+            int to = change.getTo();
+
+            if (change.wasPermutated()) {
+                int[] permutation = new int[to - from];
+                for (int i = from; i < to; i++) {
+                    int viewIndex = sizeBefore - 1 - i;
+                    permutation[viewIndex - (sizeBefore - to)] = sizeBefore - 1 - change.getPermutation(i);
+                }
+                nextPermutation(sizeBefore - to, sizeBefore - from, permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = from; i < to; i++) {
+                    nextUpdate(sizeBefore - 1 - i);
+                }
+            } else {
+                int sizeAfter = sizeBefore - change.getRemovedSize() + change.getAddedSize();
+                if (change.wasRemoved()) {
+                    List<E> removed = new ArrayList<>(change.getRemoved());
+                    Collections.reverse(removed);
+                    nextRemove(sizeBefore - from - removed.size(), removed);
+                }
+                if (change.wasAdded()) {
+                    nextAdd(sizeAfter - to, sizeAfter - from);
+                }
+                sizeBefore = sizeAfter;
+            }
+        }
+        endChange();
+    }
+}
@@ -6,33 +6,41 @@ import static unicash.ui.StyleSheet.TEXT_FILL_RED;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Optional;
 
-import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
-import unicash.commons.enums.TransactionType;
+import unicash.model.commons.Amount;
+import unicash.model.transaction.RunningBalance;
 import unicash.model.transaction.Transaction;
 
 /**
  * A UI Controller class for the status bar that is displayed at the
- * footer of the application. Contains information about data path and
- * balance indicator.
+ * footer of the application. Contains information about data path, whether
+ * changes have been saved, and balance indicator.
  */
 public class StatusBarFooter extends UiPart<Region> {
 
     private static final String FXML = "StatusBarFooter.fxml";
     private static final String POSITIVE_BALANCE_STRING = "Rolling Balance: $";
     private static final String NEGATIVE_BALANCE_STRING = "Rolling Balance: -$";
+    private static final String SAVED_STRING = "All changes saved";
+    private static final String SAVED_WITH_DURATION_FORMAT = "All changes saved (%.1f ms)";
+    private static final String UNSAVED_STRING = "Unsaved changes";
 
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private Label saveStatus;
+
     @FXML
     private Label balanceIndicator;
 
-    private ObservableList<Transaction> transactions;
+    private final RunningBalance runningBalance;
 
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path} indicating the
@@ -43,24 +51,38 @@ public class StatusBarFooter extends UiPart<Region> {
                            ObservableList<Transaction> transactionList) {
         super(FXML);
         saveLocationStatus.setText("Data source -> " + Paths.get(".").resolve(saveLocation));
-        transactions = transactionList;
+        updateSaveStatus(false, Optional.empty());
 
         /*
-         * This initiates the first indication of balance upon application start,
-         * before the method is added as a listener.
+         * The balance is kept up to date by a {@code RunningBalance}, which applies each
+         * change reported by the transactions list instead of summing the whole list again.
+         * The balanceIndicator is updated whenever the balance changes, after showing the
+         * balance upon application start.
          */
-        updateBalance(transactions);
+        runningBalance = new RunningBalance(transactionList);
+        updateBalance(runningBalance.getBalanceInCents());
+        runningBalance.balanceInCentsProperty().addListener((observable, oldBalance, newBalance) ->
+                updateBalance(newBalance.longValue()));
+    }
 
-        /*
-         * The {@code updateBalance} method is added as a listener, which means that every
-         * time the transactions list is updated, the balanceIndicator would be updated
-         * dynamically. This is done with a {@code ListChangeListener} that reports a list
-         * of changes done to an {@code ObservableList}
-         */
-        transactions.addListener((
-                ListChangeListener.Change<? extends Transaction> c) -> {
-            updateBalance(transactions);
-        });
+    /**
+     * Shows whether the data has changes that are not saved yet. Once all changes are saved,
+     * also shows how long the last save took, if there has been one.
+     *
+     * @param hasUnsavedChanges whether the data has changed since it was last saved.
+     * @param lastSaveDuration how long the last save took.
+     */
+    public void updateSaveStatus(boolean hasUnsavedChanges, Optional<Duration> lastSaveDuration) {
+        if (hasUnsavedChanges) {
+            saveStatus.setText(UNSAVED_STRING);
+            saveStatus.setStyle(TEXT_FILL_RED);
+            return;
+        }
+
+        saveStatus.setText(lastSaveDuration
+                .map(duration -> String.format(SAVED_WITH_DURATION_FORMAT, duration.toNanos() / 1_000_000.0))
+                .orElse(SAVED_STRING));
+        saveStatus.setStyle(TEXT_FILL_BLACK);
     }
 
     /**
@@ -76,36 +98,22 @@ public class StatusBarFooter extends UiPart<Region> {
      * and a persistent universal balance indicator would require modifications to
      * the interaction between {@code MainWindow} and {@Logic} minimally.
      *
-     * @param transactions the input transactions list to be monitored.
+     * @param balanceInCents the balance of the transactions on display, in cents.
      */
-    @FXML
-    public void updateBalance(ObservableList<Transaction> transactions) {
-        double balance = 0.0;
-        String balanceString = String.valueOf(balance);
-
-        for (Transaction t : transactions) {
-            if (t.getTypeString().equalsIgnoreCase(String.valueOf(
-                    TransactionType.EXPENSE))) {
-                balance -= t.getAmount().amount;
-            } else {
-                balance += t.getAmount().amount;
-            }
-        }
+    private void updateBalance(long balanceInCents) {
+        String formattedBalance = Amount.centsToDecimalString(Math.abs(balanceInCents));
 
-        if (Double.compare(balance, 0) < 0) {
-            double formattedNegativeBalance = Math.abs(balance);
-            balanceString = NEGATIVE_BALANCE_STRING + String.format("%.2f", formattedNegativeBalance);
+        if (balanceInCents < 0) {
+            balanceIndicator.setText(NEGATIVE_BALANCE_STRING + formattedBalance);
         } else {
-            balanceString = POSITIVE_BALANCE_STRING + String.format("%.2f", balance);
+            balanceIndicator.setText(POSITIVE_BALANCE_STRING + formattedBalance);
         }
 
-        balanceIndicator.setText(balanceString);
-
         // Set color to green, red, and black for positive, negative and zero respectively.
-        if (Double.compare(balance, 0) < 0) {
+        if (balanceInCents < 0) {
             balanceIndicator.setStyle(TEXT_FILL_RED);
 
-        } else if (Double.compare(balance, 0) > 0) {
+        } else if (balanceInCents > 0) {
             balanceIndicator.setStyle(TEXT_FILL_GREEN);
 
         } else {
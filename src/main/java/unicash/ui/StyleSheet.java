@@ -1,5 +1,7 @@
 package unicash.ui;
 
+import java.util.HashMap;
+
 import unicash.model.category.Category;
 
 /**
@@ -47,6 +49,9 @@ public class StyleSheet {
     public static final int BLUE_OFFSET = 0;
     public static final boolean IS_YELLOW_SKEW = true;
 
+    /* Background styles of the categories shown so far */
+    private static final HashMap<Category, String> categoryBackgroundStyles = new HashMap<>();
+
     /**
      * Returns a 6-digit hexadecimal number based on the Category's unique
      * hash code, to be used as a color indicator, without any color offsetting.
@@ -111,6 +116,16 @@ public class StyleSheet {
         return getColorOutput(objectColorString);
     }
 
+    /**
+     * Returns the style that sets the background of a {@code Label} to the bright color
+     * of {@code category}. The style of each category is only computed the first time
+     * it is needed, as every transaction card showing the category needs it.
+     */
+    public static String getCategoryBackgroundStyle(Category category) {
+        return categoryBackgroundStyles.computeIfAbsent(category, unused ->
+                String.format(TEXT_BACKGROUND_COLOR_SPECIFIER, getBrightColorFromHash(category)));
+    }
+
     /**
      * Returns the input colour value adjusted by {@code BRIGHTNESS_OFFSET}
      * or the {@code MAX_COlOUR_VALUE} if the adjusted value exceeds the
@@ -1,24 +1,18 @@
 package unicash.ui;
 
 import static unicash.ui.StyleSheet.FONT_STYLE_BOLD;
-import static unicash.ui.StyleSheet.TEXT_BACKGROUND_COLOR_SPECIFIER;
 import static unicash.ui.StyleSheet.TEXT_FILL_BLACK;
 import static unicash.ui.StyleSheet.TEXT_FILL_GREEN;
 import static unicash.ui.StyleSheet.TEXT_FILL_RED;
 import static unicash.ui.StyleSheet.TRANSACTION_ID_SEPARATOR;
-import static unicash.ui.StyleSheet.getBrightColorFromHash;
+import static unicash.ui.StyleSheet.getCategoryBackgroundStyle;
 
-import java.util.ArrayList;
-import java.util.Iterator;
-
-import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import unicash.commons.enums.TransactionType;
 import unicash.model.category.Category;
-import unicash.model.category.UniqueCategoryList;
 import unicash.model.transaction.Transaction;
 
 
@@ -36,7 +30,7 @@ public class TransactionCard extends UiPart<Region> {
      *
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
-    public final Transaction transaction;
+    private Transaction transaction;
 
     @FXML
     private HBox cardPane;
@@ -68,6 +62,8 @@ public class TransactionCard extends UiPart<Region> {
     private Label fifthCategory;
 
 
+    private final Label[] categoryLabels;
+
     /**
      * Creates a {@code TransactionCard} with the given {@code Transaction} and index to display.
      * The transaction's polarity (i.e. direction) depends on whether it's an expense or an income.
@@ -75,8 +71,16 @@ public class TransactionCard extends UiPart<Region> {
      */
     public TransactionCard(Transaction transaction, int displayedIndex) {
         super(FXML);
+        categoryLabels = new Label[] {firstCategory, secondCategory, thirdCategory, fourthCategory, fifthCategory};
+        setTransaction(transaction, displayedIndex);
+    }
+
+    /**
+     * Shows {@code transaction} with the given index on this card in place of the transaction it showed,
+     * so that a list cell can reuse the card instead of loading a new one for every transaction it shows.
+     */
+    public void setTransaction(Transaction transaction, int displayedIndex) {
         this.transaction = transaction;
-        id.setText(displayedIndex + TRANSACTION_ID_SEPARATOR);
 
         idStyleFormatter(displayedIndex);
         nameStyleFormatter();
@@ -86,6 +90,10 @@ public class TransactionCard extends UiPart<Region> {
         discreteCategoriesStyleFormatter();
     }
 
+    public Transaction getTransaction() {
+        return transaction;
+    }
+
     /**
      * Returns the name label of the transaction card.
      *
@@ -152,10 +160,8 @@ public class TransactionCard extends UiPart<Region> {
      */
     private void amountStyleFormatter() {
         String formattedTransactionAmount = transaction.getAmount().toString();
-        String transactionType = transaction.getTypeString();
 
-        String transactionSign = transactionType.equalsIgnoreCase(
-                String.valueOf(TransactionType.EXPENSE)) ? "-" : "+";
+        String transactionSign = transaction.getType().type == TransactionType.EXPENSE ? "-" : "+";
         String transactionCardString = transactionSign + formattedTransactionAmount;
         amount.setText(transactionCardString);
 
@@ -171,7 +177,7 @@ public class TransactionCard extends UiPart<Region> {
 
     /**
      * For better presentation of the transaction category, instead of using the
-     * toString method of the UniqueCategoryList directly, the leading and trailing
+     * toString method of the CategorySet directly, the leading and trailing
      * square brackets are trimmed, and prepended with a "hashtag".
      */
     private void categoriesStyleFormatter() {
@@ -187,33 +193,20 @@ public class TransactionCard extends UiPart<Region> {
     /**
      * For color coding every category using its hash value to generate a distinct
      * and unique color without having to store additional color information inside
-     * the {@code Category} class.
+     * the {@code Category} class. Labels left over from a transaction with more
+     * categories are cleared.
      **/
     private void discreteCategoriesStyleFormatter() {
-        UniqueCategoryList categoryUniqueList = transaction.getCategories();
-        ObservableList<Category> categoryObservableList =
-                categoryUniqueList.asUnmodifiableObservableList();
-        Iterator<Category> categoryIterator = categoryUniqueList.iterator();
-        ArrayList<Category> categoryArrayList = new ArrayList<>();
-
-        Label[] labelArrayList = new Label[] {firstCategory, secondCategory,
-            thirdCategory, fourthCategory, fifthCategory};
-
-        for (Category c : categoryObservableList) {
-            categoryArrayList.add(c);
+        int labelIndex = 0;
+        for (Category category : transaction.getCategories()) {
+            Label categoryLabel = categoryLabels[labelIndex++];
+            categoryLabel.setText(category.categoryToStringWithPrefix());
+            categoryLabel.setStyle(getCategoryBackgroundStyle(category));
         }
 
-        for (int i = 0; i < categoryArrayList.size(); i++) {
-            Category currentCategory = categoryArrayList.get(i);
-            String categoryColorHexString =
-                    getBrightColorFromHash(currentCategory);
-
-            Label currentCategoryLabel = labelArrayList[i];
-
-            currentCategoryLabel.setText(currentCategory.categoryToStringWithPrefix());
-            currentCategoryLabel.setStyle(String.format(TEXT_BACKGROUND_COLOR_SPECIFIER,
-                    categoryColorHexString));
-
+        for (; labelIndex < categoryLabels.length; labelIndex++) {
+            categoryLabels[labelIndex].setText("");
+            categoryLabels[labelIndex].setStyle("");
         }
     }
 
@@ -2,8 +2,7 @@ package unicash.ui;
 
 import java.util.logging.Logger;
 
-import javafx.beans.binding.Bindings;
-import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
@@ -28,33 +27,38 @@ public class TransactionListPanel extends UiPart<Region> {
      */
     public TransactionListPanel(ObservableList<Transaction> transactionList) {
         super(FXML);
-        transactionListView.setItems(transactionList);
+
+        /* The ListView shows the transactions in reverse order through a view of the list,
+         * rather than a reversed copy of it. Only the cells affected by a change to the list
+         * are updated, and the scroll position is kept. */
+        ReversedList<Transaction> reversedList = new ReversedList<>(transactionList);
+        transactionListView.setItems(reversedList);
         transactionListView.setCellFactory(
                 listView -> new TransactionListViewCell(transactionList));
 
-        /* Binds items property of the ListView to an ObservableList. Whenever the list is
-         * updated (like reversing its order), the ListView will reflect the changes. The
-         * item of the ListView is kept in sync with a reversed version of the ObservableList. */
-        transactionListView.itemsProperty()
-                .bind(
-                        Bindings.createObjectBinding(() -> {
-                            ObservableList<Transaction> reversedList =
-                                    FXCollections.observableArrayList(transactionList);
-
-                            FXCollections.reverse(reversedList);
-
-                            return reversedList;
-                        }, transactionList)
-            );
+        /* The index displayed on a cell counts up from the bottom of the list. A change that
+         * adds or removes transactions below the top changes the displayed index of the cells
+         * above it without moving them, so the visible cells are refreshed to show their new index. */
+        reversedList.addListener((ListChangeListener<Transaction>) change -> {
+            while (change.next()) {
+                if (change.getFrom() > 0 && change.getRemovedSize() != change.getAddedSize()) {
+                    transactionListView.refresh();
+                    return;
+                }
+            }
+        });
     }
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Transaction}
-     * using a {@code TransactionCard}.
+     * using a {@code TransactionCard}. The {@code ListView} only creates enough cells
+     * to fill the visible area, and each cell keeps its {@code TransactionCard}, showing
+     * a different transaction on it as the list is scrolled.
      */
     class TransactionListViewCell extends ListCell<Transaction> {
 
         private ObservableList<Transaction> internalTransactionList;
+        private TransactionCard transactionCard;
 
         /**
          * Creates a TransactionListViewCell taking in an ObservableList
@@ -77,7 +81,12 @@ public class TransactionListPanel extends UiPart<Region> {
                 setText(null);
             } else {
                 int displayIndex = internalTransactionList.size() - getIndex();
-                setGraphic(new TransactionCard(transaction, displayIndex).getRoot());
+                if (transactionCard == null) {
+                    transactionCard = new TransactionCard(transaction, displayIndex);
+                } else {
+                    transactionCard.setTransaction(transaction, displayIndex);
+                }
+                setGraphic(transactionCard.getRoot());
             }
         }
     }
@@ -50,6 +50,14 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void stop() {
+        logger.info("Stopping UI...");
+        if (mainWindow != null) {
+            mainWindow.stop();
+        }
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
@@ -0,0 +1,127 @@
+package unicash.ui;
+
+import static unicash.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import javafx.application.Platform;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+/**
+ * An unmodifiable copy of an {@code ObservableList} that is changed on another thread, which is kept up to
+ * date on the JavaFX application thread.
+ *
+ * <p>Each change to the source list is copied on the thread that makes it, and then applied to this list
+ * and reported to its listeners on the JavaFX application thread, in the order the changes were made.
+ * The UI can therefore observe a list that the model changes in the background without reading it while
+ * it is being changed. Changes are published with {@code Platform.runLater}, so whatever is published
+ * after a change, such as the result of the command that made it, is shown after the change.</p>
+ *
+ * <p>The copy must be created while the source list is not being changed.</p>
+ *
+ * @param <E> the type of the elements in the list.
+ */
+public class UiThreadList<E> extends ObservableListBase<E> {
+
+    private final List<E> elements;
+    private final Consumer<Runnable> publisher;
+
+    /**
+     * Creates a {@code UiThreadList} of {@code source}, whose changes are applied on the JavaFX application
+     * thread.
+     */
+    public UiThreadList(ObservableList<? extends E> source) {
+        this(source, Platform::runLater);
+    }
+
+    /**
+     * Creates a {@code UiThreadList} of {@code source}, whose changes are applied by the tasks passed to
+     * {@code publisher}.
+     */
+    UiThreadList(ObservableList<? extends E> source, Consumer<Runnable> publisher) {
+        requireAllNonNull(source, publisher);
+        this.publisher = publisher;
+        elements = new ArrayList<>(source);
+        source.addListener(this::sourceChanged);
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    /**
+     * Copies each part of {@code change}, which is read on the thread that made it, and publishes the
+     * task that applies the parts to this list.
+     */
+    private void sourceChanged(ListChangeListener.Change<? extends E> change) {
+        List<Runnable> parts = new ArrayList<>();
+        while (change.next()) {
+            int from = change.getFrom();
+            int to = change.getTo();
+
+            if (change.wasPermutated()) {
+                int[] permutation = new int[to - from];
+                for (int i = from; i < to; i++) {
+                    permutation[i - from] = change.getPermutation(i);
+                }
+                parts.add(() -> applyPermutation(from, permutation));
+            } else if (change.wasUpdated()) {
+                List<E> updated = new ArrayList<>(change.getList().subList(from, to));
+                parts.add(() -> applyUpdate(from, updated));
+            } else {
+                int removedSize = change.getRemovedSize();
+                List<E> added = new ArrayList<>(change.getAddedSubList());
+                parts.add(() -> applyReplacement(from, removedSize, added));
+            }
+        }
+
+        publisher.accept(() -> {
+            beginChange();
+            parts.forEach(Runnable::run);
+            endChange();
+        });
+    }
+
+    private void applyPermutation(int from, int[] permutation) {
+        List<E> permuted = new ArrayList<>(elements.subList(from, from + permutation.length));
+        for (int i = 0; i < permutation.length; i++) {
+            permuted.set(permutation[i] - from, elements.get(from + i));
+        }
+        for (int i = 0; i < permutation.length; i++) {
+            elements.set(from + i, permuted.get(i));
+        }
+        nextPermutation(from, from + permutation.length, permutation);
+    }
+
+    private void applyUpdate(int from, List<E> updated) {
+        for (int i = 0; i < updated.size(); i++) {
+            elements.set(from + i, updated.get(i));
+            nextUpdate(from + i);
+        }
+    }
+
+    private void applyReplacement(int from, int removedSize, List<E> added) {
+        List<E> removedRange = elements.subList(from, from + removedSize);
+        List<E> removed = new ArrayList<>(removedRange);
+        removedRange.clear();
+        elements.addAll(from, added);
+
+        if (removed.isEmpty()) {
+            nextAdd(from, from + added.size());
+        } else if (added.isEmpty()) {
+            nextRemove(from, removed);
+        } else {
+            nextReplace(from, from + added.size(), removed);
+        }
+    }
+}
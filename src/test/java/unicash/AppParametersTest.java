@@ -39,6 +39,16 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_namedParameters_success() {
+        Map<String, String> namedParameters = new HashMap<>();
+        assertEquals(expected, AppParameters.parse(namedParameters));
+
+        namedParameters.put("config", "config.json");
+        expected.setConfigPath(Paths.get("config.json"));
+        assertEquals(expected, AppParameters.parse(namedParameters));
+    }
+
     @Test
     public void toStringMethod() {
         AppParameters appParameters = new AppParameters();
@@ -0,0 +1,129 @@
+package unicash;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static unicash.logic.UniCashMessages.MESSAGE_INVALID_TRANSACTION_DISPLAYED_INDEX;
+import static unicash.testutil.Assert.assertThrows;
+import static unicash.testutil.TypicalTransactions.BUYING_GROCERIES;
+import static unicash.testutil.TypicalTransactions.NUS;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import unicash.commons.enums.CommandType;
+import unicash.logic.Logic;
+import unicash.logic.LogicManager;
+import unicash.logic.commands.ExitCommand;
+import unicash.logic.commands.ListCommand;
+import unicash.model.Model;
+import unicash.model.ModelManager;
+import unicash.model.ReadOnlyUniCash;
+import unicash.storage.JsonUniCashStorage;
+import unicash.storage.JsonUserPrefsStorage;
+import unicash.storage.StorageManager;
+import unicash.testutil.TransactionUtil;
+
+public class HeadlessAppTest {
+
+    private static final String LIST_COMMAND = CommandType.LIST.getMainCommandWord();
+    private static final String ADD_NUS_COMMAND = TransactionUtil.getAddTransactionCommand(NUS);
+    private static final String ADD_GROCERIES_COMMAND = TransactionUtil.getAddTransactionCommand(BUYING_GROCERIES);
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+    private final int[] saveCount = {0};
+    private JsonUniCashStorage uniCashStorage;
+    private Logic logic;
+
+    private final StringWriter out = new StringWriter();
+    private final StringWriter err = new StringWriter();
+
+    @BeforeEach
+    public void setUp() {
+        uniCashStorage = new JsonUniCashStorage(temporaryFolder.resolve("unicash.json")) {
+            @Override
+            public void saveUniCash(ReadOnlyUniCash uniCash, Path filePath) throws IOException {
+                saveCount[0]++;
+                super.saveUniCash(uniCash, filePath);
+            }
+        };
+        logic = new LogicManager(model, new StorageManager(uniCashStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+    }
+
+    private int run(int checkpointInterval, String... lines) throws IOException {
+        HeadlessApp app = new HeadlessApp(logic, checkpointInterval);
+        BufferedReader script = new BufferedReader(new StringReader(String.join("\n", lines)));
+        return app.run(script, new PrintWriter(out), new PrintWriter(err));
+    }
+
+    @Test
+    public void constructor_invalidArguments_throwsException() {
+        assertThrows(NullPointerException.class, () -> new HeadlessApp(null, 0));
+        assertThrows(IllegalArgumentException.class, () -> new HeadlessApp(logic, -1));
+    }
+
+    @Test
+    public void run_validCommands_printsFeedbackAndSavesOnce() throws Exception {
+        int failureCount = run(0, "# Adds two transactions", ADD_NUS_COMMAND, "", ADD_GROCERIES_COMMAND,
+                "   " + LIST_COMMAND + "   ");
+
+        assertEquals(0, failureCount);
+        assertEquals(2, model.getUniCash().getTransactionList().size());
+        assertTrue(out.toString().endsWith(ListCommand.MESSAGE_SUCCESS + System.lineSeparator()));
+        assertEquals("", err.toString());
+
+        assertEquals(1, saveCount[0]);
+        assertFalse(logic.hasUnsavedChanges());
+        assertEquals(model.getUniCash(), uniCashStorage.readUniCash().get());
+    }
+
+    @Test
+    public void run_onlyReadingCommands_notSaved() throws Exception {
+        assertEquals(0, run(1, LIST_COMMAND, LIST_COMMAND));
+        assertEquals(0, saveCount[0]);
+    }
+
+    @Test
+    public void run_checkpointInterval_savedAtEachCheckpoint() throws Exception {
+        assertEquals(0, run(1, ADD_NUS_COMMAND, LIST_COMMAND, ADD_GROCERIES_COMMAND));
+        assertEquals(2, saveCount[0]);
+    }
+
+    @Test
+    public void run_failingCommand_printsLineNumberAndContinues() throws Exception {
+        int failureCount = run(0, LIST_COMMAND, "delete_transaction 9", ADD_NUS_COMMAND);
+
+        assertEquals(1, failureCount);
+        assertEquals(String.format(HeadlessApp.MESSAGE_COMMAND_FAILED, 2, MESSAGE_INVALID_TRANSACTION_DISPLAYED_INDEX)
+                + System.lineSeparator(), err.toString());
+        assertEquals(1, model.getUniCash().getTransactionList().size());
+        assertEquals(1, saveCount[0]);
+    }
+
+    @Test
+    public void run_exitCommand_stopsScript() throws Exception {
+        assertEquals(0, run(0, ADD_NUS_COMMAND, CommandType.EXIT.getMainCommandWord(), ADD_GROCERIES_COMMAND));
+
+        assertTrue(out.toString().endsWith(ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT + System.lineSeparator()));
+        assertEquals(1, model.getUniCash().getTransactionList().size());
+        assertEquals(1, saveCount[0]);
+    }
+
+    @Test
+    public void runScript_unknownParameter_usageError() {
+        assertEquals(HeadlessApp.EXIT_USAGE, HeadlessApp.runScript(new String[] {"--bacth=script.txt"}));
+        assertEquals(HeadlessApp.EXIT_USAGE, HeadlessApp.runScript(new String[] {"--checkpoint"}));
+    }
+}
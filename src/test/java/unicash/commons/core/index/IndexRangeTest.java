@@ -0,0 +1,76 @@
+package unicash.commons.core.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static unicash.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class IndexRangeTest {
+
+    private static final List<String> LIST = List.of("a", "b", "c", "d");
+
+    @Test
+    public void between_lastBeforeFirst_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                IndexRange.between(Index.fromOneBased(2), Index.fromOneBased(1)));
+        assertThrows(NullPointerException.class, () -> IndexRange.between(null, Index.fromOneBased(1)));
+    }
+
+    @Test
+    public void isWithin() {
+        IndexRange range = IndexRange.between(Index.fromOneBased(2), Index.fromOneBased(3));
+        assertTrue(range.isWithin(3));
+        assertFalse(range.isWithin(2));
+
+        assertTrue(IndexRange.all().isWithin(1));
+        assertFalse(IndexRange.all().isWithin(0));
+    }
+
+    @Test
+    public void subListOf() {
+        assertEquals(List.of("b", "c"),
+                IndexRange.between(Index.fromOneBased(2), Index.fromOneBased(3)).subListOf(LIST));
+        assertEquals(List.of("d"),
+                IndexRange.between(Index.fromOneBased(4), Index.fromOneBased(4)).subListOf(LIST));
+        assertEquals(LIST, IndexRange.all().subListOf(LIST));
+
+        assertThrows(IndexOutOfBoundsException.class, () ->
+                IndexRange.between(Index.fromOneBased(3), Index.fromOneBased(5)).subListOf(LIST));
+        assertThrows(IndexOutOfBoundsException.class, () -> IndexRange.all().subListOf(List.of()));
+    }
+
+    @Test
+    public void equals() {
+        IndexRange range = IndexRange.between(Index.fromOneBased(1), Index.fromOneBased(3));
+
+        // same values -> returns true
+        assertEquals(range, IndexRange.between(Index.fromZeroBased(0), Index.fromZeroBased(2)));
+        assertEquals(IndexRange.all(), IndexRange.all());
+
+        // same object -> returns true
+        assertEquals(range, range);
+
+        // null -> returns false
+        assertNotEquals(null, range);
+
+        // different types -> returns false
+        assertFalse(range.equals(1));
+
+        // different range -> returns false
+        assertNotEquals(range, IndexRange.between(Index.fromOneBased(1), Index.fromOneBased(2)));
+        assertNotEquals(range, IndexRange.all());
+    }
+
+    @Test
+    public void toStringMethod() {
+        IndexRange range = IndexRange.between(Index.fromOneBased(1), Index.fromOneBased(2));
+        String expected = IndexRange.class.getCanonicalName() + "{first=" + Index.fromOneBased(1)
+                + ", last=" + Index.fromOneBased(2) + "}";
+        assertEquals(expected, range.toString());
+    }
+}
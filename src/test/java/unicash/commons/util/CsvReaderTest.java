@@ -0,0 +1,87 @@
+package unicash.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static unicash.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvReaderTest {
+
+    private static List<List<String>> readAll(String csv) throws IOException {
+        List<List<String>> records = new ArrayList<>();
+        try (CsvReader csvReader = new CsvReader(new StringReader(csv))) {
+            List<String> record;
+            while ((record = csvReader.readRecord()) != null) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+
+    @Test
+    public void constructor_nullReader_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new CsvReader(null));
+    }
+
+    @Test
+    public void readRecord_emptyInput_returnsNull() throws Exception {
+        assertEquals(Collections.emptyList(), readAll(""));
+        assertEquals(Collections.emptyList(), readAll("\uFEFF"));
+    }
+
+    @Test
+    public void readRecord_unquotedFields_success() throws Exception {
+        assertEquals(Arrays.asList(Arrays.asList("a", "b", "c"), Arrays.asList("d", "", "f")),
+                readAll("a,b,c\nd,,f"));
+
+        // every kind of line break, with and without a final one
+        assertEquals(Arrays.asList(Arrays.asList("a"), Arrays.asList("b"), Arrays.asList("c")),
+                readAll("a\r\nb\rc\n"));
+
+        // empty line and trailing separator
+        assertEquals(Arrays.asList(Arrays.asList(""), Arrays.asList("a", "")), readAll("\na,"));
+
+        // byte order mark is ignored
+        assertEquals(Arrays.asList(Arrays.asList("a", "b")), readAll("\uFEFFa,b"));
+    }
+
+    @Test
+    public void readRecord_quotedFields_success() throws Exception {
+        assertEquals(Arrays.asList(Arrays.asList("a,b", "say \"hi\"", ""), Arrays.asList("c")),
+                readAll("\"a,b\",\"say \"\"hi\"\"\",\"\"\nc"));
+
+        // line breaks inside quotes are part of the field
+        assertEquals(Arrays.asList(Arrays.asList("line 1\nline 2", "x")),
+                readAll("\"line 1\r\nline 2\",x"));
+
+        // quotes inside an unquoted field are kept as they are
+        assertEquals(Arrays.asList(Arrays.asList("5\" screen", "b")), readAll("5\" screen,b"));
+    }
+
+    @Test
+    public void getRecordLineNumber_countsLineBreaksInsideQuotes() throws Exception {
+        try (CsvReader csvReader = new CsvReader(new StringReader("a\n\"b\nc\"\r\nd\n"))) {
+            csvReader.readRecord();
+            assertEquals(1, csvReader.getRecordLineNumber());
+            csvReader.readRecord();
+            assertEquals(2, csvReader.getRecordLineNumber());
+            csvReader.readRecord();
+            assertEquals(4, csvReader.getRecordLineNumber());
+            assertNull(csvReader.readRecord());
+        }
+    }
+
+    @Test
+    public void readRecord_unterminatedQuote_throwsIoException() {
+        assertThrows(IOException.class, String.format(CsvReader.MESSAGE_UNTERMINATED_QUOTE, 2), () ->
+                readAll("a\n\"b,c\nd"));
+    }
+}
@@ -1,5 +1,6 @@
 package unicash.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static unicash.testutil.Assert.assertThrows;
@@ -41,4 +42,18 @@ public class FileUtilTest {
         FileUtil.createFile(path);
     }
 
+    @Test
+    public void writeToFileAtomically_existingFile_replacesContent() throws IOException {
+        var path = temporaryFolder.resolve("tempfile");
+        FileUtil.writeToFile(path, "old content");
+
+        FileUtil.writeToFileAtomically(path, "new content");
+
+        assertEquals("new content", FileUtil.readFromFile(path));
+        // No temporary file is left behind
+        try (var files = Files.list(temporaryFolder)) {
+            assertEquals(1, files.count());
+        }
+    }
+
 }
@@ -2,6 +2,7 @@ package unicash.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static unicash.testutil.Assert.assertThrows;
 
@@ -287,4 +288,23 @@ public class StringUtilTest {
         );
     }
 
+    //---------------- Tests for fingerprintOf --------------------------------------
+
+    @Test
+    public void fingerprintOf_nullString_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.fingerprintOf(null));
+    }
+
+    @Test
+    public void fingerprintOf_equalStrings_sameFingerprint() {
+        assertEquals(StringUtil.fingerprintOf("Fairprice"), StringUtil.fingerprintOf(new String("Fairprice")));
+    }
+
+    @Test
+    public void fingerprintOf_differentStrings_differentFingerprints() {
+        // "Aa" and "BB" have the same String#hashCode
+        assertNotEquals(StringUtil.fingerprintOf("Aa"), StringUtil.fingerprintOf("BB"));
+        assertNotEquals(StringUtil.fingerprintOf(""), StringUtil.fingerprintOf(" "));
+        assertNotEquals(StringUtil.fingerprintOf("ab"), StringUtil.fingerprintOf("ba"));
+    }
 }
@@ -1,6 +1,8 @@
 package unicash.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static unicash.logic.UniCashMessages.MESSAGE_INVALID_TRANSACTION_DISPLAYED_INDEX;
 import static unicash.logic.UniCashMessages.MESSAGE_UNKNOWN_COMMAND;
 import static unicash.logic.commands.CommandTestUtil.AMOUNT_DESC_NUS;
@@ -21,6 +23,7 @@ import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
 import java.util.HashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -41,11 +44,19 @@ import unicash.model.transaction.Transaction;
 import unicash.storage.JsonUniCashStorage;
 import unicash.storage.JsonUserPrefsStorage;
 import unicash.storage.StorageManager;
+import unicash.storage.WriteBehindStorageManager;
 import unicash.testutil.TransactionBuilder;
 
 public class LogicManagerTest {
     private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
     private static final IOException DUMMY_AD_EXCEPTION = new AccessDeniedException("dummy access denied exception");
+    private static final String ADD_COMMAND = CommandType.ADD_TRANSACTION.getMainCommandWord()
+            + TRANSACTION_NAME_DESC_NUS
+            + CATEGORY_DESC_NUS
+            + AMOUNT_DESC_NUS
+            + DATETIME_DESC_NUS
+            + TYPE_DESC_EXPENSE
+            + LOCATION_DESC_NUS;
 
     @TempDir
     public Path temporaryFolder;
@@ -92,6 +103,106 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_commandsChangingData_onlyThoseSaved() throws Exception {
+        Path filePath = temporaryFolder.resolve("unicash.json");
+        int[] saveCount = {0};
+        JsonUniCashStorage uniCashStorage = new JsonUniCashStorage(filePath) {
+            @Override
+            public void saveUniCash(ReadOnlyUniCash uniCash, Path filePath) throws IOException {
+                saveCount[0]++;
+                super.saveUniCash(uniCash, filePath);
+            }
+        };
+        logic = new LogicManager(model, new StorageManager(uniCashStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+
+        logic.execute(CommandType.LIST.getMainCommandWord());
+        assertEquals(0, saveCount[0]);
+        assertFalse(logic.hasUnsavedChanges());
+        assertFalse(logic.getLastSaveDuration().isPresent());
+
+        logic.execute(ADD_COMMAND);
+        assertEquals(1, saveCount[0]);
+        assertFalse(logic.hasUnsavedChanges());
+        assertTrue(logic.getLastSaveDuration().isPresent());
+        assertEquals(model.getUniCash(), uniCashStorage.readUniCash().get());
+
+        logic.execute(CommandType.LIST.getMainCommandWord());
+        logic.execute(CommandType.FIND.getMainCommandWord() + TRANSACTION_NAME_DESC_NUS);
+        assertEquals(1, saveCount[0]);
+    }
+
+    @Test
+    public void executeWithoutSaving_commandChangingData_savedOnlyWhenRequested() throws Exception {
+        int[] saveCount = {0};
+        JsonUniCashStorage uniCashStorage = new JsonUniCashStorage(temporaryFolder.resolve("unicash.json")) {
+            @Override
+            public void saveUniCash(ReadOnlyUniCash uniCash, Path filePath) throws IOException {
+                saveCount[0]++;
+                super.saveUniCash(uniCash, filePath);
+            }
+        };
+        logic = new LogicManager(model, new StorageManager(uniCashStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+
+        logic.executeWithoutSaving(ADD_COMMAND);
+        assertEquals(0, saveCount[0]);
+        assertTrue(logic.hasUnsavedChanges());
+
+        logic.save();
+        assertEquals(1, saveCount[0]);
+        assertFalse(logic.hasUnsavedChanges());
+        assertEquals(model.getUniCash(), uniCashStorage.readUniCash().get());
+
+        // nothing changed since the last save -> not saved again
+        logic.save();
+        assertEquals(1, saveCount[0]);
+    }
+
+    @Test
+    public void execute_writeBehindSaveFailed_reportedByNextCommand() throws Exception {
+        AtomicInteger failuresLeft = new AtomicInteger(1);
+        JsonUniCashStorage uniCashStorage = new JsonUniCashStorage(temporaryFolder.resolve("unicash.json")) {
+            @Override
+            public void saveUniCash(ReadOnlyUniCash uniCash, Path filePath) throws IOException {
+                if (failuresLeft.getAndDecrement() > 0) {
+                    throw DUMMY_IO_EXCEPTION;
+                }
+                super.saveUniCash(uniCash, filePath);
+            }
+        };
+        WriteBehindStorageManager storage = new WriteBehindStorageManager(new StorageManager(uniCashStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))));
+        logic = new LogicManager(model, storage);
+
+        // The save is not known to be written, whether or not it has failed yet
+        logic.execute(ADD_COMMAND);
+        assertTrue(logic.hasUnsavedChanges());
+
+        // The failed write is reported by a later command, even one that does not change the data
+        String listCommand = CommandType.LIST.getMainCommandWord();
+        boolean isReported = false;
+        for (int i = 0; i < 1000 && !isReported; i++) {
+            try {
+                logic.execute(listCommand);
+                Thread.sleep(1);
+            } catch (CommandException e) {
+                assertEquals(String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()),
+                        e.getMessage());
+                isReported = true;
+            }
+        }
+        assertTrue(isReported);
+        assertTrue(logic.hasUnsavedChanges());
+
+        // The data is saved again by the next command
+        logic.execute(listCommand);
+        storage.flush();
+        assertFalse(logic.hasUnsavedChanges());
+        assertEquals(model.getUniCash(), uniCashStorage.readUniCash().get());
+    }
+
     @Test
     public void getFilteredTransactionList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredTransactionList().remove(0));
@@ -217,16 +328,10 @@ public class LogicManagerTest {
         logic = new LogicManager(model, storage);
 
         // Triggers the saveUniCash method by executing an add command
-        String addCommand = CommandType.ADD_TRANSACTION.getMainCommandWord()
-                + TRANSACTION_NAME_DESC_NUS
-                + CATEGORY_DESC_NUS
-                + AMOUNT_DESC_NUS
-                + DATETIME_DESC_NUS
-                + TYPE_DESC_EXPENSE
-                + LOCATION_DESC_NUS;
         Transaction expectedTransaction = new TransactionBuilder(NUS).build();
         ModelManager expectedModel = new ModelManager();
         expectedModel.addTransaction(expectedTransaction);
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+        assertCommandFailure(ADD_COMMAND, CommandException.class, expectedMessage, expectedModel);
+        assertTrue(logic.hasUnsavedChanges());
     }
 }
@@ -10,6 +10,7 @@ import static unicash.testutil.TypicalTransactions.INTERN;
 import static unicash.testutil.TypicalTransactions.NUS;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -27,6 +28,7 @@ import unicash.model.ReadOnlyUniCash;
 import unicash.model.ReadOnlyUserPrefs;
 import unicash.model.UniCash;
 import unicash.model.budget.Budget;
+import unicash.model.category.Category;
 import unicash.model.transaction.Transaction;
 import unicash.testutil.TransactionBuilder;
 
@@ -155,6 +157,11 @@ public class AddTransactionCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public long getUniCashVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasTransaction(Transaction transaction) {
             throw new AssertionError("This method should not be called.");
@@ -170,11 +177,51 @@ public class AddTransactionCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addTransactions(List<Transaction> transactions) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deleteTransactions(List<Transaction> targets) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void replaceTransactions(List<Transaction> targets, List<Transaction> editedTransactions) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Transaction> getFilteredTransactionList() {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Transaction> getTransactionsBetween(LocalDateTime start, LocalDateTime end) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Transaction> getTransactionsBetween(Category category, LocalDateTime start, LocalDateTime end) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Predicate<Category> getTransactionCategoryMatcher(String keyword) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Predicate<String> getTransactionNameMatcher(String keyword) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Predicate<String> getTransactionLocationMatcher(String keyword) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredTransactionList(Predicate<Transaction> predicate) {
             throw new AssertionError("This method should not be called.");
@@ -0,0 +1,125 @@
+package unicash.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static unicash.logic.commands.CommandTestUtil.assertCommandFailure;
+import static unicash.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static unicash.logic.commands.CommandTestUtil.showTransactionAtIndex;
+import static unicash.testutil.TypicalIndexes.INDEX_FIRST_TRANSACTION;
+import static unicash.testutil.TypicalIndexes.INDEX_SECOND_TRANSACTION;
+import static unicash.testutil.TypicalTransactions.getTypicalUniCash;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import unicash.commons.core.index.Index;
+import unicash.commons.core.index.IndexRange;
+import unicash.logic.UniCashMessages;
+import unicash.model.Model;
+import unicash.model.ModelManager;
+import unicash.model.UniCash;
+import unicash.model.UserPrefs;
+import unicash.model.transaction.Transaction;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for
+ * {@code DeleteTransactionsCommand}.
+ */
+public class DeleteTransactionsCommandTest {
+
+    private static final IndexRange FIRST_TO_SECOND =
+            IndexRange.between(INDEX_FIRST_TRANSACTION, INDEX_SECOND_TRANSACTION);
+
+    private final Model model = new ModelManager(getTypicalUniCash(), new UserPrefs());
+
+    @Test
+    public void execute_validRangeUnfilteredList_success() {
+        List<Transaction> transactionsToDelete = new ArrayList<>(model.getFilteredTransactionList().subList(0, 2));
+        DeleteTransactionsCommand deleteCommand = new DeleteTransactionsCommand(FIRST_TO_SECOND);
+
+        String expectedMessage = String.format(DeleteTransactionsCommand.MESSAGE_DELETE_TRANSACTIONS_SUCCESS, 2);
+
+        ModelManager expectedModel = new ModelManager(getTypicalUniCash(), new UserPrefs());
+        transactionsToDelete.forEach(expectedModel::deleteTransaction);
+
+        assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_allFilteredList_deletesOnlyShownTransactions() {
+        showTransactionAtIndex(model, INDEX_SECOND_TRANSACTION);
+        Transaction transactionToDelete = model.getFilteredTransactionList().get(0);
+        DeleteTransactionsCommand deleteCommand = new DeleteTransactionsCommand(IndexRange.all());
+
+        String expectedMessage = String.format(DeleteTransactionsCommand.MESSAGE_DELETE_TRANSACTIONS_SUCCESS, 1);
+
+        Model expectedModel = new ModelManager(getTypicalUniCash(), new UserPrefs());
+        expectedModel.deleteTransaction(transactionToDelete);
+        expectedModel.updateFilteredTransactionList(unused -> false);
+
+        assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_allUnfilteredList_deletesInOneChange() throws Exception {
+        int[] changeCount = {0};
+        model.getUniCash().getTransactionList().addListener((ListChangeListener<Transaction>) change ->
+                changeCount[0]++);
+        long version = model.getUniCashVersion();
+
+        new DeleteTransactionsCommand(IndexRange.all()).execute(model);
+        assertEquals(new UniCash(), model.getUniCash());
+        assertEquals(1, changeCount[0]);
+        assertEquals(version + 1, model.getUniCashVersion());
+    }
+
+    @Test
+    public void execute_invalidRangeUnfilteredList_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredTransactionList().size() + 1);
+        DeleteTransactionsCommand deleteCommand =
+                new DeleteTransactionsCommand(IndexRange.between(INDEX_FIRST_TRANSACTION, outOfBoundIndex));
+
+        assertCommandFailure(deleteCommand, model, UniCashMessages.MESSAGE_INVALID_TRANSACTION_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void execute_noTransactionsShown_throwsCommandException() {
+        model.updateFilteredTransactionList(unused -> false);
+        assertCommandFailure(new DeleteTransactionsCommand(IndexRange.all()), model,
+                UniCashMessages.MESSAGE_NO_TRANSACTIONS_DISPLAYED);
+    }
+
+    @Test
+    public void equals() {
+        DeleteTransactionsCommand deleteRangeCommand = new DeleteTransactionsCommand(FIRST_TO_SECOND);
+        DeleteTransactionsCommand deleteAllCommand = new DeleteTransactionsCommand(IndexRange.all());
+
+        // same object -> returns true
+        assertEquals(deleteRangeCommand, deleteRangeCommand);
+
+        // same values -> returns true
+        assertEquals(deleteRangeCommand, new DeleteTransactionsCommand(
+                IndexRange.between(INDEX_FIRST_TRANSACTION, INDEX_SECOND_TRANSACTION)));
+
+        // different types -> returns false
+        assertFalse(deleteRangeCommand.equals(1));
+
+        // null -> returns false
+        assertNotEquals(null, deleteRangeCommand);
+
+        // different range -> returns false
+        assertNotEquals(deleteRangeCommand, deleteAllCommand);
+    }
+
+    @Test
+    public void toStringMethod() {
+        DeleteTransactionsCommand deleteCommand = new DeleteTransactionsCommand(FIRST_TO_SECOND);
+        String expected = DeleteTransactionsCommand.class.getCanonicalName()
+                + "{targetRange=" + FIRST_TO_SECOND + "}";
+        assertEquals(expected, deleteCommand.toString());
+    }
+}
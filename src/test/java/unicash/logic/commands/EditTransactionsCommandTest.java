@@ -0,0 +1,142 @@
+package unicash.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static unicash.logic.commands.CommandTestUtil.DESC_NUS;
+import static unicash.logic.commands.CommandTestUtil.DESC_SHOPPING;
+import static unicash.logic.commands.CommandTestUtil.assertCommandFailure;
+import static unicash.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static unicash.logic.commands.CommandTestUtil.showTransactionAtIndex;
+import static unicash.testutil.TypicalIndexes.INDEX_FIRST_TRANSACTION;
+import static unicash.testutil.TypicalIndexes.INDEX_SECOND_TRANSACTION;
+import static unicash.testutil.TypicalTransactions.getTypicalUniCash;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import unicash.commons.core.index.Index;
+import unicash.commons.core.index.IndexRange;
+import unicash.logic.UniCashMessages;
+import unicash.logic.commands.EditTransactionCommand.EditTransactionDescriptor;
+import unicash.model.Model;
+import unicash.model.ModelManager;
+import unicash.model.UserPrefs;
+import unicash.model.transaction.Transaction;
+import unicash.testutil.EditTransactionDescriptorBuilder;
+import unicash.testutil.TransactionBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for
+ * {@code EditTransactionsCommand}.
+ */
+public class EditTransactionsCommandTest {
+
+    private static final IndexRange FIRST_TO_SECOND =
+            IndexRange.between(INDEX_FIRST_TRANSACTION, INDEX_SECOND_TRANSACTION);
+
+    private final Model model = new ModelManager(getTypicalUniCash(), new UserPrefs());
+
+    @Test
+    public void execute_validRangeUnfilteredList_success() {
+        EditTransactionDescriptor descriptor = new EditTransactionDescriptorBuilder()
+                .withLocation("Clementi").withCategories("recategorized").build();
+        EditTransactionsCommand editCommand = new EditTransactionsCommand(FIRST_TO_SECOND, descriptor);
+
+        String expectedMessage = String.format(EditTransactionsCommand.MESSAGE_EDIT_TRANSACTIONS_SUCCESS, 2);
+
+        Model expectedModel = new ModelManager(getTypicalUniCash(), new UserPrefs());
+        for (int i = 0; i < 2; i++) {
+            Transaction transactionToEdit = expectedModel.getFilteredTransactionList().get(i);
+            expectedModel.setTransaction(transactionToEdit, new TransactionBuilder(transactionToEdit)
+                    .withLocation("Clementi").withCategories("recategorized").build());
+        }
+
+        assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_allFilteredList_editsOnlyShownTransactions() {
+        showTransactionAtIndex(model, INDEX_SECOND_TRANSACTION);
+        Transaction transactionToEdit = model.getFilteredTransactionList().get(0);
+        EditTransactionDescriptor descriptor = new EditTransactionDescriptorBuilder().withAmount(12.5).build();
+        EditTransactionsCommand editCommand = new EditTransactionsCommand(IndexRange.all(), descriptor);
+
+        String expectedMessage = String.format(EditTransactionsCommand.MESSAGE_EDIT_TRANSACTIONS_SUCCESS, 1);
+
+        Model expectedModel = new ModelManager(getTypicalUniCash(), new UserPrefs());
+        showTransactionAtIndex(expectedModel, INDEX_SECOND_TRANSACTION);
+        expectedModel.setTransaction(transactionToEdit,
+                new TransactionBuilder(transactionToEdit).withAmount(12.5).build());
+
+        assertCommandSuccess(editCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_allUnfilteredList_editsInOneChange() throws Exception {
+        int[] changeCount = {0};
+        model.getUniCash().getTransactionList().addListener((ListChangeListener<Transaction>) change ->
+                changeCount[0]++);
+        long version = model.getUniCashVersion();
+        int size = model.getFilteredTransactionList().size();
+
+        EditTransactionDescriptor descriptor = new EditTransactionDescriptorBuilder().withLocation("Clementi").build();
+        new EditTransactionsCommand(IndexRange.all(), descriptor).execute(model);
+
+        List<Transaction> transactions = model.getUniCash().getTransactionList();
+        assertEquals(size, transactions.size());
+        transactions.forEach(transaction -> assertEquals("Clementi", transaction.getLocation().location));
+        assertEquals(1, changeCount[0]);
+        assertEquals(version + 1, model.getUniCashVersion());
+    }
+
+    @Test
+    public void execute_invalidRangeUnfilteredList_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredTransactionList().size() + 1);
+        EditTransactionsCommand editCommand = new EditTransactionsCommand(
+                IndexRange.between(INDEX_FIRST_TRANSACTION, outOfBoundIndex), DESC_NUS);
+
+        assertCommandFailure(editCommand, model, UniCashMessages.MESSAGE_INVALID_TRANSACTION_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void execute_noTransactionsShown_throwsCommandException() {
+        model.updateFilteredTransactionList(unused -> false);
+        assertCommandFailure(new EditTransactionsCommand(IndexRange.all(), DESC_NUS), model,
+                UniCashMessages.MESSAGE_NO_TRANSACTIONS_DISPLAYED);
+    }
+
+    @Test
+    public void equals() {
+        final EditTransactionsCommand standardCommand = new EditTransactionsCommand(FIRST_TO_SECOND, DESC_NUS);
+
+        // same values -> returns true
+        EditTransactionDescriptor copyDescriptor = new EditTransactionDescriptor(DESC_NUS);
+        assertEquals(standardCommand, new EditTransactionsCommand(FIRST_TO_SECOND, copyDescriptor));
+
+        // same object -> returns true
+        assertEquals(standardCommand, standardCommand);
+
+        // null -> returns false
+        assertNotEquals(null, standardCommand);
+
+        // different types -> returns false
+        assertFalse(standardCommand.equals(1));
+
+        // different range -> returns false
+        assertNotEquals(standardCommand, new EditTransactionsCommand(IndexRange.all(), DESC_NUS));
+
+        // different descriptor -> returns false
+        assertNotEquals(standardCommand, new EditTransactionsCommand(FIRST_TO_SECOND, DESC_SHOPPING));
+    }
+
+    @Test
+    public void toStringMethod() {
+        EditTransactionsCommand editCommand = new EditTransactionsCommand(FIRST_TO_SECOND, DESC_NUS);
+        String expected = EditTransactionsCommand.class.getCanonicalName() + "{targetRange=" + FIRST_TO_SECOND
+                + ", editTransactionDescriptor=" + DESC_NUS + "}";
+        assertEquals(expected, editCommand.toString());
+    }
+}
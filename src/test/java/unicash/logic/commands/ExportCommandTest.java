@@ -0,0 +1,138 @@
+package unicash.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static unicash.logic.commands.CommandTestUtil.showTransactionAtIndex;
+import static unicash.testutil.Assert.assertThrows;
+import static unicash.testutil.TypicalIndexes.INDEX_FIRST_TRANSACTION;
+import static unicash.testutil.TypicalTransactions.getTypicalUniCash;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import unicash.commons.util.ToStringBuilder;
+import unicash.logic.commands.ExportCommand.Format;
+import unicash.logic.commands.exceptions.CommandException;
+import unicash.model.Model;
+import unicash.model.ModelManager;
+import unicash.model.UniCash;
+import unicash.model.UserPrefs;
+
+public class ExportCommandTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalUniCash(), new UserPrefs());
+    }
+
+    private static String successMessagePrefix(int exportedCount, Path filePath) {
+        String message = String.format(ExportCommand.MESSAGE_SUCCESS, exportedCount, filePath, 0, 0);
+        return message.substring(0, message.indexOf(" in "));
+    }
+
+    @Test
+    public void constructor_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ExportCommand(null, Format.CSV, false));
+        assertThrows(NullPointerException.class, () -> new ExportCommand(Paths.get("a.csv"), null, false));
+    }
+
+    @Test
+    public void format_fromName() {
+        assertEquals(Format.CSV, Format.fromName("CSV").get());
+        assertEquals(Format.NDJSON, Format.fromName("ndjson").get());
+        assertEquals(Format.NDJSON, Format.fromName("jsonl").get());
+        assertFalse(Format.fromName("json").isPresent());
+    }
+
+    @Test
+    public void format_ofFile() {
+        assertEquals(Format.CSV, Format.ofFile(Paths.get("data", "a.csv")));
+        assertEquals(Format.NDJSON, Format.ofFile(Paths.get("a.NDJSON")));
+        assertEquals(Format.NDJSON, Format.ofFile(Paths.get("a.jsonl")));
+        assertEquals(Format.CSV, Format.ofFile(Paths.get("a")));
+        assertEquals(Format.CSV, Format.ofFile(Paths.get("a.txt")));
+    }
+
+    @Test
+    public void execute_shownTransactions_onlyShownExported() throws Exception {
+        showTransactionAtIndex(model, INDEX_FIRST_TRANSACTION);
+        Path filePath = temporaryFolder.resolve("export.ndjson");
+
+        CommandResult result = new ExportCommand(filePath, Format.NDJSON, false).execute(model);
+        assertTrue(result.getFeedbackToUser().startsWith(successMessagePrefix(1, filePath)));
+        assertEquals(1, Files.readAllLines(filePath, StandardCharsets.UTF_8).size());
+    }
+
+    @Test
+    public void execute_allTransactions_importedUnchanged() throws Exception {
+        showTransactionAtIndex(model, INDEX_FIRST_TRANSACTION);
+        Path filePath = temporaryFolder.resolve("export.csv");
+        int transactionCount = model.getUniCash().getTransactionList().size();
+
+        CommandResult result = new ExportCommand(filePath, Format.CSV, true).execute(model);
+        assertTrue(result.getFeedbackToUser().startsWith(successMessagePrefix(transactionCount, filePath)));
+
+        // an exported file can be imported again without changing the transactions
+        Model importedModel = new ModelManager(new UniCash(), new UserPrefs());
+        new ImportCommand(filePath, Collections.emptyMap()).execute(importedModel);
+        assertEquals(model.getUniCash(), importedModel.getUniCash());
+    }
+
+    @Test
+    public void execute_unwritableFile_throwsCommandException() throws Exception {
+        Path filePath = temporaryFolder.resolve("directory");
+        Files.createDirectory(filePath);
+        Files.writeString(filePath.resolve("file"), "");
+        assertThrows(CommandException.class, () -> new ExportCommand(filePath, Format.CSV, true).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand exportCommand = new ExportCommand(Paths.get("a.csv"), Format.CSV, false);
+
+        // same object -> returns true
+        assertTrue(exportCommand.equals(exportCommand));
+
+        // same values -> returns true
+        assertTrue(exportCommand.equals(new ExportCommand(Paths.get("a.csv"), Format.CSV, false)));
+
+        // different types -> returns false
+        assertFalse(exportCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(exportCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(exportCommand.equals(new ExportCommand(Paths.get("b.csv"), Format.CSV, false)));
+
+        // different format -> returns false
+        assertFalse(exportCommand.equals(new ExportCommand(Paths.get("a.csv"), Format.NDJSON, false)));
+
+        // different scope -> returns false
+        assertFalse(exportCommand.equals(new ExportCommand(Paths.get("a.csv"), Format.CSV, true)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        ExportCommand exportCommand = new ExportCommand(Paths.get("a.csv"), Format.CSV, true);
+        String expected = new ToStringBuilder(exportCommand)
+                .add("filePath", Paths.get("a.csv"))
+                .add("format", Format.CSV)
+                .add("isAllTransactions", true)
+                .toString();
+        assertEquals(expected, exportCommand.toString());
+    }
+}
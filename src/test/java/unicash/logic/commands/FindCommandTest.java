@@ -26,6 +26,7 @@ import unicash.model.UserPrefs;
 import unicash.model.transaction.Transaction;
 import unicash.model.transaction.predicates.TransactionContainsAllKeywordsPredicate;
 import unicash.model.transaction.predicates.TransactionNameContainsKeywordsPredicate;
+import unicash.testutil.TransactionBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -90,6 +91,22 @@ public class FindCommandTest {
         assertEquals(filteredResult.get(2), INTERN);
     }
 
+    @Test
+    public void execute_transactionEditedToMatchAfterFind_transactionShown() {
+        Transaction toEdit = modelWithTransactions.getFilteredTransactionList().get(0);
+        TransactionContainsAllKeywordsPredicate predicate = new TransactionContainsAllKeywordsPredicate();
+        predicate.addNameKeyword("WORK");
+        predicate.addLocationKeyword("tea");
+        new FindCommand(predicate).execute(modelWithTransactions);
+        assertEquals(0, modelWithTransactions.getFilteredTransactionList().size());
+
+        Transaction editedTransaction = new TransactionBuilder(toEdit)
+                .withName("Weekend work").withLocation("LiHO tea").build();
+        modelWithTransactions.setTransaction(toEdit, editedTransaction);
+
+        assertEquals(List.of(editedTransaction), modelWithTransactions.getFilteredTransactionList());
+    }
+
     @Test
     public void execute_predicateNull_assertionFailure() {
         assertThrows(NullPointerException.class, () -> new FindCommand(null));
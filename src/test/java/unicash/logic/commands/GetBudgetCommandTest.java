@@ -214,6 +214,67 @@ public class GetBudgetCommandTest {
         );
     }
 
+    @Test
+    public void execute_sameMonthOfDifferentYear_excludedFromRemainder() {
+        var uniCash = new UniCash();
+        var model = new ModelManager(uniCash, new UserPrefs());
+        model.setBudget(new Budget(MONTHLY));
+
+        var today = LocalDateTime.of(2023, 11, 15, 10, 15);
+        model.addTransaction(
+                new TransactionBuilder(NUS)
+                        .withDateTime(localDateTimeToString(today.minusYears(1)))
+                        .build()
+        );
+        model.addTransaction(
+                new TransactionBuilder(INTERN)
+                        .withDateTime(localDateTimeToString(today))
+                        .build()
+        );
+
+        var command = new GetBudgetCommand(today);
+        var expectedRemainder = MONTHLY.getAmount().amount - INTERN.getAmount().amount;
+        assertCommandSuccess(
+                command,
+                model,
+                String.format(
+                        GetBudgetCommand.MESSAGE_SUCCESS,
+                        "Monthly",
+                        MONTHLY.getAmount().toString(),
+                        expectedRemainder
+                ),
+                model
+        );
+    }
+
+    @Test
+    public void execute_weekSpanningNewYear_includesBothYears() {
+        var uniCash = new UniCash();
+        var model = new ModelManager(uniCash, new UserPrefs());
+        model.setBudget(new Budget(WEEKLY));
+
+        // Monday 30 Dec 2024 to Sunday 5 Jan 2025
+        var today = LocalDateTime.of(2025, 1, 2, 10, 15);
+        model.addTransaction(new TransactionBuilder(NUS).withDateTime("30-12-2024 00:00").build());
+        model.addTransaction(new TransactionBuilder(NUS).withDateTime("05-01-2025 23:59").build());
+        model.addTransaction(new TransactionBuilder(NUS).withDateTime("29-12-2024 23:59").build());
+        model.addTransaction(new TransactionBuilder(NUS).withDateTime("06-01-2025 00:00").build());
+
+        var command = new GetBudgetCommand(today);
+        var expectedRemainder = WEEKLY.getAmount().amount - (2 * NUS.getAmount().amount);
+        assertCommandSuccess(
+                command,
+                model,
+                String.format(
+                        GetBudgetCommand.MESSAGE_SUCCESS_NEGATIVE_BUDGET,
+                        "Weekly",
+                        WEEKLY.getAmount().toString(),
+                        Math.abs(expectedRemainder)
+                ),
+                model
+        );
+    }
+
     @Test
     public void equals_nullOther_returnsFalse() {
         assertNotEquals(new GetBudgetCommand(), null);
@@ -137,7 +137,7 @@ public class GetTotalExpenditureCommandTest {
         assertEquals(2, filteredResult.size());
         for (var result : filteredResult) {
             assertEquals(TransactionType.EXPENSE, result.getType().type);
-            assertTrue(result.getCategories().asUnmodifiableObservableList()
+            assertTrue(result.getCategories().asUnmodifiableList()
                     .stream().anyMatch(cat -> cat.equals(new Category("Food"))));
         }
     }
@@ -154,7 +154,7 @@ public class GetTotalExpenditureCommandTest {
         assertEquals(1, filteredResult.size());
         for (var result : filteredResult) {
             assertEquals(TransactionType.EXPENSE, result.getType().type);
-            assertTrue(result.getCategories().asUnmodifiableObservableList()
+            assertTrue(result.getCategories().asUnmodifiableList()
                     .stream().anyMatch(cat -> cat.equals(new Category("Food"))));
             assertEquals(8, result.getDateTime().getDateTime().getMonthValue());
         }
@@ -0,0 +1,235 @@
+package unicash.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static unicash.logic.commands.CommandTestUtil.assertCommandFailure;
+import static unicash.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static unicash.testutil.Assert.assertThrows;
+import static unicash.testutil.TypicalTransactions.getTypicalUniCash;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.ListChangeListener;
+import unicash.commons.util.ToStringBuilder;
+import unicash.logic.commands.ImportCommand.Column;
+import unicash.logic.commands.exceptions.CommandException;
+import unicash.model.Model;
+import unicash.model.ModelManager;
+import unicash.model.UserPrefs;
+import unicash.model.commons.Amount;
+import unicash.model.transaction.Transaction;
+import unicash.testutil.TransactionBuilder;
+
+public class ImportCommandTest {
+
+    private static final String HEADER = "name,type,amount,datetime,location,category";
+
+    private static final Transaction RENT = new TransactionBuilder().withName("Rent").withType("expense")
+            .withAmount(1200).withDateTime("01-10-2023 09:00").withLocation("Clementi")
+            .withCategories("Housing", "Monthly").build();
+    private static final String RENT_ROW = "Rent,expense,1200,01-10-2023 09:00,Clementi,Housing Monthly";
+
+    private static final Transaction SALARY = new TransactionBuilder().withName("Salary, October")
+            .withType("income").withAmount(3000.5).withDateTime("31-10-2023 18:00").withLocation("")
+            .withCategories().build();
+    private static final String SALARY_ROW = "\"Salary, October\",income,3000.50,31-10-2023 18:00,,";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalUniCash(), new UserPrefs());
+        expectedModel = new ModelManager(getTypicalUniCash(), new UserPrefs());
+    }
+
+    private Path writeCsv(String... lines) throws IOException {
+        Path filePath = temporaryFolder.resolve("import.csv");
+        Files.write(filePath, Arrays.asList(lines), StandardCharsets.UTF_8);
+        return filePath;
+    }
+
+    private static String successMessage(int importedCount, Path filePath, int duplicateCount) {
+        return String.format(ImportCommand.MESSAGE_SUCCESS, importedCount, filePath, duplicateCount);
+    }
+
+    @Test
+    public void constructor_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ImportCommand(null, Collections.emptyMap()));
+        assertThrows(NullPointerException.class, () -> new ImportCommand(Paths.get("a.csv"), null));
+    }
+
+    @Test
+    public void execute_validRows_allImported() throws Exception {
+        Path filePath = writeCsv(HEADER, RENT_ROW, "", SALARY_ROW);
+        expectedModel.addTransactions(Arrays.asList(RENT, SALARY));
+
+        assertCommandSuccess(new ImportCommand(filePath, Collections.emptyMap()), model,
+                successMessage(2, filePath, 0), expectedModel);
+    }
+
+    @Test
+    public void execute_validRows_addedAsSingleChange() throws Exception {
+        Path filePath = writeCsv(HEADER, RENT_ROW, SALARY_ROW);
+        int[] changeCount = {0};
+        model.getUniCash().getTransactionList().addListener(
+                (ListChangeListener<Transaction>) change -> changeCount[0]++);
+        long version = model.getUniCashVersion();
+
+        new ImportCommand(filePath, Collections.emptyMap()).execute(model);
+        assertEquals(1, changeCount[0]);
+        assertEquals(version + 1, model.getUniCashVersion());
+    }
+
+    @Test
+    public void execute_duplicateRows_skipped() throws Exception {
+        // the first row is equal to a typical transaction, and the last to an earlier row
+        Path filePath = writeCsv(HEADER,
+                "Buying groceries,income,16.75,18-08-2001 10:10,Sheng Shiong (UTown),Groceries",
+                RENT_ROW, RENT_ROW);
+        expectedModel.addTransactions(Collections.singletonList(RENT));
+
+        assertCommandSuccess(new ImportCommand(filePath, Collections.emptyMap()), model,
+                successMessage(1, filePath, 2), expectedModel);
+    }
+
+    @Test
+    public void execute_onlyDuplicateRows_nothingChanged() throws Exception {
+        Path filePath = writeCsv(HEADER,
+                "Buying groceries,income,16.75,18-08-2001 10:10,Sheng Shiong (UTown),Groceries");
+        long version = model.getUniCashVersion();
+
+        assertCommandSuccess(new ImportCommand(filePath, Collections.emptyMap()), model,
+                successMessage(0, filePath, 1), expectedModel);
+        assertEquals(version, model.getUniCashVersion());
+    }
+
+    @Test
+    public void execute_invalidRows_reportedAndSkipped() throws Exception {
+        Path filePath = writeCsv(HEADER,
+                "Rent,expense,-3,01-10-2023 09:00,Clementi,Housing",
+                SALARY_ROW,
+                "Fees,expense,10");
+        expectedModel.addTransactions(Collections.singletonList(SALARY));
+
+        String expectedMessage = successMessage(1, filePath, 0) + "\n\n"
+                + String.format(ImportCommand.MESSAGE_ROWS_NOT_IMPORTED, 2) + "\n"
+                + String.format(ImportCommand.MESSAGE_ROW_ERROR, 2, Amount.MESSAGE_CONSTRAINTS) + "\n"
+                + String.format(ImportCommand.MESSAGE_ROW_ERROR, 4,
+                        String.format(ImportCommand.MESSAGE_MISSING_FIELD, "datetime"));
+        assertCommandSuccess(new ImportCommand(filePath, Collections.emptyMap()), model, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_manyInvalidRows_reportTruncated() throws Exception {
+        int invalidRowCount = ImportCommand.MAX_REPORTED_ROW_ERRORS + 5;
+        String[] lines = new String[invalidRowCount + 1];
+        lines[0] = HEADER;
+        Arrays.fill(lines, 1, lines.length, "Rent,expense,abc,01-10-2023 09:00,Clementi,Housing");
+        Path filePath = writeCsv(lines);
+
+        String feedback = new ImportCommand(filePath, Collections.emptyMap()).execute(model).getFeedbackToUser();
+        assertTrue(feedback.contains(String.format(ImportCommand.MESSAGE_ROWS_NOT_IMPORTED, invalidRowCount)));
+        assertTrue(feedback.contains(String.format(ImportCommand.MESSAGE_ROW_ERROR,
+                ImportCommand.MAX_REPORTED_ROW_ERRORS + 1, Amount.MESSAGE_CONSTRAINTS)));
+        assertFalse(feedback.contains(String.format(ImportCommand.MESSAGE_ROW_ERROR,
+                ImportCommand.MAX_REPORTED_ROW_ERRORS + 2, Amount.MESSAGE_CONSTRAINTS)));
+        assertTrue(feedback.endsWith(String.format(ImportCommand.MESSAGE_MORE_ROW_ERRORS, 5)));
+    }
+
+    @Test
+    public void execute_mappedColumns_success() throws Exception {
+        Path filePath = writeCsv("Date,Description,Debit,Kind,Notes",
+                "01-10-2023 09:00,Rent,1200,expense,ignored");
+        Map<Column, String> columnHeaders = new EnumMap<>(Column.class);
+        columnHeaders.put(Column.NAME, "description");
+        columnHeaders.put(Column.AMOUNT, "Debit");
+        columnHeaders.put(Column.TYPE, "Kind");
+        columnHeaders.put(Column.DATETIME, "Date");
+        Transaction rent = new TransactionBuilder(RENT).withLocation("").withCategories().build();
+        expectedModel.addTransactions(Collections.singletonList(rent));
+
+        assertCommandSuccess(new ImportCommand(filePath, columnHeaders), model,
+                successMessage(1, filePath, 0), expectedModel);
+    }
+
+    @Test
+    public void execute_missingColumn_failure() throws Exception {
+        Path filePath = writeCsv("name,type,datetime", "Rent,expense,01-10-2023 09:00");
+        assertCommandFailure(new ImportCommand(filePath, Collections.emptyMap()), model,
+                String.format(ImportCommand.MESSAGE_MISSING_COLUMN, filePath, "amount"));
+
+        // optional column that was named explicitly
+        filePath = writeCsv(HEADER, RENT_ROW);
+        Map<Column, String> columnHeaders = new EnumMap<>(Column.class);
+        columnHeaders.put(Column.LOCATION, "Place");
+        assertCommandFailure(new ImportCommand(filePath, columnHeaders), model,
+                String.format(ImportCommand.MESSAGE_MISSING_COLUMN, filePath, "Place"));
+    }
+
+    @Test
+    public void execute_emptyFile_failure() throws Exception {
+        Path filePath = writeCsv();
+        assertCommandFailure(new ImportCommand(filePath, Collections.emptyMap()), model,
+                String.format(ImportCommand.MESSAGE_NO_HEADER, filePath));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path filePath = temporaryFolder.resolve("missing.csv");
+        assertThrows(CommandException.class, () ->
+                new ImportCommand(filePath, Collections.emptyMap()).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        Map<Column, String> columnHeaders = new EnumMap<>(Column.class);
+        columnHeaders.put(Column.NAME, "Description");
+        ImportCommand importCommand = new ImportCommand(Paths.get("a.csv"), columnHeaders);
+
+        // same object -> returns true
+        assertTrue(importCommand.equals(importCommand));
+
+        // same values -> returns true
+        assertTrue(importCommand.equals(new ImportCommand(Paths.get("a.csv"), columnHeaders)));
+
+        // different types -> returns false
+        assertFalse(importCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(importCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(importCommand.equals(new ImportCommand(Paths.get("b.csv"), columnHeaders)));
+
+        // different columns -> returns false
+        assertFalse(importCommand.equals(new ImportCommand(Paths.get("a.csv"), Collections.emptyMap())));
+    }
+
+    @Test
+    public void toStringMethod() {
+        ImportCommand importCommand = new ImportCommand(Paths.get("a.csv"), Collections.emptyMap());
+        String expected = new ToStringBuilder(importCommand)
+                .add("filePath", Paths.get("a.csv"))
+                .add("columnHeaders", Collections.emptyMap())
+                .toString();
+        assertEquals(expected, importCommand.toString());
+    }
+}
@@ -0,0 +1,48 @@
+package unicash.logic.parser;
+
+import static unicash.logic.UniCashMessages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static unicash.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static unicash.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static unicash.testutil.TypicalIndexes.INDEX_FIRST_TRANSACTION;
+import static unicash.testutil.TypicalIndexes.INDEX_THIRD_TRANSACTION;
+
+import org.junit.jupiter.api.Test;
+
+import unicash.commons.core.index.IndexRange;
+import unicash.logic.commands.DeleteTransactionsCommand;
+
+public class DeleteTransactionsCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteTransactionsCommand.MESSAGE_USAGE);
+
+    private final DeleteTransactionsCommandParser parser = new DeleteTransactionsCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsDeleteTransactionsCommand() {
+        assertParseSuccess(parser, " 1-3 ", new DeleteTransactionsCommand(
+                IndexRange.between(INDEX_FIRST_TRANSACTION, INDEX_THIRD_TRANSACTION)));
+        assertParseSuccess(parser, "3", new DeleteTransactionsCommand(
+                IndexRange.between(INDEX_THIRD_TRANSACTION, INDEX_THIRD_TRANSACTION)));
+        assertParseSuccess(parser, " all", new DeleteTransactionsCommand(IndexRange.all()));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        // No range provided
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+
+        // Non-integer bounds
+        assertParseFailure(parser, "1-a", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "-1", MESSAGE_INVALID_FORMAT);
+
+        // Zero as a bound (indices are 1-based)
+        assertParseFailure(parser, "0-2", MESSAGE_INVALID_FORMAT);
+
+        // End before start
+        assertParseFailure(parser, "3-1", MESSAGE_INVALID_FORMAT);
+
+        // Find-style keywords are not accepted
+        assertParseFailure(parser, " c/food", MESSAGE_INVALID_FORMAT);
+    }
+}
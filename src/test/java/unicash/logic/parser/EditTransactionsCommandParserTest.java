@@ -0,0 +1,81 @@
+package unicash.logic.parser;
+
+import static unicash.logic.UniCashMessages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static unicash.logic.commands.CommandTestUtil.CATEGORY_DESC_ENTERTAINMENT;
+import static unicash.logic.commands.CommandTestUtil.CATEGORY_DESC_NUS;
+import static unicash.logic.commands.CommandTestUtil.INVALID_AMOUNT_DESC;
+import static unicash.logic.commands.CommandTestUtil.LOCATION_DESC_NUS;
+import static unicash.logic.commands.CommandTestUtil.LOCATION_DESC_ORCHARD;
+import static unicash.logic.commands.CommandTestUtil.VALID_CATEGORY_ENTERTAINMENT;
+import static unicash.logic.commands.CommandTestUtil.VALID_CATEGORY_NUS;
+import static unicash.logic.commands.CommandTestUtil.VALID_LOCATION_NUS;
+import static unicash.logic.parser.CliSyntax.PREFIX_CATEGORY;
+import static unicash.logic.parser.CliSyntax.PREFIX_LOCATION;
+import static unicash.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static unicash.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static unicash.testutil.TypicalIndexes.INDEX_FIRST_TRANSACTION;
+import static unicash.testutil.TypicalIndexes.INDEX_SECOND_TRANSACTION;
+
+import org.junit.jupiter.api.Test;
+
+import unicash.commons.core.index.IndexRange;
+import unicash.logic.UniCashMessages;
+import unicash.logic.commands.EditTransactionCommand.EditTransactionDescriptor;
+import unicash.logic.commands.EditTransactionsCommand;
+import unicash.model.commons.Amount;
+import unicash.testutil.EditTransactionDescriptorBuilder;
+
+public class EditTransactionsCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, EditTransactionsCommand.MESSAGE_USAGE);
+
+    private final EditTransactionsCommandParser parser = new EditTransactionsCommandParser();
+
+    @Test
+    public void parse_rangeAndFields_success() {
+        EditTransactionDescriptor descriptor = new EditTransactionDescriptorBuilder()
+                .withLocation(VALID_LOCATION_NUS)
+                .withCategories(VALID_CATEGORY_NUS, VALID_CATEGORY_ENTERTAINMENT).build();
+        assertParseSuccess(parser, "1-2" + LOCATION_DESC_NUS + CATEGORY_DESC_NUS + CATEGORY_DESC_ENTERTAINMENT,
+                new EditTransactionsCommand(
+                        IndexRange.between(INDEX_FIRST_TRANSACTION, INDEX_SECOND_TRANSACTION), descriptor));
+    }
+
+    @Test
+    public void parse_allAndResetCategories_success() {
+        EditTransactionDescriptor descriptor = new EditTransactionDescriptorBuilder().withCategories().build();
+        assertParseSuccess(parser, "all " + PREFIX_CATEGORY,
+                new EditTransactionsCommand(IndexRange.all(), descriptor));
+    }
+
+    @Test
+    public void parse_missingParts_failure() {
+        // no range specified
+        assertParseFailure(parser, LOCATION_DESC_NUS, MESSAGE_INVALID_FORMAT);
+
+        // no field specified
+        assertParseFailure(parser, "1-2", EditTransactionsCommand.MESSAGE_NOT_EDITED);
+
+        // no range and no field specified
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidRange_failure() {
+        assertParseFailure(parser, "2-1" + LOCATION_DESC_NUS, MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "0-1" + LOCATION_DESC_NUS, MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "1 to 2" + LOCATION_DESC_NUS, MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidValue_failure() {
+        assertParseFailure(parser, "1-2" + INVALID_AMOUNT_DESC, Amount.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_repeatedField_failure() {
+        assertParseFailure(parser, "all" + LOCATION_DESC_NUS + LOCATION_DESC_ORCHARD,
+                UniCashMessages.getErrorMessageForDuplicatePrefixes(PREFIX_LOCATION));
+    }
+}
@@ -0,0 +1,69 @@
+package unicash.logic.parser;
+
+import static unicash.logic.UniCashMessages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static unicash.logic.parser.CliSyntax.PREFIX_SCOPE;
+import static unicash.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static unicash.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import unicash.logic.UniCashMessages;
+import unicash.logic.commands.ExportCommand;
+import unicash.logic.commands.ExportCommand.Format;
+
+public class ExportCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE);
+
+    private final ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_filePathOnly_formatFromExtension() {
+        assertParseSuccess(parser, " data/my export.csv ",
+                new ExportCommand(Paths.get("data/my export.csv"), Format.CSV, false));
+        assertParseSuccess(parser, " export.jsonl",
+                new ExportCommand(Paths.get("export.jsonl"), Format.NDJSON, false));
+        assertParseSuccess(parser, " export",
+                new ExportCommand(Paths.get("export"), Format.CSV, false));
+    }
+
+    @Test
+    public void parse_formatAndScope_success() {
+        assertParseSuccess(parser, " export.txt format/NDJSON scope/all",
+                new ExportCommand(Paths.get("export.txt"), Format.NDJSON, true));
+        assertParseSuccess(parser, " export.ndjson format/csv scope/Shown",
+                new ExportCommand(Paths.get("export.ndjson"), Format.CSV, false));
+    }
+
+    @Test
+    public void parse_missingFilePath_failure() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " scope/all", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidFormat_failure() {
+        assertParseFailure(parser, " export.csv format/json", ExportCommandParser.MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " export.csv format/", ExportCommandParser.MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidScope_failure() {
+        assertParseFailure(parser, " export.csv scope/some", ExportCommandParser.MESSAGE_INVALID_SCOPE);
+    }
+
+    @Test
+    public void parse_duplicateScope_failure() {
+        assertParseFailure(parser, " export.csv scope/all scope/shown",
+                UniCashMessages.getErrorMessageForDuplicatePrefixes(PREFIX_SCOPE));
+    }
+
+    @Test
+    public void parse_invalidFilePath_failure() {
+        assertParseFailure(parser, " export\0.csv",
+                String.format(ExportCommandParser.MESSAGE_INVALID_FILE_PATH, "export\0.csv"));
+    }
+}
@@ -0,0 +1,68 @@
+package unicash.logic.parser;
+
+import static unicash.logic.UniCashMessages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static unicash.logic.parser.CliSyntax.PREFIX_AMOUNT;
+import static unicash.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static unicash.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import unicash.logic.UniCashMessages;
+import unicash.logic.commands.ImportCommand;
+import unicash.logic.commands.ImportCommand.Column;
+
+public class ImportCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE);
+
+    private final ImportCommandParser parser = new ImportCommandParser();
+
+    @Test
+    public void parse_filePathOnly_success() {
+        assertParseSuccess(parser, " data/bank export.csv ",
+                new ImportCommand(Paths.get("data/bank export.csv"), Collections.emptyMap()));
+    }
+
+    @Test
+    public void parse_allColumnsNamed_success() {
+        Map<Column, String> columnHeaders = new EnumMap<>(Column.class);
+        columnHeaders.put(Column.NAME, "Description");
+        columnHeaders.put(Column.TYPE, "Kind");
+        columnHeaders.put(Column.AMOUNT, "Debit Amount");
+        columnHeaders.put(Column.DATETIME, "Date");
+        columnHeaders.put(Column.LOCATION, "Place");
+        columnHeaders.put(Column.CATEGORY, "Tags");
+
+        assertParseSuccess(parser, " bank.csv n/Description type/Kind amt/Debit Amount dt/Date l/Place c/Tags",
+                new ImportCommand(Paths.get("bank.csv"), columnHeaders));
+    }
+
+    @Test
+    public void parse_missingFilePath_failure() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " n/Description", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_emptyColumnName_failure() {
+        assertParseFailure(parser, " bank.csv n/", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_duplicateColumn_failure() {
+        assertParseFailure(parser, " bank.csv amt/Debit amt/Credit",
+                UniCashMessages.getErrorMessageForDuplicatePrefixes(PREFIX_AMOUNT));
+    }
+
+    @Test
+    public void parse_invalidFilePath_failure() {
+        assertParseFailure(parser, " bank\0.csv",
+                String.format(ImportCommandParser.MESSAGE_INVALID_FILE_PATH, "bank\0.csv"));
+    }
+}
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static unicash.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
 import static unicash.testutil.Assert.assertThrows;
 import static unicash.testutil.TypicalIndexes.INDEX_FIRST_TRANSACTION;
+import static unicash.testutil.TypicalIndexes.INDEX_SECOND_TRANSACTION;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -13,6 +14,7 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import unicash.commons.core.index.IndexRange;
 import unicash.logic.parser.exceptions.ParseException;
 import unicash.model.budget.Interval;
 import unicash.model.category.Category;
@@ -64,6 +66,25 @@ public class ParserUtilTest {
         assertEquals(INDEX_FIRST_TRANSACTION, ParserUtil.parseIndex("  1  "));
     }
 
+    @Test
+    public void parseIndexRange_invalidInput_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parseIndexRange("1-a"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseIndexRange("0-2"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseIndexRange("1-2-3"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseIndexRange("some"));
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_INDEX_RANGE, ()
+                -> ParserUtil.parseIndexRange("3-2"));
+    }
+
+    @Test
+    public void parseIndexRange_validInput_success() throws Exception {
+        assertEquals(IndexRange.between(INDEX_FIRST_TRANSACTION, INDEX_SECOND_TRANSACTION),
+                ParserUtil.parseIndexRange(" 1-2 "));
+        assertEquals(IndexRange.between(INDEX_SECOND_TRANSACTION, INDEX_SECOND_TRANSACTION),
+                ParserUtil.parseIndexRange("2"));
+        assertEquals(IndexRange.all(), ParserUtil.parseIndexRange(" ALL "));
+    }
+
     @Test
     public void parseTransactionName_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseTransactionName(null));
@@ -10,8 +10,10 @@ import static unicash.testutil.Assert.assertThrows;
 import static unicash.testutil.TypicalBudgets.MONTHLY;
 import static unicash.testutil.TypicalIndexes.INDEX_FIRST_TRANSACTION;
 
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -19,18 +21,23 @@ import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 
 import unicash.commons.core.index.Index;
+import unicash.commons.core.index.IndexRange;
 import unicash.commons.enums.CommandType;
 import unicash.logic.commands.AddTransactionCommand;
 import unicash.logic.commands.ClearBudgetCommand;
 import unicash.logic.commands.ClearTransactionsCommand;
 import unicash.logic.commands.DeleteTransactionCommand;
+import unicash.logic.commands.DeleteTransactionsCommand;
 import unicash.logic.commands.EditTransactionCommand;
+import unicash.logic.commands.EditTransactionsCommand;
 import unicash.logic.commands.ExitCommand;
+import unicash.logic.commands.ExportCommand;
 import unicash.logic.commands.FindCommand;
 import unicash.logic.commands.GetBudgetCommand;
 import unicash.logic.commands.GetCommand;
 import unicash.logic.commands.GetTotalExpenditureCommand;
 import unicash.logic.commands.HelpCommand;
+import unicash.logic.commands.ImportCommand;
 import unicash.logic.commands.ListCommand;
 import unicash.logic.commands.ResetCommand;
 import unicash.logic.commands.SetBudgetCommand;
@@ -71,6 +78,21 @@ public class UniCashParserTest {
         assertEquals(new AddTransactionCommand(transaction), command);
     }
 
+    @Test
+    public void parseCommand_import() throws Exception {
+        ImportCommand command = (ImportCommand) parser.parseCommand(
+                CommandType.IMPORT.getMainCommandWord() + " bank.csv");
+        assertEquals(new ImportCommand(Paths.get("bank.csv"), Collections.emptyMap()), command);
+    }
+
+    @Test
+    public void parseCommand_export() throws Exception {
+        ExportCommand command = (ExportCommand) parser.parseCommand(
+                CommandType.EXPORT.getMainCommandWord() + " transactions.ndjson scope/all");
+        assertEquals(new ExportCommand(Paths.get("transactions.ndjson"), ExportCommand.Format.NDJSON, true),
+                command);
+    }
+
     @Test
     public void parseCommand_deleteTransaction() throws Exception {
         DeleteTransactionCommand command = (DeleteTransactionCommand)
@@ -80,6 +102,13 @@ public class UniCashParserTest {
         assertEquals(new DeleteTransactionCommand(INDEX_FIRST_TRANSACTION), command);
     }
 
+    @Test
+    public void parseCommand_deleteTransactions() throws Exception {
+        DeleteTransactionsCommand command = (DeleteTransactionsCommand) parser.parseCommand(
+                CommandType.DELETE_TRANSACTIONS.getMainCommandWord() + " all");
+        assertEquals(new DeleteTransactionsCommand(IndexRange.all()), command);
+    }
+
     @Test
     public void parseCommand_clearTransactions() throws Exception {
         assertTrue(parser.parseCommand(CommandType.CLEAR_TRANSACTIONS.getMainCommandWord())
@@ -112,6 +141,18 @@ public class UniCashParserTest {
         assertEquals(new EditTransactionCommand(INDEX_FIRST_TRANSACTION, descriptor), command);
     }
 
+    @Test
+    public void parseCommand_editTransactions() throws Exception {
+        Transaction transaction = new TransactionBuilder().build();
+        EditTransactionCommand.EditTransactionDescriptor descriptor = new EditTransactionDescriptorBuilder(transaction)
+                .build();
+        String input = CommandType.EDIT_TRANSACTIONS.getMainCommandWord() + " 1-2 "
+                + TransactionUtil.getEditTransactionDescriptorDetails(descriptor);
+        EditTransactionsCommand command = (EditTransactionsCommand) parser.parseCommand(input);
+        assertEquals(new EditTransactionsCommand(
+                IndexRange.between(INDEX_FIRST_TRANSACTION, Index.fromOneBased(2)), descriptor), command);
+    }
+
     @Test
     public void parseCommand_getTotalExpenditure() throws Exception {
         assertTrue(
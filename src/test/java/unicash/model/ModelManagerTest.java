@@ -11,10 +11,11 @@ import static unicash.testutil.TypicalBudgets.DAILY;
 import static unicash.testutil.TypicalTransactions.BUYING_GROCERIES;
 import static unicash.testutil.TypicalTransactions.INTERN;
 import static unicash.testutil.TypicalTransactions.NUS;
-import static unicash.testutil.TypicalTransactions.getMaxTransactionList;
+import static unicash.testutil.TypicalTransactions.getTransactionList;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 
@@ -22,13 +23,18 @@ import org.junit.jupiter.api.Test;
 
 import unicash.commons.core.GuiSettings;
 import unicash.model.budget.Budget;
+import unicash.model.transaction.Transaction;
 import unicash.model.transaction.exceptions.TransactionNotFoundException;
 import unicash.model.transaction.predicates.TransactionContainsAllKeywordsPredicate;
 import unicash.model.transaction.predicates.TransactionNameContainsKeywordsPredicate;
+import unicash.testutil.TransactionBuilder;
 import unicash.testutil.UniCashBuilder;
 
 public class ModelManagerTest {
 
+    // Limit of the model that exercises the transaction limit, as filling one to MAX_TRANSACTIONS is slow
+    private static final int SMALL_MAX_TRANSACTIONS = 1000;
+
     private ModelManager modelManager = new ModelManager();
 
     @Test
@@ -102,12 +108,44 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasTransaction(NUS));
     }
 
+    @Test
+    public void addTransactions_filteredList_showsAllTransactions() {
+        modelManager.addTransaction(NUS);
+        modelManager.updateFilteredTransactionList(unused -> false);
+
+        modelManager.addTransactions(List.of(INTERN, BUYING_GROCERIES));
+        assertEquals(List.of(NUS, INTERN, BUYING_GROCERIES), modelManager.getFilteredTransactionList());
+    }
+
+    @Test
+    public void deleteTransactions_transactions_oneChange() {
+        modelManager.addTransactions(List.of(NUS, INTERN, BUYING_GROCERIES));
+        long version = modelManager.getUniCashVersion();
+
+        modelManager.deleteTransactions(List.of(NUS, BUYING_GROCERIES));
+        assertEquals(List.of(INTERN), modelManager.getFilteredTransactionList());
+        assertEquals(version + 1, modelManager.getUniCashVersion());
+    }
+
+    @Test
+    public void replaceTransactions_transactions_oneChange() {
+        modelManager.addTransactions(List.of(NUS, INTERN));
+        long version = modelManager.getUniCashVersion();
+        Transaction editedNus = new TransactionBuilder(NUS).withCategories("school").build();
+        Transaction editedIntern = new TransactionBuilder(INTERN).withCategories("school").build();
+
+        modelManager.replaceTransactions(List.of(NUS, INTERN), List.of(editedNus, editedIntern));
+        assertEquals(List.of(editedNus, editedIntern), modelManager.getFilteredTransactionList());
+        assertEquals(version + 1, modelManager.getUniCashVersion());
+    }
+
     @Test
     public void isFull_maxUniCash_returnsTrue() {
+        ModelManager smallModelManager = new ModelManager(SMALL_MAX_TRANSACTIONS);
         UniCash uniCash = new UniCash();
-        uniCash.setTransactions(getMaxTransactionList());
-        modelManager.setUniCash(uniCash);
-        assertTrue(modelManager.isFull());
+        uniCash.setTransactions(getTransactionList(SMALL_MAX_TRANSACTIONS));
+        smallModelManager.setUniCash(uniCash);
+        assertTrue(smallModelManager.isFull());
     }
 
     @Test
@@ -132,6 +170,15 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredTransactionList().remove(0));
     }
 
+    @Test
+    public void getTransactionsBetween_ignoresFilter() {
+        UniCash uniCash = new UniCashBuilder().withTransaction(NUS).withTransaction(INTERN).build();
+        modelManager = new ModelManager(uniCash, new UserPrefs());
+        modelManager.updateFilteredTransactionList(unused -> false);
+        assertEquals(List.of(INTERN), modelManager.getTransactionsBetween(
+                LocalDateTime.of(2008, 8, 8, 0, 0), LocalDateTime.of(2008, 8, 9, 0, 0)));
+    }
+
     @Test
     public void getExpenseSummaryPerCategory_calculatesSummaryCorrectly() {
         UniCash uniCash = new UniCashBuilder()
@@ -18,9 +18,10 @@ import static unicash.testutil.TypicalTransactions.DINING_WITH_FRIENDS;
 import static unicash.testutil.TypicalTransactions.INTERN;
 import static unicash.testutil.TypicalTransactions.NUS;
 import static unicash.testutil.TypicalTransactions.SHOPPING;
-import static unicash.testutil.TypicalTransactions.getMaxTransactionList;
+import static unicash.testutil.TypicalTransactions.getTransactionList;
 import static unicash.testutil.TypicalTransactions.getTypicalUniCash;
 
+import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.util.Arrays;
 import java.util.Collection;
@@ -48,6 +49,9 @@ import unicash.testutil.UniCashBuilder;
 
 public class UniCashTest {
 
+    // Limit of the UniCash that exercises the transaction limit, as filling one to MAX_TRANSACTIONS is slow
+    private static final int SMALL_MAX_TRANSACTIONS = 1000;
+
     private final UniCash uniCash = new UniCash();
 
     @Test
@@ -55,6 +59,44 @@ public class UniCashTest {
         assertEquals(Collections.emptyList(), uniCash.getTransactionList());
     }
 
+    @Test
+    public void getVersion_increasesWithEveryChange() {
+        long version = uniCash.getVersion();
+        uniCash.addTransaction(NUS);
+        assertTrue(uniCash.getVersion() > version);
+
+        version = uniCash.getVersion();
+        uniCash.setTransaction(NUS, SHOPPING);
+        assertTrue(uniCash.getVersion() > version);
+
+        version = uniCash.getVersion();
+        uniCash.setBudget(MONTHLY);
+        assertTrue(uniCash.getVersion() > version);
+
+        version = uniCash.getVersion();
+        uniCash.clearBudget();
+        assertTrue(uniCash.getVersion() > version);
+
+        version = uniCash.getVersion();
+        uniCash.removeTransaction(SHOPPING);
+        assertTrue(uniCash.getVersion() > version);
+
+        version = uniCash.getVersion();
+        uniCash.resetData(getTypicalUniCash());
+        assertTrue(uniCash.getVersion() > version);
+    }
+
+    @Test
+    public void getVersion_readingData_unchanged() {
+        uniCash.addTransaction(NUS);
+        long version = uniCash.getVersion();
+
+        uniCash.hasTransaction(NUS);
+        uniCash.getSumOfExpensePerCategory();
+        uniCash.getBudget();
+        assertEquals(version, uniCash.getVersion());
+    }
+
     @Test
     public void resetData_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniCash.resetData(null));
@@ -93,6 +135,13 @@ public class UniCashTest {
         assertTrue(uniCash.hasTransaction(NUS));
     }
 
+    @Test
+    public void hasTransactionWithId_transactionInUniCash_returnsTrue() {
+        assertFalse(uniCash.hasTransactionWithId(NUS.getId()));
+        uniCash.addTransaction(NUS);
+        assertTrue(uniCash.hasTransactionWithId(NUS.getId()));
+    }
+
     @Test
     public void setTransaction_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniCash.setTransaction(NUS, null));
@@ -111,8 +160,9 @@ public class UniCashTest {
 
     @Test
     public void isFull_maxTransactions_true() {
-        uniCash.setTransactions(getMaxTransactionList());
-        assertTrue(uniCash.isFull());
+        UniCash smallUniCash = new UniCash(SMALL_MAX_TRANSACTIONS);
+        smallUniCash.setTransactions(getTransactionList(SMALL_MAX_TRANSACTIONS));
+        assertTrue(smallUniCash.isFull());
     }
 
     @Test
@@ -513,6 +563,11 @@ public class UniCashTest {
             return transactions;
         }
 
+        @Override
+        public List<Transaction> getTransactionsBetween(LocalDateTime start, LocalDateTime end) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         /**
          * Returns an unmodifiable view of the budget.
          */
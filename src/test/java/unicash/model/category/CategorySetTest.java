@@ -0,0 +1,107 @@
+package unicash.model.category;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static unicash.testutil.Assert.assertThrows;
+import static unicash.testutil.TypicalCategories.EDUCATION;
+import static unicash.testutil.TypicalCategories.ENTERTAINMENT;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import unicash.model.category.exceptions.DuplicateCategoryException;
+import unicash.model.category.exceptions.MaxCategoryException;
+
+public class CategorySetTest {
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> CategorySet.of(null));
+        assertThrows(NullPointerException.class, () -> CategorySet.of(Arrays.asList(EDUCATION, null)));
+    }
+
+    @Test
+    public void of_duplicate_throwsDuplicateCategoryException() {
+        assertThrows(DuplicateCategoryException.class, () -> CategorySet.of(List.of(EDUCATION, EDUCATION)));
+    }
+
+    @Test
+    public void of_moreThanMaximumAllowed_throwsMaxCategoryException() {
+        List<Category> categoryList = new ArrayList<>();
+        for (int i = 0; i <= UniqueCategoryList.MAX_CATEGORIES; i++) {
+            categoryList.add(new Category("Test" + i));
+        }
+        assertThrows(MaxCategoryException.class, () -> CategorySet.of(categoryList));
+    }
+
+    @Test
+    public void of_noCategories_empty() {
+        assertSame(CategorySet.EMPTY, CategorySet.of(new UniqueCategoryList()));
+        assertTrue(CategorySet.EMPTY.isEmpty());
+        assertEquals(0, CategorySet.EMPTY.getSize());
+    }
+
+    @Test
+    public void of_categories_keptInOrder() {
+        CategorySet categorySet = CategorySet.of(List.of(EDUCATION, ENTERTAINMENT));
+        assertEquals(List.of(EDUCATION, ENTERTAINMENT), categorySet.asUnmodifiableList());
+        assertEquals(List.of(EDUCATION, ENTERTAINMENT).toString(), categorySet.toString());
+        assertEquals(2, categorySet.getSize());
+        assertFalse(categorySet.isEmpty());
+    }
+
+    @Test
+    public void of_modifiedSource_setUnchanged() {
+        List<Category> categoryList = new ArrayList<>(List.of(EDUCATION));
+        CategorySet categorySet = CategorySet.of(categoryList);
+        categoryList.add(ENTERTAINMENT);
+        assertEquals(List.of(EDUCATION), categorySet.asUnmodifiableList());
+    }
+
+    @Test
+    public void asUnmodifiableList_modify_throwsUnsupportedOperationException() {
+        CategorySet categorySet = CategorySet.of(List.of(EDUCATION));
+        assertThrows(UnsupportedOperationException.class, () -> categorySet.asUnmodifiableList().add(ENTERTAINMENT));
+        assertThrows(UnsupportedOperationException.class, () -> {
+            var iterator = categorySet.iterator();
+            iterator.next();
+            iterator.remove();
+        });
+    }
+
+    @Test
+    public void contains() {
+        CategorySet categorySet = CategorySet.of(List.of(EDUCATION));
+        assertTrue(categorySet.contains(new Category(EDUCATION.category)));
+        assertFalse(categorySet.contains(ENTERTAINMENT));
+        assertThrows(NullPointerException.class, () -> categorySet.contains(null));
+    }
+
+    @Test
+    public void equals() {
+        CategorySet categorySet = CategorySet.of(List.of(EDUCATION, ENTERTAINMENT));
+
+        // same object -> returns true
+        assertEquals(categorySet, categorySet);
+
+        // same categories in any order -> returns true
+        assertEquals(categorySet, CategorySet.of(List.of(ENTERTAINMENT, EDUCATION)));
+        assertEquals(categorySet.hashCode(), CategorySet.of(List.of(ENTERTAINMENT, EDUCATION)).hashCode());
+        assertEquals(categorySet.getFingerprint(), CategorySet.of(List.of(ENTERTAINMENT, EDUCATION)).getFingerprint());
+
+        // different categories -> returns false
+        assertNotEquals(categorySet, CategorySet.of(List.of(EDUCATION)));
+        assertNotEquals(categorySet, CategorySet.EMPTY);
+        assertNotEquals(categorySet.getFingerprint(), CategorySet.of(List.of(EDUCATION)).getFingerprint());
+
+        // null or different type -> returns false
+        assertNotEquals(null, categorySet);
+        assertNotEquals(new UniqueCategoryList(List.of(EDUCATION, ENTERTAINMENT)), categorySet);
+    }
+}
@@ -139,6 +139,47 @@ public class AmountTest {
         assertFalse(amount.equals(5));
     }
 
+    @Test
+    public void getCents_roundedToNearestCent() {
+        assertEquals(1213, new Amount(12.1315).getCents());
+        assertEquals(1216, new Amount("$12.155").getCents());
+        assertEquals(Integer.MAX_VALUE * 100L, new Amount(Integer.MAX_VALUE).getCents());
+    }
+
+    @Test
+    public void ofCents_validCents_equalToDollarAmount() {
+        assertEquals(new Amount(12.05), Amount.ofCents(1205));
+        assertEquals(12.05, Amount.ofCents(1205).amount);
+        assertEquals(new Amount(0), Amount.ofCents(0));
+    }
+
+    @Test
+    public void ofCents_invalidCents_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Amount.ofCents(-1));
+        assertThrows(IllegalArgumentException.class, () -> Amount.ofCents(Integer.MAX_VALUE * 100L + 1));
+    }
+
+    @Test
+    public void getCents_sumOfManyAmounts_exact() {
+        long totalCents = 0;
+        double totalAmount = 0;
+        for (int i = 0; i < 1_000_000; i++) {
+            totalCents += new Amount(0.1).getCents();
+            totalAmount += new Amount(0.1).amount;
+        }
+        assertEquals(10_000_000, totalCents);
+        assertNotEquals(100_000.0, totalAmount);
+    }
+
+    @Test
+    public void centsToDecimalString() {
+        assertEquals("0.00", Amount.centsToDecimalString(0));
+        assertEquals("0.05", Amount.centsToDecimalString(5));
+        assertEquals("12.50", Amount.centsToDecimalString(1250));
+        assertEquals("-12.05", Amount.centsToDecimalString(-1205));
+        assertEquals("21474836.47", Amount.centsToDecimalString(Integer.MAX_VALUE));
+    }
+
     @Test
     public void amountToDecimalString_roundingRequired_returnsRoundedString() {
         Amount amt = new Amount(45.678);
@@ -0,0 +1,366 @@
+package unicash.model.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static unicash.testutil.Assert.assertThrows;
+import static unicash.testutil.TypicalTransactions.BUYING_GROCERIES;
+import static unicash.testutil.TypicalTransactions.DINING_WITH_FRIENDS;
+import static unicash.testutil.TypicalTransactions.INTERN;
+import static unicash.testutil.TypicalTransactions.NUS;
+import static unicash.testutil.TypicalTransactions.SHOPPING;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import unicash.testutil.TransactionBuilder;
+
+public class ColumnarTransactionListTest {
+
+    private ColumnarTransactionList columnarList;
+
+    @BeforeEach
+    public void setUp() {
+        columnarList = new ColumnarTransactionList();
+    }
+
+    @Test
+    public void get_addedTransactions_materializesEqualTransactions() {
+        columnarList.addAll(Arrays.asList(NUS, INTERN, SHOPPING));
+
+        assertEquals(Arrays.asList(NUS, INTERN, SHOPPING), columnarList);
+        Transaction materialized = columnarList.get(2);
+        assertNotSame(SHOPPING, materialized);
+        assertEquals(SHOPPING.getId(), materialized.getId());
+        assertEquals(SHOPPING.getCategories(), materialized.getCategories());
+    }
+
+    @Test
+    public void get_sameCategoriesInReversedOrder_keepsOrderOfEach() {
+        Transaction inOrder = new TransactionBuilder(NUS).withCategories("aa", "bb").build();
+        Transaction reversed = new TransactionBuilder(NUS).withCategories("bb", "aa").build();
+        columnarList.addAll(Arrays.asList(inOrder, reversed));
+
+        assertEquals(inOrder.getCategories().asUnmodifiableList(),
+                columnarList.get(0).getCategories().asUnmodifiableList());
+        assertEquals(reversed.getCategories().asUnmodifiableList(),
+                columnarList.get(1).getCategories().asUnmodifiableList());
+    }
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        columnarList.add(NUS);
+        assertThrows(IndexOutOfBoundsException.class, () -> columnarList.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> columnarList.get(-1));
+    }
+
+    @Test
+    public void add_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> columnarList.add(null));
+    }
+
+    @Test
+    public void add_beyondInitialCapacity_keepsAllTransactions() {
+        List<Transaction> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Transaction transaction = new TransactionBuilder(BUYING_GROCERIES).withAmount(i).build();
+            expected.add(transaction);
+            columnarList.add(transaction);
+        }
+        columnarList.add(0, NUS);
+        expected.add(0, NUS);
+        assertEquals(expected, columnarList);
+    }
+
+    @Test
+    public void add_beyondBlockCapacity_splitsBlocksInOrder() {
+        int size = 2 * ColumnarTransactionList.BLOCK_CAPACITY + 1;
+        List<Transaction> expected = buildTransactions(size);
+        columnarList.addAll(expected);
+
+        // Inserting into a full block splits it
+        columnarList.add(1, NUS);
+        expected.add(1, NUS);
+        columnarList.add(ColumnarTransactionList.BLOCK_CAPACITY, INTERN);
+        expected.add(ColumnarTransactionList.BLOCK_CAPACITY, INTERN);
+
+        assertEquals(expected, columnarList);
+    }
+
+    @Test
+    public void removeRange_acrossBlocks_reportsRemovedTransactionsInOneChange() {
+        List<Transaction> transactions = buildTransactions(3 * ColumnarTransactionList.BLOCK_CAPACITY);
+        columnarList.addAll(transactions);
+        List<Transaction> removed = new ArrayList<>();
+        int[] changeCount = {0};
+        columnarList.addListener((ListChangeListener<Transaction>) change -> {
+            changeCount[0]++;
+            while (change.next()) {
+                removed.addAll(change.getRemoved());
+            }
+        });
+
+        int fromIndex = ColumnarTransactionList.BLOCK_CAPACITY / 2;
+        int toIndex = 2 * ColumnarTransactionList.BLOCK_CAPACITY + 1;
+        columnarList.remove(fromIndex, toIndex);
+
+        List<Transaction> expected = new ArrayList<>(transactions);
+        expected.subList(fromIndex, toIndex).clear();
+        assertEquals(expected, columnarList);
+        assertEquals(transactions.subList(fromIndex, toIndex), removed);
+        assertEquals(1, changeCount[0]);
+
+        // Positions after the removed range are located correctly
+        assertEquals(transactions.get(toIndex).getId(), columnarList.getId(fromIndex));
+    }
+
+    @Test
+    public void removePositions_acrossBlocks_reportsRemovedTransactionsInOneChange() {
+        int blockCapacity = ColumnarTransactionList.BLOCK_CAPACITY;
+        List<Transaction> transactions = buildTransactions(3 * blockCapacity);
+        columnarList.addAll(transactions);
+        List<Transaction> replayed = new ArrayList<>(transactions);
+        int[] changeCount = {0};
+        columnarList.addListener((ListChangeListener<Transaction>) change -> {
+            changeCount[0]++;
+            while (change.next()) {
+                replayed.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+            }
+        });
+
+        // Every other row of the first block, all of the second block and the last row
+        BitSet positions = new BitSet();
+        for (int i = 0; i < blockCapacity; i += 2) {
+            positions.set(i);
+        }
+        positions.set(blockCapacity, 2 * blockCapacity);
+        positions.set(3 * blockCapacity - 1);
+
+        List<Transaction> expected = new ArrayList<>();
+        List<Transaction> expectedRemoved = new ArrayList<>();
+        for (int i = 0; i < transactions.size(); i++) {
+            if (positions.get(i)) {
+                expectedRemoved.add(transactions.get(i));
+            } else {
+                expected.add(transactions.get(i));
+            }
+        }
+
+        assertEquals(expectedRemoved, columnarList.removePositions(positions));
+        assertEquals(expected, columnarList);
+        assertEquals(expected, replayed);
+        assertEquals(1, changeCount[0]);
+
+        // Positions after the removed rows are located correctly
+        assertEquals(transactions.get(2 * blockCapacity).getId(), columnarList.getId(blockCapacity / 2));
+        columnarList.add(blockCapacity / 2, NUS);
+        assertEquals(NUS, columnarList.get(blockCapacity / 2));
+    }
+
+    @Test
+    public void removePositions_allPositions_emptiesList() {
+        columnarList.addAll(Arrays.asList(NUS, INTERN, SHOPPING));
+        BitSet positions = new BitSet();
+        positions.set(0, 3);
+
+        assertEquals(Arrays.asList(NUS, INTERN, SHOPPING), columnarList.removePositions(positions));
+        assertTrue(columnarList.isEmpty());
+        assertTrue(columnarList.removePositions(new BitSet()).isEmpty());
+    }
+
+    @Test
+    public void removePositions_positionOutOfRange_throwsIndexOutOfBoundsException() {
+        columnarList.addAll(Arrays.asList(NUS, INTERN));
+        BitSet positions = new BitSet();
+        positions.set(2);
+        assertThrows(IndexOutOfBoundsException.class, () -> columnarList.removePositions(positions));
+        assertEquals(Arrays.asList(NUS, INTERN), columnarList);
+    }
+
+    @Test
+    public void setPositions_replacesAndReportsReplacedTransactionsInOneChange() {
+        columnarList.addAll(Arrays.asList(NUS, INTERN, SHOPPING, BUYING_GROCERIES));
+        List<Transaction> replayed = new ArrayList<>(columnarList);
+        int[] changeCount = {0};
+        columnarList.addListener((ListChangeListener<Transaction>) change -> {
+            changeCount[0]++;
+            while (change.next()) {
+                assertTrue(change.wasReplaced());
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    replayed.set(i, change.getList().get(i));
+                }
+            }
+        });
+
+        List<Transaction> replaced = columnarList.setPositions(new int[] {0, 2, 3},
+                Arrays.asList(DINING_WITH_FRIENDS, NUS, INTERN));
+        assertEquals(Arrays.asList(NUS, SHOPPING, BUYING_GROCERIES), replaced);
+        assertEquals(Arrays.asList(DINING_WITH_FRIENDS, INTERN, NUS, INTERN), columnarList);
+        assertEquals(columnarList, replayed);
+        assertEquals(1, changeCount[0]);
+    }
+
+    @Test
+    public void setPositions_mismatchedSizes_throwsIllegalArgumentException() {
+        columnarList.add(NUS);
+        assertThrows(IllegalArgumentException.class, () ->
+                columnarList.setPositions(new int[] {0}, Arrays.asList(INTERN, SHOPPING)));
+    }
+
+    @Test
+    public void indexOfId_idsInCreationOrder_findsTransaction() {
+        List<Transaction> transactions = buildTransactions(ColumnarTransactionList.BLOCK_CAPACITY + 10);
+        columnarList.addAll(transactions);
+
+        assertEquals(0, columnarList.indexOfId(transactions.get(0).getId()));
+        int lastIndex = transactions.size() - 1;
+        assertEquals(lastIndex, columnarList.indexOfId(transactions.get(lastIndex).getId()));
+        assertEquals(-1, columnarList.indexOfId(NUS.getId()));
+    }
+
+    @Test
+    public void indexOfId_idsOutOfOrder_findsTransaction() {
+        List<Transaction> transactions = buildTransactions(100);
+        columnarList.addAll(transactions);
+        // Transactions created before the others, inserted among them
+        columnarList.add(50, NUS);
+        columnarList.add(INTERN);
+
+        assertEquals(columnarList.indexOf(NUS), columnarList.indexOfId(NUS.getId()));
+        assertEquals(columnarList.indexOf(INTERN), columnarList.indexOfId(INTERN.getId()));
+    }
+
+    @Test
+    public void indexOfId_afterRemovalsAndSplits_findsEveryTransaction() {
+        int size = 2 * ColumnarTransactionList.BLOCK_CAPACITY + 1;
+        List<Transaction> expected = buildTransactions(size);
+        columnarList.addAll(expected);
+        columnarList.add(1, NUS);
+        expected.add(1, NUS);
+        columnarList.remove(ColumnarTransactionList.BLOCK_CAPACITY);
+        Transaction removed = expected.remove(ColumnarTransactionList.BLOCK_CAPACITY);
+        BitSet positions = new BitSet();
+        positions.set(10, 20);
+        columnarList.removePositions(positions);
+        List<Transaction> removedByPosition = new ArrayList<>(expected.subList(10, 20));
+        expected.subList(10, 20).clear();
+
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(i, columnarList.indexOfId(expected.get(i).getId()));
+        }
+        assertEquals(-1, columnarList.indexOfId(removed.getId()));
+        for (Transaction transaction : removedByPosition) {
+            assertEquals(-1, columnarList.indexOfId(transaction.getId()));
+        }
+    }
+
+    @Test
+    public void indexOfId_copyOfRemovedTransactionLeft_findsCopy() {
+        columnarList.addAll(Arrays.asList(NUS, INTERN, NUS));
+
+        columnarList.remove(2);
+        assertEquals(0, columnarList.indexOfId(NUS.getId()));
+        columnarList.remove(0);
+        assertEquals(-1, columnarList.indexOfId(NUS.getId()));
+        assertEquals(0, columnarList.indexOfId(INTERN.getId()));
+    }
+
+    @Test
+    public void indexOfId_replacedTransaction_findsReplacement() {
+        columnarList.addAll(Arrays.asList(NUS, INTERN));
+
+        columnarList.set(0, SHOPPING);
+        assertEquals(-1, columnarList.indexOfId(NUS.getId()));
+        assertEquals(0, columnarList.indexOfId(SHOPPING.getId()));
+    }
+
+    @Test
+    public void getIdAndEpochMinute_returnColumnValues() {
+        columnarList.add(INTERN);
+        assertEquals(INTERN.getId(), columnarList.getId(0));
+        assertEquals(INTERN.getDateTime().getEpochMinute(), columnarList.getEpochMinute(0));
+    }
+
+    @Test
+    public void set_existingPosition_replacesAndReportsReplacedTransaction() {
+        columnarList.addAll(Arrays.asList(NUS, INTERN));
+        List<Transaction> removed = new ArrayList<>();
+        columnarList.addListener((ListChangeListener<Transaction>) change -> {
+            while (change.next()) {
+                removed.addAll(change.getRemoved());
+            }
+        });
+
+        assertEquals(INTERN, columnarList.set(1, DINING_WITH_FRIENDS));
+        assertEquals(Arrays.asList(NUS, DINING_WITH_FRIENDS), columnarList);
+        assertEquals(List.of(INTERN), removed);
+    }
+
+    @Test
+    public void remove_middlePosition_shiftsLaterTransactions() {
+        columnarList.addAll(Arrays.asList(NUS, INTERN, SHOPPING));
+        assertEquals(INTERN, columnarList.remove(1));
+        assertEquals(Arrays.asList(NUS, SHOPPING), columnarList);
+    }
+
+    @Test
+    public void setAll_replacesContentsInOneChange() {
+        columnarList.addAll(Arrays.asList(NUS, INTERN, SHOPPING));
+        List<Transaction> removed = new ArrayList<>();
+        int[] changeCount = {0};
+        columnarList.addListener((ListChangeListener<Transaction>) change -> {
+            changeCount[0]++;
+            while (change.next()) {
+                removed.addAll(change.getRemoved());
+            }
+        });
+
+        columnarList.setAll(BUYING_GROCERIES, DINING_WITH_FRIENDS);
+
+        assertEquals(1, changeCount[0]);
+        assertEquals(Arrays.asList(NUS, INTERN, SHOPPING), removed);
+        assertEquals(Arrays.asList(BUYING_GROCERIES, DINING_WITH_FRIENDS), columnarList);
+    }
+
+    @Test
+    public void copyEpochMinutesAndIds_acrossBlocks_copiesInOrder() {
+        List<Transaction> transactions = buildTransactions(ColumnarTransactionList.BLOCK_CAPACITY + 1);
+        columnarList.addAll(transactions);
+
+        long[] epochMinutes = new long[transactions.size()];
+        long[] ids = new long[transactions.size()];
+        columnarList.copyEpochMinutesAndIds(epochMinutes, ids);
+
+        for (int i = 0; i < transactions.size(); i++) {
+            assertEquals(transactions.get(i).getDateTime().getEpochMinute(), epochMinutes[i]);
+            assertEquals(transactions.get(i).getId(), ids[i]);
+        }
+    }
+
+    @Test
+    public void clear_thenAdd_startsAfresh() {
+        columnarList.addAll(Arrays.asList(NUS, INTERN));
+        columnarList.clear();
+        assertTrue(columnarList.isEmpty());
+
+        columnarList.add(SHOPPING);
+        assertEquals(List.of(SHOPPING), columnarList);
+    }
+
+    /**
+     * Returns {@code size} distinct transactions, created in order.
+     */
+    private static List<Transaction> buildTransactions(int size) {
+        List<Transaction> transactions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            transactions.add(new TransactionBuilder(BUYING_GROCERIES).withAmount(i).build());
+        }
+        return transactions;
+    }
+}
@@ -9,8 +9,10 @@ import static unicash.testutil.Assert.assertThrows;
 
 import java.time.Clock;
 import java.time.Instant;
+import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 
 import org.junit.jupiter.api.Test;
 
@@ -40,6 +42,12 @@ public class DateTimeTest {
         assertFalse(DateTime.isValidDateTime("20-31-2001 18:18")); // invalid date
         assertFalse(DateTime.isValidDateTime("20-01-2001 25:18")); // invalid time
         assertFalse(DateTime.isValidDateTime("31-02-2001 18:18")); // invalid date
+        assertFalse(DateTime.isValidDateTime("29-02-2001 18:18")); // not a leap year
+        assertFalse(DateTime.isValidDateTime("2001-02-30 18:18")); // invalid date
+        assertFalse(DateTime.isValidDateTime("01-01-2001 18:60")); // invalid time
+        assertFalse(DateTime.isValidDateTime("01 Foo 2001 18:18")); // invalid month
+        assertFalse(DateTime.isValidDateTime("01 Jan 2001 1818")); // missing time separator
+        assertFalse(DateTime.isValidDateTime("0a-01-2001 18:18")); // not a number
     }
 
     @Test
@@ -47,6 +55,34 @@ public class DateTimeTest {
         assertTrue(DateTime.isValidDateTime("01-01-2001 18:18")); //dd-MM-uuuu HH:mm
         assertTrue(DateTime.isValidDateTime("2001-01-01 18:18")); //uuuu-MM-dd HH:mm
         assertTrue(DateTime.isValidDateTime("01 Jan 2001 18:18")); //dd MMM uuuu HH:mm
+        assertTrue(DateTime.isValidDateTime("29-02-2000 00:00")); // leap year
+        assertTrue(DateTime.isValidDateTime("31-12-1969 23:59")); // before the epoch
+    }
+
+    @Test
+    public void constructor_acceptedFormats_sameAsFormatter() {
+        DateTimeFormatter[] formatters = {
+            DateTimeFormatter.ofPattern(DateTime.DATETIME_PATTERN_ONE),
+            DateTimeFormatter.ofPattern(DateTime.DATETIME_PATTERN_TWO),
+            DateTimeFormatter.ofPattern(DateTime.DATETIME_STORAGE_PATTERN)
+        };
+        LocalDateTime dateTime = LocalDateTime.of(1899, 12, 31, 23, 59);
+        while (dateTime.getYear() < 2101) {
+            for (DateTimeFormatter formatter : formatters) {
+                DateTime parsed = new DateTime(dateTime.format(formatter));
+                assertEquals(dateTime, parsed.getDateTime());
+                assertEquals(dateTime.format(formatters[2]), parsed.toString());
+                assertEquals(YearMonth.from(dateTime), parsed.getYearMonth());
+            }
+            dateTime = dateTime.plusHours(13).plusMinutes(7);
+        }
+    }
+
+    @Test
+    public void toString_yearBeyondFourDigits_signedYear() {
+        LocalDateTime dateTime = LocalDateTime.of(10000, 1, 1, 0, 0);
+        assertEquals("01 Jan +10000 00:00", DateTime.ofEpochMinute(DateTime.toEpochMinute(dateTime)).toString());
+        assertEquals(dateTime, new DateTime("01 Jan +10000 00:00").getDateTime());
     }
 
     @Test
@@ -137,5 +173,28 @@ public class DateTimeTest {
         assertTrue(datetime1.getYearMonth().equals(expectedYearMonth));
         assertTrue(datetime2.getYearMonth().equals(expectedYearMonth));
         assertTrue(datetime3.getYearMonth().equals(expectedYearMonth));
+
+        assertEquals(YearMonth.of(1969, 12), new DateTime("31-12-1969 23:59").getYearMonth());
+    }
+
+    @Test
+    public void getEpochMinute_equalsMinutesSinceEpoch() {
+        assertEquals(0, new DateTime("01-01-1970 00:00").getEpochMinute());
+        assertEquals(24 * 60 + 61, new DateTime("02-01-1970 01:01").getEpochMinute());
+        assertEquals(-1, new DateTime("31-12-1969 23:59").getEpochMinute());
+    }
+
+    @Test
+    public void toEpochMinute_partialMinute_roundsDown() {
+        assertEquals(-1, DateTime.toEpochMinute(LocalDateTime.of(1969, 12, 31, 23, 59, 59)));
+        assertEquals(1, DateTime.toEpochMinute(LocalDateTime.of(1970, 1, 1, 0, 1, 30)));
+    }
+
+    @Test
+    public void ofEpochMinute_roundTripsEpochMinute() {
+        DateTime dateTime = new DateTime("18-08-2001 18:18");
+        DateTime fromEpochMinute = DateTime.ofEpochMinute(dateTime.getEpochMinute());
+        assertEquals(dateTime, fromEpochMinute);
+        assertEquals("18 Aug 2001 18:18", fromEpochMinute.inputString());
     }
 }
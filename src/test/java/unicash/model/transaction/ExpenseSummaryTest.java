@@ -0,0 +1,146 @@
+package unicash.model.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static unicash.testutil.Assert.assertThrows;
+import static unicash.testutil.TypicalTransactions.BUYING_GROCERIES;
+import static unicash.testutil.TypicalTransactions.DINING_WITH_FRIENDS;
+import static unicash.testutil.TypicalTransactions.NUS;
+import static unicash.testutil.TypicalTransactions.WORK_AT_LIHO;
+
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.HashMap;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import unicash.testutil.TransactionBuilder;
+
+public class ExpenseSummaryTest {
+
+    private static final Transaction GROCERIES_EXPENSE = new TransactionBuilder(BUYING_GROCERIES)
+            .withType("expense")
+            .build();
+    private static final Transaction DINING_EXPENSE = new TransactionBuilder(DINING_WITH_FRIENDS)
+            .withType("expense")
+            .build();
+
+    private TransactionList transactionList;
+    private ExpenseSummary expenseSummary;
+
+    @BeforeEach
+    public void setUp() {
+        transactionList = new TransactionList();
+        expenseSummary = new ExpenseSummary(transactionList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ExpenseSummary(null));
+    }
+
+    @Test
+    public void constructor_existingTransactions_includesTransactions() {
+        transactionList.add(GROCERIES_EXPENSE);
+        ExpenseSummary summary = new ExpenseSummary(transactionList.asUnmodifiableObservableList());
+
+        HashMap<String, Double> expected = new HashMap<>();
+        expected.put("groceries", 16.75);
+        assertEquals(expected, summary.getSumPerCategory());
+    }
+
+    @Test
+    public void sumOfExpensesInCents_onlyExpensesSummed() {
+        assertEquals(0, ExpenseSummary.sumOfExpensesInCents(Arrays.asList()));
+        assertEquals(GROCERIES_EXPENSE.getAmount().getCents() + DINING_EXPENSE.getAmount().getCents(),
+                ExpenseSummary.sumOfExpensesInCents(Arrays.asList(GROCERIES_EXPENSE, WORK_AT_LIHO, DINING_EXPENSE)));
+    }
+
+    @Test
+    public void hasExpenses_onlyIncome_returnsFalse() {
+        transactionList.add(WORK_AT_LIHO);
+        assertFalse(expenseSummary.hasExpenses());
+        assertTrue(expenseSummary.getSumPerCategory().isEmpty());
+        assertTrue(expenseSummary.getSumPerYearMonth().isEmpty());
+    }
+
+    @Test
+    public void add_expense_updatesTotals() {
+        transactionList.add(GROCERIES_EXPENSE);
+        transactionList.add(DINING_EXPENSE);
+
+        assertTrue(expenseSummary.hasExpenses());
+
+        HashMap<String, Double> expectedPerCategory = new HashMap<>();
+        expectedPerCategory.put("groceries", 16.75);
+        expectedPerCategory.put("food", 234.50);
+        assertEquals(expectedPerCategory, expenseSummary.getSumPerCategory());
+
+        HashMap<YearMonth, Double> expectedPerYearMonth = new HashMap<>();
+        expectedPerYearMonth.put(GROCERIES_EXPENSE.getDateTime().getYearMonth(), 16.75 + 234.50);
+        assertEquals(expectedPerYearMonth, expenseSummary.getSumPerYearMonth());
+    }
+
+    @Test
+    public void add_expenseWithoutCategory_countedAsUncategorized() {
+        Transaction noCategoryExpense = new TransactionBuilder().withType("expense").withCategories().build();
+        transactionList.add(noCategoryExpense);
+
+        HashMap<String, Double> expected = new HashMap<>();
+        expected.put(ExpenseSummary.UNCATEGORIZED_CATEGORY_NAME, noCategoryExpense.getAmountAsDouble());
+        assertEquals(expected, expenseSummary.getSumPerCategory());
+    }
+
+    @Test
+    public void remove_lastExpenseOfKey_removesKey() {
+        transactionList.add(GROCERIES_EXPENSE);
+        transactionList.add(NUS);
+        transactionList.remove(GROCERIES_EXPENSE);
+
+        HashMap<String, Double> expected = new HashMap<>();
+        expected.put("ta", NUS.getAmountAsDouble());
+        assertEquals(expected, expenseSummary.getSumPerCategory());
+
+        transactionList.remove(NUS);
+        assertFalse(expenseSummary.hasExpenses());
+        assertTrue(expenseSummary.getSumPerCategory().isEmpty());
+        assertTrue(expenseSummary.getSumPerYearMonth().isEmpty());
+    }
+
+    @Test
+    public void setTransaction_expenseReplacedByIncome_removesExpense() {
+        transactionList.add(GROCERIES_EXPENSE);
+        transactionList.setTransaction(GROCERIES_EXPENSE, WORK_AT_LIHO);
+        assertFalse(expenseSummary.hasExpenses());
+        assertTrue(expenseSummary.getSumPerCategory().isEmpty());
+    }
+
+    @Test
+    public void setTransactions_replacesAllTotals() {
+        transactionList.add(NUS);
+        transactionList.setTransactions(Arrays.asList(GROCERIES_EXPENSE, WORK_AT_LIHO));
+
+        HashMap<String, Double> expected = new HashMap<>();
+        expected.put("groceries", 16.75);
+        assertEquals(expected, expenseSummary.getSumPerCategory());
+    }
+
+    @Test
+    public void addAndRemove_manySmallAmounts_noDrift() {
+        Transaction smallExpense = new TransactionBuilder().withType("expense").withAmount(0.1).build();
+        Transaction otherExpense = new TransactionBuilder().withType("expense").withAmount(0.2).build();
+        for (int i = 0; i < 1000; i++) {
+            transactionList.add(smallExpense);
+        }
+        transactionList.add(otherExpense);
+        for (int i = 0; i < 1000; i++) {
+            transactionList.remove(smallExpense);
+        }
+
+        HashMap<YearMonth, Double> expected = new HashMap<>();
+        expected.put(otherExpense.getDateTime().getYearMonth(), 0.2);
+        assertEquals(expected, expenseSummary.getSumPerYearMonth());
+    }
+}
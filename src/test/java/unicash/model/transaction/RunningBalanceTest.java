@@ -0,0 +1,120 @@
+package unicash.model.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static unicash.testutil.Assert.assertThrows;
+import static unicash.testutil.TypicalTransactions.BUYING_GROCERIES;
+import static unicash.testutil.TypicalTransactions.NUS;
+import static unicash.testutil.TypicalTransactions.WORK_AT_LIHO;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import unicash.testutil.TransactionBuilder;
+
+public class RunningBalanceTest {
+
+    private static final Transaction EXPENSE = new TransactionBuilder(BUYING_GROCERIES)
+            .withType("expense")
+            .withAmount(16.75)
+            .build();
+    private static final Transaction INCOME = new TransactionBuilder(WORK_AT_LIHO)
+            .withType("income")
+            .withAmount(100.5)
+            .build();
+
+    private TransactionList transactionList;
+    private RunningBalance runningBalance;
+
+    @BeforeEach
+    public void setUp() {
+        transactionList = new TransactionList();
+        runningBalance = new RunningBalance(transactionList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new RunningBalance(null));
+    }
+
+    @Test
+    public void constructor_existingTransactions_includesTransactions() {
+        transactionList.add(EXPENSE);
+        transactionList.add(INCOME);
+        RunningBalance balance = new RunningBalance(transactionList.asUnmodifiableObservableList());
+
+        assertEquals(10050 - 1675, balance.getBalanceInCents());
+    }
+
+    @Test
+    public void add_incomeAndExpense_updatesBalance() {
+        transactionList.add(INCOME);
+        assertEquals(10050, runningBalance.getBalanceInCents());
+
+        transactionList.add(EXPENSE);
+        assertEquals(10050 - 1675, runningBalance.getBalanceInCents());
+    }
+
+    @Test
+    public void remove_transaction_updatesBalance() {
+        transactionList.add(INCOME);
+        transactionList.add(EXPENSE);
+        transactionList.remove(INCOME);
+        assertEquals(-1675, runningBalance.getBalanceInCents());
+
+        transactionList.remove(EXPENSE);
+        assertEquals(0, runningBalance.getBalanceInCents());
+    }
+
+    @Test
+    public void setTransaction_expenseReplacedByIncome_updatesBalance() {
+        transactionList.add(EXPENSE);
+        transactionList.setTransaction(EXPENSE, INCOME);
+        assertEquals(10050, runningBalance.getBalanceInCents());
+    }
+
+    @Test
+    public void setTransactions_replacesBalance() {
+        transactionList.add(NUS);
+        transactionList.setTransactions(Arrays.asList(EXPENSE, INCOME));
+        assertEquals(10050 - 1675, runningBalance.getBalanceInCents());
+    }
+
+    @Test
+    public void sort_balanceUnchanged() {
+        ObservableList<Transaction> transactions = FXCollections.observableArrayList(INCOME, EXPENSE, NUS);
+        RunningBalance balance = new RunningBalance(transactions);
+        long expectedBalance = balance.getBalanceInCents();
+
+        FXCollections.sort(transactions, Comparator.comparing(Transaction::getAmountAsDouble));
+        assertEquals(expectedBalance, balance.getBalanceInCents());
+    }
+
+    @Test
+    public void addAndRemove_manySmallAmounts_noDrift() {
+        Transaction smallIncome = new TransactionBuilder().withType("income").withAmount(0.1).build();
+        for (int i = 0; i < 1000; i++) {
+            transactionList.add(smallIncome);
+        }
+        transactionList.add(EXPENSE);
+        for (int i = 0; i < 1000; i++) {
+            transactionList.remove(smallIncome);
+        }
+
+        assertEquals(-1675, runningBalance.getBalanceInCents());
+    }
+
+    @Test
+    public void balanceInCentsProperty_change_notifiesListeners() {
+        long[] observedBalance = {0};
+        runningBalance.balanceInCentsProperty().addListener((observable, oldValue, newValue) ->
+                observedBalance[0] = newValue.longValue());
+
+        transactionList.add(INCOME);
+        assertEquals(10050, observedBalance[0]);
+    }
+}
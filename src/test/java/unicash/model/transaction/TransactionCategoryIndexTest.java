@@ -0,0 +1,101 @@
+package unicash.model.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static unicash.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import unicash.model.category.Category;
+import unicash.testutil.TransactionBuilder;
+
+public class TransactionCategoryIndexTest {
+
+    private static final Category FOOD = new Category("food");
+    private static final Category FAST_FOOD = new Category("fastfood");
+    private static final Category TRAVEL = new Category("travel");
+    private static final long EARLIEST_MINUTE = Long.MIN_VALUE + 1;
+
+    private static final Transaction LUNCH = new TransactionBuilder()
+            .withDateTime("01-01-2023 12:00").withCategories("food").build();
+    private static final Transaction BURGER = new TransactionBuilder()
+            .withDateTime("01-01-2023 09:00").withCategories("food", "fastfood").build();
+    private static final Transaction FLIGHT = new TransactionBuilder()
+            .withDateTime("02-01-2023 12:00").withCategories("travel").build();
+
+    private TransactionCategoryIndex categoryIndex;
+
+    @BeforeEach
+    public void setUp() {
+        categoryIndex = new TransactionCategoryIndex();
+        categoryIndex.add(LUNCH);
+        categoryIndex.add(BURGER);
+        categoryIndex.add(FLIGHT);
+    }
+
+    @Test
+    public void forEachBetween_onlyTransactionsInCategory_chronologicalOrder() {
+        assertEquals(Arrays.asList(BURGER.getId(), LUNCH.getId()), idsBetween(FOOD, EARLIEST_MINUTE, Long.MAX_VALUE));
+        assertEquals(List.of(BURGER.getId()), idsBetween(FAST_FOOD, EARLIEST_MINUTE, Long.MAX_VALUE));
+        assertEquals(List.of(), idsBetween(new Category("books"), EARLIEST_MINUTE, Long.MAX_VALUE));
+    }
+
+    @Test
+    public void forEachBetween_range_startInclusiveEndExclusive() {
+        long lunchMinute = LUNCH.getDateTime().getEpochMinute();
+        assertEquals(List.of(LUNCH.getId()), idsBetween(FOOD, lunchMinute, lunchMinute + 1));
+        assertEquals(List.of(BURGER.getId()), idsBetween(FOOD, EARLIEST_MINUTE, lunchMinute));
+    }
+
+    @Test
+    public void remove_transaction_removedFromEachCategory() {
+        categoryIndex.remove(BURGER);
+        assertEquals(1, categoryIndex.countOf(FOOD));
+        assertEquals(0, categoryIndex.countOf(FAST_FOOD));
+        assertEquals(1, categoryIndex.countOf(TRAVEL));
+    }
+
+    @Test
+    public void rebuild_replacesTransactions() {
+        categoryIndex.rebuild(List.of(FLIGHT, FLIGHT));
+        assertEquals(0, categoryIndex.countOf(FOOD));
+        assertEquals(2, categoryIndex.countOf(TRAVEL));
+    }
+
+    @Test
+    public void getMatcher_categoriesSeen_matchedIgnoringCase() {
+        Predicate<Category> matcher = categoryIndex.getMatcher(" FOOD ");
+        assertTrue(matcher.test(FOOD));
+        assertTrue(matcher.test(FAST_FOOD));
+        assertFalse(matcher.test(TRAVEL));
+    }
+
+    @Test
+    public void getMatcher_categoriesSeenAfterwards_searched() {
+        Predicate<Category> matcher = categoryIndex.getMatcher("food");
+        categoryIndex.add(new TransactionBuilder().withCategories("seafood", "drinks").build());
+
+        assertTrue(matcher.test(new Category("seafood")));
+        assertFalse(matcher.test(new Category("drinks")));
+        assertTrue(matcher.test(new Category("streetfood")));
+    }
+
+    @Test
+    public void getMatcher_blankKeyword_throwsIllegalArgumentExceptionOnTest() {
+        Predicate<Category> matcher = categoryIndex.getMatcher(" ");
+        assertThrows(IllegalArgumentException.class, () -> matcher.test(FOOD));
+    }
+
+    private List<Long> idsBetween(Category category, long startMinute, long endMinute) {
+        List<Long> ids = new ArrayList<>();
+        categoryIndex.forEachBetween(category, startMinute, endMinute, (minute, id) -> ids.add(id));
+        return ids;
+    }
+}
@@ -0,0 +1,158 @@
+package unicash.model.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TransactionFingerprintIndexTest {
+
+    private TransactionFingerprintIndex fingerprintIndex;
+
+    @BeforeEach
+    public void setUp() {
+        fingerprintIndex = new TransactionFingerprintIndex();
+    }
+
+    @Test
+    public void getRepresentative_emptyIndex_notFound() {
+        assertEquals(TransactionFingerprintIndex.NOT_FOUND, fingerprintIndex.getRepresentative(42));
+        assertEquals(0, fingerprintIndex.size());
+    }
+
+    @Test
+    public void add_sameFingerprint_oneEntryCounted() {
+        fingerprintIndex.add(42, 1);
+        fingerprintIndex.add(42, 2);
+        fingerprintIndex.add(42, 2);
+
+        assertEquals(1, fingerprintIndex.size());
+        assertEquals(3, fingerprintIndex.countOf(42));
+        assertEquals(1, fingerprintIndex.getRepresentative(42));
+    }
+
+    @Test
+    public void remove_representativeWithOthersLeft_unknownUntilSet() {
+        fingerprintIndex.add(42, 1);
+        fingerprintIndex.add(42, 2);
+
+        fingerprintIndex.remove(42, 1);
+        assertEquals(TransactionFingerprintIndex.UNKNOWN, fingerprintIndex.getRepresentative(42));
+
+        fingerprintIndex.setRepresentative(42, 2);
+        assertEquals(2, fingerprintIndex.getRepresentative(42));
+    }
+
+    @Test
+    public void remove_representativeWithOthersLeft_nextAddedBecomesRepresentative() {
+        fingerprintIndex.add(42, 1);
+        fingerprintIndex.add(42, 2);
+        fingerprintIndex.remove(42, 1);
+
+        fingerprintIndex.add(42, 3);
+        assertEquals(3, fingerprintIndex.getRepresentative(42));
+    }
+
+    @Test
+    public void remove_lastWithFingerprint_notFound() {
+        fingerprintIndex.add(42, 1);
+        fingerprintIndex.remove(42, 1);
+
+        assertEquals(TransactionFingerprintIndex.NOT_FOUND, fingerprintIndex.getRepresentative(42));
+        assertEquals(0, fingerprintIndex.countOf(42));
+        assertEquals(0, fingerprintIndex.size());
+    }
+
+    @Test
+    public void remove_fingerprintInSameRunOfSlots_laterFingerprintsStillFound() {
+        // Fingerprints that differ only in their high bits start their search at the same slot
+        long first = 7;
+        long second = 7 + (1L << 40);
+        long third = 7 + (2L << 40);
+        fingerprintIndex.add(first, 1);
+        fingerprintIndex.add(second, 2);
+        fingerprintIndex.add(third, 3);
+
+        fingerprintIndex.remove(second, 2);
+        assertEquals(1, fingerprintIndex.getRepresentative(first));
+        assertEquals(TransactionFingerprintIndex.NOT_FOUND, fingerprintIndex.getRepresentative(second));
+        assertEquals(3, fingerprintIndex.getRepresentative(third));
+
+        fingerprintIndex.add(second, 4);
+        assertEquals(4, fingerprintIndex.getRepresentative(second));
+    }
+
+    @Test
+    public void clear_removesAllEntries() {
+        fingerprintIndex.add(42, 1);
+        fingerprintIndex.clear();
+        assertEquals(TransactionFingerprintIndex.NOT_FOUND, fingerprintIndex.getRepresentative(42));
+        assertEquals(0, fingerprintIndex.size());
+    }
+
+    @Test
+    public void setAll_copiesEntries() {
+        TransactionFingerprintIndex other = new TransactionFingerprintIndex();
+        other.add(42, 1);
+        fingerprintIndex.add(43, 2);
+
+        fingerprintIndex.setAll(other);
+        other.remove(42, 1);
+        assertEquals(1, fingerprintIndex.getRepresentative(42));
+        assertEquals(TransactionFingerprintIndex.NOT_FOUND, fingerprintIndex.getRepresentative(43));
+    }
+
+    @Test
+    public void addAndRemove_manyFingerprintsPastFilterSize_sameAsMap() {
+        Random random = new Random(20);
+        Map<Long, Integer> expectedCounts = new HashMap<>();
+        long[] added = new long[TransactionFingerprintIndex.FILTER_MIN_CAPACITY];
+        for (int i = 0; i < added.length; i++) {
+            added[i] = random.nextLong();
+            fingerprintIndex.add(added[i], i);
+            expectedCounts.merge(added[i], 1, Integer::sum);
+        }
+        for (int i = 0; i < added.length; i += 3) {
+            fingerprintIndex.remove(added[i], i);
+            expectedCounts.merge(added[i], -1, Integer::sum);
+        }
+
+        for (int i = 0; i < added.length; i++) {
+            assertEquals((int) expectedCounts.get(added[i]), fingerprintIndex.countOf(added[i]));
+            boolean isFound = fingerprintIndex.getRepresentative(added[i]) != TransactionFingerprintIndex.NOT_FOUND;
+            assertEquals(expectedCounts.get(added[i]) > 0, isFound);
+        }
+
+        int notFound = 0;
+        for (int i = 0; i < 10_000; i++) {
+            long fingerprint = random.nextLong();
+            if (!expectedCounts.containsKey(fingerprint)
+                    && fingerprintIndex.getRepresentative(fingerprint) == TransactionFingerprintIndex.NOT_FOUND) {
+                notFound++;
+            }
+        }
+        assertEquals(10_000, notFound);
+    }
+
+    @Test
+    public void remove_manyFingerprints_tableReused() {
+        for (int round = 0; round < 100; round++) {
+            for (int i = 0; i < 10; i++) {
+                fingerprintIndex.add(round * 10 + i, i);
+            }
+            for (int i = 0; i < 10; i++) {
+                fingerprintIndex.remove(round * 10 + i, i);
+            }
+        }
+        assertEquals(0, fingerprintIndex.size());
+        assertFalse(fingerprintIndex.countOf(5) > 0);
+        fingerprintIndex.add(5, 1);
+        assertTrue(fingerprintIndex.countOf(5) > 0);
+    }
+}
@@ -0,0 +1,121 @@
+package unicash.model.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TransactionIdIndexTest {
+
+    private static final String BLOCK = "block";
+    private static final String OTHER_BLOCK = "other block";
+
+    private TransactionIdIndex<String> idIndex;
+
+    @BeforeEach
+    public void setUp() {
+        idIndex = new TransactionIdIndex<>();
+    }
+
+    @Test
+    public void getBlock_emptyIndex_null() {
+        assertNull(idIndex.getBlock(42));
+        assertEquals(0, idIndex.countOf(42));
+        assertEquals(0, idIndex.size());
+    }
+
+    @Test
+    public void add_newId_located() {
+        idIndex.add(42, BLOCK, 3);
+
+        assertEquals(BLOCK, idIndex.getBlock(42));
+        assertEquals(3, idIndex.getOffset(42));
+        assertEquals(1, idIndex.size());
+    }
+
+    @Test
+    public void setLocation_movedRow_locatedAtNewLocation() {
+        idIndex.add(42, BLOCK, 3);
+        idIndex.setLocation(42, OTHER_BLOCK, 0);
+
+        assertEquals(OTHER_BLOCK, idIndex.getBlock(42));
+        assertEquals(0, idIndex.getOffset(42));
+    }
+
+    @Test
+    public void remove_locatedRowWithOthersLeft_unknownUntilSet() {
+        idIndex.add(42, BLOCK, 3);
+        idIndex.add(42, BLOCK, 5);
+
+        idIndex.remove(42, BLOCK, 5);
+        assertNull(idIndex.getBlock(42));
+        assertEquals(1, idIndex.countOf(42));
+
+        idIndex.setLocation(42, BLOCK, 3);
+        assertEquals(3, idIndex.getOffset(42));
+    }
+
+    @Test
+    public void remove_otherRowWithSameId_stillLocated() {
+        idIndex.add(42, BLOCK, 3);
+        idIndex.add(42, BLOCK, 5);
+
+        idIndex.remove(42, BLOCK, 3);
+        assertEquals(BLOCK, idIndex.getBlock(42));
+        assertEquals(5, idIndex.getOffset(42));
+    }
+
+    @Test
+    public void remove_idInSameRunOfSlots_laterIdsStillFound() {
+        for (long id = 0; id < 12; id++) {
+            idIndex.add(id, BLOCK, (int) id);
+        }
+
+        idIndex.remove(5, BLOCK, 5);
+        assertNull(idIndex.getBlock(5));
+        for (long id = 0; id < 12; id++) {
+            if (id != 5) {
+                assertEquals((int) id, idIndex.getOffset(id));
+            }
+        }
+    }
+
+    @Test
+    public void clear_removesAllEntries() {
+        idIndex.add(42, BLOCK, 3);
+        idIndex.clear();
+        assertNull(idIndex.getBlock(42));
+        assertEquals(0, idIndex.size());
+    }
+
+    @Test
+    public void addAndRemove_manyIds_sameAsMap() {
+        Random random = new Random(5);
+        Map<Long, Integer> expectedOffsets = new HashMap<>();
+        long[] added = new long[100_000];
+        for (int i = 0; i < added.length; i++) {
+            added[i] = i % 2 == 0 ? i : random.nextLong();
+            idIndex.add(added[i], BLOCK, i);
+            expectedOffsets.put(added[i], i);
+        }
+        for (int i = 0; i < added.length; i += 3) {
+            idIndex.remove(added[i], BLOCK, i);
+            expectedOffsets.remove(added[i]);
+        }
+
+        assertEquals(expectedOffsets.size(), idIndex.size());
+        for (long id : added) {
+            Integer expectedOffset = expectedOffsets.get(id);
+            if (expectedOffset == null) {
+                assertNull(idIndex.getBlock(id));
+            } else {
+                assertEquals((int) expectedOffset, idIndex.getOffset(id));
+            }
+        }
+    }
+}
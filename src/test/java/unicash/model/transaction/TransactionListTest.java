@@ -8,31 +8,40 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static unicash.logic.commands.CommandTestUtil.VALID_AMOUNT_INTERN;
 import static unicash.testutil.Assert.assertThrows;
 import static unicash.testutil.TypicalTransactions.BUYING_GROCERIES;
+import static unicash.testutil.TypicalTransactions.DINING_WITH_FRIENDS;
 import static unicash.testutil.TypicalTransactions.INTERN;
 import static unicash.testutil.TypicalTransactions.NUS;
 import static unicash.testutil.TypicalTransactions.SHOPPING;
-import static unicash.testutil.TypicalTransactions.getMaxTransactionList;
+import static unicash.testutil.TypicalTransactions.getTransactionList;
 import static unicash.testutil.TypicalTransactions.getTypicalTransactions;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import unicash.model.category.Category;
 import unicash.model.transaction.exceptions.MaxTransactionException;
 import unicash.model.transaction.exceptions.TransactionNotFoundException;
 import unicash.testutil.TransactionBuilder;
 
 public class TransactionListTest {
 
+    // Limit of the lists that exercise the transaction limit, as filling a list to MAX_TRANSACTIONS is slow
+    private static final int SMALL_MAX_TRANSACTIONS = 1000;
+
     private TransactionList transactionList;
+    private TransactionList smallTransactionList;
 
     @BeforeEach
     public void init() {
         transactionList = new TransactionList();
+        smallTransactionList = new TransactionList(SMALL_MAX_TRANSACTIONS);
     }
 
     @Test
@@ -61,6 +70,52 @@ public class TransactionListTest {
         assertFalse(transactionList.contains(editedNus));
     }
 
+    @Test
+    public void contains_equalTransactionWithDifferentId_returnsTrue() {
+        transactionList.add(NUS);
+        assertTrue(transactionList.contains(new TransactionBuilder(NUS).build()));
+    }
+
+    @Test
+    public void contains_firstOfEqualTransactionsRemoved_returnsTrue() {
+        Transaction otherNus = new TransactionBuilder(NUS).build();
+        transactionList.add(NUS);
+        transactionList.add(otherNus);
+
+        transactionList.remove(NUS);
+        assertTrue(transactionList.contains(NUS));
+        transactionList.remove(otherNus);
+        assertFalse(transactionList.contains(NUS));
+    }
+
+    @Test
+    public void contains_afterEditAndSetTransactions_reflectsCurrentTransactions() {
+        transactionList.add(NUS);
+        Transaction editedNus = new TransactionBuilder(NUS).withAmount(VALID_AMOUNT_INTERN).build();
+        transactionList.setTransaction(NUS, editedNus);
+        assertFalse(transactionList.contains(NUS));
+        assertTrue(transactionList.contains(editedNus));
+
+        TransactionList replacement = new TransactionList();
+        replacement.add(SHOPPING);
+        transactionList.setTransactions(replacement);
+        assertFalse(transactionList.contains(editedNus));
+        assertTrue(transactionList.contains(SHOPPING));
+
+        transactionList.setTransactions(List.of(NUS));
+        assertFalse(transactionList.contains(SHOPPING));
+        assertTrue(transactionList.contains(NUS));
+    }
+
+    @Test
+    public void hasTransactionWithId_afterAddAndRemove_reflectsCurrentTransactions() {
+        assertFalse(transactionList.hasTransactionWithId(NUS.getId()));
+        transactionList.add(NUS);
+        assertTrue(transactionList.hasTransactionWithId(NUS.getId()));
+        transactionList.remove(NUS);
+        assertFalse(transactionList.hasTransactionWithId(NUS.getId()));
+    }
+
     @Test
     public void add_nullTransaction_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> transactionList.add(null));
@@ -74,8 +129,25 @@ public class TransactionListTest {
 
     @Test
     public void add_maxTransactions_throwsMaxTransactionException() {
-        transactionList.setTransactions(getMaxTransactionList());
-        assertThrows(MaxTransactionException.class, () -> transactionList.add(NUS));
+        smallTransactionList.setTransactions(getTransactionList(SMALL_MAX_TRANSACTIONS));
+        assertThrows(MaxTransactionException.class, () -> smallTransactionList.add(NUS));
+    }
+
+    @Test
+    public void addAll_transactions_appendedInOrder() {
+        transactionList.add(NUS);
+        transactionList.addAll(getTypicalTransactions());
+
+        List<Transaction> expected = new ArrayList<>(List.of(NUS));
+        expected.addAll(getTypicalTransactions());
+        assertEquals(expected, transactionList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addAll_beyondMaxTransactions_addsNone() {
+        smallTransactionList.setTransactions(getTransactionList(SMALL_MAX_TRANSACTIONS - 1));
+        assertThrows(MaxTransactionException.class, () -> smallTransactionList.addAll(getTypicalTransactions()));
+        assertEquals(SMALL_MAX_TRANSACTIONS - 1, smallTransactionList.asUnmodifiableObservableList().size());
     }
 
     @Test
@@ -112,6 +184,23 @@ public class TransactionListTest {
         assertEquals(expectedTransactionList, transactionList);
     }
 
+    @Test
+    public void setTransaction_editedTransactionKeepsId_replacesInPlace() {
+        transactionList.add(NUS);
+        transactionList.add(SHOPPING);
+        transactionList.add(INTERN);
+        Transaction editedShopping = new Transaction(SHOPPING.getId(), SHOPPING.getName(), SHOPPING.getType(),
+                BUYING_GROCERIES.getAmount(), SHOPPING.getDateTime(), SHOPPING.getLocation(),
+                SHOPPING.getCategories());
+        transactionList.setTransaction(SHOPPING, editedShopping);
+
+        assertEquals(Arrays.asList(NUS, editedShopping, INTERN), transactionList.asUnmodifiableObservableList());
+
+        // edited transaction can itself be located by its ID
+        transactionList.remove(editedShopping);
+        assertEquals(Arrays.asList(NUS, INTERN), transactionList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void remove_nullTransaction_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> transactionList.remove(null));
@@ -130,16 +219,201 @@ public class TransactionListTest {
         assertEquals(expectedTransactionList, transactionList);
     }
 
+    @Test
+    public void remove_afterEarlierRemoval_removesCorrectTransaction() {
+        transactionList.add(NUS);
+        transactionList.add(SHOPPING);
+        transactionList.add(INTERN);
+        transactionList.add(BUYING_GROCERIES);
+
+        // positions of later transactions shift after the first removal
+        transactionList.remove(NUS);
+        transactionList.remove(BUYING_GROCERIES);
+        transactionList.setTransaction(INTERN, NUS);
+
+        assertEquals(Arrays.asList(SHOPPING, NUS), transactionList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void remove_duplicateTransaction_removesOneCopy() {
+        transactionList.add(NUS);
+        transactionList.add(SHOPPING);
+        transactionList.add(NUS);
+
+        transactionList.remove(NUS);
+        assertTrue(transactionList.contains(NUS));
+        transactionList.remove(NUS);
+        assertFalse(transactionList.contains(NUS));
+        assertThrows(TransactionNotFoundException.class, () -> transactionList.remove(NUS));
+    }
+
+    @Test
+    public void removeAll_nullTransaction_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> transactionList.removeAll(null));
+        assertThrows(NullPointerException.class, () -> transactionList.removeAll(Arrays.asList(NUS, null)));
+    }
+
+    @Test
+    public void removeAll_transactionDoesNotExist_removesNone() {
+        transactionList.add(NUS);
+        transactionList.add(SHOPPING);
+        assertThrows(TransactionNotFoundException.class, () ->
+                transactionList.removeAll(Arrays.asList(SHOPPING, INTERN)));
+        assertEquals(Arrays.asList(NUS, SHOPPING), transactionList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void removeAll_existingTransactions_removesAndUpdatesIndexes() {
+        transactionList.add(NUS);
+        transactionList.add(SHOPPING);
+        transactionList.add(INTERN);
+        transactionList.add(BUYING_GROCERIES);
+
+        transactionList.removeAll(Arrays.asList(BUYING_GROCERIES, NUS));
+        assertEquals(Arrays.asList(SHOPPING, INTERN), transactionList.asUnmodifiableObservableList());
+        assertFalse(transactionList.contains(NUS));
+        assertTrue(transactionList.contains(INTERN));
+        assertTrue(transactionList.getTransactionsBetween(NUS.getDateTime().getDateTime(),
+                NUS.getDateTime().getDateTime().plusMinutes(1)).isEmpty());
+
+        // remaining transactions are located correctly
+        transactionList.remove(INTERN);
+        assertEquals(Arrays.asList(SHOPPING), transactionList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void replaceTransactions_mismatchedTargets_throwsIllegalArgumentException() {
+        transactionList.add(NUS);
+        assertThrows(IllegalArgumentException.class, () ->
+                transactionList.replaceTransactions(Arrays.asList(NUS), Arrays.asList(INTERN, SHOPPING)));
+    }
+
+    @Test
+    public void replaceTransactions_targetDoesNotExist_replacesNone() {
+        transactionList.add(NUS);
+        assertThrows(TransactionNotFoundException.class, () ->
+                transactionList.replaceTransactions(Arrays.asList(NUS, INTERN), Arrays.asList(SHOPPING, SHOPPING)));
+        assertEquals(Arrays.asList(NUS), transactionList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void replaceTransactions_existingTargets_replacesInPlaceAndUpdatesIndexes() {
+        transactionList.add(NUS);
+        transactionList.add(SHOPPING);
+        transactionList.add(INTERN);
+        Transaction editedIntern = new TransactionBuilder(INTERN).withLocation("Office").build();
+        Transaction editedNus = new TransactionBuilder(NUS).withLocation("Office").build();
+
+        // targets are replaced in place whatever order they are given in
+        transactionList.replaceTransactions(Arrays.asList(INTERN, NUS), Arrays.asList(editedIntern, editedNus));
+        assertEquals(Arrays.asList(editedNus, SHOPPING, editedIntern),
+                transactionList.asUnmodifiableObservableList());
+        assertFalse(transactionList.contains(NUS));
+        assertTrue(transactionList.contains(editedNus));
+        assertTrue(transactionList.getLocationMatcher("office").test(editedIntern.getLocation().location));
+    }
+
+    @Test
+    public void getTransactionsBetween_nullBound_throwsNullPointerException() {
+        LocalDateTime now = LocalDateTime.now();
+        assertThrows(NullPointerException.class, () -> transactionList.getTransactionsBetween(null, now));
+        assertThrows(NullPointerException.class, () -> transactionList.getTransactionsBetween(now, null));
+    }
+
+    @Test
+    public void getTransactionsBetween_returnsTransactionsInRangeInChronologicalOrder() {
+        transactionList.add(NUS); // 12-12-2021 12:12
+        transactionList.add(DINING_WITH_FRIENDS); // 18-08-2001 18:18
+        transactionList.add(INTERN); // 08-08-2008 08:08
+        transactionList.add(BUYING_GROCERIES); // 18-08-2001 10:10
+
+        assertEquals(Arrays.asList(BUYING_GROCERIES, DINING_WITH_FRIENDS, INTERN),
+                transactionList.getTransactionsBetween(LocalDateTime.of(2001, 1, 1, 0, 0),
+                        LocalDateTime.of(2021, 12, 12, 12, 12)));
+
+        // empty and reversed ranges
+        assertTrue(transactionList.getTransactionsBetween(LocalDateTime.of(2010, 1, 1, 0, 0),
+                LocalDateTime.of(2020, 1, 1, 0, 0)).isEmpty());
+        assertTrue(transactionList.getTransactionsBetween(LocalDateTime.of(2030, 1, 1, 0, 0),
+                LocalDateTime.of(2000, 1, 1, 0, 0)).isEmpty());
+    }
+
+    @Test
+    public void getTransactionsBetween_boundsWithinMinute_startInclusiveEndExclusive() {
+        transactionList.add(BUYING_GROCERIES); // 18-08-2001 10:10
+        LocalDateTime dateTime = BUYING_GROCERIES.getDateTime().getDateTime();
+
+        assertEquals(List.of(BUYING_GROCERIES),
+                transactionList.getTransactionsBetween(dateTime, dateTime.plusMinutes(1)));
+        assertTrue(transactionList.getTransactionsBetween(dateTime.minusMinutes(1), dateTime).isEmpty());
+        assertTrue(transactionList.getTransactionsBetween(dateTime.plusSeconds(1), dateTime.plusMinutes(1)).isEmpty());
+        assertEquals(List.of(BUYING_GROCERIES),
+                transactionList.getTransactionsBetween(dateTime.minusSeconds(1), dateTime.plusSeconds(1)));
+    }
+
+    @Test
+    public void getTransactionsBetweenInCategory_onlyTransactionsInCategory() {
+        Transaction lunch = new TransactionBuilder(DINING_WITH_FRIENDS)
+                .withCategories("food", "friends").withDateTime("18-08-2001 12:00").build();
+        transactionList.add(DINING_WITH_FRIENDS); // 18-08-2001 18:18, food
+        transactionList.add(BUYING_GROCERIES); // 18-08-2001 10:10, groceries
+        transactionList.add(lunch);
+        transactionList.add(INTERN);
+
+        LocalDateTime start = LocalDateTime.of(2001, 8, 1, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2001, 9, 1, 0, 0);
+        assertEquals(Arrays.asList(lunch, DINING_WITH_FRIENDS),
+                transactionList.getTransactionsBetween(new Category("FOOD"), start, end));
+        assertEquals(List.of(lunch), transactionList.getTransactionsBetween(new Category("friends"), start, end));
+        assertTrue(transactionList.getTransactionsBetween(new Category("travel"), start, end).isEmpty());
+
+        transactionList.setTransaction(lunch, new TransactionBuilder(lunch).withCategories("friends").build());
+        transactionList.remove(DINING_WITH_FRIENDS);
+        assertTrue(transactionList.getTransactionsBetween(new Category("food"), start, end).isEmpty());
+
+        transactionList.setTransactions(Arrays.asList(DINING_WITH_FRIENDS, BUYING_GROCERIES));
+        assertEquals(List.of(DINING_WITH_FRIENDS),
+                transactionList.getTransactionsBetween(new Category("food"), start, end));
+        assertTrue(transactionList.getTransactionsBetween(new Category("friends"), start, end).isEmpty());
+    }
+
+    @Test
+    public void getTransactionsBetween_afterMutations_reflectsCurrentTransactions() {
+        LocalDateTime start = LocalDateTime.of(2001, 8, 1, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2001, 9, 1, 0, 0);
+
+        transactionList.add(BUYING_GROCERIES);
+        transactionList.add(BUYING_GROCERIES);
+        transactionList.add(DINING_WITH_FRIENDS);
+        transactionList.remove(BUYING_GROCERIES);
+        assertEquals(Arrays.asList(BUYING_GROCERIES, DINING_WITH_FRIENDS),
+                transactionList.getTransactionsBetween(start, end));
+
+        transactionList.setTransaction(DINING_WITH_FRIENDS, NUS);
+        assertEquals(List.of(BUYING_GROCERIES), transactionList.getTransactionsBetween(start, end));
+
+        transactionList.setTransactions(Arrays.asList(INTERN, DINING_WITH_FRIENDS));
+        assertEquals(List.of(DINING_WITH_FRIENDS), transactionList.getTransactionsBetween(start, end));
+    }
+
+    @Test
+    public void getTransactionsBetween_modifyList_throwsUnsupportedOperationException() {
+        transactionList.add(NUS);
+        List<Transaction> transactionsBetween = transactionList.getTransactionsBetween(
+                LocalDateTime.of(2021, 1, 1, 0, 0), LocalDateTime.of(2022, 1, 1, 0, 0));
+        assertThrows(UnsupportedOperationException.class, () -> transactionsBetween.remove(0));
+    }
+
     @Test
     public void isFull() {
-        transactionList.setTransactions(getMaxTransactionList());
+        smallTransactionList.setTransactions(getTransactionList(SMALL_MAX_TRANSACTIONS));
 
         // equal to max transactions -> true
-        assertTrue(transactionList.isFull());
+        assertTrue(smallTransactionList.isFull());
 
         // less than max transactions -> false
-        transactionList.setTransactions(getTypicalTransactions());
-        assertFalse(transactionList.isFull());
+        smallTransactionList.setTransactions(getTypicalTransactions());
+        assertFalse(smallTransactionList.isFull());
     }
 
     @Test
@@ -178,15 +452,15 @@ public class TransactionListTest {
 
     @Test
     public void setTransactions_notMoreThanMaxTransactions_success() {
-        List<Transaction> maxTransactions = getMaxTransactionList();
-        assertDoesNotThrow(() -> transactionList.setTransactions(maxTransactions));
+        List<Transaction> maxTransactions = getTransactionList(SMALL_MAX_TRANSACTIONS);
+        assertDoesNotThrow(() -> smallTransactionList.setTransactions(maxTransactions));
     }
 
     @Test
     public void setTransactions_moreThanMaxTransactions_success() {
-        List<Transaction> maxTransactions = getMaxTransactionList();
+        List<Transaction> maxTransactions = getTransactionList(SMALL_MAX_TRANSACTIONS);
         maxTransactions.add(NUS);
-        assertThrows(MaxTransactionException.class, () -> transactionList.setTransactions(maxTransactions));
+        assertThrows(MaxTransactionException.class, () -> smallTransactionList.setTransactions(maxTransactions));
     }
 
 
@@ -242,13 +516,12 @@ public class TransactionListTest {
     @Test
     public void isMoreThanMax() {
 
-        // EP 1 > 100000
-        List<Transaction> transactionsList = getMaxTransactionList();
-        transactionsList.add(NUS);
+        // EP 1 > 10000000, as copies of one transaction so that the list is not built
+        List<Transaction> transactionsList = Collections.nCopies(TransactionList.MAX_TRANSACTIONS + 1, NUS);
         assertTrue(TransactionList.isMoreThanMax(transactionsList));
 
-        // EP 2 <= 100000
-        transactionsList = getMaxTransactionList();
+        // EP 2 <= 10000000
+        transactionsList = Collections.nCopies(TransactionList.MAX_TRANSACTIONS, NUS);
         assertFalse(TransactionList.isMoreThanMax(transactionsList));
         assertFalse(TransactionList.isMoreThanMax(getTypicalTransactions()));
     }
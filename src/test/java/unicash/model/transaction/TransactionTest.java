@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static unicash.testutil.Assert.assertThrows;
 import static unicash.testutil.TypicalTransactions.BUYING_GROCERIES;
 import static unicash.testutil.TypicalTransactions.DINING_WITH_FRIENDS;
@@ -43,6 +44,30 @@ public class TransactionTest {
         ));
     }
 
+    @Test
+    public void constructor_invalidId_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Transaction(-1, BUYING_GROCERIES.getName(),
+                BUYING_GROCERIES.getType(), BUYING_GROCERIES.getAmount(), BUYING_GROCERIES.getDateTime(),
+                BUYING_GROCERIES.getLocation(), BUYING_GROCERIES.getCategories()));
+    }
+
+    @Test
+    public void getId_newTransactions_assignedIncreasingIds() {
+        Transaction first = new TransactionBuilder().build();
+        Transaction second = new TransactionBuilder().build();
+        assertTrue(second.getId() > first.getId());
+    }
+
+    @Test
+    public void getId_transactionWithGivenId_laterIdsAreGreater() {
+        long restoredId = BUYING_GROCERIES.getId() + 1000;
+        Transaction restored = new Transaction(restoredId, BUYING_GROCERIES.getName(), BUYING_GROCERIES.getType(),
+                BUYING_GROCERIES.getAmount(), BUYING_GROCERIES.getDateTime(), BUYING_GROCERIES.getLocation(),
+                BUYING_GROCERIES.getCategories());
+        assertEquals(restoredId, restored.getId());
+        assertTrue(new TransactionBuilder().build().getId() > restoredId);
+    }
+
     @Test
     public void equals() {
         // same values -> returns true
@@ -114,4 +139,32 @@ public class TransactionTest {
         assertEquals(BUYING_GROCERIES.hashCode(), BUYING_GROCERIES.hashCode());
         assertNotEquals(BUYING_GROCERIES.hashCode(), WORK_AT_LIHO.hashCode());
     }
+
+    @Test
+    public void getFingerprint_equalTransactions_sameFingerprint() {
+        Transaction copy = new TransactionBuilder(BUYING_GROCERIES).build();
+        assertEquals(BUYING_GROCERIES.getFingerprint(), copy.getFingerprint());
+
+        Transaction reorderedCategories = new TransactionBuilder(BUYING_GROCERIES)
+                .withCategories("b", "a").build();
+        assertEquals(new TransactionBuilder(BUYING_GROCERIES).withCategories("a", "b").build().getFingerprint(),
+                reorderedCategories.getFingerprint());
+    }
+
+    @Test
+    public void getFingerprint_differentField_differentFingerprint() {
+        long fingerprint = BUYING_GROCERIES.getFingerprint();
+        assertNotEquals(fingerprint, new TransactionBuilder(BUYING_GROCERIES)
+                .withName("Other").build().getFingerprint());
+        assertNotEquals(fingerprint, new TransactionBuilder(BUYING_GROCERIES)
+                .withType("expense").build().getFingerprint());
+        assertNotEquals(fingerprint, new TransactionBuilder(BUYING_GROCERIES)
+                .withAmount(0.01).build().getFingerprint());
+        assertNotEquals(fingerprint, new TransactionBuilder(BUYING_GROCERIES)
+                .withDateTime("18-08-2001 10:11").build().getFingerprint());
+        assertNotEquals(fingerprint, new TransactionBuilder(BUYING_GROCERIES)
+                .withLocation("Other").build().getFingerprint());
+        assertNotEquals(fingerprint, new TransactionBuilder(BUYING_GROCERIES)
+                .withCategories("Other").build().getFingerprint());
+    }
 }
@@ -0,0 +1,133 @@
+package unicash.model.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static unicash.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import unicash.commons.util.StringUtil;
+
+public class TransactionTextIndexTest {
+
+    private TransactionTextIndex textIndex;
+
+    @BeforeEach
+    public void setUp() {
+        textIndex = new TransactionTextIndex();
+        textIndex.add("Dinner at Mcdonalds");
+        textIndex.add("Lunch at Macs");
+        textIndex.add("Work at LiHO");
+    }
+
+    @Test
+    public void getValuesContaining_ignoresCase() {
+        assertEquals(Set.of("Dinner at Mcdonalds"), textIndex.getValuesContaining("MCDONALDS"));
+        assertEquals(Set.of("Work at LiHO"), textIndex.getValuesContaining("liho"));
+    }
+
+    @Test
+    public void getValuesContaining_keywordAcrossWords_found() {
+        assertEquals(Set.of("Dinner at Mcdonalds", "Lunch at Macs", "Work at LiHO"),
+                textIndex.getValuesContaining("at "));
+        assertEquals(Set.of("Lunch at Macs"), textIndex.getValuesContaining("h at m"));
+    }
+
+    @Test
+    public void getValuesContaining_shortKeyword_allValuesSearched() {
+        assertEquals(Set.of("Lunch at Macs", "Dinner at Mcdonalds"), textIndex.getValuesContaining("M"));
+        assertEquals(Set.of("Work at LiHO"), textIndex.getValuesContaining("wo"));
+    }
+
+    @Test
+    public void getValuesContaining_allTrigramsPresentButNotTogether_notFound() {
+        // "din" and "ner" are both in "dinner", but "dinxner" is not
+        assertEquals(Set.of(), textIndex.getValuesContaining("dinxner"));
+        assertEquals(Set.of(), textIndex.getValuesContaining("ner at mac"));
+    }
+
+    @Test
+    public void getValuesContaining_blankKeyword_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> textIndex.getValuesContaining("  "));
+    }
+
+    @Test
+    public void remove_lastOccurrence_valueNoLongerFound() {
+        textIndex.add("Lunch at Macs");
+        textIndex.remove("Lunch at Macs");
+        assertEquals(Set.of("Lunch at Macs"), textIndex.getValuesContaining("macs"));
+
+        textIndex.remove("Lunch at Macs");
+        assertEquals(Set.of(), textIndex.getValuesContaining("macs"));
+        assertEquals(2, textIndex.size());
+    }
+
+    @Test
+    public void remove_valueNotInIndex_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> textIndex.remove("Breakfast"));
+    }
+
+    @Test
+    public void setAll_copiesValues() {
+        TransactionTextIndex copy = new TransactionTextIndex();
+        copy.add("Breakfast");
+        copy.setAll(textIndex);
+        textIndex.remove("Work at LiHO");
+
+        assertEquals(Set.of("Work at LiHO"), copy.getValuesContaining("liho"));
+        assertEquals(Set.of(), copy.getValuesContaining("breakfast"));
+    }
+
+    @Test
+    public void getMatcher_valuesInIndex_matchedByIndex() {
+        Predicate<String> matcher = textIndex.getMatcher("at mac");
+        assertTrue(matcher.test("Lunch at Macs"));
+        assertFalse(matcher.test("Dinner at Mcdonalds"));
+    }
+
+    @Test
+    public void getMatcher_valuesAddedAfterwards_searched() {
+        Predicate<String> matcher = textIndex.getMatcher("liho");
+        textIndex.add("Bubble tea at LIHO");
+        textIndex.remove("Work at LiHO");
+        textIndex.add("Work at LiHO");
+
+        assertTrue(matcher.test("Bubble tea at LIHO"));
+        assertTrue(matcher.test("Work at LiHO"));
+        assertTrue(matcher.test("liho, not in the index"));
+        assertFalse(matcher.test("Lunch at Macs"));
+    }
+
+    @Test
+    public void getMatcher_blankKeyword_throwsIllegalArgumentExceptionOnTest() {
+        Predicate<String> matcher = textIndex.getMatcher(" ");
+        assertThrows(IllegalArgumentException.class, () -> matcher.test("Lunch at Macs"));
+    }
+
+    @Test
+    public void getValuesContaining_randomValues_sameAsSearch() {
+        Random random = new Random(2103);
+        List<String> words = Arrays.asList("Food", "food", "at", "NUS", "Mala", "mal", "Kopi", "o", "Lunch", "ALA");
+        TransactionTextIndex randomIndex = new TransactionTextIndex();
+        Set<String> values = random.ints(200, 0, words.size())
+                .mapToObj(i -> words.get(i) + " " + words.get(random.nextInt(words.size())))
+                .collect(Collectors.toSet());
+        values.forEach(randomIndex::add);
+
+        for (String keyword : Arrays.asList("a", "al", "ala", "ALA M", "food a", "d at", "kopi o", "nus m")) {
+            Set<String> expected = values.stream()
+                    .filter(value -> StringUtil.containsSubstringIgnoreCase(value, keyword))
+                    .collect(Collectors.toSet());
+            assertEquals(expected, randomIndex.getValuesContaining(keyword), keyword);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package unicash.model.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TransactionTimeIndexTest {
+
+    private TransactionTimeIndex timeIndex;
+
+    @BeforeEach
+    public void setUp() {
+        timeIndex = new TransactionTimeIndex();
+    }
+
+    @Test
+    public void forEachBetween_emptyIndex_noEntries() {
+        assertEquals(List.of(), idsBetween(Long.MIN_VALUE + 1, Long.MAX_VALUE));
+    }
+
+    @Test
+    public void forEachBetween_entriesAddedOutOfOrder_inOrderOfMinuteThenId() {
+        timeIndex.add(20, 1);
+        timeIndex.add(10, 5);
+        timeIndex.add(10, 2);
+        timeIndex.add(30, 3);
+
+        assertEquals(Arrays.asList(2L, 5L, 1L, 3L), idsBetween(0, 100));
+    }
+
+    @Test
+    public void forEachBetween_startInclusiveEndExclusive() {
+        timeIndex.add(9, 1);
+        timeIndex.add(10, 2);
+        timeIndex.add(19, 3);
+        timeIndex.add(20, 4);
+
+        assertEquals(Arrays.asList(2L, 3L), idsBetween(10, 20));
+        assertEquals(List.of(), idsBetween(20, 20));
+        assertEquals(List.of(), idsBetween(20, 10));
+    }
+
+    @Test
+    public void remove_existingEntry_removesOneEntry() {
+        timeIndex.add(10, 1);
+        timeIndex.add(10, 1);
+        timeIndex.add(10, 2);
+
+        assertTrue(timeIndex.remove(10, 1));
+        assertEquals(Arrays.asList(1L, 2L), idsBetween(0, 100));
+        assertEquals(2, timeIndex.size());
+    }
+
+    @Test
+    public void remove_missingEntry_returnsFalse() {
+        assertFalse(timeIndex.remove(10, 1));
+
+        timeIndex.add(10, 1);
+        assertFalse(timeIndex.remove(10, 2));
+        assertFalse(timeIndex.remove(11, 1));
+        assertEquals(1, timeIndex.size());
+    }
+
+    @Test
+    public void addAndRemove_beyondBlockCapacity_matchesSortedEntries() {
+        int size = 3 * TransactionTimeIndex.BLOCK_CAPACITY;
+        Random random = new Random(2103);
+        long[] minutes = new long[size];
+        for (int id = 0; id < size; id++) {
+            minutes[id] = random.nextInt(1000);
+            timeIndex.add(minutes[id], id);
+        }
+        for (int id = 0; id < size; id += 2) {
+            assertTrue(timeIndex.remove(minutes[id], id));
+        }
+
+        List<Long> expected = new ArrayList<>();
+        for (long minute = 0; minute < 1000; minute++) {
+            for (int id = 1; id < size; id += 2) {
+                if (minutes[id] == minute) {
+                    expected.add((long) id);
+                }
+            }
+        }
+        assertEquals(expected, idsBetween(0, 1000));
+        assertEquals(expected.subList(0, countBefore(minutes, 500)), idsBetween(0, 500));
+    }
+
+    @Test
+    public void rebuild_unsortedEntries_sortsEntries() {
+        int size = 2 * TransactionTimeIndex.BLOCK_CAPACITY + 3;
+        long[] minutes = new long[size];
+        long[] ids = new long[size];
+        for (int i = 0; i < size; i++) {
+            minutes[i] = (size - i) / 2;
+            ids[i] = i;
+        }
+        timeIndex.add(0, 0);
+
+        timeIndex.rebuild(minutes, ids, size);
+
+        List<Long> actual = idsBetween(0, size);
+        assertEquals(size, timeIndex.size());
+        assertEquals(size, actual.size());
+        for (int i = 1; i < size; i++) {
+            long previousMinute = (size - actual.get(i - 1)) / 2;
+            long minute = (size - actual.get(i)) / 2;
+            // Entries at the same minute are ordered by ID
+            assertTrue(previousMinute < minute || previousMinute == minute && actual.get(i - 1) < actual.get(i));
+        }
+    }
+
+    @Test
+    public void clear_removesAllEntries() {
+        timeIndex.add(10, 1);
+        timeIndex.clear();
+        assertEquals(0, timeIndex.size());
+        assertEquals(List.of(), idsBetween(0, 100));
+    }
+
+    private List<Long> idsBetween(long startMinute, long endMinute) {
+        List<Long> ids = new ArrayList<>();
+        timeIndex.forEachBetween(startMinute, endMinute, (minute, id) -> ids.add(id));
+        return ids;
+    }
+
+    private static int countBefore(long[] minutes, long endMinute) {
+        int count = 0;
+        for (int id = 1; id < minutes.length; id += 2) {
+            if (minutes[id] < endMinute) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
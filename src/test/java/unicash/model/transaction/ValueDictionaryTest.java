@@ -0,0 +1,47 @@
+package unicash.model.transaction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static unicash.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class ValueDictionaryTest {
+
+    @Test
+    public void encode_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ValueDictionary<Name>().encode(null));
+    }
+
+    @Test
+    public void encode_equalValues_sameCode() {
+        ValueDictionary<Name> dictionary = new ValueDictionary<>();
+        Name firstName = new Name("Lunch");
+        assertEquals(0, dictionary.encode(firstName));
+        assertEquals(1, dictionary.encode(new Name("Dinner")));
+        assertEquals(0, dictionary.encode(new Name("Lunch")));
+
+        // the first of the equal values is held
+        assertSame(firstName, dictionary.decode(0));
+    }
+
+    @Test
+    public void codeOf_doesNotAssignCodes() {
+        ValueDictionary<Name> dictionary = new ValueDictionary<>();
+        assertEquals(-1, dictionary.codeOf(new Name("Lunch")));
+        assertEquals(0, dictionary.size());
+
+        dictionary.encode(new Name("Lunch"));
+        assertEquals(0, dictionary.codeOf(new Name("Lunch")));
+        assertEquals(1, dictionary.size());
+    }
+
+    @Test
+    public void clear_assignsCodesFromZeroAgain() {
+        ValueDictionary<Name> dictionary = new ValueDictionary<>();
+        dictionary.encode(new Name("Lunch"));
+        dictionary.clear();
+        assertEquals(0, dictionary.encode(new Name("Dinner")));
+        assertThrows(IndexOutOfBoundsException.class, () -> dictionary.decode(1));
+    }
+}
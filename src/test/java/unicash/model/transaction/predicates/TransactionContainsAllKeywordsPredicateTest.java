@@ -109,6 +109,26 @@ public class TransactionContainsAllKeywordsPredicateTest {
         assertFalse(predicate.test(new TransactionBuilder().withName("test").build()));
     }
 
+    @Test
+    public void withMatchers_allKeywords_testedWithMatchers() {
+        resetPredicate();
+        predicate.addNameKeyword("food");
+        predicate.addLocationKeyword("nus");
+        predicate.addCategoryKeyword("dining");
+        TransactionContainsAllKeywordsPredicate matcherPredicate = predicate.withMatchers(
+                keyword -> name -> name.equals("Matched name"),
+                keyword -> location -> location.equals("Matched location"),
+                keyword -> category -> category.category.equals("matched"));
+
+        assertEquals(predicate, matcherPredicate);
+        assertTrue(matcherPredicate.test(new TransactionBuilder().withName("Matched name")
+                .withLocation("Matched location").withCategories("dining", "matched").build()));
+        assertFalse(matcherPredicate.test(new TransactionBuilder().withName("Food")
+                .withLocation("Matched location").withCategories("matched").build()));
+        assertFalse(matcherPredicate.test(new TransactionBuilder().withName("Matched name")
+                .withLocation("Matched location").withCategories("dining").build()));
+    }
+
     @Test
     public void toStringMethod() {
         List<String> keywords = List.of("keyword1", "keyword2");
@@ -0,0 +1,189 @@
+package unicash.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static unicash.testutil.Assert.assertThrows;
+import static unicash.testutil.TypicalBudgets.MONTHLY;
+import static unicash.testutil.TypicalTransactions.BUYING_GROCERIES;
+import static unicash.testutil.TypicalTransactions.INTERN;
+import static unicash.testutil.TypicalTransactions.getTypicalUniCash;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.OptionalLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import unicash.commons.exceptions.DataLoadingException;
+import unicash.model.UniCash;
+import unicash.testutil.TransactionBuilder;
+
+public class BinaryUniCashStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private BinaryUniCashStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("unicash.ledger");
+        storage = new BinaryUniCashStorage(filePath);
+    }
+
+    @Test
+    public void isLedgerFile() {
+        assertTrue(BinaryUniCashStorage.isLedgerFile(Path.of("data", "unicash.ledger")));
+        assertFalse(BinaryUniCashStorage.isLedgerFile(Path.of("data", "unicash.json")));
+        assertFalse(BinaryUniCashStorage.isLedgerFile(Path.of("data.ledger", "unicash.json")));
+    }
+
+    @Test
+    public void readUniCash_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readUniCash().isPresent());
+    }
+
+    @Test
+    public void readAndSaveUniCash_allInOrder_success() throws Exception {
+        UniCash original = getTypicalUniCash();
+        storage.saveUniCash(original);
+        assertEquals(original, new UniCash(storage.readUniCash().get()));
+
+        original.removeTransaction(INTERN);
+        original.setBudget(MONTHLY);
+        storage.saveUniCash(original);
+        assertEquals(original, new UniCash(storage.readUniCash().get()));
+
+        UniCash empty = new UniCash();
+        storage.saveUniCash(empty);
+        assertEquals(empty, new UniCash(storage.readUniCash().get()));
+    }
+
+    @Test
+    public void readAndSaveUniCash_manyBlocks_success() throws Exception {
+        UniCash original = new UniCash();
+        for (int i = 0; i < BinaryLedger.BLOCK_SIZE * 2 + 1; i++) {
+            original.addTransaction(new TransactionBuilder(i % 2 == 0 ? BUYING_GROCERIES : INTERN)
+                    .withName("Transaction " + i % 100).withAmount(i / 100.0).build());
+        }
+        storage.saveUniCash(original);
+
+        assertEquals(original, new UniCash(storage.readUniCash().get()));
+    }
+
+    @Test
+    public void saveUniCash_smallerThanJson() throws Exception {
+        UniCash uniCash = getTypicalUniCash();
+        Path jsonFilePath = testFolder.resolve("unicash.json");
+        storage.saveUniCash(uniCash);
+        new JsonUniCashStorage(jsonFilePath).saveUniCash(uniCash);
+
+        assertTrue(Files.size(filePath) < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void readUniCash_notLedger_throwsDataLoadingException() throws Exception {
+        new JsonUniCashStorage(filePath).saveUniCash(getTypicalUniCash());
+        assertThrows(DataLoadingException.class, () -> storage.readUniCash());
+
+        Files.write(filePath, new byte[] {'U'});
+        assertThrows(DataLoadingException.class, () -> storage.readUniCash());
+    }
+
+    @Test
+    public void readUniCash_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        storage.saveUniCash(getTypicalUniCash());
+        byte[] bytes = Files.readAllBytes(filePath);
+        ByteBuffer.wrap(bytes).putInt(BinaryLedger.MAGIC.length, BinaryLedger.VERSION + 1);
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, () -> storage.readUniCash());
+    }
+
+    @Test
+    public void saveSnapshot_checkpointId_readBack() throws Exception {
+        UniCash uniCash = getTypicalUniCash();
+        assertEquals(OptionalLong.empty(), storage.readCheckpointId(filePath));
+
+        storage.saveSnapshot(uniCash, filePath, 42);
+        assertEquals(OptionalLong.of(42), storage.readCheckpointId(filePath));
+        assertEquals(uniCash, new UniCash(storage.readUniCash().get()));
+
+        storage.saveUniCash(uniCash);
+        assertEquals(OptionalLong.empty(), storage.readCheckpointId(filePath));
+    }
+
+    @Test
+    public void readUniCash_versionWithoutCheckpointId_success() throws Exception {
+        UniCash uniCash = getTypicalUniCash();
+        storage.saveUniCash(uniCash);
+
+        // A version 1 header ends with the number of transactions, without the flag for a checkpoint ID
+        byte[] bytes = Files.readAllBytes(filePath);
+        int flagPosition = BinaryLedger.MAGIC.length + Integer.BYTES + Long.BYTES;
+        ByteBuffer versionOneBytes = ByteBuffer.allocate(bytes.length - 1)
+                .put(bytes, 0, flagPosition)
+                .put(bytes, flagPosition + 1, bytes.length - flagPosition - 1);
+        versionOneBytes.putInt(BinaryLedger.MAGIC.length, BinaryLedger.VERSION_WITHOUT_CHECKPOINT_ID);
+        Files.write(filePath, versionOneBytes.array());
+
+        assertEquals(uniCash, new UniCash(storage.readUniCash().get()));
+        assertEquals(OptionalLong.empty(), storage.readCheckpointId(filePath));
+    }
+
+    @Test
+    public void readUniCash_corruptedBlock_throwsDataLoadingException() throws Exception {
+        storage.saveUniCash(getTypicalUniCash());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length - 10] ^= 1;
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, () -> storage.readUniCash());
+    }
+
+    @Test
+    public void readUniCash_truncatedOrExtended_throwsDataLoadingException() throws Exception {
+        storage.saveUniCash(getTypicalUniCash());
+        byte[] bytes = Files.readAllBytes(filePath);
+
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(DataLoadingException.class, () -> storage.readUniCash());
+
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length + 1));
+        assertThrows(DataLoadingException.class, () -> storage.readUniCash());
+    }
+
+    @Test
+    public void readUniCash_duplicateIds_throwsDataLoadingException() throws Exception {
+        UniCash uniCash = new UniCash();
+        uniCash.addTransaction(INTERN);
+        uniCash.addTransaction(BUYING_GROCERIES);
+        uniCash.addTransaction(INTERN);
+        storage.saveUniCash(uniCash);
+
+        assertThrows(DataLoadingException.class, () -> storage.readUniCash());
+    }
+
+    @Test
+    public void journaledUniCashStorage_ledgerSnapshots_success() throws Exception {
+        JournaledUniCashStorage journaledStorage = new JournaledUniCashStorage(storage);
+        UniCash uniCash = getTypicalUniCash();
+        journaledStorage.saveUniCash(uniCash);
+        uniCash.removeTransaction(INTERN);
+        journaledStorage.saveUniCash(uniCash);
+
+        assertEquals(uniCash, new UniCash(journaledStorage.readUniCash().get()));
+    }
+
+    @Test
+    public void saveUniCash_nullUniCash_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> storage.saveUniCash(null));
+    }
+
+}
@@ -0,0 +1,297 @@
+package unicash.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static unicash.testutil.Assert.assertThrows;
+import static unicash.testutil.TypicalBudgets.MONTHLY;
+import static unicash.testutil.TypicalTransactions.BUYING_GROCERIES;
+import static unicash.testutil.TypicalTransactions.INTERN;
+import static unicash.testutil.TypicalTransactions.NUS;
+import static unicash.testutil.TypicalTransactions.SHOPPING;
+import static unicash.testutil.TypicalTransactions.getTypicalUniCash;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import unicash.commons.exceptions.DataLoadingException;
+import unicash.commons.util.JsonUtil;
+import unicash.model.ReadOnlyUniCash;
+import unicash.model.UniCash;
+import unicash.model.transaction.Transaction;
+import unicash.testutil.TransactionBuilder;
+
+public class JournaledUniCashStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalFilePath;
+    private JournaledUniCashStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("unicash.json");
+        journalFilePath = JournaledUniCashStorage.getJournalFilePath(filePath);
+        storage = new JournaledUniCashStorage(filePath);
+    }
+
+    @Test
+    public void getJournalFilePath_nextToSnapshot() {
+        assertEquals(testFolder.resolve("unicash.json.journal"), journalFilePath);
+    }
+
+    @Test
+    public void readUniCash_missingFiles_emptyResult() throws Exception {
+        assertFalse(storage.readUniCash().isPresent());
+    }
+
+    @Test
+    public void saveUniCash_firstSave_writesSnapshotOnly() throws Exception {
+        UniCash uniCash = getTypicalUniCash();
+        storage.saveUniCash(uniCash);
+
+        assertTrue(Files.exists(filePath));
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(uniCash, new UniCash(storage.readUniCash().get()));
+    }
+
+    @Test
+    public void saveUniCash_noChangesSinceCheckpoint_writesNothing() throws Exception {
+        UniCash uniCash = getTypicalUniCash();
+        storage.saveUniCash(uniCash);
+        long snapshotModifiedTime = Files.getLastModifiedTime(filePath).toMillis();
+
+        storage.saveUniCash(uniCash);
+
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(snapshotModifiedTime, Files.getLastModifiedTime(filePath).toMillis());
+    }
+
+    @Test
+    public void saveUniCash_changesSinceCheckpoint_appendsEntriesToJournal() throws Exception {
+        UniCash uniCash = getTypicalUniCash();
+        storage.saveUniCash(uniCash);
+        ReadOnlyUniCash snapshot = readSnapshot();
+
+        uniCash.addTransaction(SHOPPING);
+        storage.saveUniCash(uniCash);
+        Transaction editedIntern = new TransactionBuilder(INTERN).withAmount(1).build();
+        uniCash.setTransaction(INTERN, editedIntern);
+        uniCash.removeTransaction(NUS);
+        uniCash.setBudget(MONTHLY);
+        storage.saveUniCash(uniCash);
+
+        // The snapshot is left as it was, and each change takes a line of the journal
+        assertEquals(new UniCash(snapshot), new UniCash(readSnapshot()));
+        assertEquals(4, readJournalEntries().size());
+        assertEquals(uniCash, new UniCash(storage.readUniCash().get()));
+    }
+
+    @Test
+    public void saveUniCash_bulkChanges_appendsEntryPerTransaction() throws Exception {
+        UniCash uniCash = getTypicalUniCash();
+        storage.saveUniCash(uniCash);
+        List<Transaction> transactions = List.copyOf(uniCash.getTransactionList());
+
+        uniCash.removeTransactions(List.of(transactions.get(0), transactions.get(2)));
+        Transaction target = transactions.get(1);
+        Transaction otherTarget = transactions.get(3);
+        uniCash.replaceTransactions(List.of(target, otherTarget), List.of(
+                new TransactionBuilder(target).withLocation("Clementi").build(),
+                new TransactionBuilder(otherTarget).withLocation("Clementi").build()));
+        storage.saveUniCash(uniCash);
+
+        assertEquals(4, readJournalEntries().size());
+        assertEquals(uniCash, new UniCash(storage.readUniCash().get()));
+    }
+
+    @Test
+    public void saveUniCash_clearedTransactions_appendsSingleEntry() throws Exception {
+        UniCash uniCash = getTypicalUniCash();
+        storage.saveUniCash(uniCash);
+
+        uniCash.resetData(new UniCash());
+        uniCash.addTransaction(SHOPPING);
+        storage.saveUniCash(uniCash);
+
+        assertEquals(2, readJournalEntries().size());
+        assertEquals(uniCash, new UniCash(storage.readUniCash().get()));
+    }
+
+    @Test
+    public void saveUniCash_beyondCheckpointInterval_writesCheckpoint() throws Exception {
+        UniCash uniCash = new UniCash();
+        storage.saveUniCash(uniCash);
+
+        for (int i = 0; i <= JournaledUniCashStorage.CHECKPOINT_INTERVAL; i++) {
+            uniCash.addTransaction(new TransactionBuilder(BUYING_GROCERIES).build());
+        }
+        storage.saveUniCash(uniCash);
+
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(uniCash, new UniCash(readSnapshot()));
+    }
+
+    @Test
+    public void saveUniCash_differentUniCash_writesCheckpoint() throws Exception {
+        storage.saveUniCash(getTypicalUniCash());
+        storage.saveUniCash(new UniCash());
+
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(new UniCash(), new UniCash(readSnapshot()));
+    }
+
+    @Test
+    public void saveUniCash_otherFilePath_writesSnapshotThere() throws Exception {
+        Path otherFilePath = testFolder.resolve("other.json");
+        UniCash uniCash = getTypicalUniCash();
+        storage.saveUniCash(uniCash, otherFilePath);
+
+        assertFalse(Files.exists(filePath));
+        assertEquals(uniCash, new UniCash(storage.readUniCash(otherFilePath).get()));
+    }
+
+    @Test
+    public void checkpointUniCash_emptiesJournal() throws Exception {
+        UniCash uniCash = getTypicalUniCash();
+        storage.saveUniCash(uniCash);
+        uniCash.addTransaction(SHOPPING);
+        storage.saveUniCash(uniCash);
+        assertTrue(Files.exists(journalFilePath));
+
+        storage.checkpointUniCash(uniCash);
+
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(uniCash, new UniCash(readSnapshot()));
+    }
+
+    @Test
+    public void readUniCash_journalAlreadyInSnapshot_sameResult() throws Exception {
+        UniCash uniCash = getTypicalUniCash();
+        storage.saveUniCash(uniCash);
+        uniCash.addTransaction(SHOPPING);
+        uniCash.setTransaction(INTERN, new TransactionBuilder(INTERN).withAmount(1).build());
+        uniCash.removeTransaction(NUS);
+        storage.saveUniCash(uniCash);
+        List<String> journal = Files.readAllLines(journalFilePath);
+
+        // A checkpoint interrupted after writing the snapshot leaves the journal behind
+        storage.checkpointUniCash(uniCash);
+        Files.write(journalFilePath, journal);
+
+        assertEquals(uniCash, new UniCash(storage.readUniCash().get()));
+    }
+
+    @Test
+    public void readUniCash_journalOfEarlierCheckpoint_ignoresJournal() throws Exception {
+        UniCash uniCash = getTypicalUniCash();
+        storage.saveUniCash(uniCash);
+        uniCash.resetData(new UniCash());
+        storage.saveUniCash(uniCash);
+        List<String> journal = Files.readAllLines(journalFilePath);
+
+        // Replaying the clear entry on top of the newer snapshot would remove the transaction added since
+        uniCash.addTransaction(SHOPPING);
+        storage.checkpointUniCash(uniCash);
+        Files.write(journalFilePath, journal);
+
+        assertEquals(uniCash, new UniCash(storage.readUniCash().get()));
+    }
+
+    @Test
+    public void readUniCash_journalWithoutCheckpointId_replaysJournal() throws Exception {
+        UniCash uniCash = getTypicalUniCash();
+        storage.saveUniCash(uniCash);
+        uniCash.addTransaction(SHOPPING);
+        storage.saveUniCash(uniCash);
+        Files.write(journalFilePath, readJournalEntries());
+
+        assertEquals(uniCash, new UniCash(storage.readUniCash().get()));
+    }
+
+    @Test
+    public void readUniCash_journalWithoutSnapshot_replaysJournal() throws Exception {
+        UniCash uniCash = new UniCash();
+        storage.saveUniCash(uniCash);
+        uniCash.addTransaction(SHOPPING);
+        storage.saveUniCash(uniCash);
+        Files.delete(filePath);
+
+        assertEquals(uniCash, new UniCash(storage.readUniCash().get()));
+    }
+
+    @Test
+    public void readUniCash_incompleteLastEntry_ignoresEntry() throws Exception {
+        UniCash uniCash = getTypicalUniCash();
+        storage.saveUniCash(uniCash);
+        uniCash.addTransaction(SHOPPING);
+        storage.saveUniCash(uniCash);
+        Files.write(journalFilePath, "{\"operation\":\"remo".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        assertEquals(uniCash, new UniCash(storage.readUniCash().get()));
+    }
+
+    @Test
+    public void readUniCash_incompleteEntryBeforeOthers_throwsDataLoadingException() throws Exception {
+        UniCash uniCash = getTypicalUniCash();
+        storage.saveUniCash(uniCash);
+        Files.write(journalFilePath, List.of("{\"operation\":\"remo", "{\"operation\":\"clear\"}"));
+
+        assertThrows(DataLoadingException.class, () -> storage.readUniCash());
+    }
+
+    @Test
+    public void readUniCash_invalidEntry_throwsDataLoadingException() throws Exception {
+        storage.saveUniCash(getTypicalUniCash());
+        Files.write(journalFilePath, List.of("{\"operation\":\"rename\"}"));
+
+        assertThrows(DataLoadingException.class, () -> storage.readUniCash());
+    }
+
+    @Test
+    public void prepareSaveUniCash_taskRun_writesChangesAsOfPreparation() throws Exception {
+        UniCash uniCash = getTypicalUniCash();
+        UniCashStorage.SaveTask checkpoint = storage.prepareSaveUniCash(uniCash);
+        uniCash.addTransaction(SHOPPING);
+        UniCash expected = new UniCash(uniCash);
+        UniCashStorage.SaveTask append = storage.prepareSaveUniCash(uniCash);
+        uniCash.removeTransaction(NUS);
+
+        // The later task also writes what was captured for the earlier one
+        append.run();
+        checkpoint.run();
+
+        assertEquals(1, readJournalEntries().size());
+        assertEquals(expected, new UniCash(storage.readUniCash().get()));
+    }
+
+    @Test
+    public void saveUniCash_nullUniCash_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> storage.saveUniCash(null));
+        assertThrows(NullPointerException.class, () -> storage.checkpointUniCash(null));
+    }
+
+    /**
+     * Returns the entries of the journal after the first, which holds the ID of its checkpoint.
+     */
+    private List<String> readJournalEntries() throws Exception {
+        List<String> lines = Files.readAllLines(journalFilePath);
+        JsonAdaptedJournalEntry firstEntry = JsonUtil.fromJsonString(lines.get(0), JsonAdaptedJournalEntry.class);
+        assertEquals(new JsonUniCashStorage(filePath).readCheckpointId(filePath), firstEntry.getCheckpointId());
+        return lines.subList(1, lines.size());
+    }
+
+    private ReadOnlyUniCash readSnapshot() throws DataLoadingException {
+        return new JsonUniCashStorage(filePath).readUniCash().get();
+    }
+}
@@ -35,7 +35,7 @@ public class JsonAdaptedTransactionTest {
     private static final String VALID_LOCATION = SHOPPING.getLocation().location;
     private static final String VALID_TYPE = SHOPPING.getType().toString();
     private static final List<JsonAdaptedCategory> VALID_CATEGORIES = SHOPPING.getCategories()
-            .asUnmodifiableObservableList()
+            .asUnmodifiableList()
             .stream()
             .map(JsonAdaptedCategory::new)
             .collect(Collectors.toList());
@@ -46,6 +46,27 @@ public class JsonAdaptedTransactionTest {
         assertEquals(SHOPPING, transaction.toModelType());
     }
 
+    @Test
+    public void toModelType_validId_preservesId() throws Exception {
+        var transaction = new JsonAdaptedTransaction(SHOPPING);
+        assertEquals(SHOPPING.getId(), transaction.toModelType().getId());
+    }
+
+    @Test
+    public void toModelType_invalidId_throwsIllegalValueException() {
+        var transaction = new JsonAdaptedTransaction(
+                -1L,
+                VALID_NAME,
+                VALID_AMOUNT,
+                VALID_DATETIME,
+                VALID_LOCATION,
+                VALID_TYPE,
+                VALID_CATEGORIES
+        );
+        String expectedMessage = Transaction.MESSAGE_ID_CONSTRAINTS;
+        assertThrows(IllegalValueException.class, expectedMessage, transaction::toModelType);
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         var transaction = new JsonAdaptedTransaction(
@@ -23,6 +23,7 @@ public class JsonSerializableUniCashTest {
 
     private static final Path TYPICAL_TRANSACTIONS_FILE = TEST_DATA_FOLDER.resolve("typicalTransactionUniCash.json");
     private static final Path INVALID_TRANSACTION_FILE = TEST_DATA_FOLDER.resolve("invalidTransactionUniCash.json");
+    private static final Path DUPLICATE_ID_FILE = TEST_DATA_FOLDER.resolve("duplicateIdUniCash.json");
     private static final Path TRANSACTIONS_WITH_BUDGET_FILE = TEST_DATA_FOLDER.resolve(
             "transactionsWithBudgetUniCash.json"
     );
@@ -60,4 +61,14 @@ public class JsonSerializableUniCashTest {
         assertThrows(IllegalValueException.class, dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_duplicateIds_throwsIllegalValueException() throws Exception {
+        JsonSerializableUniCash dataFromFile = JsonUtil.readJsonFile(
+                DUPLICATE_ID_FILE,
+                JsonSerializableUniCash.class
+        ).get();
+        assertThrows(IllegalValueException.class, JsonSerializableUniCash.MESSAGE_DUPLICATE_ID,
+                dataFromFile::toModelType);
+    }
+
 }
@@ -10,6 +10,7 @@ import static unicash.testutil.TypicalTransactions.getTypicalUniCash;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.OptionalLong;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -84,6 +85,22 @@ public class JsonUniCashStorageTest {
 
     }
 
+    @Test
+    public void saveSnapshot_checkpointId_readBack() throws Exception {
+        Path filePath = testFolder.resolve("TempUniCash.json");
+        UniCash original = getTypicalUniCash();
+        JsonUniCashStorage jsonUniCashStorage = new JsonUniCashStorage(filePath);
+        assertEquals(OptionalLong.empty(), jsonUniCashStorage.readCheckpointId(filePath));
+
+        jsonUniCashStorage.saveSnapshot(original, filePath, -42);
+        assertEquals(OptionalLong.of(-42), jsonUniCashStorage.readCheckpointId(filePath));
+        assertEquals(original, new UniCash(jsonUniCashStorage.readUniCash(filePath).get()));
+
+        // A plain save records no checkpoint ID
+        jsonUniCashStorage.saveUniCash(original, filePath);
+        assertEquals(OptionalLong.empty(), jsonUniCashStorage.readCheckpointId(filePath));
+    }
+
     @Test
     public void saveUniCash_nullUniCash_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveUniCash(null, "SomeFile.json"));
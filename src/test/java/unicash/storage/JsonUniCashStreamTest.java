@@ -0,0 +1,96 @@
+package unicash.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static unicash.testutil.Assert.assertThrows;
+import static unicash.testutil.TypicalBudgets.MONTHLY;
+import static unicash.testutil.TypicalTransactions.getTypicalUniCash;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import unicash.commons.exceptions.IllegalValueException;
+import unicash.commons.util.FileUtil;
+import unicash.commons.util.JsonUtil;
+import unicash.model.UniCash;
+
+public class JsonUniCashStreamTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableUniCashTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_typicalTransactionsFile_sameAsJsonSerializableUniCash() throws Exception {
+        assertSameAsJsonSerializableUniCash(TEST_DATA_FOLDER.resolve("typicalTransactionUniCash.json"));
+        assertSameAsJsonSerializableUniCash(TEST_DATA_FOLDER.resolve("transactionsWithBudgetUniCash.json"));
+    }
+
+    @Test
+    public void read_duplicateIds_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableUniCash.MESSAGE_DUPLICATE_ID, () ->
+                JsonUniCashStream.read(TEST_DATA_FOLDER.resolve("duplicateIdUniCash.json")));
+    }
+
+    @Test
+    public void read_duplicateIdsOutOfOrder_throwsIllegalValueException() throws Exception {
+        Path filePath = testFolder.resolve("unicash.json");
+        FileUtil.writeToFile(filePath, "{\"transactions\": ["
+                + transactionWithId(3) + ", " + transactionWithId(1) + ", " + transactionWithId(3) + "]}");
+
+        assertThrows(IllegalValueException.class, JsonSerializableUniCash.MESSAGE_DUPLICATE_ID, () ->
+                JsonUniCashStream.read(filePath));
+    }
+
+    @Test
+    public void read_notJsonObject_throwsJsonProcessingException() throws Exception {
+        Path filePath = testFolder.resolve("unicash.json");
+        FileUtil.writeToFile(filePath, "[]");
+        assertThrows(JsonProcessingException.class, () -> JsonUniCashStream.read(filePath));
+
+        FileUtil.writeToFile(filePath, "{\"transactions\": [" + transactionWithId(1));
+        assertThrows(JsonProcessingException.class, () -> JsonUniCashStream.read(filePath));
+    }
+
+    @Test
+    public void write_sameAsJsonSerializableUniCash() throws Exception {
+        UniCash uniCash = getTypicalUniCash();
+        assertWrittenSameAsJsonSerializableUniCash(uniCash);
+
+        uniCash.setBudget(MONTHLY);
+        assertWrittenSameAsJsonSerializableUniCash(uniCash);
+    }
+
+    @Test
+    public void write_thenRead_sameUniCash() throws Exception {
+        UniCash uniCash = getTypicalUniCash();
+        uniCash.setBudget(MONTHLY);
+        Path filePath = testFolder.resolve("unicash.json");
+
+        JsonUniCashStream.write(uniCash, filePath);
+
+        assertEquals(uniCash, JsonUniCashStream.read(filePath));
+    }
+
+    private static String transactionWithId(long id) {
+        return "{\"id\": " + id + ", \"name\": \"Lunch\", \"amount\": 5.0, \"dateTime\": \"15-09-2023 00:00\", "
+                + "\"location\": \"-\", \"type\": \"expense\"}";
+    }
+
+    private void assertSameAsJsonSerializableUniCash(Path filePath) throws Exception {
+        UniCash expected = JsonUtil.readJsonFile(filePath, JsonSerializableUniCash.class).get().toModelType();
+        assertEquals(expected, JsonUniCashStream.read(filePath));
+    }
+
+    private void assertWrittenSameAsJsonSerializableUniCash(UniCash uniCash) throws Exception {
+        Path filePath = testFolder.resolve("unicash.json");
+        JsonUniCashStream.write(uniCash, filePath);
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableUniCash(uniCash)), FileUtil.readFromFile(filePath));
+    }
+
+}
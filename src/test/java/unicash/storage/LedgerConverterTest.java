@@ -0,0 +1,47 @@
+package unicash.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static unicash.testutil.Assert.assertThrows;
+import static unicash.testutil.TypicalBudgets.MONTHLY;
+import static unicash.testutil.TypicalTransactions.getTypicalUniCash;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import unicash.commons.exceptions.DataLoadingException;
+import unicash.model.UniCash;
+
+public class LedgerConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void convert_jsonFile_ledgerWithSameData() throws Exception {
+        Path jsonFilePath = testFolder.resolve("unicash.json");
+        Path ledgerFilePath = testFolder.resolve("unicash.ledger");
+        UniCash uniCash = getTypicalUniCash();
+        uniCash.setBudget(MONTHLY);
+        new JsonUniCashStorage(jsonFilePath).saveUniCash(uniCash);
+
+        LedgerConverter.convert(jsonFilePath, ledgerFilePath);
+
+        assertEquals(uniCash, new UniCash(new BinaryUniCashStorage(ledgerFilePath).readUniCash().get()));
+    }
+
+    @Test
+    public void convert_missingJsonFile_throwsDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> LedgerConverter.convert(
+                testFolder.resolve("missing.json"), testFolder.resolve("unicash.ledger")));
+    }
+
+    @Test
+    public void getDefaultLedgerFilePath() {
+        assertEquals(Path.of("data", "unicash.ledger"),
+                LedgerConverter.getDefaultLedgerFilePath(Path.of("data", "unicash.json")));
+        assertEquals(Path.of("unicash.ledger"), LedgerConverter.getDefaultLedgerFilePath(Path.of("unicash")));
+    }
+
+}
@@ -0,0 +1,81 @@
+package unicash.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static unicash.testutil.Assert.assertThrows;
+import static unicash.testutil.TypicalTransactions.getTypicalTransactions;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import unicash.commons.util.JsonUtil;
+import unicash.model.transaction.Transaction;
+import unicash.testutil.TransactionBuilder;
+
+public class TransactionExporterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void export_nullArguments_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("export.csv");
+        assertThrows(NullPointerException.class, () -> TransactionExporter.exportCsv(null, filePath));
+        assertThrows(NullPointerException.class, () ->
+                TransactionExporter.exportCsv(Collections.emptyList(), null));
+        assertThrows(NullPointerException.class, () -> TransactionExporter.exportNdjson(null, filePath));
+        assertThrows(NullPointerException.class, () ->
+                TransactionExporter.exportNdjson(Collections.emptyList(), null));
+    }
+
+    @Test
+    public void exportCsv_noTransactions_headerOnly() throws Exception {
+        Path filePath = testFolder.resolve("export.csv");
+        assertEquals(0, TransactionExporter.exportCsv(Collections.emptyList(), filePath));
+        assertEquals(Collections.singletonList(TransactionExporter.CSV_HEADER), readLines(filePath));
+    }
+
+    @Test
+    public void exportCsv_transactions_oneRowEach() throws Exception {
+        Transaction rent = new TransactionBuilder().withName("Rent, October").withType("expense")
+                .withAmount(1200.5).withDateTime("01-10-2023 09:05").withLocation("Clementi")
+                .withCategories("Housing", "Monthly").build();
+        Transaction salary = new TransactionBuilder().withName("Salary").withType("income")
+                .withAmount(3000).withDateTime("31-10-2023 18:00").withLocation("")
+                .withCategories().build();
+        Path filePath = testFolder.resolve("nested").resolve("export.csv");
+
+        assertEquals(2, TransactionExporter.exportCsv(Arrays.asList(rent, salary), filePath));
+        assertEquals(Arrays.asList(TransactionExporter.CSV_HEADER,
+                "\"Rent, October\",expense,1200.50,2023-10-01 09:05,Clementi,housing monthly",
+                "Salary,income,3000.00,2023-10-31 18:00,-,"), readLines(filePath));
+    }
+
+    @Test
+    public void exportNdjson_transactions_oneSavedTransactionPerLine() throws Exception {
+        List<Transaction> transactions = getTypicalTransactions();
+        Path filePath = testFolder.resolve("export.ndjson");
+
+        assertEquals(transactions.size(), TransactionExporter.exportNdjson(transactions, filePath));
+        List<String> lines = readLines(filePath);
+        assertEquals(transactions.size(), lines.size());
+
+        List<Transaction> exported = new ArrayList<>();
+        for (String line : lines) {
+            exported.add(JsonUtil.fromJsonString(line, JsonAdaptedTransaction.class).toModelType());
+        }
+        assertEquals(transactions, exported);
+        assertEquals(transactions.get(0).getId(), exported.get(0).getId());
+    }
+
+    private static List<String> readLines(Path filePath) throws Exception {
+        return Files.readAllLines(filePath, StandardCharsets.UTF_8);
+    }
+}
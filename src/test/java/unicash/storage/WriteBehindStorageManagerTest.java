@@ -0,0 +1,219 @@
+package unicash.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static unicash.testutil.Assert.assertThrows;
+import static unicash.testutil.TypicalTransactions.SHOPPING;
+import static unicash.testutil.TypicalTransactions.getTypicalUniCash;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import unicash.model.ReadOnlyUniCash;
+import unicash.model.UniCash;
+
+public class WriteBehindStorageManagerTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("unicash.json");
+    }
+
+    @Test
+    public void saveUniCash_thenFlush_dataWritten() throws Exception {
+        WriteBehindStorageManager storage = createStorage(new JournaledUniCashStorage(filePath));
+        UniCash uniCash = getTypicalUniCash();
+        storage.saveUniCash(uniCash);
+        uniCash.addTransaction(SHOPPING);
+        storage.saveUniCash(uniCash);
+
+        storage.flush();
+
+        assertEquals(uniCash, new UniCash(storage.readUniCash().get()));
+    }
+
+    @Test
+    public void saveUniCash_changedAfterSave_savesDataAsOfSave() throws Exception {
+        WriteBehindStorageManager storage = createStorage(new JsonUniCashStorage(filePath));
+        UniCash uniCash = getTypicalUniCash();
+        UniCash expected = new UniCash(uniCash);
+        storage.saveUniCash(uniCash);
+        uniCash.addTransaction(SHOPPING);
+
+        storage.flush();
+
+        assertEquals(expected, new UniCash(storage.readUniCash().get()));
+    }
+
+    @Test
+    public void saveUniCash_whileWriting_coalescesPendingSaves() throws Exception {
+        BlockingUniCashStorage uniCashStorage = new BlockingUniCashStorage();
+        WriteBehindStorageManager storage = createStorage(uniCashStorage);
+        UniCash uniCash = new UniCash();
+        storage.saveUniCash(uniCash);
+        uniCashStorage.writeStarted.await();
+
+        // Only the last of the saves made while the first is being written is written
+        for (int i = 0; i < 5; i++) {
+            uniCash.addTransaction(SHOPPING);
+            storage.saveUniCash(uniCash);
+        }
+        uniCashStorage.unblock.countDown();
+        storage.flush();
+
+        assertEquals(List.of(0, 5), uniCashStorage.writtenSizes);
+    }
+
+    @Test
+    public void saveUniCash_earlierWriteFailed_throwsOnNextSave() throws Exception {
+        BlockingUniCashStorage uniCashStorage = new BlockingUniCashStorage();
+        uniCashStorage.unblock.countDown();
+        uniCashStorage.failure.set(new IOException("disk full"));
+        WriteBehindStorageManager storage = createStorage(uniCashStorage);
+        UniCash uniCash = new UniCash();
+        storage.saveUniCash(uniCash);
+
+        // The failure is reported once, while the save that reports it is still written
+        awaitThrows(() -> storage.saveUniCash(uniCash));
+        storage.flush();
+        assertTrue(uniCashStorage.writtenSizes.contains(0));
+    }
+
+    @Test
+    public void hasPendingWrites_whileWriting_true() throws Exception {
+        BlockingUniCashStorage uniCashStorage = new BlockingUniCashStorage();
+        WriteBehindStorageManager storage = createStorage(uniCashStorage);
+        assertFalse(storage.hasPendingWrites());
+
+        storage.saveUniCash(new UniCash());
+        assertTrue(storage.hasPendingWrites());
+
+        uniCashStorage.unblock.countDown();
+        storage.flush();
+        assertFalse(storage.hasPendingWrites());
+    }
+
+    @Test
+    public void checkWriteFailure_earlierWriteFailed_throwsOnce() throws Exception {
+        BlockingUniCashStorage uniCashStorage = new BlockingUniCashStorage();
+        uniCashStorage.unblock.countDown();
+        uniCashStorage.failure.set(new IOException("disk full"));
+        WriteBehindStorageManager storage = createStorage(uniCashStorage);
+        storage.saveUniCash(new UniCash());
+
+        // The failure is pending until it is thrown
+        awaitThrows(storage::checkWriteFailure);
+        assertFalse(storage.hasPendingWrites());
+        storage.checkWriteFailure();
+    }
+
+    @Test
+    public void checkpointUniCash_afterSaves_writesCompleteData() throws Exception {
+        WriteBehindStorageManager storage = createStorage(new JournaledUniCashStorage(filePath));
+        UniCash uniCash = getTypicalUniCash();
+        storage.saveUniCash(uniCash);
+        uniCash.addTransaction(SHOPPING);
+        storage.saveUniCash(uniCash);
+
+        storage.checkpointUniCash(uniCash);
+
+        assertTrue(Files.notExists(JournaledUniCashStorage.getJournalFilePath(filePath)));
+        assertEquals(uniCash, new UniCash(new JsonUniCashStorage(filePath).readUniCash().get()));
+    }
+
+    @Test
+    public void saveUniCash_nullUniCash_throwsNullPointerException() {
+        WriteBehindStorageManager storage = createStorage(new JsonUniCashStorage(filePath));
+        assertThrows(NullPointerException.class, () -> storage.saveUniCash(null));
+        assertThrows(NullPointerException.class, () -> storage.checkpointUniCash(null));
+    }
+
+    private WriteBehindStorageManager createStorage(UniCashStorage uniCashStorage) {
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(testFolder.resolve("prefs.json"));
+        return new WriteBehindStorageManager(new StorageManager(uniCashStorage, userPrefsStorage));
+    }
+
+    /**
+     * Runs {@code save} until it throws, as the failed write may not have finished by the first run.
+     */
+    private static void awaitThrows(UniCashStorage.SaveTask save) throws Exception {
+        for (int i = 0; i < 1000; i++) {
+            try {
+                save.run();
+            } catch (IOException e) {
+                return;
+            }
+            Thread.sleep(1);
+        }
+        throw new AssertionError("Expected the earlier write failure to be thrown");
+    }
+
+    /**
+     * A {@code UniCashStorage} that records the number of transactions written by each save, and waits to be
+     * unblocked before writing.
+     */
+    private static class BlockingUniCashStorage implements UniCashStorage {
+        private final List<Integer> writtenSizes = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch writeStarted = new CountDownLatch(1);
+        private final CountDownLatch unblock = new CountDownLatch(1);
+        private final AtomicReference<IOException> failure = new AtomicReference<>();
+
+        @Override
+        public Path getUniCashFilePath() {
+            return Path.of("unused.json");
+        }
+
+        @Override
+        public Optional<ReadOnlyUniCash> readUniCash() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<ReadOnlyUniCash> readUniCash(Path filePath) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void saveUniCash(ReadOnlyUniCash uniCash) throws IOException {
+            writeStarted.countDown();
+            try {
+                unblock.await();
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+            IOException nextFailure = failure.getAndSet(null);
+            if (nextFailure != null) {
+                throw nextFailure;
+            }
+            writtenSizes.add(uniCash.getTransactionList().size());
+        }
+
+        @Override
+        public void saveUniCash(ReadOnlyUniCash uniCash, Path filePath) throws IOException {
+            saveUniCash(uniCash);
+        }
+
+        @Override
+        public void checkpointUniCash(ReadOnlyUniCash uniCash) throws IOException {
+            saveUniCash(uniCash);
+        }
+    }
+
+}
@@ -52,7 +52,7 @@ public class TransactionBuilder {
         dateTime = transactionToCopy.getDateTime();
         location = transactionToCopy.getLocation();
         type = transactionToCopy.getType();
-        categories = transactionToCopy.getCategories();
+        categories = new UniqueCategoryList(transactionToCopy.getCategories().asUnmodifiableList());
     }
 
     /**
@@ -88,9 +88,16 @@ public class TypicalTransactions {
      * Returns a TransactionList with max capacity.
      */
     public static List<Transaction> getMaxTransactionList() {
-        List<Transaction> transactionList = new ArrayList<>();
+        return getTransactionList(TransactionList.MAX_TRANSACTIONS);
+    }
+
+    /**
+     * Returns a list of {@code size} copies of the same valid transaction.
+     */
+    public static List<Transaction> getTransactionList(int size) {
+        List<Transaction> transactionList = new ArrayList<>(size);
         Transaction validTransaction = new TransactionBuilder().build();
-        for (int i = 0; i < TransactionList.MAX_TRANSACTIONS; i++) {
+        for (int i = 0; i < size; i++) {
             transactionList.add(validTransaction);
         }
 
@@ -3,6 +3,7 @@ package unicash.ui;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 import org.junit.jupiter.api.AfterEach;
@@ -15,6 +16,7 @@ import org.testfx.api.FxToolkit;
 import org.testfx.framework.junit5.ApplicationExtension;
 import org.testfx.util.WaitForAsyncUtils;
 
+import javafx.scene.control.TextField;
 import javafx.scene.input.KeyCode;
 import unicash.MainApp;
 
@@ -37,6 +39,16 @@ public class MainAppIntegrationUiTest {
         FxToolkit.cleanupStages();
     }
 
+    /**
+     * Waits for the commands entered so far to be executed and their results to be shown.
+     */
+    private void waitForCommands(FxRobot robot) throws TimeoutException {
+        TextField commandTextField = robot.lookup("#commandTextField").queryAs(TextField.class);
+        WaitForAsyncUtils.waitFor(10, TimeUnit.SECONDS, () ->
+                !commandTextField.getStyleClass().contains(CommandBox.IN_FLIGHT_STYLE_CLASS));
+        WaitForAsyncUtils.waitForFxEvents();
+    }
+
     /**
      * Integration test to handle user input to showing help window
      */
@@ -47,6 +59,7 @@ public class MainAppIntegrationUiTest {
         robot.clickOn("#commandBoxPlaceholder");
         robot.write("help");
         robot.press(KeyCode.ENTER);
+        waitForCommands(robot);
         var afterHelp = robot.lookup("#helpMessageContainer").tryQuery();
         assertTrue(afterHelp.isPresent());
     }
@@ -61,6 +74,7 @@ public class MainAppIntegrationUiTest {
         robot.clickOn("#commandBoxPlaceholder");
         robot.write("summary");
         robot.press(KeyCode.ENTER);
+        waitForCommands(robot);
         var afterSummary = robot.lookup("#summaryMessageContainer").tryQuery();
         assertTrue(afterSummary.isPresent());
     }
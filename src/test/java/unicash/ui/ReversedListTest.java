@@ -0,0 +1,111 @@
+package unicash.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static unicash.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class ReversedListTest {
+
+    private ObservableList<String> source;
+    private ReversedList<String> reversedList;
+    private List<String> changedCopy;
+    private List<String> changeSummaries;
+
+    /**
+     * Sets up a reversed list, and a copy of it that is kept up to date only by applying the changes
+     * that the reversed list reports.
+     */
+    @BeforeEach
+    public void setUp() {
+        source = FXCollections.observableArrayList("a", "b", "c", "d");
+        reversedList = new ReversedList<>(source);
+        changedCopy = new ArrayList<>(reversedList);
+        changeSummaries = new ArrayList<>();
+        reversedList.addListener((ListChangeListener<String>) this::applyChange);
+    }
+
+    private void applyChange(ListChangeListener.Change<? extends String> change) {
+        while (change.next()) {
+            changeSummaries.add(change.getFrom() + "-" + change.getTo() + " removed " + change.getRemoved());
+            if (change.wasPermutated()) {
+                List<String> permuted = new ArrayList<>(changedCopy);
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permuted.set(change.getPermutation(i), changedCopy.get(i));
+                }
+                changedCopy = permuted;
+            } else if (!change.wasUpdated()) {
+                changedCopy.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                changedCopy.addAll(change.getFrom(), change.getAddedSubList());
+            }
+        }
+    }
+
+    private void assertReversed() {
+        List<String> expected = new ArrayList<>(source);
+        Collections.reverse(expected);
+        assertEquals(expected, reversedList);
+        assertEquals(expected, changedCopy);
+    }
+
+    @Test
+    public void get_reversedOrder() {
+        assertEquals(Arrays.asList("d", "c", "b", "a"), reversedList);
+        assertEquals(3, reversedList.getSourceIndex(0));
+        assertEquals(0, reversedList.getViewIndex(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> reversedList.get(4));
+    }
+
+    @Test
+    public void add_atEnd_reportedAtStart() {
+        source.add("e");
+        assertEquals(Arrays.asList("0-1 removed []"), changeSummaries);
+        assertReversed();
+    }
+
+    @Test
+    public void remove_reportedAtViewIndex() {
+        source.remove("b");
+        assertEquals(Arrays.asList("2-2 removed [b]"), changeSummaries);
+        assertReversed();
+    }
+
+    @Test
+    public void changes_keptInSync() {
+        source.add(1, "e");
+        assertReversed();
+
+        source.set(0, "f");
+        assertReversed();
+
+        source.addAll(2, Arrays.asList("g", "h", "i"));
+        assertReversed();
+
+        source.removeAll(Arrays.asList("f", "h", "c"));
+        assertReversed();
+
+        source.setAll("j", "k");
+        assertReversed();
+
+        source.clear();
+        assertReversed();
+    }
+
+    @Test
+    public void sort_keptInSync() {
+        source.setAll("c", "a", "d", "b");
+        FXCollections.sort(source, Comparator.naturalOrder());
+        assertReversed();
+    }
+}
@@ -10,6 +10,7 @@ import static unicash.testutil.TestDataUtil.getTestTransactionsAsUserInputs;
 
 import java.nio.file.Path;
 import java.util.Collections;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 import org.junit.jupiter.api.AfterEach;
@@ -23,6 +24,7 @@ import org.testfx.framework.junit5.ApplicationExtension;
 import org.testfx.util.WaitForAsyncUtils;
 
 import javafx.scene.control.Label;
+import javafx.scene.control.TextField;
 import javafx.scene.input.KeyCode;
 import unicash.MainApp;
 import unicash.commons.enums.CommandType;
@@ -51,14 +53,25 @@ public class RollingBalanceUiTest {
         FxToolkit.cleanupStages();
     }
 
+    /**
+     * Waits for the commands entered so far to be executed and their results to be shown.
+     */
+    private void waitForCommands(FxRobot robot) throws TimeoutException {
+        TextField commandTextField = robot.lookup("#commandTextField").queryAs(TextField.class);
+        WaitForAsyncUtils.waitFor(10, TimeUnit.SECONDS, () ->
+                !commandTextField.getStyleClass().contains(CommandBox.IN_FLIGHT_STYLE_CLASS));
+        WaitForAsyncUtils.waitForFxEvents();
+    }
+
     @Test
-    public void rollingBalance_unicashResetState_showsDefaultBalance(FxRobot robot) {
+    public void rollingBalance_unicashResetState_showsDefaultBalance(FxRobot robot) throws TimeoutException {
         var rollingBalanceNode = robot.lookup("#balanceIndicator").tryQuery();
         assertTrue(rollingBalanceNode.isPresent());
         var rollingBalanceNodeLabel = (Label) rollingBalanceNode.get();
         robot.clickOn("#commandBoxPlaceholder");
         robot.write(CommandType.RESET.getMainCommandWord());
         robot.type(KeyCode.ENTER);
+        waitForCommands(robot);
 
         Double resetUniCashSumOfIncomes = getSampleUniCash().getTransactionList()
                 .stream()
@@ -93,7 +106,7 @@ public class RollingBalanceUiTest {
 
 
     @Test
-    public void rollingBalance_filteredTransactionList_showsCorrectBalance(FxRobot robot) {
+    public void rollingBalance_filteredTransactionList_showsCorrectBalance(FxRobot robot) throws TimeoutException {
 
         /* All transactions in UniCash are cleared at first */
         robot.clickOn("#commandBoxPlaceholder");
@@ -135,6 +148,7 @@ public class RollingBalanceUiTest {
         robot.clickOn("#commandBoxPlaceholder");
         robot.write(userInputString);
         robot.type(KeyCode.ENTER);
+        waitForCommands(robot);
 
         var rollingBalanceNode = robot.lookup("#balanceIndicator").tryQuery();
         assert rollingBalanceNode.isPresent();
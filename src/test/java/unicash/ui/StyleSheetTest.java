@@ -148,4 +148,12 @@ public class StyleSheetTest {
             assertEquals("#123456", getColorOutput("123456"));
         }
     }
+
+    @Test
+    public void getCategoryBackgroundStyle_sameCategory_sameStyle() {
+        String expectedStyle = String.format(StyleSheet.TEXT_BACKGROUND_COLOR_SPECIFIER,
+                StyleSheet.getBrightColorFromHash(TEST_CATEGORY));
+        assertEquals(expectedStyle, StyleSheet.getCategoryBackgroundStyle(TEST_CATEGORY));
+        assertEquals(expectedStyle, StyleSheet.getCategoryBackgroundStyle(new Category("test")));
+    }
 }
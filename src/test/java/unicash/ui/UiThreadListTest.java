@@ -0,0 +1,111 @@
+package unicash.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static unicash.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class UiThreadListTest {
+
+    private ObservableList<String> source;
+    private List<Runnable> unpublished;
+    private UiThreadList<String> uiThreadList;
+    private List<String> changedCopy;
+
+    /**
+     * Sets up a list whose changes are held until they are published, and a copy of it that is kept up to
+     * date only by applying the changes that the list reports.
+     */
+    @BeforeEach
+    public void setUp() {
+        source = FXCollections.observableArrayList("a", "b", "c", "d");
+        unpublished = new ArrayList<>();
+        uiThreadList = new UiThreadList<>(source, unpublished::add);
+        changedCopy = new ArrayList<>(uiThreadList);
+        uiThreadList.addListener((ListChangeListener<String>) this::applyChange);
+    }
+
+    private void applyChange(ListChangeListener.Change<? extends String> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                List<String> permuted = new ArrayList<>(changedCopy);
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permuted.set(change.getPermutation(i), changedCopy.get(i));
+                }
+                changedCopy = permuted;
+            } else if (!change.wasUpdated()) {
+                changedCopy.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                changedCopy.addAll(change.getFrom(), change.getAddedSubList());
+            }
+        }
+    }
+
+    private void publish() {
+        unpublished.forEach(Runnable::run);
+        unpublished.clear();
+    }
+
+    private void assertCopied() {
+        assertEquals(source, uiThreadList);
+        assertEquals(source, changedCopy);
+    }
+
+    @Test
+    public void constructor_copiesSource() {
+        assertEquals(Arrays.asList("a", "b", "c", "d"), uiThreadList);
+        assertThrows(IndexOutOfBoundsException.class, () -> uiThreadList.get(4));
+        assertThrows(NullPointerException.class, () -> new UiThreadList<>(null));
+    }
+
+    @Test
+    public void change_notPublished_unchanged() {
+        source.add("e");
+        source.remove("a");
+        assertEquals(Arrays.asList("a", "b", "c", "d"), uiThreadList);
+        assertEquals(2, unpublished.size());
+
+        publish();
+        assertCopied();
+    }
+
+    @Test
+    public void changes_keptInSync() {
+        source.add(1, "e");
+        source.set(0, "f");
+        publish();
+        assertCopied();
+
+        source.addAll(2, Arrays.asList("g", "h", "i"));
+        source.removeAll(Arrays.asList("f", "h", "c"));
+        publish();
+        assertCopied();
+
+        source.setAll("j", "k");
+        publish();
+        assertCopied();
+
+        source.clear();
+        publish();
+        assertCopied();
+        assertTrue(uiThreadList.isEmpty());
+    }
+
+    @Test
+    public void sort_keptInSync() {
+        source.setAll("c", "a", "d", "b");
+        FXCollections.sort(source, Comparator.naturalOrder());
+        publish();
+        assertCopied();
+    }
+}